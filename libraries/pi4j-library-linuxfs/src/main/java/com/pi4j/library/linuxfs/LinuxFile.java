@@ -53,9 +53,13 @@ public class LinuxFile extends RandomAccessFile {
     public static final int wordSize = getWordSize();
     public static final int localBufferSize = 2048; //about 1 page
 
+    private static final int EAGAIN = 11;
+
     public static final ThreadLocal<ByteBuffer> localDataBuffer = new ThreadLocal<>();
     public static final ThreadLocal<IntBuffer> localOffsetsBuffer = new ThreadLocal<>();
 
+    private static final IntBuffer noOffsets = ByteBuffer.allocateDirect(4).order(ByteOrder.nativeOrder()).asIntBuffer();
+
     static {
         // Load the platform library
         NativeLibraryLoader.load("libpi4j-linuxfs.so", "pi4j-linuxfs");
@@ -183,6 +187,72 @@ public class LinuxFile extends RandomAccessFile {
         }
     }
 
+    /**
+     * Runs an ioctl with a pointer-free structure on a raw file descriptor handed out by the kernel, e.g. the line
+     * handle returned by a GPIO character device request. The structure starts at the current position of the
+     * direct data buffer.
+     *
+     * @param fd
+     *     raw POSIX file descriptor
+     * @param command
+     *     ioctl command
+     * @param data
+     *     direct buffer holding the structure, in native byte order
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static void ioctl(int fd, long command, ByteBuffer data) throws IOException {
+        if (!data.isDirect())
+            throw new IllegalArgumentException("data buffer must be direct!");
+
+        if (directIOCTLStructure(fd, command, data, data.position(), noOffsets, 0, 0) < 0)
+            throw new LinuxFileException();
+    }
+
+    /**
+     * Reads from a raw file descriptor handed out by the kernel into the remaining space of a direct buffer,
+     * advancing its position.
+     *
+     * @param fd
+     *     raw POSIX file descriptor
+     * @param data
+     *     direct buffer to read into
+     *
+     * @return the number of bytes read, 0 if the descriptor is non-blocking and has nothing to read
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int readDescriptor(int fd, ByteBuffer data) throws IOException {
+        if (!data.isDirect())
+            throw new IllegalArgumentException("data buffer must be direct!");
+
+        final int result = readDirect(fd, data, data.position(), data.remaining());
+        if (result == -EAGAIN)
+            return 0;
+        if (result < 0)
+            throw new LinuxFileException(-result);
+
+        data.position(data.position() + result);
+        return result;
+    }
+
+    /**
+     * Closes a raw file descriptor handed out by the kernel.
+     *
+     * @param fd
+     *     raw POSIX file descriptor
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static void closeDescriptor(int fd) throws IOException {
+        final int result = closeDirect(fd);
+        if (result < 0)
+            throw new LinuxFileException(-result);
+    }
+
     /**
      * Gets the real POSIX file descriptor for use by custom jni calls.
      *
@@ -285,4 +355,18 @@ public class LinuxFile extends RandomAccessFile {
 
     protected static native int directIOCTLStructure(int fd, long command, ByteBuffer data, int dataOffset,
         IntBuffer offsetMap, int offsetMapOffset, int offsetCapacity);
+
+    protected static native int epollCreate();
+
+    protected static native int epollControl(int epfd, int op, int fd, int events, boolean consume, int id);
+
+    protected static native int epollWait(int epfd, IntBuffer ready, int maxEvents, int timeout);
+
+    protected static native int eventfdCreate();
+
+    protected static native int eventfdSignal(int fd);
+
+    protected static native int readDirect(int fd, ByteBuffer data, int offset, int length);
+
+    protected static native int closeDirect(int fd);
 }
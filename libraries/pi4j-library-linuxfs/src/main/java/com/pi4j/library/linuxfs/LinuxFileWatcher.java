@@ -0,0 +1,349 @@
+package com.pi4j.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for LinuxFS Library
+ * FILENAME      :  LinuxFileWatcher.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for interrupts on any number of Linux files from a single thread using epoll.
+ * <p>
+ * Sysfs attributes such as a GPIO 'value' file signal a change with POLLPRI; the watcher rereads the
+ * file from offset 0 when that happens, which both re-arms the notification and yields the new contents.
+ * Other pollable descriptors (pipes, eventfds) are drained with a plain read instead.
+ * <p>
+ * A batch of ready descriptors may still name a file that has been unwatched in the meantime, so every
+ * registration carries the id of its watch and events of a replaced watch are dropped. Files opened by the
+ * watcher are only closed once the batch has been dispatched, so their descriptor cannot be reused while it
+ * is still named in it.
+ */
+public class LinuxFileWatcher implements Closeable {
+
+    public static final int EPOLLIN = 0x001;
+    public static final int EPOLLPRI = 0x002;
+    public static final int EPOLLERR = 0x008;
+
+    private static final int EPOLL_CTL_ADD = 1;
+    private static final int EPOLL_CTL_DEL = 2;
+    private static final int EINTR = 4;
+    private static final int MAX_EVENTS = 64;
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxFileWatcher.class);
+
+    /**
+     * Receives the events of a watched file on the watcher thread.
+     */
+    public interface Listener {
+        /**
+         * Called for each event of the watched file.
+         *
+         * @param value
+         *     the first byte read from the file after the event, or -1 if nothing could be read
+         */
+        void onEvent(int value);
+    }
+
+    /**
+     * A file registered with the watcher; closing it stops the watch.
+     */
+    public class Watch implements Closeable {
+        private final int fd;
+        private final int id;
+        private final Listener listener;
+        private final RandomAccessFile file;
+
+        private Watch(int fd, int id, Listener listener, RandomAccessFile file) {
+            this.fd = fd;
+            this.id = id;
+            this.listener = listener;
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            unwatch(this);
+        }
+    }
+
+    private final int epollFd;
+    private final int wakeFd;
+    private final Map<Integer, Watch> watches = new ConcurrentHashMap<>();
+    private final Queue<RandomAccessFile> closing = new ConcurrentLinkedQueue<>();
+    private final String name;
+    private Thread thread = null;
+    private int lastId = 0;
+    private boolean stopped = false;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a watcher; its thread is started with the first watch.
+     *
+     * @param name
+     *     name of the watcher thread
+     *
+     * @throws IOException
+     *     if the epoll instance cannot be created
+     */
+    public LinuxFileWatcher(String name) throws IOException {
+        this.name = name;
+        this.epollFd = check(LinuxFile.epollCreate());
+        try {
+            this.wakeFd = check(LinuxFile.eventfdCreate());
+            check(LinuxFile.epollControl(epollFd, EPOLL_CTL_ADD, wakeFd, EPOLLIN, true, 0));
+        } catch (IOException e) {
+            LinuxFile.closeDirect(epollFd);
+            throw e;
+        }
+    }
+
+    /**
+     * Watches a sysfs attribute (e.g. a GPIO 'value' file with an 'edge' configured) for POLLPRI
+     * notifications.
+     *
+     * @param path
+     *     path of the file to watch
+     * @param listener
+     *     receives the first byte of the file after each notification
+     *
+     * @return the watch, to be closed when no longer needed
+     *
+     * @throws IOException
+     *     if the file cannot be opened or registered
+     */
+    public Watch watch(String path, Listener listener) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(path, "r");
+        try {
+            // sysfs reports the attribute as changed until it has been read once
+            file.read();
+            return watch(posixFD(file.getFD()), EPOLLPRI | EPOLLERR, true, listener, file);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Watches an already open file descriptor; the descriptor is not closed with the watch.
+     *
+     * @param fileDescriptor
+     *     descriptor to watch
+     * @param events
+     *     epoll events to wait for ({@link #EPOLLIN}, {@link #EPOLLPRI})
+     * @param listener
+     *     receives the first byte read from the descriptor after each event
+     *
+     * @return the watch, to be closed when no longer needed
+     *
+     * @throws IOException
+     *     if the descriptor cannot be registered
+     */
+    public Watch watch(FileDescriptor fileDescriptor, int events, Listener listener) throws IOException {
+        return watch(posixFD(fileDescriptor), events, true, listener, null);
+    }
+
+    /**
+     * Watches a raw descriptor handed out by the kernel without reading from it; the listener is called with -1
+     * and must read the pending data itself (e.g. a whole batch of queued records), otherwise the descriptor is
+     * reported again right away. The descriptor is not closed with the watch.
+     *
+     * @param fd
+     *     raw POSIX file descriptor to watch
+     * @param events
+     *     epoll events to wait for ({@link #EPOLLIN}, {@link #EPOLLPRI})
+     * @param listener
+     *     called when the descriptor is ready
+     *
+     * @return the watch, to be closed when no longer needed
+     *
+     * @throws IOException
+     *     if the descriptor cannot be registered
+     */
+    public Watch watch(int fd, int events, Listener listener) throws IOException {
+        return watch(fd, events, false, listener, null);
+    }
+
+    private synchronized Watch watch(int fd, int events, boolean consume, Listener listener,
+        RandomAccessFile file) throws IOException {
+        if (closed)
+            throw new IOException("file watcher is closed");
+
+        // ids are 31 bits wide in the epoll data, 0 is the wake-up descriptor
+        lastId = lastId == Integer.MAX_VALUE ? 1 : lastId + 1;
+        Watch watch = new Watch(fd, lastId, listener, file);
+        watches.put(fd, watch);
+        try {
+            check(LinuxFile.epollControl(epollFd, EPOLL_CTL_ADD, fd, events, consume, watch.id));
+        } catch (IOException e) {
+            watches.remove(fd);
+            throw e;
+        }
+
+        if (thread == null) {
+            thread = new Thread(this::run, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return watch;
+    }
+
+    private synchronized void unwatch(Watch watch) throws IOException {
+        if (!watches.remove(watch.fd, watch))
+            return;
+        try {
+            if (!closed)
+                check(LinuxFile.epollControl(epollFd, EPOLL_CTL_DEL, watch.fd, 0, false, 0));
+        } finally {
+            if (watch.file != null) {
+                if (stopped) {
+                    watch.file.close();
+                } else {
+                    // the watcher thread may hold a ready entry for the descriptor, it closes the file
+                    // once the current batch has been dispatched
+                    closing.add(watch.file);
+                    if (Thread.currentThread() != thread)
+                        LinuxFile.eventfdSignal(wakeFd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the watcher thread and closes all watches.
+     *
+     * @throws IOException
+     *     if a watched file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        Thread running;
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            running = thread;
+        }
+
+        LinuxFile.eventfdSignal(wakeFd);
+        if (running != null && running != Thread.currentThread()) {
+            try {
+                running.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this) {
+            stopped = true;
+        }
+        try {
+            for (Watch watch : new ArrayList<>(watches.values()))
+                unwatch(watch);
+        } finally {
+            try {
+                closeFiles();
+            } finally {
+                LinuxFile.closeDirect(wakeFd);
+                LinuxFile.closeDirect(epollFd);
+            }
+        }
+    }
+
+    private void run() {
+        final IntBuffer ready = ByteBuffer.allocateDirect(MAX_EVENTS * 4 * 4)
+            .order(ByteOrder.nativeOrder()).asIntBuffer();
+
+        while (!closed) {
+            final int count = LinuxFile.epollWait(epollFd, ready, MAX_EVENTS, -1);
+            if (count < 0) {
+                if (-count == EINTR)
+                    continue;
+                logger.error("file watcher [" + name + "] stopped: " + LinuxFile.strerror(-count));
+                return;
+            }
+
+            for (int i = 0; i < count; i++) {
+                // skip descriptors unwatched (and possibly watched again) since the wait returned
+                final Watch watch = watches.get(ready.get(i * 4));
+                if (watch == null || watch.id != ready.get(i * 4 + 3))
+                    continue;
+                try {
+                    watch.listener.onEvent(ready.get(i * 4 + 2));
+                } catch (RuntimeException e) {
+                    logger.error(e.getMessage(), e);
+                }
+            }
+
+            try {
+                closeFiles();
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void closeFiles() throws IOException {
+        IOException failure = null;
+        RandomAccessFile file;
+        while ((file = closing.poll()) != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null)
+            throw failure;
+    }
+
+    private static int posixFD(FileDescriptor fileDescriptor) throws IOException {
+        final int fd = LinuxFile.getPosixFD(fileDescriptor);
+        if (fd < 0)
+            throw new IOException("failed to get POSIX file descriptor!");
+        return fd;
+    }
+
+    private static int check(int result) throws IOException {
+        if (result < 0)
+            throw new LinuxFile.LinuxFileException(-result);
+        return result;
+    }
+}
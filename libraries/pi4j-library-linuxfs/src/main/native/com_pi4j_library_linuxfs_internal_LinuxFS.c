@@ -36,6 +36,8 @@
 #include <errno.h>
 #include <stdint.h>
 #include <sys/mman.h>
+#include <sys/epoll.h>
+#include <sys/eventfd.h>
 
 #include "com_pi4j_library_linuxfs_internal_LinuxFS.h"
 
@@ -122,4 +124,88 @@ int directIOCTLStructure (int fd, unsigned long command, void *data, size_t head
     }
 
     return ioctl(fd, command, data + headOffset);
-}
\ No newline at end of file
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_epollCreate
+  (JNIEnv *env, jclass obj) {
+    int fd = epoll_create1(EPOLL_CLOEXEC);
+    return fd < 0 ? -errno : fd;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_epollControl
+  (JNIEnv *env, jclass obj, jint epfd, jint op, jint fd, jint events, jboolean consume, jint id) {
+    struct epoll_event event;
+
+    // the descriptor, the 'consume' flag and the id of the watch travel with each event
+    memset(&event, 0, sizeof(event));
+    event.events = (uint32_t)events;
+    event.data.u64 = (uint32_t)fd | ((uint64_t)(consume ? 1 : 0) << 32) | ((uint64_t)(id & 0x7fffffff) << 33);
+
+    return epoll_ctl(epfd, op, fd, &event) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_epollWait
+  (JNIEnv *env, jclass obj, jint epfd, jobject ready, jint maxEvents, jint timeout) {
+    int32_t *readyBuffer = (int32_t *)((*env)->GetDirectBufferAddress(env, ready));
+    struct epoll_event events[64];
+    int count, i;
+
+    if (maxEvents > 64)
+        maxEvents = 64;
+
+    count = epoll_wait(epfd, events, maxEvents, timeout);
+    if (count < 0)
+        return -errno;
+
+    // consume each pending event so the level-triggered fd is not reported again, and
+    // hand back (fd, events, first byte, watch id) records; sysfs attributes regenerate their
+    // contents on every read from offset 0, anything else is drained with a plain read;
+    // descriptors registered without 'consume' are left for the listener to read
+    for (i = 0; i < count; i++) {
+        int fd = (int)(uint32_t)events[i].data.u64;
+        int consume = (int)((events[i].data.u64 >> 32) & 1);
+        int id = (int)(events[i].data.u64 >> 33);
+        uint8_t data[8];
+        ssize_t length;
+
+        if (!consume)
+            length = 0;
+        else if (events[i].events & EPOLLPRI)
+            length = pread(fd, data, sizeof(data), 0);
+        else if (events[i].events & EPOLLIN)
+            length = read(fd, data, sizeof(data));
+        else
+            length = 0;
+
+        readyBuffer[i * 4] = fd;
+        readyBuffer[i * 4 + 1] = (int32_t)events[i].events;
+        readyBuffer[i * 4 + 2] = length > 0 ? data[0] : -1;
+        readyBuffer[i * 4 + 3] = id;
+    }
+
+    return count;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_eventfdCreate
+  (JNIEnv *env, jclass obj) {
+    int fd = eventfd(0, EFD_CLOEXEC | EFD_NONBLOCK);
+    return fd < 0 ? -errno : fd;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_eventfdSignal
+  (JNIEnv *env, jclass obj, jint fd) {
+    uint64_t value = 1;
+    return write(fd, &value, sizeof(value)) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_readDirect
+  (JNIEnv *env, jclass obj, jint fd, jobject data, jint offset, jint length) {
+    uint8_t *dataBuffer = (uint8_t *)((*env)->GetDirectBufferAddress(env, data));
+    ssize_t result = read(fd, dataBuffer + offset, (size_t)length);
+    return result < 0 ? -errno : (jint)result;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_closeDirect
+  (JNIEnv *env, jclass obj, jint fd) {
+    return close(fd) < 0 ? -errno : 0;
+}
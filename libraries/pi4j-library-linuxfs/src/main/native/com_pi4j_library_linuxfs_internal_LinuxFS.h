@@ -53,6 +53,27 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapDirect
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStructure
   (JNIEnv *env, jclass obj, jint fd, jlong command, jobject data, jint dataOffset, jobject offsetMap, jint offsetMapOffset, jint offsetCapacity);
 
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_epollCreate
+  (JNIEnv *env, jclass obj);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_epollControl
+  (JNIEnv *env, jclass obj, jint epfd, jint op, jint fd, jint events, jboolean consume, jint id);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_epollWait
+  (JNIEnv *env, jclass obj, jint epfd, jobject ready, jint maxEvents, jint timeout);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_eventfdCreate
+  (JNIEnv *env, jclass obj);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_eventfdSignal
+  (JNIEnv *env, jclass obj, jint fd);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_readDirect
+  (JNIEnv *env, jclass obj, jint fd, jobject data, jint offset, jint length);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_closeDirect
+  (JNIEnv *env, jclass obj, jint fd);
+
 #ifdef __cplusplus
 }
 #endif
@@ -0,0 +1,227 @@
+package com.pi4j.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for LinuxFS Library
+ * FILENAME      :  LinuxFileWatcherTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class LinuxFileWatcherTest {
+
+    private static boolean loaded = false;
+
+    @BeforeAll
+    public static void beforeAllTests() {
+        // the watcher needs the JNI library built for this platform
+        try {
+            new LinuxFileWatcher("probe").close();
+            loaded = true;
+        } catch (LinkageError | IllegalStateException | IOException e) {
+            loaded = false;
+        }
+    }
+
+    @AfterAll
+    public static void afterAllTests() {
+        loaded = false;
+    }
+
+    private static int eventfd() throws IOException {
+        final int fd = LinuxFile.eventfdCreate();
+        if (fd < 0)
+            throw new LinuxFile.LinuxFileException(-fd);
+        return fd;
+    }
+
+    private static long drain(int fd) throws IOException {
+        final ByteBuffer counter = ByteBuffer.allocateDirect(8).order(ByteOrder.nativeOrder());
+        return LinuxFile.readDescriptor(fd, counter) == 8 ? counter.getLong(0) : 0;
+    }
+
+    private static RandomAccessFile fifo(Path directory) throws Exception {
+        final File path = directory.resolve("fifo").toFile();
+        assertEquals(0, new ProcessBuilder("mkfifo", path.getPath()).start().waitFor());
+        // opening both ends at once does not block
+        return new RandomAccessFile(path, "rw");
+    }
+
+    @DisplayName("LINUXFS WATCHER :: Events of watched descriptors are delivered to their listeners")
+    @Test
+    public void testEventDelivery() throws Exception {
+        assumeTrue(loaded, "native library not available");
+        final Path directory = Files.createTempDirectory("watcher");
+        final int eventfd = eventfd();
+        try (LinuxFileWatcher watcher = new LinuxFileWatcher("test-watcher");
+             RandomAccessFile fifo = fifo(directory)) {
+            // raw descriptors are left for the listener to read
+            final BlockingQueue<Long> counters = new LinkedBlockingQueue<>();
+            watcher.watch(eventfd, LinuxFileWatcher.EPOLLIN, value -> {
+                assertEquals(-1, value);
+                try {
+                    counters.add(drain(eventfd));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            LinuxFile.eventfdSignal(eventfd);
+            assertEquals(1L, counters.poll(5, TimeUnit.SECONDS));
+            LinuxFile.eventfdSignal(eventfd);
+            LinuxFile.eventfdSignal(eventfd);
+            final Long counter = counters.poll(5, TimeUnit.SECONDS);
+            assertTrue(counter != null && counter >= 1);
+
+            // other descriptors are consumed by the watcher, one byte per event
+            final BlockingQueue<Integer> values = new LinkedBlockingQueue<>();
+            watcher.watch(fifo.getFD(), LinuxFileWatcher.EPOLLIN, values::add);
+            fifo.write('1');
+            assertEquals('1', values.poll(5, TimeUnit.SECONDS));
+            fifo.write('0');
+            assertEquals('0', values.poll(5, TimeUnit.SECONDS));
+        } finally {
+            LinuxFile.closeDirect(eventfd);
+            Files.deleteIfExists(directory.resolve("fifo"));
+            Files.delete(directory);
+        }
+    }
+
+    @DisplayName("LINUXFS WATCHER :: Unwatched descriptors no longer deliver events, not even queued ones")
+    @Test
+    public void testUnwatch() throws Exception {
+        assumeTrue(loaded, "native library not available");
+        final int blocker = eventfd();
+        final int first = eventfd();
+        final int second = eventfd();
+        try (LinuxFileWatcher watcher = new LinuxFileWatcher("test-watcher")) {
+            final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+            final CountDownLatch blocked = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            final LinuxFileWatcher.Watch unwatched = watcher.watch(second, LinuxFileWatcher.EPOLLIN, value -> events.add("old"));
+            unwatched.close();
+            LinuxFile.eventfdSignal(second);
+            assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+            drain(second);
+
+            // hold the watcher thread so that both descriptors become ready in the same batch
+            watcher.watch(blocker, LinuxFileWatcher.EPOLLIN, value -> {
+                try {
+                    drain(blocker);
+                    blocked.countDown();
+                    release.await();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            final LinuxFileWatcher.Watch[] watch = new LinuxFileWatcher.Watch[1];
+            watch[0] = watcher.watch(second, LinuxFileWatcher.EPOLLIN, value -> events.add("second"));
+            watcher.watch(first, LinuxFileWatcher.EPOLLIN, value -> {
+                try {
+                    // replace the watch of the other descriptor, whose event is still in the batch
+                    drain(first);
+                    watch[0].close();
+                    drain(second);
+                    watch[0] = watcher.watch(second, LinuxFileWatcher.EPOLLIN, v -> events.add("replaced"));
+                    events.add("first");
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            LinuxFile.eventfdSignal(blocker);
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            LinuxFile.eventfdSignal(first);
+            LinuxFile.eventfdSignal(second);
+            release.countDown();
+
+            String event;
+            while ((event = events.poll(500, TimeUnit.MILLISECONDS)) != null) {
+                assertTrue(!event.equals("replaced") && !event.equals("old"), event);
+            }
+            LinuxFile.eventfdSignal(second);
+            assertEquals("replaced", events.poll(5, TimeUnit.SECONDS));
+        } finally {
+            LinuxFile.closeDirect(blocker);
+            LinuxFile.closeDirect(first);
+            LinuxFile.closeDirect(second);
+        }
+    }
+
+    @DisplayName("LINUXFS WATCHER :: A closed watcher stops and refuses new watches")
+    @Test
+    public void testClose() throws Exception {
+        assumeTrue(loaded, "native library not available");
+        final int eventfd = eventfd();
+        try {
+            final BlockingQueue<Integer> events = new LinkedBlockingQueue<>();
+            final LinuxFileWatcher watcher = new LinuxFileWatcher("test-watcher");
+            final LinuxFileWatcher.Watch watch = watcher.watch(eventfd, LinuxFileWatcher.EPOLLIN, value -> {
+                try {
+                    drain(eventfd);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                events.add(value);
+            });
+            LinuxFile.eventfdSignal(eventfd);
+            assertEquals(-1, events.poll(5, TimeUnit.SECONDS));
+
+            watcher.close();
+            watcher.close();
+            LinuxFile.eventfdSignal(eventfd);
+            assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+            watch.close();
+
+            final IOException e = assertThrows(IOException.class,
+                () -> watcher.watch(eventfd, LinuxFileWatcher.EPOLLIN, value -> { }));
+            assertEquals("file watcher is closed", e.getMessage());
+        } finally {
+            LinuxFile.closeDirect(eventfd);
+        }
+    }
+}
@@ -27,6 +27,7 @@ package com.pi4j.library.pigpio;
  * #L%
  */
 
+import com.pi4j.library.pigpio.impl.PiGpioAsyncAdapter;
 import com.pi4j.library.pigpio.impl.PiGpioNativeImpl;
 import com.pi4j.library.pigpio.impl.PiGpioSocketImpl;
 
@@ -42,7 +43,9 @@ public interface PiGpio extends
         PiGpio_PWM,
         PiGpio_Serial,
         PiGpio_SPI,
-        PiGpio_Servo {
+        PiGpio_Servo,
+        PiGpio_Script,
+        PiGpio_Wave {
 
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
@@ -68,6 +71,81 @@ public interface PiGpio extends
         return PiGpioSocketImpl.newInstance(host, port);
     }
 
+    /**
+     * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port and waits for
+     * command responses using the given wait strategy.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newSocketInstance(String host, int port, PiGpioSocketWaitStrategy waitStrategy) {
+        return PiGpioSocketImpl.newInstance(host, port, waitStrategy);
+    }
+
+    /**
+     * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.  A pipelined
+     * instance sends commands without waiting for the responses of earlier commands so
+     * that concurrent callers and asynchronous command bursts share the connection.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newSocketInstance(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined) {
+        return PiGpioSocketImpl.newInstance(host, port, waitStrategy, pipelined);
+    }
+
+    /**
+     * Creates a thread-safe PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.  Each calling thread
+     * is bound to one of the pooled command connections.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newSocketInstance(String host, int port, int poolSize) {
+        return PiGpioSocketImpl.newInstance(host, port, poolSize);
+    }
+
+    /**
+     * Creates a thread-safe PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @param checkout policy used to select a pooled command connection for each command.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newSocketInstance(String host, int port, int poolSize, PiGpioSocketCheckout checkout) {
+        return PiGpioSocketImpl.newInstance(host, port, poolSize, checkout);
+    }
+
+    /**
+     * Creates a thread-safe PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @param checkout policy used to select a pooled command connection for each command.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newSocketInstance(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined,
+                                    int poolSize, PiGpioSocketCheckout checkout) {
+        return PiGpioSocketImpl.newInstance(host, port, waitStrategy, pipelined, poolSize, checkout);
+    }
+
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
      * Connects to a user specified socket hostname/ip address using the default port (8888).
@@ -204,6 +282,30 @@ public interface PiGpio extends
      */
     void gpioTerminate();
 
+    /**
+     * Get the asynchronous API of this PiGpio instance.  All asynchronous operations return
+     * immediately with a {@link java.util.concurrent.CompletableFuture} result.
+     *
+     * Socket instances send the commands over a pipelined connection and complete the futures
+     * from the connection's reader thread, so no thread is blocked while a command is outstanding.
+     * Other implementations execute each operation on the calling thread and return an already
+     * completed future.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioAsync} object.
+     */
+    default PiGpioAsync async() {
+        return new PiGpioAsyncAdapter(this);
+    }
+
+    /**
+     * Get the built-in metrics of this PiGpio instance: per command counters and latency
+     * histograms, error counts, bytes exchanged with the PiGpio daemon and notification
+     * statistics.  Use {@link com.pi4j.library.pigpio.PiGpioMetrics#snapshot()} to query them.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioMetrics} object.
+     */
+    PiGpioMetrics metrics();
+
     /**
      * Returns the pigpio library version.
      *
@@ -330,6 +432,63 @@ public interface PiGpio extends
     default void gpioDisableNotifications(int pin) {
         gpioNotifications(pin, false);
     }
+    /**
+     * Deliver state changes of a GPIO pin from a kernel interrupt instead of the pigpio
+     * sampling thread.  Only level changes matching the given edge are reported to the pin
+     * listeners; if no matching edge is seen within the timeout a PiGpioState.TIMEOUT
+     * change is reported instead.  Pins delivered by interrupt are not sampled.
+     *
+     * @param pin GPIO pin number (valid range: 0-31)
+     * @param edge PI_RISING_EDGE, PI_FALLING_EDGE or PI_EITHER_EDGE
+     * @param timeout interrupt timeout in milliseconds (valid range: 0-60000; 0 = no timeout)
+     * @param enabled true to deliver the pin by interrupt, false to return to sampling
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetISRFunc">PIGPIO::gpioSetISRFunc</a>
+     */
+    void gpioInterrupts(int pin, int edge, int timeout, boolean enabled);
+    /**
+     * <p>gpioEnableInterrupts.</p>
+     *
+     * @param pin GPIO pin number (valid range: 0-31)
+     * @param edge PI_RISING_EDGE, PI_FALLING_EDGE or PI_EITHER_EDGE
+     * @param timeout interrupt timeout in milliseconds (valid range: 0-60000; 0 = no timeout)
+     */
+    default void gpioEnableInterrupts(int pin, int edge, int timeout) {
+        gpioInterrupts(pin, edge, timeout, true);
+    }
+    /**
+     * <p>gpioDisableInterrupts.</p>
+     *
+     * @param pin GPIO pin number (valid range: 0-31)
+     */
+    default void gpioDisableInterrupts(int pin) {
+        gpioInterrupts(pin, PiGpioConst.PI_EITHER_EDGE, 0, false);
+    }
+    /**
+     * <p>eventNotifications.</p>
+     *
+     * @param event event number (valid range: 0-31)
+     * @param enabled a boolean.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#eventMonitor">PIGPIO::eventMonitor</a>
+     */
+    void eventNotifications(int event, boolean enabled);
+    /**
+     * <p>addEventListener.</p>
+     *
+     * @param event event number (valid range: 0-31)
+     * @param listener a {@link com.pi4j.library.pigpio.PiGpioEventListener} object.
+     */
+    void addEventListener(int event, PiGpioEventListener listener);
+    /**
+     * <p>removeEventListener.</p>
+     *
+     * @param event event number (valid range: 0-31)
+     * @param listener a {@link com.pi4j.library.pigpio.PiGpioEventListener} object.
+     */
+    void removeEventListener(int event, PiGpioEventListener listener);
+    /**
+     * <p>removeAllEventListeners.</p>
+     */
+    void removeAllEventListeners();
     /**
      * <p>addPinListener.</p>
      *
@@ -0,0 +1,671 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioAsync.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>PiGpioAsync interface.</p>
+ *
+ * Asynchronous counterpart of the {@link PiGpio} GPIO, PWM, servo, I2C, SPI and serial
+ * operations.  Each operation returns immediately with a {@link CompletableFuture} that is
+ * completed with the same value the synchronous operation would return, or completed
+ * exceptionally where the synchronous operation would throw an exception.
+ *
+ * Read operations copy the received data into the caller's array before the returned future
+ * is completed; the array must not be accessed until then.  Write operations copy the data
+ * to send before returning.
+ *
+ * For socket instances, the futures are completed by the connection's reader thread; dependent
+ * actions registered with the non-async {@code then*} methods run on that thread and must not block.
+ * Obtain an instance with {@link PiGpio#async()}.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpioAsync {
+
+    /**
+     * Get the synchronous PiGpio instance this asynchronous API operates on.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    PiGpio sync();
+
+    // *****************************************************************************************************
+    // GENERAL
+    // *****************************************************************************************************
+
+    /**
+     * Returns the pigpio library version.
+     *
+     * @return future completed with the pigpio version
+     * @see PiGpio#gpioVersion()
+     */
+    CompletableFuture<Integer> gpioVersion();
+
+    /**
+     * Returns the hardware revision.
+     *
+     * @return future completed with the hardware revision
+     * @see PiGpio#gpioHardwareRevision()
+     */
+    CompletableFuture<Long> gpioHardwareRevision();
+
+    /**
+     * Returns the current system tick.
+     *
+     * @return future completed with the tick (microseconds since boot; wraps every ~72 minutes)
+     * @see PiGpio#gpioTick()
+     */
+    CompletableFuture<Long> gpioTick();
+
+    // *****************************************************************************************************
+    // GPIO
+    // *****************************************************************************************************
+
+    /**
+     * Sets or clears resistor pull ups or downs on the GPIO.
+     *
+     * @param pin gpio pin address (valid pins are 0-53)
+     * @param pud pull-up, pull-down or no resistor
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioSetPullUpDown(int, PiGpioPud)
+     */
+    CompletableFuture<Void> gpioSetPullUpDown(int pin, PiGpioPud pud);
+
+    /**
+     * Gets the GPIO mode.
+     *
+     * @param pin gpio pin address (valid pins are 0-53)
+     * @return future completed with the GPIO mode
+     * @see PiGpio_GPIO#gpioGetMode(int)
+     */
+    CompletableFuture<PiGpioMode> gpioGetMode(int pin);
+
+    /**
+     * Sets the GPIO mode, typically input or output.
+     *
+     * @param pin gpio pin address (valid pins are 0-53)
+     * @param mode the GPIO mode
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioSetMode(int, PiGpioMode)
+     */
+    CompletableFuture<Void> gpioSetMode(int pin, PiGpioMode mode);
+
+    /**
+     * Reads the GPIO level, on (HIGH) or off (LOW).
+     *
+     * @param pin gpio pin address (valid pins are 0-53)
+     * @return future completed with the GPIO level
+     * @see PiGpio_GPIO#gpioRead(int)
+     */
+    CompletableFuture<PiGpioState> gpioRead(int pin);
+
+    /**
+     * Sets the GPIO level, on (HIGH) or off (LOW).
+     *
+     * @param pin gpio pin address (valid pins are 0-53)
+     * @param state the GPIO level
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioWrite(int, PiGpioState)
+     */
+    CompletableFuture<Void> gpioWrite(int pin, PiGpioState state);
+
+    /**
+     * Returns the current level of GPIO 0-31 as a bitmask.
+     *
+     * @return future completed with the level bitmask
+     * @see PiGpio_GPIO#gpioReadBank1()
+     */
+    CompletableFuture<Integer> gpioReadBank1();
+
+    /**
+     * Returns the current level of GPIO 32-53 as a bitmask.
+     *
+     * @return future completed with the level bitmask
+     * @see PiGpio_GPIO#gpioReadBank2()
+     */
+    CompletableFuture<Integer> gpioReadBank2();
+
+    /**
+     * Sets (HIGH) every GPIO in 0-31 whose bit is set in the bitmask.
+     *
+     * @param bits bitmask of GPIO to set
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioWriteBank1Set(int)
+     */
+    CompletableFuture<Void> gpioWriteBank1Set(int bits);
+
+    /**
+     * Clears (LOW) every GPIO in 0-31 whose bit is set in the bitmask.
+     *
+     * @param bits bitmask of GPIO to clear
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioWriteBank1Clear(int)
+     */
+    CompletableFuture<Void> gpioWriteBank1Clear(int bits);
+
+    /**
+     * Sets (HIGH) every GPIO in 32-53 whose bit is set in the bitmask.
+     *
+     * @param bits bitmask of GPIO to set
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioWriteBank2Set(int)
+     */
+    CompletableFuture<Void> gpioWriteBank2Set(int bits);
+
+    /**
+     * Clears (LOW) every GPIO in 32-53 whose bit is set in the bitmask.
+     *
+     * @param bits bitmask of GPIO to clear
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioWriteBank2Clear(int)
+     */
+    CompletableFuture<Void> gpioWriteBank2Clear(int bits);
+
+    /**
+     * Sets a glitch filter on a GPIO.
+     *
+     * @param pin gpio pin address (valid pins are 0-31)
+     * @param steady interval in microseconds (valid range: 0-300000)
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioGlitchFilter(int, int)
+     */
+    CompletableFuture<Void> gpioGlitchFilter(int pin, int steady);
+
+    /**
+     * Sets a noise filter on a GPIO.
+     *
+     * @param pin gpio pin address (valid pins are 0-31)
+     * @param steady interval in microseconds (valid range: 0-300000)
+     * @param active interval in microseconds (valid range: 0-1000000)
+     * @return future completed when the operation is done
+     * @see PiGpio_GPIO#gpioNoiseFilter(int, int, int)
+     */
+    CompletableFuture<Void> gpioNoiseFilter(int pin, int steady, int active);
+
+    // *****************************************************************************************************
+    // PWM
+    // *****************************************************************************************************
+
+    /**
+     * Starts PWM on the GPIO, dutycycle between 0 (off) and range (fully on).
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @param dutyCycle PWM dutycycle (0-range)
+     * @return future completed when the operation is done
+     * @see PiGpio_PWM#gpioPWM(int, int)
+     */
+    CompletableFuture<Void> gpioPWM(int pin, int dutyCycle);
+
+    /**
+     * Returns the PWM dutycycle setting for the GPIO.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @return future completed with the PWM dutycycle
+     * @see PiGpio_PWM#gpioGetPWMdutycycle(int)
+     */
+    CompletableFuture<Integer> gpioGetPWMdutycycle(int pin);
+
+    /**
+     * Selects the dutycycle range to be used for the GPIO.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @param range dutycycle range (25-40000)
+     * @return future completed with the real range for the GPIO's frequency
+     * @see PiGpio_PWM#gpioSetPWMrange(int, int)
+     */
+    CompletableFuture<Integer> gpioSetPWMrange(int pin, int range);
+
+    /**
+     * Returns the dutycycle range used for the GPIO.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @return future completed with the dutycycle range
+     * @see PiGpio_PWM#gpioGetPWMrange(int)
+     */
+    CompletableFuture<Integer> gpioGetPWMrange(int pin);
+
+    /**
+     * Returns the real range used for the GPIO.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @return future completed with the real range
+     * @see PiGpio_PWM#gpioGetPWMrealRange(int)
+     */
+    CompletableFuture<Integer> gpioGetPWMrealRange(int pin);
+
+    /**
+     * Sets the frequency in hertz to be used for the GPIO.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @param frequency frequency in hertz
+     * @return future completed with the numerically closest frequency
+     * @see PiGpio_PWM#gpioSetPWMfrequency(int, int)
+     */
+    CompletableFuture<Integer> gpioSetPWMfrequency(int pin, int frequency);
+
+    /**
+     * Returns the frequency (in hertz) used for the GPIO.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @return future completed with the frequency
+     * @see PiGpio_PWM#gpioGetPWMfrequency(int)
+     */
+    CompletableFuture<Integer> gpioGetPWMfrequency(int pin);
+
+    /**
+     * Starts hardware PWM on a GPIO at the specified frequency and dutycycle.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @param frequency frequency in hertz
+     * @param dutyCycle dutycycle (0-1000000)
+     * @return future completed when the operation is done
+     * @see PiGpio_PWM#gpioHardwarePWM(int, int, int)
+     */
+    CompletableFuture<Void> gpioHardwarePWM(int pin, int frequency, int dutyCycle);
+
+    // *****************************************************************************************************
+    // SERVO
+    // *****************************************************************************************************
+
+    /**
+     * Starts servo pulses on the GPIO, 0 (off), 500 (most anti-clockwise) to 2500 (most clockwise).
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @param pulseWidth pulse width in microseconds
+     * @return future completed when the operation is done
+     * @see PiGpio_Servo#gpioServo(int, int)
+     */
+    CompletableFuture<Void> gpioServo(int pin, int pulseWidth);
+
+    /**
+     * Returns the servo pulse width setting for the GPIO.
+     *
+     * @param pin user gpio pin address (valid pins are 0-31)
+     * @return future completed with the servo pulse width
+     * @see PiGpio_Servo#gpioGetServoPulsewidth(int)
+     */
+    CompletableFuture<Integer> gpioGetServoPulsewidth(int pin);
+
+    // *****************************************************************************************************
+    // I2C
+    // *****************************************************************************************************
+
+    /**
+     * Opens a handle for the device at the address on the I2C bus.
+     *
+     * @param bus the I2C bus
+     * @param device the I2C device address
+     * @param flags I2C flags (no flags are currently defined)
+     * @return future completed with the I2C handle or a negative error code
+     * @see PiGpio_I2C#i2cOpen(int, int, int)
+     */
+    CompletableFuture<Integer> i2cOpen(int bus, int device, int flags);
+
+    /**
+     * Closes the I2C device associated with the handle.
+     *
+     * @param handle the open I2C handle
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cClose(int)
+     */
+    CompletableFuture<Integer> i2cClose(int handle);
+
+    /**
+     * Sends a single bit (in the Rd/Wr bit) to the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param bit 0-1, the value to write
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cWriteQuick(int, boolean)
+     */
+    CompletableFuture<Integer> i2cWriteQuick(int handle, boolean bit);
+
+    /**
+     * Sends a single byte to the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param value raw byte value to write
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cWriteByte(int, byte)
+     */
+    CompletableFuture<Integer> i2cWriteByte(int handle, byte value);
+
+    /**
+     * Reads a single byte from the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @return future completed with the byte read or a negative error code
+     * @see PiGpio_I2C#i2cReadByte(int)
+     */
+    CompletableFuture<Integer> i2cReadByte(int handle);
+
+    /**
+     * Writes a single byte to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to write to (0-255)
+     * @param value raw byte value to write
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cWriteByteData(int, int, byte)
+     */
+    CompletableFuture<Integer> i2cWriteByteData(int handle, int register, byte value);
+
+    /**
+     * Writes a single 16 bit word to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to write to (0-255)
+     * @param value raw word value to write (0-65535)
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cWriteWordData(int, int, int)
+     */
+    CompletableFuture<Integer> i2cWriteWordData(int handle, int register, int value);
+
+    /**
+     * Reads a single byte from the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to read from (0-255)
+     * @return future completed with the byte read or a negative error code
+     * @see PiGpio_I2C#i2cReadByteData(int, int)
+     */
+    CompletableFuture<Integer> i2cReadByteData(int handle, int register);
+
+    /**
+     * Reads a single 16 bit word from the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to read from (0-255)
+     * @return future completed with the word read or a negative error code
+     * @see PiGpio_I2C#i2cReadWordData(int, int)
+     */
+    CompletableFuture<Integer> i2cReadWordData(int handle, int register);
+
+    /**
+     * Writes 16 bits of data to the specified register of the device associated with handle
+     * and reads 16 bits of data in return (SMBus process call).
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address (0-255)
+     * @param value raw word value to write (0-65535)
+     * @return future completed with the word read or a negative error code
+     * @see PiGpio_I2C#i2cProcessCall(int, int, int)
+     */
+    CompletableFuture<Integer> i2cProcessCall(int handle, int register, int value);
+
+    /**
+     * Writes up to 32 bytes to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to write to (0-255)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from
+     * @param length the number of bytes to write (maximum 32 bytes supported)
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cWriteBlockData(int, int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cWriteBlockData(int handle, int register, byte[] data, int offset, int length);
+
+    /**
+     * Reads a block of up to 32 bytes from the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to read from (0-255)
+     * @param buffer a byte array to receive the read data
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read
+     * @param length the maximum number of bytes to read
+     * @return future completed with the number of bytes read or a negative error code
+     * @see PiGpio_I2C#i2cReadBlockData(int, int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cReadBlockData(int handle, int register, byte[] buffer, int offset, int length);
+
+    /**
+     * Writes data bytes to the specified register of the device associated with handle and
+     * reads a device specified number of bytes of data in return.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address (0-255)
+     * @param write the array of bytes to write
+     * @param writeOffset the starting offset position in the write array
+     * @param writeLength the number of bytes to write (maximum 32 bytes supported)
+     * @param read a byte array to receive the read data
+     * @param readOffset the starting offset position in the read array
+     * @return future completed with the number of bytes read or a negative error code
+     * @see PiGpio_I2C#i2cBlockProcessCall(int, int, byte[], int, int, byte[], int)
+     */
+    CompletableFuture<Integer> i2cBlockProcessCall(int handle, int register,
+                                                   byte[] write, int writeOffset, int writeLength,
+                                                   byte[] read, int readOffset);
+
+    /**
+     * Reads count bytes from the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to read from (0-255)
+     * @param buffer a byte array to receive the read data
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read
+     * @param length the number of bytes to read (1-32)
+     * @return future completed with the number of bytes read or a negative error code
+     * @see PiGpio_I2C#i2cReadI2CBlockData(int, int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cReadI2CBlockData(int handle, int register, byte[] buffer, int offset, int length);
+
+    /**
+     * Writes 1 to 32 bytes to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C handle
+     * @param register the I2C register address to write to (0-255)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from
+     * @param length the number of bytes to write (maximum 32 bytes supported)
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cWriteI2CBlockData(int, int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cWriteI2CBlockData(int handle, int register, byte[] data, int offset, int length);
+
+    /**
+     * Reads count bytes from the raw device into the byte array.
+     *
+     * @param handle the open I2C handle
+     * @param buffer a byte array to receive the read data
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read
+     * @param length the maximum number of bytes to read
+     * @return future completed with the number of bytes read or a negative error code
+     * @see PiGpio_I2C#i2cReadDevice(int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cReadDevice(int handle, byte[] buffer, int offset, int length);
+
+    /**
+     * Writes bytes from the provided array to the raw I2C device.
+     *
+     * @param handle the open I2C handle
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from
+     * @param length the number of bytes to write
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_I2C#i2cWriteDevice(int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cWriteDevice(int handle, byte[] data, int offset, int length);
+
+    /**
+     * Executes a combined I2C transaction (zip command buffer) on the raw I2C device.
+     *
+     * @param handle the open I2C handle
+     * @param commands the zip command buffer
+     * @param commandOffset the starting offset position in the command buffer
+     * @param commandLength the number of command bytes to send
+     * @param buffer a byte array to receive the read data
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read
+     * @param length the maximum number of bytes to read
+     * @return future completed with the number of bytes read or a negative error code
+     * @see PiGpio_I2C#i2cZip(int, byte[], int, int, byte[], int, int)
+     */
+    CompletableFuture<Integer> i2cZip(int handle, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length);
+
+    // *****************************************************************************************************
+    // SPI
+    // *****************************************************************************************************
+
+    /**
+     * Opens a SPI device channel at a specified baud rate and with specified flags.
+     *
+     * @param channel the SPI channel (0-1)
+     * @param baud the baud rate in bits per second
+     * @param flags the SPI flags
+     * @return future completed with the SPI handle or a negative error code
+     * @see PiGpio_SPI#spiOpen(int, int, int)
+     */
+    CompletableFuture<Integer> spiOpen(int channel, int baud, int flags);
+
+    /**
+     * Closes the SPI device associated with the handle.
+     *
+     * @param handle the open SPI handle
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_SPI#spiClose(int)
+     */
+    CompletableFuture<Integer> spiClose(int handle);
+
+    /**
+     * Writes bytes from the provided array to the SPI device associated with the handle.
+     *
+     * @param handle the open SPI handle
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from
+     * @param length the number of bytes to write
+     * @return future completed with the number of bytes transferred or a negative error code
+     * @see PiGpio_SPI#spiWrite(int, byte[], int, int)
+     */
+    CompletableFuture<Integer> spiWrite(int handle, byte[] data, int offset, int length);
+
+    /**
+     * Reads bytes from the SPI device associated with the handle.
+     *
+     * @param handle the open SPI handle
+     * @param buffer a byte array to receive the read data
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read
+     * @param length the number of bytes to read
+     * @return future completed with the number of bytes transferred or a negative error code
+     * @see PiGpio_SPI#spiRead(int, byte[], int, int)
+     */
+    CompletableFuture<Integer> spiRead(int handle, byte[] buffer, int offset, int length);
+
+    /**
+     * Transfers (writes/reads simultaneously) bytes with the SPI device associated with the handle.
+     *
+     * @param handle the open SPI handle
+     * @param write the array of bytes to write
+     * @param writeOffset the starting offset position in the write array
+     * @param read a byte array to receive the read data
+     * @param readOffset the starting offset position in the read array
+     * @param numberOfBytes the number of bytes to transfer
+     * @return future completed with the number of bytes transferred or a negative error code
+     * @see PiGpio_SPI#spiXfer(int, byte[], int, byte[], int, int)
+     */
+    CompletableFuture<Integer> spiXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes);
+
+    // *****************************************************************************************************
+    // SERIAL
+    // *****************************************************************************************************
+
+    /**
+     * Opens a serial device at a specified baud rate and with specified flags.
+     *
+     * @param device the serial device to open (Example: "/dev/ttyAMA0")
+     * @param baud the baud rate in bits per second
+     * @param flags no flags are currently defined; this parameter should be set to zero
+     * @return future completed with the serial handle or a negative error code
+     * @see PiGpio_Serial#serOpen(CharSequence, int, int)
+     */
+    CompletableFuture<Integer> serOpen(CharSequence device, int baud, int flags);
+
+    /**
+     * Closes the serial device associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_Serial#serClose(int)
+     */
+    CompletableFuture<Integer> serClose(int handle);
+
+    /**
+     * Writes a single byte to the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @param value byte value to write to serial port
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_Serial#serWriteByte(int, byte)
+     */
+    CompletableFuture<Integer> serWriteByte(int handle, byte value);
+
+    /**
+     * Reads a byte from the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @return future completed with the byte read or a negative error code
+     * @see PiGpio_Serial#serReadByte(int)
+     */
+    CompletableFuture<Integer> serReadByte(int handle);
+
+    /**
+     * Writes bytes from the provided array to the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from
+     * @param length the number of bytes to write
+     * @return future completed with the result (0 if OK)
+     * @see PiGpio_Serial#serWrite(int, byte[], int, int)
+     */
+    CompletableFuture<Integer> serWrite(int handle, byte[] data, int offset, int length);
+
+    /**
+     * Reads up to length bytes from the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @param buffer a byte array to receive the read data
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read
+     * @param length the maximum number of bytes to read
+     * @return future completed with the number of bytes read or a negative error code
+     * @see PiGpio_Serial#serRead(int, byte[], int, int)
+     */
+    CompletableFuture<Integer> serRead(int handle, byte[] buffer, int offset, int length);
+
+    /**
+     * Returns the number of bytes available to be read from the device associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @return future completed with the number of bytes available or a negative error code
+     * @see PiGpio_Serial#serDataAvailable(int)
+     */
+    CompletableFuture<Integer> serDataAvailable(int handle);
+}
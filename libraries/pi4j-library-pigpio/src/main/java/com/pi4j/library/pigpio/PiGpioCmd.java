@@ -78,9 +78,9 @@ public enum PiGpioCmd {
     PROCR (40),
     PROCS (41),
     SLRO  (42),
-    SLR   (43),
+    SLR   (43, true),
     SLRC  (44),
-    PROCP (45),
+    PROCP (45, true),
     MICS  (46),
     MILS  (47),
     PARSE (48),
@@ -91,7 +91,7 @@ public enum PiGpioCmd {
     WVNEW (53),
     I2CO  (54),
     I2CC  (55),
-    I2CRD (56),
+    I2CRD (56, true),
     I2CWD (57),
     I2CWQ (58),
     I2CRS (59),
@@ -100,22 +100,22 @@ public enum PiGpioCmd {
     I2CWB (62),
     I2CRW (63),
     I2CWW (64),
-    I2CRK (65),
+    I2CRK (65, true),
     I2CWK (66),
-    I2CRI (67),
+    I2CRI (67, true),
     I2CWI (68),
     I2CPC (69),
-    I2CPK (70),
+    I2CPK (70, true),
     SPIO  (71),
     SPIC  (72),
-    SPIR  (73),
+    SPIR  (73, true),
     SPIW  (74),
-    SPIX  (75),
+    SPIX  (75, true),
     SERO  (76),
     SERC  (77),
     SERRB (78),
     SERWB (79),
-    SERR  (80),
+    SERR  (80, true),
     SERW  (81),
     SERDA (82),
     GDC   (83),
@@ -123,11 +123,11 @@ public enum PiGpioCmd {
     HC    (85),
     HP    (86),
     CF1   (87),
-    CF2   (88),
+    CF2   (88, true),
     BI2CC (89),
     BI2CO (90),
-    BI2CZ (91),
-    I2CZ  (92),
+    BI2CZ (91, true),
+    I2CZ  (92, true),
     WVCHA (93),
     SLRI  (94),
     CGI   (95),
@@ -141,24 +141,43 @@ public enum PiGpioCmd {
     PADG  (103),
     FO    (104),
     FC    (105),
-    FR    (106),
+    FR    (106, true),
     FW    (107),
     FS    (108),
-    FL    (109),
+    FL    (109, true),
     SHELL (110),
     BSPIC (111),
     BSPIO (112),
-    BSPIX (113),
-    BSCX  (114),
+    BSPIX (113, true),
+    BSCX  (114, true),
     EVM   (115),
     EVT   (116),
     PROCU (117);
 
 
+    // command lookup table indexed by command value
+    private static final PiGpioCmd[] TABLE;
+    static {
+        int max = 0;
+        for(PiGpioCmd c : PiGpioCmd.values()){
+            max = Math.max(max, c.value);
+        }
+        TABLE = new PiGpioCmd[max + 1];
+        for(PiGpioCmd c : PiGpioCmd.values()){
+            if(c.value >= 0) TABLE[c.value] = c;
+        }
+    }
+
     private int value;
+    private boolean extendedReply;
 
     PiGpioCmd(int value){
+        this(value, false);
+    }
+
+    PiGpioCmd(int value, boolean extendedReply){
         this.value  =value;
+        this.extendedReply = extendedReply;
     }
 
     /**
@@ -170,6 +189,17 @@ public enum PiGpioCmd {
         return this.value;
     }
 
+    /**
+     * Returns 'true' if the PiGpio daemon may follow the 16 byte response header of
+     * this command with an extended payload.  (The number of extended payload bytes
+     * is returned in the P3/result field of the response header.)
+     *
+     * @return a boolean.
+     */
+    public boolean extendedReply(){
+        return this.extendedReply;
+    }
+
     /**
      * <p>from.</p>
      *
@@ -177,12 +207,21 @@ public enum PiGpioCmd {
      * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
      */
     public static PiGpioCmd from(Number value){
-        for(PiGpioCmd c : PiGpioCmd.values()){
-            if(c.value() == value.intValue()) return c;
+        return from(value.intValue());
+    }
+
+    /**
+     * Get the command for a raw command value in constant time.
+     *
+     * @param value a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object; UNKNOWN if the command value is not defined.
+     */
+    public static PiGpioCmd from(int value){
+        if(value >= 0 && value < TABLE.length){
+            PiGpioCmd c = TABLE[value];
+            if(c != null) return c;
         }
         return UNKNOWN;
     }
 
-
-
 }
@@ -41,6 +41,12 @@ public interface PiGpioConst {
     int DEFAULT_PORT    = 8888;
     /** Constant <code>DEFAULT_HOST="127.0.0.1"</code> */
     String DEFAULT_HOST = "127.0.0.1";
+    /** Constant <code>DEFAULT_REPLY_TIMEOUT=500</code> (milliseconds) */
+    int DEFAULT_REPLY_TIMEOUT = 500;
+    /** Constant <code>DEFAULT_POOL_SIZE=1</code> */
+    int DEFAULT_POOL_SIZE = 1;
+    /** Constant <code>DEFAULT_STREAM_CHUNK_SIZE=4096</code> (bytes per command of a streaming transfer) */
+    int DEFAULT_STREAM_CHUNK_SIZE = 4096;
 
     // ----------------------------------
     // PIGPIO PIN RANGE
@@ -75,6 +81,18 @@ public interface PiGpioConst {
     // ----------------------------------
     /** Constant <code>PI_TIMEOUT=2</code> */
     int PI_TIMEOUT = 2;
+    /** Constant <code>PI_MIN_WDOG_TIMEOUT=0</code> (watchdog off) */
+    int PI_MIN_WDOG_TIMEOUT = 0;
+    /** Constant <code>PI_MAX_WDOG_TIMEOUT=60000</code> (milliseconds) */
+    int PI_MAX_WDOG_TIMEOUT = 60000;
+
+    // ----------------------------------
+    // PIGPIO EVENTS
+    // ----------------------------------
+    /** Constant <code>PI_MIN_EVENT=0</code> */
+    int PI_MIN_EVENT = 0;
+    /** Constant <code>PI_MAX_EVENT=31</code> */
+    int PI_MAX_EVENT = 31;
 
     // ----------------------------------
     // PIGPIO LIBRARY COMMANDS
@@ -398,6 +416,80 @@ public interface PiGpioConst {
     /** Constant <code>PI_MAX_MILS_DELAY=60000</code> */
     int PI_MAX_MILS_DELAY           = 60000;   /* 60 seconds */
 
+    // ----------------------------------
+    // TRANSFER LIMITS
+    // ----------------------------------
+    /** Constant <code>PI_MAX_SPI_DEVICE_COUNT=65536</code> (bytes per SPI transfer) */
+    int PI_MAX_SPI_DEVICE_COUNT     = (1 << 16);
+    /** Constant <code>PI_CMD_MAX_EXTENSION=65536</code> (payload bytes per socket command) */
+    int PI_CMD_MAX_EXTENSION        = (1 << 16);
+
+    // ----------------------------------
+    // NOTIFICATION REPORTS
+    // ----------------------------------
+    /** Constant <code>PI_NTFY_REPORT_SIZE=12</code> (bytes per gpioReport_t) */
+    int PI_NTFY_REPORT_SIZE         = 12;
+    /** Constant <code>PI_NTFY_FLAGS_EVENT=0x80</code> */
+    int PI_NTFY_FLAGS_EVENT         = (1 << 7);
+    /** Constant <code>PI_NTFY_FLAGS_ALIVE=0x40</code> */
+    int PI_NTFY_FLAGS_ALIVE         = (1 << 6);
+    /** Constant <code>PI_NTFY_FLAGS_WDOG=0x20</code> */
+    int PI_NTFY_FLAGS_WDOG          = (1 << 5);
+    /** Constant <code>PI_NTFY_FLAGS_BIT_MASK=0x1F</code> */
+    int PI_NTFY_FLAGS_BIT_MASK      = 0x1F;
+
+    // ----------------------------------
+    // WAVEFORMS
+    // ----------------------------------
+    /** Constant <code>PI_WAVE_PULSE_SIZE=12</code> (bytes per gpioPulse_t) */
+    int PI_WAVE_PULSE_SIZE          = 12;
+    /** Constant <code>PI_WAVE_MAX_PULSES=12000</code> */
+    int PI_WAVE_MAX_PULSES          = 12000;
+    /** Constant <code>PI_WAVE_MAX_CHAIN=600</code> (bytes) */
+    int PI_WAVE_MAX_CHAIN           = 600;
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT=0</code> */
+    int PI_WAVE_MODE_ONE_SHOT       = 0;
+    /** Constant <code>PI_WAVE_MODE_REPEAT=1</code> */
+    int PI_WAVE_MODE_REPEAT         = 1;
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT_SYNC=2</code> */
+    int PI_WAVE_MODE_ONE_SHOT_SYNC  = 2;
+    /** Constant <code>PI_WAVE_MODE_REPEAT_SYNC=3</code> */
+    int PI_WAVE_MODE_REPEAT_SYNC    = 3;
+    /** Constant <code>PI_NO_TX_WAVE=9999</code> */
+    int PI_NO_TX_WAVE               = 9999;
+    /** Constant <code>PI_WAVE_NOT_FOUND=9998</code> */
+    int PI_WAVE_NOT_FOUND           = 9998;
+
+    // ----------------------------------
+    // SCRIPTS
+    // ----------------------------------
+    /** Constant <code>PI_MAX_SCRIPT_PARAMS=10</code> */
+    int PI_MAX_SCRIPT_PARAMS        = 10;
+    /** Constant <code>PI_MAX_SCRIPT_VARS=150</code> */
+    int PI_MAX_SCRIPT_VARS          = 150;
+    /** Constant <code>PI_SCRIPT_INITING=0</code> */
+    int PI_SCRIPT_INITING           = 0;
+    /** Constant <code>PI_SCRIPT_HALTED=1</code> */
+    int PI_SCRIPT_HALTED            = 1;
+    /** Constant <code>PI_SCRIPT_RUNNING=2</code> */
+    int PI_SCRIPT_RUNNING           = 2;
+    /** Constant <code>PI_SCRIPT_WAITING=3</code> */
+    int PI_SCRIPT_WAITING           = 3;
+    /** Constant <code>PI_SCRIPT_FAILED=4</code> */
+    int PI_SCRIPT_FAILED            = 4;
+
+    // ----------------------------------
+    // BIT-BANG I2C & SPI
+    // ----------------------------------
+    /** Constant <code>PI_BB_I2C_MIN_BAUD=50</code> */
+    int PI_BB_I2C_MIN_BAUD          = 50;
+    /** Constant <code>PI_BB_I2C_MAX_BAUD=500000</code> */
+    int PI_BB_I2C_MAX_BAUD          = 500000;
+    /** Constant <code>PI_BB_SPI_MIN_BAUD=50</code> */
+    int PI_BB_SPI_MIN_BAUD          = 50;
+    /** Constant <code>PI_BB_SPI_MAX_BAUD=250000</code> */
+    int PI_BB_SPI_MAX_BAUD          = 250000;
+
     // ----------------------------------
     // TIME TYPES
     // ----------------------------------
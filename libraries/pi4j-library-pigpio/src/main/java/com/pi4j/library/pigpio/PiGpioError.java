@@ -191,6 +191,19 @@ public enum PiGpioError {
     PI_CUSTOM_ERR_0   (-3000),
     PI_CUSTOM_ERR_999 (-3999);
 
+    // error lookup table indexed by the negated error value
+    private static final PiGpioError[] TABLE;
+    static {
+        int max = 0;
+        for(PiGpioError c : PiGpioError.values()){
+            max = Math.max(max, -c.value);
+        }
+        TABLE = new PiGpioError[max + 1];
+        for(PiGpioError c : PiGpioError.values()){
+            if(c.value <= 0) TABLE[-c.value] = c;
+        }
+    }
+
     private int value;
 
     PiGpioError(int value){
@@ -371,8 +384,19 @@ public enum PiGpioError {
      * @return a {@link com.pi4j.library.pigpio.PiGpioError} object.
      */
     public static PiGpioError from(Number value){
-        for(PiGpioError c : PiGpioError.values()){
-            if(c.value() == value.intValue()) return c;
+        return from(value.intValue());
+    }
+
+    /**
+     * Get the error for a raw (negative) result value in constant time.
+     *
+     * @param value a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioError} object; UNKNOWN if the error value is not defined.
+     */
+    public static PiGpioError from(int value){
+        if(value <= 0 && value > -TABLE.length){
+            PiGpioError c = TABLE[-value];
+            if(c != null) return c;
         }
         return UNKNOWN;
     }
@@ -0,0 +1,85 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioEvent.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+/**
+ * <p>PiGpioEvent class.</p>
+ *
+ * A software event (0-31) reported by the PiGpio library; events are triggered with
+ * eventTrigger or by the daemon itself (event 31 is raised on a BSC transfer).
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioEvent {
+
+    protected final int event;
+    protected final long tick;
+
+    /**
+     * Default constructor
+     *
+     * @param event the event number (0-31)
+     * @param tick a long.
+     */
+    public PiGpioEvent(final int event, final long tick){
+        this.event = event;
+        this.tick = tick;
+    }
+
+    /**
+     * The event number of this event
+     *
+     * @return a int.
+     */
+    public int event() {
+        return this.event;
+    }
+
+    /**
+     * The tick time for this event
+     *
+     * @return a long.
+     */
+    public long tick() {
+        return this.tick;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        StringBuilder result = new StringBuilder();
+        result.append("<<EVENT>> EVENT [");
+        result.append(this.event());
+        result.append("] (TICK=");
+        result.append(this.tick());
+        result.append(")");
+        return result.toString();
+    }
+}
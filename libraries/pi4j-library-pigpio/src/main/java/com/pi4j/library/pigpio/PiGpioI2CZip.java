@@ -0,0 +1,253 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioI2CZip.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.util.Objects;
+
+/**
+ * <p>Builder for the command buffer of a combined I2C transaction (i2cZip/bbI2CZip).</p>
+ *
+ * A zip transaction executes a sequence of I2C writes and reads in a single call, so a
+ * register read (write the register address, then read the data) or a multi-register
+ * sensor read completes with one round trip to the PiGpio daemon.
+ *
+ * Example: read 6 bytes starting at register 0x3B using a repeated start.
+ *  - PiGpioI2CZip.newInstance().combinedOn().write(0x3B).read(6).combinedOff()
+ *
+ * The commands 'combinedOn' and 'combinedOff' switch the combined (repeated start)
+ * flag for hardware I2C (i2cZip); for bit-banged I2C (bbI2CZip) the same command
+ * codes emit a start and a stop condition ({@link #start()} and {@link #stop()}).
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+ */
+public class PiGpioI2CZip {
+
+    /** Constant <code>END=0</code> */
+    public static final int END      = 0;
+    /** Constant <code>ESCAPE=1</code> */
+    public static final int ESCAPE   = 1;
+    /** Constant <code>ON=2</code> (combined flag on / bit-bang start) */
+    public static final int ON       = 2;
+    /** Constant <code>OFF=3</code> (combined flag off / bit-bang stop) */
+    public static final int OFF      = 3;
+    /** Constant <code>ADDRESS=4</code> */
+    public static final int ADDRESS  = 4;
+    /** Constant <code>FLAGS=5</code> */
+    public static final int FLAGS    = 5;
+    /** Constant <code>READ=6</code> */
+    public static final int READ     = 6;
+    /** Constant <code>WRITE=7</code> */
+    public static final int WRITE    = 7;
+
+    private static final int MAX_VALUE = 65535;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private int readLength = 0;
+
+    /**
+     * <p>Constructor for PiGpioI2CZip.</p>
+     */
+    protected PiGpioI2CZip(){
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioI2CZip} object.
+     */
+    public static PiGpioI2CZip newInstance(){
+        return new PiGpioI2CZip();
+    }
+
+    /**
+     * Switch the combined flag on: subsequent transfers are joined with repeated starts.
+     *
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip combinedOn(){
+        buffer.write(ON);
+        return this;
+    }
+
+    /**
+     * Switch the combined flag off.
+     *
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip combinedOff(){
+        buffer.write(OFF);
+        return this;
+    }
+
+    /**
+     * Emit a (repeated) start condition; bit-banged I2C only.
+     *
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip start(){
+        buffer.write(ON);
+        return this;
+    }
+
+    /**
+     * Emit a stop condition; bit-banged I2C only.
+     *
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip stop(){
+        buffer.write(OFF);
+        return this;
+    }
+
+    /**
+     * Switch the I2C device address for the following transfers.
+     *
+     * @param device I2C device address (valid range: 0x00-0x7F)
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip address(int device){
+        if(device < 0 || device > 0x7F)
+            throw new IllegalArgumentException("Invalid I2C device address: " + device + "; (valid range: 0x00-0x7F)");
+        buffer.write(ADDRESS);
+        buffer.write(device);
+        return this;
+    }
+
+    /**
+     * Set the I2C flags (e.g. 10 bit addressing) for the following transfers.
+     *
+     * @param flags I2C flags (valid range: 0-65535)
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip flags(int flags){
+        validate(flags, "flags");
+        buffer.write(FLAGS);
+        buffer.write(flags & 0xFF);
+        buffer.write((flags >> 8) & 0xFF);
+        return this;
+    }
+
+    /**
+     * Read a number of bytes; the data is appended to the transaction output.
+     *
+     * @param length number of bytes to read (valid range: 1-65535)
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip read(int length){
+        validateLength(length, "read length");
+        command(READ, length);
+        readLength += length;
+        return this;
+    }
+
+    /**
+     * Write bytes.
+     *
+     * @param data the bytes to write
+     * @param offset offset of the first byte in the data array
+     * @param length number of bytes to write (valid range: 1-65535)
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip write(byte[] data, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateLength(length, "write length");
+        command(WRITE, length);
+        buffer.write(data, offset, length);
+        return this;
+    }
+
+    /**
+     * Write bytes.
+     *
+     * @param data the bytes to write
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip write(byte ... data){
+        return write(data, 0, data.length);
+    }
+
+    /**
+     * Write bytes given as integers (only the low 8 bits of each value are written).
+     *
+     * @param data the bytes to write
+     * @return this transaction builder
+     */
+    public PiGpioI2CZip write(int ... data){
+        byte[] bytes = new byte[data.length];
+        for(int i = 0; i < data.length; i++) bytes[i] = (byte)data[i];
+        return write(bytes);
+    }
+
+    /**
+     * <p>Get the total number of bytes read by this transaction.</p>
+     *
+     * @return a int.
+     */
+    public int readLength(){
+        return readLength;
+    }
+
+    /**
+     * <p>Get the command buffer, terminated with an END command.</p>
+     *
+     * @return an array of {@link byte} objects.
+     */
+    public byte[] toArray(){
+        byte[] commands = new byte[buffer.size() + 1];
+        System.arraycopy(buffer.toByteArray(), 0, commands, 0, buffer.size());
+        commands[commands.length - 1] = END;
+        return commands;
+    }
+
+    private void command(int command, int value){
+        // values above 255 are escaped; the command is then followed by two bytes (lsb, msb)
+        if(value > 0xFF){
+            buffer.write(ESCAPE);
+            buffer.write(command);
+            buffer.write(value & 0xFF);
+            buffer.write((value >> 8) & 0xFF);
+        } else {
+            buffer.write(command);
+            buffer.write(value);
+        }
+    }
+
+    private static void validate(int value, String name){
+        if(value < 0 || value > MAX_VALUE)
+            throw new IllegalArgumentException("Invalid I2C zip " + name + ": " + value + "; (valid range: 0-" + MAX_VALUE + ")");
+    }
+
+    private static void validateLength(int value, String name){
+        if(value < 1 || value > MAX_VALUE)
+            throw new IllegalArgumentException("Invalid I2C zip " + name + ": " + value + "; (valid range: 1-" + MAX_VALUE + ")");
+    }
+}
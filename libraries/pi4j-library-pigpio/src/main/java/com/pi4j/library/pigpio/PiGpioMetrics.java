@@ -0,0 +1,229 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioMetrics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>PiGpioMetrics class.</p>
+ *
+ * Built-in command and notification metrics of a PiGpio instance: per command counters,
+ * error counts by {@link com.pi4j.library.pigpio.PiGpioError}, bytes sent to and received
+ * from the PiGpio daemon, latency histograms, notification reports and notification
+ * dispatch lag.  All values are recorded into preallocated atomic counters, so recording
+ * does not allocate or lock on the command path; use {@link #snapshot()} to query them.
+ *
+ * Latencies are recorded into log-linear histograms with four buckets per power of two,
+ * so percentiles are reported with a resolution of 25% or better.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioMetrics {
+
+    /** Constant <code>SUB_BUCKETS=4</code> (histogram buckets per power of two) */
+    public static final int SUB_BUCKETS = 4;
+    /** Constant <code>BUCKETS=160</code> (histogram buckets; covers latencies up to 2^40 nanoseconds) */
+    public static final int BUCKETS = 160;
+
+    private static final int COMMANDS = PiGpioCmd.values().length;
+    private static final int ERRORS = PiGpioError.values().length;
+
+    protected final AtomicLongArray commands = new AtomicLongArray(COMMANDS);
+    protected final AtomicLongArray errors = new AtomicLongArray(COMMANDS);
+    protected final AtomicLongArray failures = new AtomicLongArray(COMMANDS);
+    protected final AtomicLongArray latencyTotals = new AtomicLongArray(COMMANDS);
+    protected final AtomicLongArray latencies = new AtomicLongArray(COMMANDS * BUCKETS);
+    protected final AtomicLongArray errorCodes = new AtomicLongArray(ERRORS);
+    protected final AtomicLong bytesSent = new AtomicLong();
+    protected final AtomicLong bytesReceived = new AtomicLong();
+    protected final AtomicLong notificationReports = new AtomicLong();
+    protected final AtomicLongArray dispatchLag = new AtomicLongArray(BUCKETS);
+    protected volatile long started = System.nanoTime();
+    protected volatile boolean enabled = true;
+
+    /**
+     * <p>Constructor for PiGpioMetrics.</p>
+     */
+    public PiGpioMetrics(){
+    }
+
+    /**
+     * <p>enabled.</p>
+     *
+     * @return true if metrics are recorded
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable recording; recorded values are kept while recording is disabled.
+     *
+     * @param enabled true to record metrics
+     * @return this metrics instance
+     */
+    public PiGpioMetrics enabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Record a completed command.  Negative results are counted as errors, except for
+     * the commands returning raw values (TICK, BR1 and BR2) that may be negative.
+     *
+     * @param cmd executed command
+     * @param start {@link System#nanoTime()} at which the command was started
+     * @param result command result
+     */
+    public void command(PiGpioCmd cmd, long start, int result) {
+        command(cmd, start, result, 0, 0);
+    }
+
+    /**
+     * Record a completed command and the number of bytes exchanged with the PiGpio daemon.
+     * Negative results are counted as errors, except for the commands returning raw values
+     * (TICK, BR1 and BR2) that may be negative.
+     *
+     * @param cmd executed command
+     * @param start {@link System#nanoTime()} at which the command was started
+     * @param result command result
+     * @param sent number of bytes sent (command header and payload)
+     * @param received number of bytes received (response header and payload)
+     */
+    public void command(PiGpioCmd cmd, long start, int result, int sent, int received) {
+        if(!enabled) return;
+        long latency = System.nanoTime() - start;
+        int index = cmd.ordinal();
+        commands.incrementAndGet(index);
+        latencyTotals.addAndGet(index, latency);
+        latencies.incrementAndGet(index * BUCKETS + bucket(latency));
+        if(sent > 0) bytesSent.addAndGet(sent);
+        if(received > 0) bytesReceived.addAndGet(received);
+        if(result < 0 && cmd != PiGpioCmd.TICK && cmd != PiGpioCmd.BR1 && cmd != PiGpioCmd.BR2) {
+            errors.incrementAndGet(index);
+            errorCodes.incrementAndGet(PiGpioError.from(result).ordinal());
+        }
+    }
+
+    /**
+     * Record a command that failed without a result (for example a timeout or a lost connection).
+     *
+     * @param cmd failed command
+     * @param start {@link System#nanoTime()} at which the command was started
+     */
+    public void failure(PiGpioCmd cmd, long start) {
+        if(!enabled) return;
+        long latency = System.nanoTime() - start;
+        int index = cmd.ordinal();
+        failures.incrementAndGet(index);
+        latencyTotals.addAndGet(index, latency);
+    }
+
+    /**
+     * Record a received notification report.
+     */
+    public void notificationReport() {
+        if(enabled) notificationReports.incrementAndGet();
+    }
+
+    /**
+     * Record the time between receiving notification reports and dispatching their events.
+     *
+     * @param nanos dispatch lag in nanoseconds
+     */
+    public void dispatchLag(long nanos) {
+        if(enabled) dispatchLag.incrementAndGet(bucket(nanos));
+    }
+
+    /**
+     * Reset all recorded metrics to zero and restart the measurement period.
+     */
+    public void reset() {
+        clear(commands);
+        clear(errors);
+        clear(failures);
+        clear(latencyTotals);
+        clear(latencies);
+        clear(errorCodes);
+        clear(dispatchLag);
+        bytesSent.set(0);
+        bytesReceived.set(0);
+        notificationReports.set(0);
+        started = System.nanoTime();
+    }
+
+    /**
+     * Take a point-in-time copy of the recorded metrics.  Counters are copied one by one
+     * while recording continues, so values recorded concurrently may be partially included.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioMetricsSnapshot} object.
+     */
+    public PiGpioMetricsSnapshot snapshot() {
+        return new PiGpioMetricsSnapshot(System.nanoTime() - started,
+                copy(commands), copy(errors), copy(failures), copy(latencyTotals), copy(latencies),
+                copy(errorCodes), bytesSent.get(), bytesReceived.get(), notificationReports.get(), copy(dispatchLag));
+    }
+
+    /**
+     * Get the histogram bucket of a latency.
+     *
+     * @param nanos latency in nanoseconds
+     * @return histogram bucket (0 to BUCKETS - 1)
+     */
+    public static int bucket(long nanos) {
+        if(nanos < SUB_BUCKETS) return (int) Math.max(nanos, 0);
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return Math.min((exponent - 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+    }
+
+    /**
+     * Get the lowest latency recorded into a histogram bucket.
+     *
+     * @param bucket histogram bucket
+     * @return latency in nanoseconds
+     */
+    public static long bucketValue(int bucket) {
+        if(bucket < SUB_BUCKETS) return bucket;
+        int exponent = bucket / SUB_BUCKETS + 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - 2);
+    }
+
+    private static void clear(AtomicLongArray array) {
+        for (int i = 0; i < array.length(); i++) array.set(i, 0);
+    }
+
+    private static long[] copy(AtomicLongArray array) {
+        long[] values = new long[array.length()];
+        for (int i = 0; i < values.length; i++) values[i] = array.get(i);
+        return values;
+    }
+}
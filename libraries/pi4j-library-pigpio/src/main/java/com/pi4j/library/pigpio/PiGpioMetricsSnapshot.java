@@ -0,0 +1,327 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioMetricsSnapshot.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.pi4j.library.pigpio.PiGpioMetrics.BUCKETS;
+
+/**
+ * <p>PiGpioMetricsSnapshot class.</p>
+ *
+ * Immutable point-in-time copy of the {@link com.pi4j.library.pigpio.PiGpioMetrics} of a
+ * PiGpio instance.  Latencies are returned in nanoseconds; percentiles are estimated from
+ * the latency histograms and report the lower bound of the matching histogram bucket.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioMetricsSnapshot {
+
+    private static final PiGpioCmd[] COMMANDS = PiGpioCmd.values();
+    private static final PiGpioError[] ERRORS = PiGpioError.values();
+
+    private final long elapsed;
+    private final long[] commands;
+    private final long[] errors;
+    private final long[] failures;
+    private final long[] latencyTotals;
+    private final long[] latencies;
+    private final long[] errorCodes;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long notificationReports;
+    private final long[] dispatchLag;
+
+    /**
+     * <p>Constructor for PiGpioMetricsSnapshot.</p>
+     */
+    PiGpioMetricsSnapshot(long elapsed, long[] commands, long[] errors, long[] failures, long[] latencyTotals,
+                          long[] latencies, long[] errorCodes, long bytesSent, long bytesReceived,
+                          long notificationReports, long[] dispatchLag) {
+        this.elapsed = elapsed;
+        this.commands = commands;
+        this.errors = errors;
+        this.failures = failures;
+        this.latencyTotals = latencyTotals;
+        this.latencies = latencies;
+        this.errorCodes = errorCodes;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.notificationReports = notificationReports;
+        this.dispatchLag = dispatchLag;
+    }
+
+    /**
+     * <p>elapsed.</p>
+     *
+     * @return length of the measurement period in nanoseconds
+     */
+    public long elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * <p>commands.</p>
+     *
+     * @return total number of completed commands
+     */
+    public long commands() {
+        return sum(commands);
+    }
+
+    /**
+     * <p>commands.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @return number of completed commands of the given type
+     */
+    public long commands(PiGpioCmd cmd) {
+        return commands[cmd.ordinal()];
+    }
+
+    /**
+     * Get the counts of all commands that have been executed at least once.
+     *
+     * @return number of completed commands by command
+     */
+    public Map<PiGpioCmd, Long> commandCounts() {
+        return counts(COMMANDS, commands, PiGpioCmd.class);
+    }
+
+    /**
+     * <p>throughput.</p>
+     *
+     * @return completed commands per second over the measurement period
+     */
+    public double throughput() {
+        return rate(commands());
+    }
+
+    /**
+     * <p>throughput.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @return completed commands of the given type per second over the measurement period
+     */
+    public double throughput(PiGpioCmd cmd) {
+        return rate(commands(cmd));
+    }
+
+    /**
+     * <p>errors.</p>
+     *
+     * @return total number of commands that completed with an error result
+     */
+    public long errors() {
+        return sum(errors);
+    }
+
+    /**
+     * <p>errors.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @return number of commands of the given type that completed with an error result
+     */
+    public long errors(PiGpioCmd cmd) {
+        return errors[cmd.ordinal()];
+    }
+
+    /**
+     * <p>errors.</p>
+     *
+     * @param error a {@link com.pi4j.library.pigpio.PiGpioError} object.
+     * @return number of commands that completed with the given error
+     */
+    public long errors(PiGpioError error) {
+        return errorCodes[error.ordinal()];
+    }
+
+    /**
+     * Get the counts of all errors that have been returned at least once.
+     *
+     * @return number of error results by error
+     */
+    public Map<PiGpioError, Long> errorCounts() {
+        return counts(ERRORS, errorCodes, PiGpioError.class);
+    }
+
+    /**
+     * <p>failures.</p>
+     *
+     * @return total number of commands that failed without a result (timeouts, lost connections)
+     */
+    public long failures() {
+        return sum(failures);
+    }
+
+    /**
+     * <p>failures.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @return number of commands of the given type that failed without a result
+     */
+    public long failures(PiGpioCmd cmd) {
+        return failures[cmd.ordinal()];
+    }
+
+    /**
+     * <p>bytesSent.</p>
+     *
+     * @return number of bytes sent to the PiGpio daemon (socket instances only)
+     */
+    public long bytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * <p>bytesReceived.</p>
+     *
+     * @return number of bytes received from the PiGpio daemon (socket instances only)
+     */
+    public long bytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * <p>meanLatency.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @return mean latency in nanoseconds of the commands of the given type (including failures)
+     */
+    public double meanLatency(PiGpioCmd cmd) {
+        long count = commands[cmd.ordinal()] + failures[cmd.ordinal()];
+        return (count == 0) ? 0 : (double) latencyTotals[cmd.ordinal()] / count;
+    }
+
+    /**
+     * Get a latency percentile of the completed commands of all types.
+     *
+     * @param percentile percentile (0.0 - 1.0); e.g. 0.99 for the 99th percentile
+     * @return latency in nanoseconds
+     */
+    public long latency(double percentile) {
+        long[] total = new long[BUCKETS];
+        for (int i = 0; i < latencies.length; i++) total[i % BUCKETS] += latencies[i];
+        return percentile(total, 0, percentile);
+    }
+
+    /**
+     * Get a latency percentile of the completed commands of the given type.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param percentile percentile (0.0 - 1.0); e.g. 0.99 for the 99th percentile
+     * @return latency in nanoseconds
+     */
+    public long latency(PiGpioCmd cmd, double percentile) {
+        return percentile(latencies, cmd.ordinal() * BUCKETS, percentile);
+    }
+
+    /**
+     * <p>notificationReports.</p>
+     *
+     * @return number of notification reports received
+     */
+    public long notificationReports() {
+        return notificationReports;
+    }
+
+    /**
+     * <p>notificationRate.</p>
+     *
+     * @return notification reports received per second over the measurement period
+     */
+    public double notificationRate() {
+        return rate(notificationReports);
+    }
+
+    /**
+     * Get a percentile of the time between receiving notification reports and dispatching
+     * their events to the registered listeners.
+     *
+     * @param percentile percentile (0.0 - 1.0); e.g. 0.99 for the 99th percentile
+     * @return dispatch lag in nanoseconds
+     */
+    public long dispatchLag(double percentile) {
+        return percentile(dispatchLag, 0, percentile);
+    }
+
+    private double rate(long count) {
+        return (elapsed <= 0) ? 0 : count * 1e9 / elapsed;
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) total += value;
+        return total;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> counts(E[] keys, long[] values, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (int i = 0; i < keys.length; i++) {
+            if(values[i] != 0) counts.put(keys[i], values[i]);
+        }
+        return counts;
+    }
+
+    private static long percentile(long[] histogram, int offset, double percentile) {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) count += histogram[offset + i];
+        if(count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[offset + i];
+            if(seen >= rank) return PiGpioMetrics.bucketValue(i);
+        }
+        return PiGpioMetrics.bucketValue(BUCKETS - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("<<METRICS>>");
+        result.append(" COMMANDS=").append(commands());
+        result.append("; ERRORS=").append(errors());
+        result.append("; FAILURES=").append(failures());
+        result.append("; TX=").append(bytesSent).append(" BYTES");
+        result.append("; RX=").append(bytesReceived).append(" BYTES");
+        result.append("; NOTIFICATIONS=").append(notificationReports);
+        for (Map.Entry<PiGpioCmd, Long> entry : commandCounts().entrySet()) {
+            PiGpioCmd cmd = entry.getKey();
+            result.append(System.lineSeparator()).append("  ").append(cmd.name())
+                    .append(" : COUNT=").append(entry.getValue())
+                    .append("; ERRORS=").append(errors(cmd))
+                    .append("; P50=").append(latency(cmd, 0.50) / 1000).append(" us")
+                    .append("; P99=").append(latency(cmd, 0.99) / 1000).append(" us");
+        }
+        return result.toString();
+    }
+}
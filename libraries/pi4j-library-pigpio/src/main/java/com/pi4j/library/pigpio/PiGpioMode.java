@@ -46,6 +46,9 @@ public enum PiGpioMode {
     ALT4   (PI_ALT4),
     ALT5   (PI_ALT5);
 
+    // cached copy of values(); values() clones the array on every call
+    private static final PiGpioMode[] VALUES = PiGpioMode.values();
+
     private int value;
 
     PiGpioMode(int value){
@@ -68,8 +71,18 @@ public enum PiGpioMode {
      * @return a {@link com.pi4j.library.pigpio.PiGpioMode} object.
      */
     public static PiGpioMode from(Number value){
-        for(PiGpioMode c : PiGpioMode.values()){
-            if(c.value() == value.intValue()) return c;
+        return from(value.intValue());
+    }
+
+    /**
+     * <p>from.</p>
+     *
+     * @param value a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioMode} object.
+     */
+    public static PiGpioMode from(int value){
+        for(PiGpioMode c : VALUES){
+            if(c.value() == value) return c;
         }
         return UNKNOWN;
     }
@@ -31,6 +31,7 @@ import com.pi4j.library.pigpio.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -60,6 +61,9 @@ public class PiGpioPacket {
 
     private static final Logger logger = LoggerFactory.getLogger(PiGpioPacket.class);
 
+    /** Constant <code>HEADER_SIZE=16</code> */
+    public static final int HEADER_SIZE = 16;
+
     private PiGpioCmd cmd;
     private int p1 = 0;
     private int p2 = 0;
@@ -350,7 +354,23 @@ public class PiGpioPacket {
      * @throws IOException if an error occurs accessing {@code stream}.
      */
     public static PiGpioPacket decode(InputStream stream) throws IOException {
-        return PiGpioPacket.decode(stream.readNBytes(stream.available()));
+        // read the fixed size response header
+        byte[] header = stream.readNBytes(HEADER_SIZE);
+        if(header.length < HEADER_SIZE){
+            throw new EOFException("End of stream reached while reading packet header; COUNT=" + header.length);
+        }
+        PiGpioPacket packet = PiGpioPacket.decode(header);
+
+        // only commands with an extended response are followed by payload bytes;
+        // the number of payload bytes that follow the header is stored in P3
+        if(packet.cmd().extendedReply() && packet.p3() > 0){
+            byte[] payload = stream.readNBytes(packet.p3());
+            if(payload.length < packet.p3()){
+                throw new EOFException("End of stream reached while reading packet payload; COUNT=" + payload.length);
+            }
+            packet.data(payload);
+        }
+        return packet;
     }
 
     /**
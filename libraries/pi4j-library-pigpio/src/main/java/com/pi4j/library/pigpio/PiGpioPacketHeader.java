@@ -0,0 +1,206 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPacketHeader.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>PiGpioPacketHeader class.</p>
+ *
+ * Mutable, reusable codec for the 16 byte command/response header of the PiGpio socket
+ * protocol.  Unlike {@link PiGpioPacket}, a header instance is meant to be reused for every
+ * command sent or response received on a connection; it is encoded to and decoded from a
+ * {@link java.nio.ByteBuffer} without creating any objects.  Any command payload is not part
+ * of the header and is written to or read from the buffer by the caller.
+ *
+ *  typedef struct
+ *  {
+ *      uint32_t cmd;
+ *      uint32_t p1;
+ *      uint32_t p2;
+ *      union
+ *      {
+ *          uint32_t p3;
+ *          uint32_t ext_len;
+ *          uint32_t res;
+ *      };
+ *  } cmdCmd_t;
+ *
+ * Instances are not thread-safe.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioPacketHeader {
+
+    private PiGpioCmd cmd = PiGpioCmd.UNKNOWN;
+    private int p1 = 0;
+    private int p2 = 0;
+    private int p3 = 0;
+
+    /**
+     * <p>Constructor for PiGpioPacketHeader.</p>
+     */
+    public PiGpioPacketHeader(){
+    }
+
+    /**
+     * <p>cmd.</p>
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     */
+    public PiGpioCmd cmd(){
+        return this.cmd;
+    }
+
+    /**
+     * <p>p1.</p>
+     *
+     * @return a int.
+     */
+    public int p1(){
+        return this.p1;
+    }
+
+    /**
+     * <p>p2.</p>
+     *
+     * @return a int.
+     */
+    public int p2(){
+        return this.p2;
+    }
+
+    /**
+     * <p>p3.</p>
+     *
+     * @return a int.
+     */
+    public int p3(){
+        return this.p3;
+    }
+
+    /**
+     * <p>result.</p>
+     *
+     * @return the command result of a response header (P3).
+     */
+    public int result(){
+        return this.p3;
+    }
+
+    /**
+     * <p>success.</p>
+     *
+     * @return a boolean.
+     */
+    public boolean success(){
+        return this.p3 >= 0;
+    }
+
+    /**
+     * Get the number of payload bytes that follow this response header.  Only commands with
+     * an extended response are followed by payload bytes; the number of payload bytes is
+     * stored in P3.
+     *
+     * @return number of payload bytes
+     */
+    public int payloadLength(){
+        return (cmd.extendedReply() && p3 > 0) ? p3 : 0;
+    }
+
+    /**
+     * Set all header fields.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @param p3 a int; the number of command payload bytes for a command header.
+     * @return this header instance
+     */
+    public PiGpioPacketHeader set(PiGpioCmd cmd, int p1, int p2, int p3){
+        this.cmd = cmd;
+        this.p1 = p1;
+        this.p2 = p2;
+        this.p3 = p3;
+        return this;
+    }
+
+    /**
+     * Reset all header fields.
+     *
+     * @return this header instance
+     */
+    public PiGpioPacketHeader clear(){
+        return set(PiGpioCmd.UNKNOWN, 0, 0, 0);
+    }
+
+    /**
+     * Write the 16 header bytes (little endian) at the buffer's current position and advance it.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object with at least 16 bytes remaining.
+     * @return this header instance
+     */
+    public PiGpioPacketHeader encode(ByteBuffer buffer){
+        boolean swap = buffer.order() != ByteOrder.LITTLE_ENDIAN;
+        buffer.putInt(swap ? Integer.reverseBytes(cmd.value()) : cmd.value());  // CMD <4 bytes :: 0-3>
+        buffer.putInt(swap ? Integer.reverseBytes(p1) : p1);                    // P1  <4 bytes :: 4-7>
+        buffer.putInt(swap ? Integer.reverseBytes(p2) : p2);                    // P2  <4 bytes :: 8-11>
+        buffer.putInt(swap ? Integer.reverseBytes(p3) : p3);                    // P3  <4 bytes :: 12-15>
+        return this;
+    }
+
+    /**
+     * Read the 16 header bytes (little endian) at the buffer's current position and advance it.
+     * Nothing is read if fewer than 16 bytes are remaining.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @return true if a complete header was decoded
+     */
+    public boolean decode(ByteBuffer buffer){
+        if(buffer.remaining() < PiGpioPacket.HEADER_SIZE) return false;
+        boolean swap = buffer.order() != ByteOrder.LITTLE_ENDIAN;
+        int raw = buffer.getInt();
+        this.cmd = PiGpioCmd.from(swap ? Integer.reverseBytes(raw) : raw);  // CMD <4 bytes :: 0-3>
+        raw = buffer.getInt();
+        this.p1 = swap ? Integer.reverseBytes(raw) : raw;                    // P1  <4 bytes :: 4-7>
+        raw = buffer.getInt();
+        this.p2 = swap ? Integer.reverseBytes(raw) : raw;                    // P2  <4 bytes :: 8-11>
+        raw = buffer.getInt();
+        this.p3 = swap ? Integer.reverseBytes(raw) : raw;                    // P3  <4 bytes :: 12-15>
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        return String.format("CMD=%s(%d); P1=%d; P2=%d; P3=%d", cmd.name(), cmd.value(), p1, p2, p3);
+    }
+}
@@ -0,0 +1,130 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPulse.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+/**
+ * <p>A single waveform pulse: the GPIO to switch on, the GPIO to switch off and the
+ * delay before the next pulse starts.</p>
+ *
+ *  typedef struct
+ *  {
+ *      uint32_t gpioOn;
+ *      uint32_t gpioOff;
+ *      uint32_t usDelay;
+ *  } gpioPulse_t;
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioPulse {
+
+    private final int gpioOn;
+    private final int gpioOff;
+    private final int usDelay;
+
+    /**
+     * <p>Constructor for PiGpioPulse.</p>
+     *
+     * @param gpioOn bitmask of the GPIO to switch on at the start of the pulse
+     * @param gpioOff bitmask of the GPIO to switch off at the start of the pulse
+     * @param usDelay delay in microseconds before the next pulse
+     */
+    public PiGpioPulse(int gpioOn, int gpioOff, int usDelay){
+        this.gpioOn = gpioOn;
+        this.gpioOff = gpioOff;
+        this.usDelay = usDelay;
+    }
+
+    /**
+     * <p>Create a pulse that switches a single GPIO on.</p>
+     *
+     * @param pin gpio pin address
+     * @param usDelay delay in microseconds before the next pulse
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPulse} object.
+     */
+    public static PiGpioPulse on(int pin, int usDelay){
+        return new PiGpioPulse(1 << pin, 0, usDelay);
+    }
+
+    /**
+     * <p>Create a pulse that switches a single GPIO off.</p>
+     *
+     * @param pin gpio pin address
+     * @param usDelay delay in microseconds before the next pulse
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPulse} object.
+     */
+    public static PiGpioPulse off(int pin, int usDelay){
+        return new PiGpioPulse(0, 1 << pin, usDelay);
+    }
+
+    /**
+     * <p>Create a pulse that only waits.</p>
+     *
+     * @param usDelay delay in microseconds before the next pulse
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPulse} object.
+     */
+    public static PiGpioPulse delay(int usDelay){
+        return new PiGpioPulse(0, 0, usDelay);
+    }
+
+    /**
+     * <p>gpioOn.</p>
+     *
+     * @return bitmask of the GPIO to switch on
+     */
+    public int gpioOn(){
+        return this.gpioOn;
+    }
+
+    /**
+     * <p>gpioOff.</p>
+     *
+     * @return bitmask of the GPIO to switch off
+     */
+    public int gpioOff(){
+        return this.gpioOff;
+    }
+
+    /**
+     * <p>usDelay.</p>
+     *
+     * @return delay in microseconds before the next pulse
+     */
+    public int usDelay(){
+        return this.usDelay;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        return "PULSE [ON=" + Integer.toBinaryString(gpioOn) +
+                "; OFF=" + Integer.toBinaryString(gpioOff) +
+                "; DELAY=" + Integer.toUnsignedString(usDelay) + "us]";
+    }
+}
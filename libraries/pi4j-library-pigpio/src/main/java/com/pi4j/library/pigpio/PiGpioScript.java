@@ -0,0 +1,503 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioScript.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.Objects;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_VARS;
+
+/**
+ * <p>Builder for the text of a PiGpio script.</p>
+ *
+ * Scripts are stored in and executed by the PiGpio daemon, so loops built from
+ * GPIO reads/writes, delays and jumps run on the Raspberry Pi without a network
+ * round trip per step.  Operands are integer literals, script parameters
+ * ({@link #param(int)}: p0-p9) or script variables ({@link #var(int)}: v0-v149).
+ *
+ * Example: toggle GPIO 4 'p0' times with a 'p1' millisecond period.
+ *  - PiGpioScript.newInstance()
+ *        .mode(4, PiGpioMode.OUTPUT)
+ *        .tag(100).write(4, 1).mils(param(1)).write(4, 0).mils(param(1))
+ *        .dcr(param(0)).jnz(100)
+ *
+ * The conditional jumps test the F (flags) register, not the accumulator.  F is set by the
+ * arithmetic, logic and compare commands (for example ADD, CMP, DCR and INR); LDA does not set it.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/pigs.html#Scripts">PIGPIO::Scripts</a>
+ */
+public class PiGpioScript {
+
+    private final StringBuilder script = new StringBuilder();
+
+    /**
+     * <p>Constructor for PiGpioScript.</p>
+     */
+    protected PiGpioScript(){
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioScript} object.
+     */
+    public static PiGpioScript newInstance(){
+        return new PiGpioScript();
+    }
+
+    /**
+     * <p>Reference a script parameter.</p>
+     *
+     * @param index parameter index (valid range: 0-9)
+     * @return the parameter operand ('p0'-'p9')
+     */
+    public static String param(int index){
+        if(index < 0 || index >= PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("Invalid script parameter: " + index + "; (valid range: 0-" + (PI_MAX_SCRIPT_PARAMS - 1) + ")");
+        return "p" + index;
+    }
+
+    /**
+     * <p>Reference a script variable.</p>
+     *
+     * @param index variable index (valid range: 0-149)
+     * @return the variable operand ('v0'-'v149')
+     */
+    public static String var(int index){
+        if(index < 0 || index >= PI_MAX_SCRIPT_VARS)
+            throw new IllegalArgumentException("Invalid script variable: " + index + "; (valid range: 0-" + (PI_MAX_SCRIPT_VARS - 1) + ")");
+        return "v" + index;
+    }
+
+    // *****************************************************************************************************
+    // FLOW CONTROL
+    // *****************************************************************************************************
+
+    /**
+     * Label the next command as a jump/call target.
+     *
+     * @param label tag number
+     * @return this script builder
+     */
+    public PiGpioScript tag(int label){
+        return command("TAG", label);
+    }
+
+    /**
+     * Jump to a tag.
+     *
+     * @param label tag number
+     * @return this script builder
+     */
+    public PiGpioScript jmp(int label){
+        return command("JMP", label);
+    }
+
+    /**
+     * Jump to a tag if the F register is zero.
+     *
+     * @param label tag number
+     * @return this script builder
+     */
+    public PiGpioScript jz(int label){
+        return command("JZ", label);
+    }
+
+    /**
+     * Jump to a tag if the F register is not zero.
+     *
+     * @param label tag number
+     * @return this script builder
+     */
+    public PiGpioScript jnz(int label){
+        return command("JNZ", label);
+    }
+
+    /**
+     * Jump to a tag if the F register is negative.
+     *
+     * @param label tag number
+     * @return this script builder
+     */
+    public PiGpioScript jm(int label){
+        return command("JM", label);
+    }
+
+    /**
+     * Jump to a tag if the F register is zero or positive.
+     *
+     * @param label tag number
+     * @return this script builder
+     */
+    public PiGpioScript jp(int label){
+        return command("JP", label);
+    }
+
+    /**
+     * Call the subroutine at a tag.
+     *
+     * @param label tag number
+     * @return this script builder
+     */
+    public PiGpioScript call(int label){
+        return command("CALL", label);
+    }
+
+    /**
+     * Return from a subroutine.
+     *
+     * @return this script builder
+     */
+    public PiGpioScript ret(){
+        return command("RET");
+    }
+
+    /**
+     * Halt the script.
+     *
+     * @return this script builder
+     */
+    public PiGpioScript halt(){
+        return command("HALT");
+    }
+
+    // *****************************************************************************************************
+    // ACCUMULATOR & VARIABLES
+    // *****************************************************************************************************
+
+    /**
+     * Load a variable or parameter with a value.
+     *
+     * @param target variable or parameter
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript ld(String target, Object value){
+        return command("LD", target, value);
+    }
+
+    /**
+     * Load the accumulator with a value.
+     *
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript lda(Object value){
+        return command("LDA", value);
+    }
+
+    /**
+     * Store the accumulator in a variable or parameter.
+     *
+     * @param target variable or parameter
+     * @return this script builder
+     */
+    public PiGpioScript sta(String target){
+        return command("STA", target);
+    }
+
+    /**
+     * Add a value to the accumulator.
+     *
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript add(Object value){
+        return command("ADD", value);
+    }
+
+    /**
+     * Subtract a value from the accumulator.
+     *
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript sub(Object value){
+        return command("SUB", value);
+    }
+
+    /**
+     * Compare a value with the accumulator (the flags are set from A - value).
+     *
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript cmp(Object value){
+        return command("CMP", value);
+    }
+
+    /**
+     * Bitwise AND the accumulator with a value.
+     *
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript and(Object value){
+        return command("AND", value);
+    }
+
+    /**
+     * Bitwise OR the accumulator with a value.
+     *
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript or(Object value){
+        return command("OR", value);
+    }
+
+    /**
+     * Bitwise XOR the accumulator with a value.
+     *
+     * @param value operand
+     * @return this script builder
+     */
+    public PiGpioScript xor(Object value){
+        return command("XOR", value);
+    }
+
+    /**
+     * Increment a variable or parameter; F is set to the new value.
+     *
+     * @param target variable or parameter
+     * @return this script builder
+     */
+    public PiGpioScript inr(String target){
+        return command("INR", target);
+    }
+
+    /**
+     * Decrement a variable or parameter; F is set to the new value.
+     *
+     * @param target variable or parameter
+     * @return this script builder
+     */
+    public PiGpioScript dcr(String target){
+        return command("DCR", target);
+    }
+
+    // *****************************************************************************************************
+    // DELAYS
+    // *****************************************************************************************************
+
+    /**
+     * Delay for a number of milliseconds.
+     *
+     * @param millis operand (valid range: 1-300000)
+     * @return this script builder
+     */
+    public PiGpioScript mils(Object millis){
+        return command("MILS", millis);
+    }
+
+    /**
+     * Delay for a number of microseconds.
+     *
+     * @param micros operand (valid range: 1-1000000)
+     * @return this script builder
+     */
+    public PiGpioScript mics(Object micros){
+        return command("MICS", micros);
+    }
+
+    /**
+     * Wait for a level change on any of the GPIO in a bitmask; the accumulator
+     * receives the bitmask of the changed GPIO.
+     *
+     * @param bits operand
+     * @return this script builder
+     */
+    public PiGpioScript waitFor(Object bits){
+        return command("WAIT", bits);
+    }
+
+    // *****************************************************************************************************
+    // GPIO
+    // *****************************************************************************************************
+
+    /**
+     * Set the GPIO mode.
+     *
+     * @param pin gpio pin address
+     * @param mode pin mode
+     * @return this script builder
+     */
+    public PiGpioScript mode(Object pin, PiGpioMode mode){
+        String value;
+        switch(Objects.requireNonNull(mode, "mode")){
+            case INPUT: value = "R"; break;
+            case OUTPUT: value = "W"; break;
+            case UNKNOWN: throw new IllegalArgumentException("Invalid script GPIO mode: " + mode);
+            default: value = mode.name().substring(3); break;  // ALT0-ALT5 -> 0-5
+        }
+        return command("M", pin, value);
+    }
+
+    /**
+     * Read the GPIO level into the accumulator.
+     *
+     * @param pin gpio pin address
+     * @return this script builder
+     */
+    public PiGpioScript read(Object pin){
+        return command("R", pin);
+    }
+
+    /**
+     * Write the GPIO level.
+     *
+     * @param pin gpio pin address
+     * @param level operand: 0 (LOW) or 1 (HIGH)
+     * @return this script builder
+     */
+    public PiGpioScript write(Object pin, Object level){
+        return command("W", pin, level);
+    }
+
+    /**
+     * Send a trigger pulse to a GPIO.
+     *
+     * @param pin gpio pin address
+     * @param pulseLength pulse length in microseconds (valid range: 1-100)
+     * @param level operand: 0 (LOW) or 1 (HIGH)
+     * @return this script builder
+     */
+    public PiGpioScript trigger(Object pin, Object pulseLength, Object level){
+        return command("TRIG", pin, pulseLength, level);
+    }
+
+    /**
+     * Start PWM on a GPIO.
+     *
+     * @param pin gpio pin address
+     * @param dutyCycle operand
+     * @return this script builder
+     */
+    public PiGpioScript pwm(Object pin, Object dutyCycle){
+        return command("PWM", pin, dutyCycle);
+    }
+
+    /**
+     * Start servo pulses on a GPIO.
+     *
+     * @param pin gpio pin address
+     * @param pulseWidth operand
+     * @return this script builder
+     */
+    public PiGpioScript servo(Object pin, Object pulseWidth){
+        return command("SERVO", pin, pulseWidth);
+    }
+
+    /**
+     * Read the levels of GPIO 0-31 into the accumulator.
+     *
+     * @return this script builder
+     */
+    public PiGpioScript br1(){
+        return command("BR1");
+    }
+
+    /**
+     * Set every GPIO in 0-31 whose bit is set in the bitmask.
+     *
+     * @param bits operand
+     * @return this script builder
+     */
+    public PiGpioScript bs1(Object bits){
+        return command("BS1", bits);
+    }
+
+    /**
+     * Clear every GPIO in 0-31 whose bit is set in the bitmask.
+     *
+     * @param bits operand
+     * @return this script builder
+     */
+    public PiGpioScript bc1(Object bits){
+        return command("BC1", bits);
+    }
+
+    /**
+     * Trigger an event.
+     *
+     * @param event operand (valid range: 0-31)
+     * @return this script builder
+     */
+    public PiGpioScript evt(Object event){
+        return command("EVT", event);
+    }
+
+    // *****************************************************************************************************
+    // GENERIC
+    // *****************************************************************************************************
+
+    /**
+     * Append any script command.
+     *
+     * @param name command name (e.g. 'MLT', 'RLA', 'PUSH')
+     * @param operands integer literals, parameters or variables
+     * @return this script builder
+     */
+    public PiGpioScript command(String name, Object ... operands){
+        if(name == null || name.isBlank() || !name.chars().allMatch(Character::isLetterOrDigit))
+            throw new IllegalArgumentException("Invalid script command: " + name);
+        if(script.length() > 0) script.append('\n');
+        script.append(name.toUpperCase());
+        for(Object operand : operands){
+            script.append(' ').append(operand(operand));
+        }
+        return this;
+    }
+
+    /**
+     * <p>Get the script text.</p>
+     *
+     * @return the script text
+     */
+    public String build(){
+        return script.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        return build();
+    }
+
+    private static String operand(Object operand){
+        if(operand instanceof Integer) return operand.toString();
+        if(operand instanceof String){
+            String value = (String)operand;
+            if(value.matches("[pv][0-9]+|[RrWw0-5]")) return value;
+        }
+        throw new IllegalArgumentException("Invalid script operand: " + operand + "; (expected an integer, a parameter or a variable)");
+    }
+}
@@ -0,0 +1,50 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketCheckout.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+/**
+ * <p>PiGpioSocketCheckout enum.</p>
+ *
+ * Determines which connection of a socket based PiGpio instance's connection pool is used
+ * to send a command to the remote PiGpio daemon.
+ *
+ * <ul>
+ *   <li>PER_THREAD - each calling thread is bound to a fixed connection of the pool; commands
+ *                    sent by the same thread are always sent over the same connection.</li>
+ *   <li>LEAST_BUSY - each command is sent over the connection with the fewest commands
+ *                    currently in progress.</li>
+ * </ul>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public enum PiGpioSocketCheckout {
+    PER_THREAD,
+    LEAST_BUSY
+}
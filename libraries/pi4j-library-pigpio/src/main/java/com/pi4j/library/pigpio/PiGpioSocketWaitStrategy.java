@@ -0,0 +1,52 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketWaitStrategy.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpioSocketWaitStrategy enum.</p>
+ *
+ * Determines how a socket based PiGpio instance waits for the response of a command
+ * sent to the remote PiGpio daemon.
+ *
+ * <ul>
+ *   <li>BLOCKING  - block the calling thread in the socket read; the configured reply
+ *                   timeout is applied as the socket read timeout.  (lowest CPU usage)</li>
+ *   <li>BUSY_SPIN - continuously poll the socket for the response without ever giving up
+ *                   the CPU.  (lowest latency; occupies a CPU core while waiting)</li>
+ *   <li>YIELD     - poll the socket for the response and yield the CPU to other threads
+ *                   between checks.  (low latency; friendlier to other threads)</li>
+ * </ul>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public enum PiGpioSocketWaitStrategy {
+    BLOCKING,
+    BUSY_SPIN,
+    YIELD
+}
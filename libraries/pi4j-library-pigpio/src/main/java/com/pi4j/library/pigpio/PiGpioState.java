@@ -36,7 +36,11 @@ package com.pi4j.library.pigpio;
 public enum PiGpioState {
     UNKNOWN(-1),
     LOW  (0),
-    HIGH (1);
+    HIGH (1),
+    TIMEOUT(2);  // reported (as PI_TIMEOUT) for a pin when its watchdog or interrupt timeout expires
+
+    // cached copy of values(); values() clones the array on every call
+    private static final PiGpioState[] VALUES = PiGpioState.values();
 
     private int value;
 
@@ -60,8 +64,18 @@ public enum PiGpioState {
      * @return a {@link com.pi4j.library.pigpio.PiGpioState} object.
      */
     public static PiGpioState from(Number value){
-        for(PiGpioState c : PiGpioState.values()){
-            if(c.value() == value.intValue()) return c;
+        return from(value.intValue());
+    }
+
+    /**
+     * <p>from.</p>
+     *
+     * @param value a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioState} object.
+     */
+    public static PiGpioState from(int value){
+        for(PiGpioState c : VALUES){
+            if(c.value() == value) return c;
         }
         return UNKNOWN;
     }
@@ -0,0 +1,167 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioWaveChain.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.ByteArrayOutputStream;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_WAVE_MAX_CHAIN;
+
+/**
+ * <p>Builder for the control buffer passed to gpioWaveChain.</p>
+ *
+ * A chain is a sequence of wave ids interleaved with loop and delay commands; the
+ * complete sequence is played back by the PiGpio DMA engine without any further
+ * interaction with the host.
+ *
+ * Example: play wave 0, then wave 1 ten times with 500us pauses, then wave 2.
+ *  - PiGpioWaveChain.newInstance().wave(0).loopStart().wave(1).delay(500).loopEnd(10).wave(2)
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+ */
+public class PiGpioWaveChain {
+
+    private static final int COMMAND      = 255;
+    private static final int LOOP_START   = 0;
+    private static final int LOOP_END     = 1;
+    private static final int DELAY        = 2;
+    private static final int LOOP_FOREVER = 3;
+    private static final int MAX_WAVE_ID  = 249;
+    private static final int MAX_VALUE    = 65535;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    /**
+     * <p>Constructor for PiGpioWaveChain.</p>
+     */
+    protected PiGpioWaveChain(){
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioWaveChain} object.
+     */
+    public static PiGpioWaveChain newInstance(){
+        return new PiGpioWaveChain();
+    }
+
+    /**
+     * Transmit one or more waveforms.
+     *
+     * @param waveId wave ids returned by gpioWaveCreate (valid range: 0-249)
+     * @return this chain builder
+     */
+    public PiGpioWaveChain wave(int ... waveId){
+        for(int id : waveId){
+            if(id < 0 || id > MAX_WAVE_ID)
+                throw new IllegalArgumentException("Invalid wave id: " + id + "; (supported wave ids: 0-" + MAX_WAVE_ID + ")");
+            buffer.write(id);
+        }
+        return this;
+    }
+
+    /**
+     * Mark the start of a loop; loops may be nested.
+     *
+     * @return this chain builder
+     */
+    public PiGpioWaveChain loopStart(){
+        buffer.write(COMMAND);
+        buffer.write(LOOP_START);
+        return this;
+    }
+
+    /**
+     * Mark the end of a loop and repeat the loop body the given number of times.
+     *
+     * @param repeat number of loop repetitions (valid range: 0-65535)
+     * @return this chain builder
+     */
+    public PiGpioWaveChain loopEnd(int repeat){
+        return command(LOOP_END, validate(repeat, "loop count"));
+    }
+
+    /**
+     * Mark the end of a loop which repeats until gpioWaveTxStop is called.
+     *
+     * @return this chain builder
+     */
+    public PiGpioWaveChain loopForever(){
+        buffer.write(COMMAND);
+        buffer.write(LOOP_FOREVER);
+        return this;
+    }
+
+    /**
+     * Pause before the next waveform.
+     *
+     * @param micros delay in microseconds (valid range: 0-65535)
+     * @return this chain builder
+     */
+    public PiGpioWaveChain delay(int micros){
+        return command(DELAY, validate(micros, "delay"));
+    }
+
+    /**
+     * <p>Get the number of bytes in the chain control buffer.</p>
+     *
+     * @return a int.
+     */
+    public int length(){
+        return buffer.size();
+    }
+
+    /**
+     * <p>Get the chain control buffer.</p>
+     *
+     * @return an array of {@link byte} objects.
+     * @throws java.lang.IllegalStateException if the chain exceeds the 600 byte limit of PiGpio.
+     */
+    public byte[] toArray(){
+        if(buffer.size() > PI_WAVE_MAX_CHAIN)
+            throw new IllegalStateException("Wave chain too long: " + buffer.size() + " bytes; (max: " + PI_WAVE_MAX_CHAIN + ")");
+        return buffer.toByteArray();
+    }
+
+    private PiGpioWaveChain command(int command, int value){
+        buffer.write(COMMAND);
+        buffer.write(command);
+        buffer.write(value & 0xFF);
+        buffer.write((value >> 8) & 0xFF);
+        return this;
+    }
+
+    private static int validate(int value, String name){
+        if(value < 0 || value > MAX_VALUE)
+            throw new IllegalArgumentException("Invalid wave chain " + name + ": " + value + "; (valid range: 0-" + MAX_VALUE + ")");
+        return value;
+    }
+}
@@ -102,6 +102,55 @@ public interface PiGpio_GPIO {
         gpioWrite(pin, PiGpioState.from(state));
     }
 
+    /**
+     * Returns the current level of GPIO 0-31.
+     * Bit N of the returned value is the level of GPIO N; all 32 levels are sampled
+     * at the same instant with a single command.
+     * @return bitmask of the levels of GPIO 0-31
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    int gpioReadBank1();
+
+    /**
+     * Returns the current level of GPIO 32-53.
+     * Bit N of the returned value is the level of GPIO (32 + N).
+     * @return bitmask of the levels of GPIO 32-53
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    int gpioReadBank2();
+
+    /**
+     * Sets (HIGH) every GPIO in 0-31 whose bit is set in the bitmask.
+     * All selected outputs switch simultaneously; GPIO not selected by the
+     * bitmask are left untouched.
+     * @param bits bitmask of GPIO 0-31 to set; bit N selects GPIO N
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    void gpioWriteBank1Set(int bits);
+
+    /**
+     * Clears (LOW) every GPIO in 0-31 whose bit is set in the bitmask.
+     * All selected outputs switch simultaneously; GPIO not selected by the
+     * bitmask are left untouched.
+     * @param bits bitmask of GPIO 0-31 to clear; bit N selects GPIO N
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    void gpioWriteBank1Clear(int bits);
+
+    /**
+     * Sets (HIGH) every GPIO in 32-53 whose bit is set in the bitmask.
+     * @param bits bitmask of GPIO 32-53 to set; bit N selects GPIO (32 + N)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    void gpioWriteBank2Set(int bits);
+
+    /**
+     * Clears (LOW) every GPIO in 32-53 whose bit is set in the bitmask.
+     * @param bits bitmask of GPIO 32-53 to clear; bit N selects GPIO (32 + N)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    void gpioWriteBank2Clear(int bits);
+
     /**
      * Sets a glitch filter on a GPIO.  (AKA Debounce)
      *
@@ -150,4 +199,35 @@ public interface PiGpio_GPIO {
      * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioGlitchFilter">PIGPIO::gpioGlitchFilter</a>
      */
     void gpioNoiseFilter(int pin, int steady, int active);
+
+    /**
+     * Sets a watchdog for a GPIO.
+     *
+     * The watchdog is nominally in milliseconds.  Only one watchdog may be registered per GPIO.
+     * The watchdog may be cancelled by setting timeout to 0.  Until cancelled a timeout will be
+     * reported every timeout milliseconds after the last level change on the GPIO; listeners
+     * registered with addPinListener receive a state change event with the state
+     * {@link com.pi4j.library.pigpio.PiGpioState#TIMEOUT} instead of a level.  This allows
+     * stalled inputs to be detected without polling the GPIO.
+     *
+     * @param pin gpio pin address (valid pins are 0-31)
+     * @param timeout watchdog timeout in milliseconds (valid range: 0-60000; 0 cancels the watchdog)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    void gpioSetWatchdog(int pin, int timeout);
+
+    /**
+     * This function signals the occurrence of an event.
+     *
+     * An event is a signal used to inform one or more consumers to start an action.  Each
+     * consumer which has registered an interest in the event (e.g. by calling addEventListener)
+     * will be informed by a callback.  One event, 31, is predefined.  This event is auto-generated
+     * on BSC slave activity.  The meaning of other events is arbitrary.
+     *
+     * Note that other than its id and its tick there is no data associated with an event.
+     *
+     * @param event event number (valid range: 0-31)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#eventTrigger">PIGPIO::eventTrigger</a>
+     */
+    void eventTrigger(int event);
 }
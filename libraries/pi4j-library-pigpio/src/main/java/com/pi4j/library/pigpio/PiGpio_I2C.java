@@ -30,6 +30,7 @@ package com.pi4j.library.pigpio;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * <p>PiGpio_I2C interface.</p>
@@ -238,7 +239,16 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteBlockData(handle, register, buffer.array(), offset, length);
+        // write straight from the buffer's backing array if it has one
+        if(buffer.hasArray()) return i2cWriteBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+
+        // otherwise copy the data out of the buffer (direct or read-only buffers)
+        byte[] temp = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        source.position(offset);
+        source.get(temp);
+        return i2cWriteBlockData(handle, register, temp, 0, length);
     }
 
     /**
@@ -471,6 +481,13 @@ public interface PiGpio_I2C {
             length = buffer.capacity()-offset;
         }
 
+        // read straight into the buffer's backing array if it has one
+        if(buffer.hasArray()) {
+            int actualLength = i2cReadBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(actualLength >= 0) buffer.position(offset + actualLength);
+            return actualLength;
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[length];
         int actualLength = i2cReadBlockData(handle, register, temp, 0 ,length);
@@ -904,6 +921,13 @@ public interface PiGpio_I2C {
             length = buffer.capacity()-offset;
         }
 
+        // read straight into the buffer's backing array if it has one
+        if(buffer.hasArray()) {
+            int actualLength = i2cReadI2CBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(actualLength >= 0) buffer.position(offset + actualLength);
+            return actualLength;
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[length];
         int actualLength = i2cReadI2CBlockData(handle, register, temp, 0 ,length);
@@ -1051,7 +1075,16 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteI2CBlockData(handle, register, buffer.array(), offset, length);
+        // write straight from the buffer's backing array if it has one
+        if(buffer.hasArray()) return i2cWriteI2CBlockData(handle, register, buffer.array(), buffer.arrayOffset() + offset, length);
+
+        // otherwise copy the data out of the buffer (direct or read-only buffers)
+        byte[] temp = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        source.position(offset);
+        source.get(temp);
+        return i2cWriteI2CBlockData(handle, register, temp, 0, length);
     }
 
     /**
@@ -1268,6 +1301,13 @@ public interface PiGpio_I2C {
             length = buffer.capacity()-offset;
         }
 
+        // read straight into the buffer's backing array if it has one
+        if(buffer.hasArray()) {
+            int actualLength = i2cReadDevice(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(actualLength >= 0) buffer.position(offset + actualLength);
+            return actualLength;
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[length];
         int actualLength = i2cReadDevice(handle, temp, 0 ,length);
@@ -1408,7 +1448,16 @@ public interface PiGpio_I2C {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return i2cWriteDevice(handle, buffer.array(), offset, length);
+        // write straight from the buffer's backing array if it has one
+        if(buffer.hasArray()) return i2cWriteDevice(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+
+        // otherwise copy the data out of the buffer (direct or read-only buffers)
+        byte[] temp = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        source.position(offset);
+        source.get(temp);
+        return i2cWriteDevice(handle, temp, 0, length);
     }
 
     /**
@@ -1554,4 +1603,154 @@ public interface PiGpio_I2C {
     default int i2cWriteDevice(int handle, CharSequence data){
         return i2cWriteDevice(handle, data, data.length());
     }
+
+    /**
+     * This function executes a sequence of I2C operations (combined transaction) on the
+     * device associated with the handle.  The command sequence is built with a
+     * {@link com.pi4j.library.pigpio.PiGpioI2CZip} object and must be terminated with an END
+     * command; the bytes read by the transaction are stored in the provided buffer.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param commands the zip command buffer
+     * @param commandOffset the starting offset position in the command buffer
+     * @param commandLength the number of command bytes to send
+     * @param buffer the array to receive the bytes read by the transaction
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read.
+     * @param length the maximum number of bytes to read
+     * @return Returns &gt;= 0 (the number of bytes read) if OK, otherwise PI_BAD_HANDLE,
+     *         PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, or PI_BAD_I2C_SEG.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    int i2cZip(int handle, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length);
+
+    /**
+     * This function executes a combined I2C transaction on the device associated with
+     * the handle.  The bytes read by the transaction are stored in the provided buffer
+     * starting at the given offset.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param zip the combined transaction
+     * @param buffer the array to receive the bytes read by the transaction
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read.
+     * @return Returns &gt;= 0 (the number of bytes read) if OK, otherwise PI_BAD_HANDLE,
+     *         PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, or PI_BAD_I2C_SEG.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    default int i2cZip(int handle, PiGpioI2CZip zip, byte[] buffer, int offset){
+        byte[] commands = zip.toArray();
+        return i2cZip(handle, commands, 0, commands.length, buffer, offset, zip.readLength());
+    }
+
+    /**
+     * This function executes a combined I2C transaction on the device associated with
+     * the handle.  The bytes read by the transaction are stored in the provided buffer.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param zip the combined transaction
+     * @param buffer the array to receive the bytes read by the transaction
+     * @return Returns &gt;= 0 (the number of bytes read) if OK, otherwise PI_BAD_HANDLE,
+     *         PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, or PI_BAD_I2C_SEG.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    default int i2cZip(int handle, PiGpioI2CZip zip, byte[] buffer){
+        return i2cZip(handle, zip, buffer, 0);
+    }
+
+    /**
+     * This function executes a combined I2C transaction on the device associated with
+     * the handle and returns the bytes read by the transaction.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param zip the combined transaction
+     * @return the bytes read by the transaction
+     * @throws com.pi4j.library.pigpio.PiGpioException if the transaction failed
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    default byte[] i2cZip(int handle, PiGpioI2CZip zip){
+        byte[] buffer = new byte[zip.readLength()];
+        int result = i2cZip(handle, zip, buffer, 0);
+        if(result < 0) {
+            PiGpioError err = PiGpioError.from(result);
+            throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+        }
+        if(result == buffer.length) return buffer;
+        return Arrays.copyOf(buffer, result);
+    }
+
+    /**
+     * This function selects a pair of GPIO for bit banging I2C at a specified baud rate.
+     * Bit banging I2C allows for certain operations which are not possible with the standard
+     * I2C driver and makes additional buses available on arbitrary pins.
+     *
+     * @param sda the GPIO used for SDA; (0-31)
+     * @param scl the GPIO used for SCL; (0-31)
+     * @param baud the baud rate in bits per second; (50-500000)
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_BAD_I2C_BAUD, or PI_GPIO_IN_USE.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    int bbI2COpen(int sda, int scl, int baud);
+
+    /**
+     * This function stops bit banging I2C on a pair of GPIO previously opened with bbI2COpen.
+     *
+     * @param sda the GPIO used for SDA in the earlier call to bbI2COpen
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_NOT_I2C_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    int bbI2CClose(int sda);
+
+    /**
+     * This function executes a sequence of bit banged I2C operations on the GPIO pair
+     * opened with bbI2COpen.  The command sequence is built with a
+     * {@link com.pi4j.library.pigpio.PiGpioI2CZip} object (using start/stop instead of
+     * combined on/off) and must be terminated with an END command.
+     *
+     * @param sda the GPIO used for SDA in the earlier call to bbI2COpen
+     * @param commands the zip command buffer
+     * @param commandOffset the starting offset position in the command buffer
+     * @param commandLength the number of command bytes to send
+     * @param buffer the array to receive the bytes read by the transaction
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read.
+     * @param length the maximum number of bytes to read
+     * @return Returns &gt;= 0 (the number of bytes read) if OK, otherwise PI_BAD_USER_GPIO,
+     *         PI_NOT_I2C_GPIO, PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN,
+     *         PI_I2C_READ_FAILED, or PI_I2C_WRITE_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    int bbI2CZip(int sda, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length);
+
+    /**
+     * This function executes a bit banged I2C transaction on the GPIO pair opened with
+     * bbI2COpen.  The bytes read by the transaction are stored in the provided buffer
+     * starting at the given offset.
+     *
+     * @param sda the GPIO used for SDA in the earlier call to bbI2COpen
+     * @param zip the transaction
+     * @param buffer the array to receive the bytes read by the transaction
+     * @param offset the starting offset position in the provided buffer to start copying the data bytes read.
+     * @return Returns &gt;= 0 (the number of bytes read) if OK, otherwise PI_BAD_USER_GPIO,
+     *         PI_NOT_I2C_GPIO, PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN,
+     *         PI_I2C_READ_FAILED, or PI_I2C_WRITE_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    default int bbI2CZip(int sda, PiGpioI2CZip zip, byte[] buffer, int offset){
+        byte[] commands = zip.toArray();
+        return bbI2CZip(sda, commands, 0, commands.length, buffer, offset, zip.readLength());
+    }
+
+    /**
+     * This function executes a bit banged I2C transaction on the GPIO pair opened with
+     * bbI2COpen.  The bytes read by the transaction are stored in the provided buffer.
+     *
+     * @param sda the GPIO used for SDA in the earlier call to bbI2COpen
+     * @param zip the transaction
+     * @param buffer the array to receive the bytes read by the transaction
+     * @return Returns &gt;= 0 (the number of bytes read) if OK, otherwise PI_BAD_USER_GPIO,
+     *         PI_NOT_I2C_GPIO, PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN,
+     *         PI_I2C_READ_FAILED, or PI_I2C_WRITE_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    default int bbI2CZip(int sda, PiGpioI2CZip zip, byte[] buffer){
+        return bbI2CZip(sda, zip, buffer, 0);
+    }
 }
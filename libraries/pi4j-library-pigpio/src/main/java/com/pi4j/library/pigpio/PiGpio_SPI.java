@@ -30,6 +30,10 @@ package com.pi4j.library.pigpio;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_STREAM_CHUNK_SIZE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SPI_DEVICE_COUNT;
 
 /**
  * <p>PiGpio_SPI interface.</p>
@@ -285,7 +289,16 @@ public interface PiGpio_SPI {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return spiWrite(handle, buffer.array(), offset, length);
+        // write straight from the buffer's backing array if it has one
+        if(buffer.hasArray()) return spiWrite(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+
+        // otherwise copy the data out of the buffer (direct or read-only buffers)
+        byte[] temp = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        source.position(offset);
+        source.get(temp);
+        return spiWrite(handle, temp, 0, length);
     }
 
     /**
@@ -515,6 +528,13 @@ public interface PiGpio_SPI {
             length = buffer.capacity()-offset;
         }
 
+        // read straight into the buffer's backing array if it has one
+        if(buffer.hasArray()) {
+            int actualLength = spiRead(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(actualLength >= 0) buffer.position(offset + actualLength);
+            return actualLength;
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[length];
         int actualLength = spiRead(handle, temp, 0 ,length);
@@ -744,10 +764,28 @@ public interface PiGpio_SPI {
         if(numberOfBytes > (write.capacity()-writeOffset)){
             numberOfBytes = write.capacity()-writeOffset;
         }
+        if(numberOfBytes > (read.capacity()-readOffset)){
+            numberOfBytes = read.capacity()-readOffset;
+        }
+
+        // transfer straight between the buffers' backing arrays if they have them
+        if(write.hasArray() && read.hasArray()) {
+            int actualLength = spiXfer(handle, write.array(), write.arrayOffset() + writeOffset,
+                    read.array(), read.arrayOffset() + readOffset, numberOfBytes);
+            if(actualLength >= 0) read.position(readOffset + actualLength);
+            return actualLength;
+        }
+
+        // otherwise copy the write data out of the 'write' buffer (direct or read-only buffers)
+        byte[] data = new byte[numberOfBytes];
+        ByteBuffer source = write.duplicate();
+        source.clear();
+        source.position(writeOffset);
+        source.get(data);
 
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[numberOfBytes];
-        int actualLength =spiXfer(handle, write.array(), 0 , temp, 0, numberOfBytes);
+        int actualLength = spiXfer(handle, data, 0, temp, 0, numberOfBytes);
 
         // return any error codes ( < 0)
         if(actualLength < 0) return actualLength;
@@ -840,26 +878,170 @@ public interface PiGpio_SPI {
      * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite">PIGPIO::spiWrite</a>
      */
     default int spiXfer(int handle, ByteBuffer buffer, int offset, int length){
-        // perform bounds checking on requested length versus total remaining size available
-        if(length > (buffer.capacity()-offset)){
-            length = buffer.capacity()-offset;
+        // the data read from the SPI device replaces the data written in the same buffer region
+        return spiXfer(handle, buffer, offset, buffer, offset, length);
+    }
+
+    // ------------------------------------------------------------------------------------
+    // STREAMING TRANSFERS
+    // ------------------------------------------------------------------------------------
+
+    /**
+     * This function transfers (writes/reads simultaneously) a buffer of any size with the SPI
+     * device associated with the handle.  The buffer is split into consecutive transfers of at most
+     * 'chunkSize' bytes; the data read for each chunk is copied to the 'read' byte array at the
+     * position of the chunk.  The chip select is released between the chunks.
+     *
+     * The socket implementation sends the next chunk while the result of the previous chunk is
+     * still outstanding.
+     *
+     * @param handle the open SPI device handle; (&gt;=0, as returned by a call to spiOpen)
+     * @param write the array of bytes to write to the SPI device
+     * @param writeOffset the starting offset position in the provided 'write' array to start writing from.
+     * @param read the array of bytes to store read data in from the SPI device
+     * @param readOffset the starting offset position in the provided 'read' array to place read data bytes
+     * @param numberOfBytes the total number of bytes to transfer (write &amp; read)
+     * @param chunkSize the maximum number of bytes per transfer; (1-65536)
+     * @return Returns the number of bytes transferred if OK, otherwise PI_BAD_HANDLE, PI_BAD_SPI_COUNT, or PI_SPI_XFER_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiXfer">PIGPIO::spiXfer</a>
+     */
+    default int spiStreamXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes, int chunkSize){
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+        if(chunkSize < 1 || chunkSize > PI_MAX_SPI_DEVICE_COUNT)
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID STREAM CHUNK SIZE [" + chunkSize + "]; Valid range: 1-" + PI_MAX_SPI_DEVICE_COUNT);
+        int transferred = 0;
+        while(transferred < numberOfBytes){
+            int count = Math.min(chunkSize, numberOfBytes - transferred);
+            int result = spiXfer(handle, write, writeOffset + transferred, read, readOffset + transferred, count);
+            if(result < 0) return result;
+            transferred += count;
         }
+        return transferred;
+    }
 
-        // create a temporary byte array to read in the length of data bytes
-        byte[] temp = new byte[length];
-        int actualLength =spiXfer(handle, buffer.array(), 0 , temp, 0, length);
+    /**
+     * This function transfers (writes/reads simultaneously) a buffer of any size with the SPI
+     * device associated with the handle in chunks of DEFAULT_STREAM_CHUNK_SIZE bytes.
+     *
+     * @param handle the open SPI device handle; (&gt;=0, as returned by a call to spiOpen)
+     * @param write the array of bytes to write to the SPI device
+     * @param writeOffset the starting offset position in the provided 'write' array to start writing from.
+     * @param read the array of bytes to store read data in from the SPI device
+     * @param readOffset the starting offset position in the provided 'read' array to place read data bytes
+     * @param numberOfBytes the total number of bytes to transfer (write &amp; read)
+     * @return Returns the number of bytes transferred if OK, otherwise PI_BAD_HANDLE, PI_BAD_SPI_COUNT, or PI_SPI_XFER_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiXfer">PIGPIO::spiXfer</a>
+     */
+    default int spiStreamXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes){
+        return spiStreamXfer(handle, write, writeOffset, read, readOffset, numberOfBytes, DEFAULT_STREAM_CHUNK_SIZE);
+    }
 
-        // return any error codes ( < 0)
-        if(actualLength < 0) return actualLength;
+    /**
+     * This function writes a buffer of any size to the SPI device associated with the handle.
+     * The buffer is split into consecutive writes of at most 'chunkSize' bytes.
+     *
+     * @param handle the open SPI device handle; (&gt;=0, as returned by a call to spiOpen)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided buffer to start writing from.
+     * @param length the total number of bytes to write
+     * @param chunkSize the maximum number of bytes per write; (1-65536)
+     * @return Returns the number of bytes written if OK, otherwise PI_BAD_HANDLE, PI_BAD_SPI_COUNT, or PI_SPI_XFER_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite">PIGPIO::spiWrite</a>
+     */
+    default int spiStreamWrite(int handle, byte[] data, int offset, int length, int chunkSize){
+        Objects.checkFromIndexSize(offset, length, data.length);
+        if(chunkSize < 1 || chunkSize > PI_MAX_SPI_DEVICE_COUNT)
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID STREAM CHUNK SIZE [" + chunkSize + "]; Valid range: 1-" + PI_MAX_SPI_DEVICE_COUNT);
+        int written = 0;
+        while(written < length){
+            int count = Math.min(chunkSize, length - written);
+            int result = spiWrite(handle, data, offset + written, count);
+            if(result < 0) return result;
+            written += count;
+        }
+        return written;
+    }
 
-        // perform bounds checking on number of bytes read versus the length requested
-        if(actualLength < length) length = actualLength;
+    /**
+     * This function writes a buffer of any size to the SPI device associated with the handle
+     * in chunks of DEFAULT_STREAM_CHUNK_SIZE bytes.
+     *
+     * @param handle the open SPI device handle; (&gt;=0, as returned by a call to spiOpen)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided buffer to start writing from.
+     * @param length the total number of bytes to write
+     * @return Returns the number of bytes written if OK, otherwise PI_BAD_HANDLE, PI_BAD_SPI_COUNT, or PI_SPI_XFER_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite">PIGPIO::spiWrite</a>
+     */
+    default int spiStreamWrite(int handle, byte[] data, int offset, int length){
+        return spiStreamWrite(handle, data, offset, length, DEFAULT_STREAM_CHUNK_SIZE);
+    }
 
-        // copy the data from the temporary byte array into the return buffer at the given offset
-        buffer.position(offset);
-        buffer.put(temp, 0, length);
+    // ------------------------------------------------------------------------------------
+    // BIT-BANG SPI
+    // ------------------------------------------------------------------------------------
 
-        // return actual number of bytes read
-        return length;
+    /**
+     * This function selects a set of GPIO for bit banging SPI with a specified baud rate
+     * and mode.  Bit banging SPI makes additional SPI buses available on arbitrary pins.
+     *
+     * The flags consist of the least significant 22 bits; only the mode (bits 0-1), the
+     * chip select polarity (bit 2) and the LSB first options for transmit (bit 14) and
+     * receive (bit 15) are used by bit banged SPI.
+     *
+     * @param cs the GPIO used for the slave select signal; (0-31)
+     * @param miso the GPIO used for master in slave out; (0-31)
+     * @param mosi the GPIO used for master out slave in; (0-31)
+     * @param sclk the GPIO used for the clock; (0-31)
+     * @param baud the baud rate in bits per second; (50-250000)
+     * @param flags the SPI flags
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_BAD_SPI_BAUD, or PI_GPIO_IN_USE.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIOpen">PIGPIO::bbSPIOpen</a>
+     */
+    int bbSPIOpen(int cs, int miso, int mosi, int sclk, int baud, int flags);
+
+    /**
+     * This function stops bit banging SPI on a set of GPIO opened with bbSPIOpen.
+     *
+     * @param cs the GPIO used for the slave select signal in the earlier call to bbSPIOpen
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_NOT_SPI_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIClose">PIGPIO::bbSPIClose</a>
+     */
+    int bbSPIClose(int cs);
+
+    /**
+     * This function transfers (writes/reads simultaneously) multiple bytes with the bit
+     * banged SPI device selected by the given chip select GPIO.  Write data is taken from
+     * the 'write' byte array from the given 'writeOffset' index; data read is copied to the
+     * 'read' byte array at the given 'readOffset' using the same length ('numberOfBytes').
+     *
+     * @param cs the GPIO used for the slave select signal in the earlier call to bbSPIOpen
+     * @param write the array of bytes to write to the SPI device
+     * @param writeOffset the starting offset position in the provided 'write' buffer
+     * @param read the array of bytes to store read data in from the SPI device
+     * @param readOffset the starting offset position in the provided 'read' buffer
+     * @param numberOfBytes the number of bytes to transfer/exchange (write &amp; read))
+     * @return Returns &gt;= 0 (the number of bytes transferred) if OK, otherwise PI_BAD_USER_GPIO,
+     *         PI_NOT_SPI_GPIO, or PI_BAD_POINTER.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    int bbSPIXfer(int cs, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes);
+
+    /**
+     * This function transfers (writes/reads simultaneously) multiple bytes with the bit
+     * banged SPI device selected by the given chip select GPIO.  The data read replaces
+     * the written data in the provided buffer.
+     *
+     * @param cs the GPIO used for the slave select signal in the earlier call to bbSPIOpen
+     * @param buffer the array of bytes to write to and read from the SPI device
+     * @param offset the starting offset position in the provided buffer
+     * @param length the number of bytes to transfer/exchange (write &amp; read))
+     * @return Returns &gt;= 0 (the number of bytes transferred) if OK, otherwise PI_BAD_USER_GPIO,
+     *         PI_NOT_SPI_GPIO, or PI_BAD_POINTER.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    default int bbSPIXfer(int cs, byte[] buffer, int offset, int length){
+        return bbSPIXfer(cs, buffer, offset, buffer, offset, length);
     }
 }
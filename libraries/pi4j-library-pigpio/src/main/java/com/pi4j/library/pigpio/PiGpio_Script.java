@@ -0,0 +1,109 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Script.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+/**
+ * <p>PiGpio_Script interface.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpio_Script {
+
+    /**
+     * Stores a script for later execution.
+     * The script is compiled by the PiGpio daemon; a stored script is in the INITING
+     * state until compilation completed and must then be started with gpioRunScript.
+     * @param script the text of the script
+     * @return the script id
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    int gpioStoreScript(String script);
+
+    /**
+     * Stores a script for later execution.
+     * @param script the script
+     * @return the script id
+     * @see #gpioStoreScript(String)
+     */
+    default int gpioStoreScript(PiGpioScript script){
+        return gpioStoreScript(script.build());
+    }
+
+    /**
+     * Runs a stored script.
+     * @param scriptId script id returned by gpioStoreScript
+     * @param params 0-10 parameters (p0-p9) passed to the script
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    void gpioRunScript(int scriptId, int ... params);
+
+    /**
+     * Sets the parameters of a script.  The script may or may not be running.
+     * The first numbers of parameters of the script are overwritten with the new values.
+     * @param scriptId script id returned by gpioStoreScript
+     * @param params 0-10 parameters (p0-p9)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    void gpioUpdateScript(int scriptId, int ... params);
+
+    /**
+     * Returns the run status of a script as well as the current values of its parameters.
+     * @param scriptId script id returned by gpioStoreScript
+     * @param params array receiving the current values of the parameters p0-p9 (may be null
+     *               or shorter than 10 elements)
+     * @return script status: initing, halted, running, waiting or failed
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params);
+
+    /**
+     * Returns the run status of a script.
+     * @param scriptId script id returned by gpioStoreScript
+     * @return script status: initing, halted, running, waiting or failed
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    default PiGpioScriptStatus gpioScriptStatus(int scriptId){
+        return gpioScriptStatus(scriptId, null);
+    }
+
+    /**
+     * Stops a running script.
+     * @param scriptId script id returned by gpioStoreScript
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    void gpioStopScript(int scriptId);
+
+    /**
+     * Deletes a stored script.  The script is stopped first if it is running.
+     * @param scriptId script id returned by gpioStoreScript
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    void gpioDeleteScript(int scriptId);
+}
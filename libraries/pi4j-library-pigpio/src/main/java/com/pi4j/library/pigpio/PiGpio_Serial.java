@@ -30,6 +30,10 @@ package com.pi4j.library.pigpio;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_STREAM_CHUNK_SIZE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_CMD_MAX_EXTENSION;
 
 /**
  * <p>PiGpio_Serial interface.</p>
@@ -177,7 +181,16 @@ public interface PiGpio_Serial {
         if(length > (buffer.capacity()-offset)){
             length = buffer.capacity()-offset;
         }
-        return serWrite(handle, buffer.array(), offset, length);
+        // write straight from the buffer's backing array if it has one
+        if(buffer.hasArray()) return serWrite(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+
+        // otherwise copy the data out of the buffer (direct or read-only buffers)
+        byte[] temp = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        source.position(offset);
+        source.get(temp);
+        return serWrite(handle, temp, 0, length);
     }
 
     /**
@@ -328,6 +341,53 @@ public interface PiGpio_Serial {
         return serWrite(handle, data, data.length());
     }
 
+    // ------------------------------------------------------------------------------------
+    // WRITE :: STREAMING
+    // ------------------------------------------------------------------------------------
+
+    /**
+     * This function writes a buffer of any size to the serial port associated with handle.
+     * The buffer is split into consecutive writes of at most 'chunkSize' bytes.  The socket
+     * implementation sends the next chunk while the result of the previous chunk is still
+     * outstanding.
+     *
+     * @param handle the open serial device handle; (&gt;=0, as returned by a call to serOpen)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided buffer to start writing from.
+     * @param length the total number of bytes to write
+     * @param chunkSize the maximum number of bytes per write; (1-65536)
+     * @return Returns the number of bytes written if OK, otherwise PI_BAD_HANDLE, PI_BAD_PARAM, or PI_SER_WRITE_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serWrite">PIGPIO::serWrite</a>
+     */
+    default int serStreamWrite(int handle, byte[] data, int offset, int length, int chunkSize){
+        Objects.checkFromIndexSize(offset, length, data.length);
+        if(chunkSize < 1 || chunkSize > PI_CMD_MAX_EXTENSION)
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID STREAM CHUNK SIZE [" + chunkSize + "]; Valid range: 1-" + PI_CMD_MAX_EXTENSION);
+        int written = 0;
+        while(written < length){
+            int count = Math.min(chunkSize, length - written);
+            int result = serWrite(handle, data, offset + written, count);
+            if(result < 0) return result;
+            written += count;
+        }
+        return written;
+    }
+
+    /**
+     * This function writes a buffer of any size to the serial port associated with handle
+     * in chunks of DEFAULT_STREAM_CHUNK_SIZE bytes.
+     *
+     * @param handle the open serial device handle; (&gt;=0, as returned by a call to serOpen)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided buffer to start writing from.
+     * @param length the total number of bytes to write
+     * @return Returns the number of bytes written if OK, otherwise PI_BAD_HANDLE, PI_BAD_PARAM, or PI_SER_WRITE_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serWrite">PIGPIO::serWrite</a>
+     */
+    default int serStreamWrite(int handle, byte[] data, int offset, int length){
+        return serStreamWrite(handle, data, offset, length, DEFAULT_STREAM_CHUNK_SIZE);
+    }
+
     // ------------------------------------------------------------------------------------
     // READ :: BYTE ARRAY
     // ------------------------------------------------------------------------------------
@@ -407,6 +467,13 @@ public interface PiGpio_Serial {
             length = buffer.capacity()-offset;
         }
 
+        // read straight into the buffer's backing array if it has one
+        if(buffer.hasArray()) {
+            int actualLength = serRead(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(actualLength >= 0) buffer.position(offset + actualLength);
+            return actualLength;
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[length];
         int actualLength = serRead(handle, temp, 0 ,length);
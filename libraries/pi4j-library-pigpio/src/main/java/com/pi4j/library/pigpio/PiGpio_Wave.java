@@ -0,0 +1,244 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Wave.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.Collection;
+
+/**
+ * <p>PiGpio_Wave interface.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpio_Wave {
+
+    /**
+     * Clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    void gpioWaveClear();
+
+    /**
+     * Starts a new empty waveform.
+     * You wouldn't normally need to call this function as it is automatically called
+     * after a waveform is created with the gpioWaveCreate function.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    void gpioWaveAddNew();
+
+    /**
+     * Adds a number of pulses to the current waveform.
+     * The pulses are interleaved in time order within the existing waveform (if any).
+     * Merging allows the waveform to be built in parts, that is the settings for GPIO#1
+     * can be added, and then GPIO#2 etc.  If the added waveform is intended to start
+     * after or within the existing waveform then the first pulse should consist of a delay.
+     * @param pulses the pulses to add
+     * @return the new total number of pulses in the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    int gpioWaveAddGeneric(PiGpioPulse ... pulses);
+
+    /**
+     * Adds a number of pulses to the current waveform.
+     * @param pulses the pulses to add
+     * @return the new total number of pulses in the current waveform
+     * @see #gpioWaveAddGeneric(PiGpioPulse...)
+     */
+    default int gpioWaveAddGeneric(Collection<PiGpioPulse> pulses){
+        return gpioWaveAddGeneric(pulses.toArray(new PiGpioPulse[0]));
+    }
+
+    /**
+     * Creates a waveform from the data provided by the prior calls to the gpioWaveAdd*
+     * functions.  Upon success a wave id greater than or equal to 0 is returned.
+     * The data provided by the gpioWaveAdd* functions is consumed by this function.
+     * As many waveforms may be created as there is space available. The wave id is
+     * passed to gpioWaveTxSend to specify the waveform to transmit.
+     * @return the new wave id
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    int gpioWaveCreate();
+
+    /**
+     * Deletes the waveform with the given wave id.
+     * The wave is flagged for deletion. The resources used by the wave will only be
+     * reused when either of the following apply:
+     *  - all waves with higher numbered wave ids have been deleted or have been flagged for deletion.
+     *  - a new wave is created which uses exactly the same resources as the current wave.
+     * @param waveId wave id returned by gpioWaveCreate
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    void gpioWaveDelete(int waveId);
+
+    /**
+     * Transmits the waveform with the given wave id.
+     * The SYNC variants wait for the current waveform to reach the end of its cycle
+     * or to complete before starting the new waveform.
+     * @param waveId wave id returned by gpioWaveCreate
+     * @param mode one-shot, repeat, one-shot-sync or repeat-sync
+     * @return the number of DMA control blocks in the waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    int gpioWaveTxSend(int waveId, PiGpioWaveMode mode);
+
+    /**
+     * Transmits the waveform with the given wave id once.
+     * @param waveId wave id returned by gpioWaveCreate
+     * @return the number of DMA control blocks in the waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    default int gpioWaveSendOnce(int waveId){
+        return gpioWaveTxSend(waveId, PiGpioWaveMode.ONE_SHOT);
+    }
+
+    /**
+     * Transmits the waveform with the given wave id repeatedly until gpioWaveTxStop is called.
+     * @param waveId wave id returned by gpioWaveCreate
+     * @return the number of DMA control blocks in the waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    default int gpioWaveSendRepeat(int waveId){
+        return gpioWaveTxSend(waveId, PiGpioWaveMode.REPEAT);
+    }
+
+    /**
+     * Transmits a chain of waveforms.
+     * The waves to be transmitted are specified by the contents of the buffer: wave ids
+     * interleaved with loop and delay commands (see {@link PiGpioWaveChain}).
+     * The chain is transmitted once; any hardware PWM or servo pulses are not affected.
+     * @param data chain control buffer
+     * @param offset offset of the first control byte in the buffer
+     * @param length number of control bytes (max 600)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    void gpioWaveChain(byte[] data, int offset, int length);
+
+    /**
+     * Transmits a chain of waveforms.
+     * @param data chain control buffer
+     * @see #gpioWaveChain(byte[], int, int)
+     */
+    default void gpioWaveChain(byte[] data){
+        gpioWaveChain(data, 0, data.length);
+    }
+
+    /**
+     * Transmits a chain of waveforms.
+     * @param chain chain of waveforms
+     * @see #gpioWaveChain(byte[], int, int)
+     */
+    default void gpioWaveChain(PiGpioWaveChain chain){
+        gpioWaveChain(chain.toArray());
+    }
+
+    /**
+     * Returns the wave id of the waveform currently being transmitted.
+     * @return the wave id; 9999 (PI_NO_TX_WAVE) if no wave is transmitted or
+     *         9998 (PI_WAVE_NOT_FOUND) if the wave has been deleted
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    int gpioWaveTxAt();
+
+    /**
+     * Checks whether a waveform is currently being transmitted.
+     * @return 'true' if a waveform is being transmitted
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    boolean gpioWaveTxBusy();
+
+    /**
+     * Aborts the transmission of the current waveform or chain.
+     * This function is intended to stop a waveform started in repeat mode.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    void gpioWaveTxStop();
+
+    /**
+     * Returns the length in microseconds of the current waveform.
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    int gpioWaveGetMicros();
+
+    /**
+     * Returns the length in microseconds of the longest waveform created since gpioInitialise was called.
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    int gpioWaveGetHighMicros();
+
+    /**
+     * Returns the maximum possible size of a waveform in microseconds.
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    int gpioWaveGetMaxMicros();
+
+    /**
+     * Returns the length in pulses of the current waveform.
+     * @return number of pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    int gpioWaveGetPulses();
+
+    /**
+     * Returns the length in pulses of the longest waveform created since gpioInitialise was called.
+     * @return number of pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    int gpioWaveGetHighPulses();
+
+    /**
+     * Returns the maximum possible size of a waveform in pulses.
+     * @return number of pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    int gpioWaveGetMaxPulses();
+
+    /**
+     * Returns the length in DMA control blocks of the current waveform.
+     * @return number of DMA control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    int gpioWaveGetCbs();
+
+    /**
+     * Returns the length in DMA control blocks of the longest waveform created since gpioInitialise was called.
+     * @return number of DMA control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    int gpioWaveGetHighCbs();
+
+    /**
+     * Returns the maximum possible size of a waveform in DMA control blocks.
+     * @return number of DMA control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    int gpioWaveGetMaxCbs();
+}
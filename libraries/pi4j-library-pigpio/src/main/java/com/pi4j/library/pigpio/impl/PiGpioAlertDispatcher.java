@@ -0,0 +1,240 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioAlertDispatcher.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.internal.PiGpioAlertCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>PiGpioAlertDispatcher class.</p>
+ *
+ * Decouples the delivery of GPIO alerts from the thread reporting them.  Each alert (pin, level
+ * and tick) is copied into a preallocated lock-free ring buffer and the reporting thread returns
+ * right away; dispatcher threads drain the rings and hand the alerts to the sink.  A slow
+ * listener therefore no longer delays the reporting of later edges, and no objects are created
+ * on the reporting thread.
+ *
+ * Pins are assigned to the dispatcher threads by pin number (pin modulo number of dispatchers),
+ * so the alerts of a single pin are always delivered in order by the same thread.  If the ring
+ * of a dispatcher is full, the alert is dropped and counted (see {@link #dropped()}).
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioAlertDispatcher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioAlertDispatcher.class);
+
+    /** Constant <code>NAME="pigpio-alert"</code> */
+    public static String NAME = "pigpio-alert";
+
+    /** Constant <code>DEFAULT_CAPACITY=4096</code> (alerts per dispatcher) */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    // upper bound for a dispatcher to sleep; guards against a lost wake-up
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    protected final PiGpioAlertCallback sink;
+    protected final Ring[] rings;
+    protected volatile boolean running = true;
+
+    /**
+     * Bounded multi-producer/single-consumer ring of alerts backed by preallocated arrays.
+     * A slot is free for the producer claiming position {@code p} when its sequence equals
+     * {@code p}; it holds a published alert for the consumer at position {@code c} when its
+     * sequence equals {@code c + 1}.
+     */
+    protected static class Ring {
+        protected final int mask;
+        protected final int[] pins;
+        protected final int[] levels;
+        protected final long[] ticks;
+        protected final AtomicLongArray sequences;
+        protected final AtomicLong tail = new AtomicLong();
+        protected final AtomicLong dropped = new AtomicLong();
+        protected final AtomicLong head = new AtomicLong();
+        protected volatile boolean waiting = false;
+        protected Thread thread;
+
+        protected Ring(int capacity) {
+            this.mask = capacity - 1;
+            this.pins = new int[capacity];
+            this.levels = new int[capacity];
+            this.ticks = new long[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) sequences.set(i, i);
+        }
+
+        protected boolean offer(int pin, int level, long tick) {
+            long position;
+            int index;
+            do {
+                position = tail.get();
+                index = (int) (position & mask);
+                long sequence = sequences.get(index);
+                if(sequence < position) {
+                    // the slot still holds an alert not yet taken by the dispatcher
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                if(sequence > position) continue;  // claimed by a concurrent producer
+            } while (!tail.compareAndSet(position, position + 1));
+            pins[index] = pin;
+            levels[index] = level;
+            ticks[index] = tick;
+            // a full volatile store: a release store could be reordered with the read of 'waiting'
+            // below and miss the dispatcher going to sleep
+            sequences.set(index, position + 1);
+            if(waiting) LockSupport.unpark(thread);
+            return true;
+        }
+
+        protected boolean isEmpty() {
+            long position = head.get();
+            return sequences.get((int) (position & mask)) != position + 1;
+        }
+    }
+
+    /**
+     * Create and start a dispatcher.
+     *
+     * @param sink receives the alerts on the dispatcher threads
+     * @param dispatchers number of dispatcher threads
+     * @param capacity number of alerts each dispatcher can hold; rounded up to a power of two
+     */
+    public PiGpioAlertDispatcher(PiGpioAlertCallback sink, int dispatchers, int capacity) {
+        if(dispatchers < 1) throw new IllegalArgumentException("Invalid number of alert dispatchers [" + dispatchers + "]");
+        if(capacity < 1 || capacity > (1 << 30)) throw new IllegalArgumentException("Invalid alert capacity [" + capacity + "]");
+        this.sink = sink;
+        this.rings = new Ring[dispatchers];
+        int size = Integer.highestOneBit(capacity);
+        if(size < capacity) size <<= 1;
+        for (int i = 0; i < dispatchers; i++) {
+            Ring ring = new Ring(size);
+            ring.thread = new Thread(() -> drain(ring), NAME + "-" + i);
+            ring.thread.setDaemon(true);
+            rings[i] = ring;
+        }
+        for (Ring ring : rings) ring.thread.start();
+    }
+
+    /**
+     * Queue an alert for delivery; never blocks and does not allocate.
+     *
+     * @param pin GPIO pin number
+     * @param level GPIO pin level
+     * @param tick pigpio tick of the level change (microseconds)
+     * @return false if the alert was dropped because the ring of the pin's dispatcher is full
+     */
+    public boolean offer(int pin, int level, long tick) {
+        return rings[Math.floorMod(pin, rings.length)].offer(pin, level, tick);
+    }
+
+    /**
+     * Get the number of dispatcher threads.
+     *
+     * @return number of dispatcher threads
+     */
+    public int dispatchers() {
+        return rings.length;
+    }
+
+    /**
+     * Get the number of alerts each dispatcher can hold.
+     *
+     * @return ring capacity
+     */
+    public int capacity() {
+        return rings[0].pins.length;
+    }
+
+    /**
+     * Get the number of alerts dropped because a ring was full.
+     *
+     * @return number of dropped alerts
+     */
+    public long dropped() {
+        long dropped = 0;
+        for (Ring ring : rings) dropped += ring.dropped.get();
+        return dropped;
+    }
+
+    /**
+     * Get the number of alerts queued and not yet delivered.
+     *
+     * @return number of pending alerts
+     */
+    public long pending() {
+        long pending = 0;
+        for (Ring ring : rings) pending += Math.max(0, ring.tail.get() - ring.head.get());
+        return pending;
+    }
+
+    /**
+     * Stop the dispatcher threads; alerts still queued are discarded.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (Ring ring : rings) LockSupport.unpark(ring.thread);
+    }
+
+    private void drain(Ring ring) {
+        logger.trace("[THREAD] STARTED");
+        while (running) {
+            long position = ring.head.get();
+            int index = (int) (position & ring.mask);
+            if(ring.sequences.get(index) != position + 1) {
+                // nothing to deliver; sleep until a producer publishes the next alert
+                ring.waiting = true;
+                if(ring.isEmpty() && running) LockSupport.parkNanos(this, IDLE_NANOS);
+                ring.waiting = false;
+                continue;
+            }
+            int pin = ring.pins[index];
+            int level = ring.levels[index];
+            long tick = ring.ticks[index];
+            ring.sequences.lazySet(index, position + ring.mask + 1);
+            ring.head.lazySet(position + 1);
+            try {
+                sink.call(pin, level, tick);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        logger.trace("[THREAD] ENDED");
+    }
+}
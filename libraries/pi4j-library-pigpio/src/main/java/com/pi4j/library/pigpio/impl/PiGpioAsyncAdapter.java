@@ -0,0 +1,463 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioAsyncAdapter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioAsync;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioPud;
+import com.pi4j.library.pigpio.PiGpioState;
+
+/**
+ * <p>PiGpioAsyncAdapter class.</p>
+ *
+ * Asynchronous API adapter for PiGpio implementations without a native asynchronous transport.
+ * Each operation is executed on the calling thread and an already completed future is returned.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioAsyncAdapter implements PiGpioAsync {
+
+    protected final PiGpio piGpio;
+
+    /**
+     * <p>Constructor for PiGpioAsyncAdapter.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public PiGpioAsyncAdapter(PiGpio piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PiGpio sync() {
+        return piGpio;
+    }
+
+    /**
+     * Execute an operation on the calling thread and return its result as a completed future.
+     *
+     * @param operation operation to execute
+     * @param <T> result type
+     * @return completed future; completed exceptionally if the operation throws an exception
+     */
+    protected static <T> CompletableFuture<T> call(Supplier<T> operation) {
+        try {
+            return CompletableFuture.completedFuture(operation.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Execute an operation without result on the calling thread and return a completed future.
+     *
+     * @param operation operation to execute
+     * @return completed future; completed exceptionally if the operation throws an exception
+     */
+    protected static CompletableFuture<Void> run(Runnable operation) {
+        try {
+            operation.run();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // *****************************************************************************************************
+    // GENERAL
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioVersion() {
+        return call(piGpio::gpioVersion);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Long> gpioHardwareRevision() {
+        return call(piGpio::gpioHardwareRevision);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Long> gpioTick() {
+        return call(piGpio::gpioTick);
+    }
+
+    // *****************************************************************************************************
+    // GPIO
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetPullUpDown(int pin, PiGpioPud pud) {
+        return run(() -> piGpio.gpioSetPullUpDown(pin, pud));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioMode> gpioGetMode(int pin) {
+        return call(() -> piGpio.gpioGetMode(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetMode(int pin, PiGpioMode mode) {
+        return run(() -> piGpio.gpioSetMode(pin, mode));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioState> gpioRead(int pin) {
+        return call(() -> piGpio.gpioRead(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWrite(int pin, PiGpioState state) {
+        return run(() -> piGpio.gpioWrite(pin, state));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioReadBank1() {
+        return call(piGpio::gpioReadBank1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioReadBank2() {
+        return call(piGpio::gpioReadBank2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank1Set(int bits) {
+        return run(() -> piGpio.gpioWriteBank1Set(bits));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank1Clear(int bits) {
+        return run(() -> piGpio.gpioWriteBank1Clear(bits));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank2Set(int bits) {
+        return run(() -> piGpio.gpioWriteBank2Set(bits));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank2Clear(int bits) {
+        return run(() -> piGpio.gpioWriteBank2Clear(bits));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioGlitchFilter(int pin, int steady) {
+        return run(() -> piGpio.gpioGlitchFilter(pin, steady));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioNoiseFilter(int pin, int steady, int active) {
+        return run(() -> piGpio.gpioNoiseFilter(pin, steady, active));
+    }
+
+    // *****************************************************************************************************
+    // PWM
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioPWM(int pin, int dutyCycle) {
+        return run(() -> piGpio.gpioPWM(pin, dutyCycle));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMdutycycle(int pin) {
+        return call(() -> piGpio.gpioGetPWMdutycycle(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioSetPWMrange(int pin, int range) {
+        return call(() -> piGpio.gpioSetPWMrange(pin, range));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMrange(int pin) {
+        return call(() -> piGpio.gpioGetPWMrange(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMrealRange(int pin) {
+        return call(() -> piGpio.gpioGetPWMrealRange(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioSetPWMfrequency(int pin, int frequency) {
+        return call(() -> piGpio.gpioSetPWMfrequency(pin, frequency));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMfrequency(int pin) {
+        return call(() -> piGpio.gpioGetPWMfrequency(pin));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioHardwarePWM(int pin, int frequency, int dutyCycle) {
+        return run(() -> piGpio.gpioHardwarePWM(pin, frequency, dutyCycle));
+    }
+
+    // *****************************************************************************************************
+    // SERVO
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioServo(int pin, int pulseWidth) {
+        return run(() -> piGpio.gpioServo(pin, pulseWidth));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetServoPulsewidth(int pin) {
+        return call(() -> piGpio.gpioGetServoPulsewidth(pin));
+    }
+
+    // *****************************************************************************************************
+    // I2C
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cOpen(int bus, int device, int flags) {
+        return call(() -> piGpio.i2cOpen(bus, device, flags));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cClose(int handle) {
+        return call(() -> piGpio.i2cClose(handle));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteQuick(int handle, boolean bit) {
+        return call(() -> piGpio.i2cWriteQuick(handle, bit));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByte(int handle, byte value) {
+        return call(() -> piGpio.i2cWriteByte(handle, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByte(int handle) {
+        return call(() -> piGpio.i2cReadByte(handle));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByteData(int handle, int register, byte value) {
+        return call(() -> piGpio.i2cWriteByteData(handle, register, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteWordData(int handle, int register, int value) {
+        return call(() -> piGpio.i2cWriteWordData(handle, register, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByteData(int handle, int register) {
+        return call(() -> piGpio.i2cReadByteData(handle, register));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadWordData(int handle, int register) {
+        return call(() -> piGpio.i2cReadWordData(handle, register));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cProcessCall(int handle, int register, int value) {
+        return call(() -> piGpio.i2cProcessCall(handle, register, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteBlockData(int handle, int register, byte[] data, int offset, int length) {
+        return call(() -> piGpio.i2cWriteBlockData(handle, register, data, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadBlockData(int handle, int register, byte[] buffer, int offset, int length) {
+        return call(() -> piGpio.i2cReadBlockData(handle, register, buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cBlockProcessCall(int handle, int register,
+                                                          byte[] write, int writeOffset, int writeLength,
+                                                          byte[] read, int readOffset) {
+        return call(() -> piGpio.i2cBlockProcessCall(handle, register, write, writeOffset, writeLength, read, readOffset));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadI2CBlockData(int handle, int register, byte[] buffer, int offset, int length) {
+        return call(() -> piGpio.i2cReadI2CBlockData(handle, register, buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteI2CBlockData(int handle, int register, byte[] data, int offset, int length) {
+        return call(() -> piGpio.i2cWriteI2CBlockData(handle, register, data, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadDevice(int handle, byte[] buffer, int offset, int length) {
+        return call(() -> piGpio.i2cReadDevice(handle, buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteDevice(int handle, byte[] data, int offset, int length) {
+        return call(() -> piGpio.i2cWriteDevice(handle, data, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cZip(int handle, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length) {
+        return call(() -> piGpio.i2cZip(handle, commands, commandOffset, commandLength, buffer, offset, length));
+    }
+
+    // *****************************************************************************************************
+    // SPI
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiOpen(int channel, int baud, int flags) {
+        return call(() -> piGpio.spiOpen(channel, baud, flags));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiClose(int handle) {
+        return call(() -> piGpio.spiClose(handle));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiWrite(int handle, byte[] data, int offset, int length) {
+        return call(() -> piGpio.spiWrite(handle, data, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiRead(int handle, byte[] buffer, int offset, int length) {
+        return call(() -> piGpio.spiRead(handle, buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        return call(() -> piGpio.spiXfer(handle, write, writeOffset, read, readOffset, numberOfBytes));
+    }
+
+    // *****************************************************************************************************
+    // SERIAL
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serOpen(CharSequence device, int baud, int flags) {
+        return call(() -> piGpio.serOpen(device, baud, flags));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serClose(int handle) {
+        return call(() -> piGpio.serClose(handle));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serWriteByte(int handle, byte value) {
+        return call(() -> piGpio.serWriteByte(handle, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serReadByte(int handle) {
+        return call(() -> piGpio.serReadByte(handle));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serWrite(int handle, byte[] data, int offset, int length) {
+        return call(() -> piGpio.serWrite(handle, data, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serRead(int handle, byte[] buffer, int offset, int length) {
+        return call(() -> piGpio.serRead(handle, buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serDataAvailable(int handle) {
+        return call(() -> piGpio.serDataAvailable(handle));
+    }
+}
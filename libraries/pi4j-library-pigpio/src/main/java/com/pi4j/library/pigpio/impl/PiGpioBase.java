@@ -31,6 +31,7 @@ import com.pi4j.library.pigpio.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -51,7 +52,15 @@ public abstract class PiGpioBase implements PiGpio {
     protected final Set<Integer> spiHandles = Collections.synchronizedSet(new HashSet<>());
     protected List<PiGpioStateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
     protected Map<Integer,List<PiGpioStateChangeListener>> pinChangeListeners = new ConcurrentHashMap<>();
+    protected Map<Integer,List<PiGpioEventListener>> eventListeners = new ConcurrentHashMap<>();
     protected boolean initialized = false;
+    protected final PiGpioMetrics metrics = new PiGpioMetrics();
+
+    /** {@inheritDoc} */
+    @Override
+    public PiGpioMetrics metrics() {
+        return metrics;
+    }
 
     /**
      * Close all open handles
@@ -325,6 +334,19 @@ public abstract class PiGpioBase implements PiGpio {
         }
     }
 
+    /**
+     * <p>validateStreamChunkSize.</p>
+     *
+     * @param chunkSize a int.
+     * @param max the maximum number of bytes per command.
+     */
+    protected void validateStreamChunkSize(int chunkSize, int max) {
+        // validate streaming transfer chunk size :: 1-max
+        if(chunkSize < 1 || chunkSize > max) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID STREAM CHUNK SIZE [" + chunkSize + "]; Valid range: 1-" + max);
+        }
+    }
+
     /**
      * <p>validateGpioGlitchFilter.</p>
      *
@@ -353,6 +375,148 @@ public abstract class PiGpioBase implements PiGpio {
         }
     }
 
+    /**
+     * <p>validateScriptParams.</p>
+     *
+     * @param params an array of {@link int} objects.
+     */
+    protected void validateScriptParams(int[] params) {
+        // validate script parameter count :: 0-10
+        Objects.requireNonNull(params, "params");
+        if(params.length > PI_MAX_SCRIPT_PARAMS) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID SCRIPT PARAMETER COUNT [" + params.length + "]; Valid range: 0-" + PI_MAX_SCRIPT_PARAMS);
+        }
+    }
+
+    /**
+     * <p>validateWavePulses.</p>
+     *
+     * @param pulses an array of {@link com.pi4j.library.pigpio.PiGpioPulse} objects.
+     */
+    protected void validateWavePulses(PiGpioPulse[] pulses) {
+        // validate waveform pulse count :: 0-12000
+        Objects.requireNonNull(pulses, "pulses");
+        if(pulses.length > PI_WAVE_MAX_PULSES) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID WAVEFORM PULSE COUNT [" + pulses.length + "]; Valid range: 0-" + PI_WAVE_MAX_PULSES);
+        }
+    }
+
+    /**
+     * <p>validateWaveMode.</p>
+     *
+     * @param mode a {@link com.pi4j.library.pigpio.PiGpioWaveMode} object.
+     */
+    protected void validateWaveMode(PiGpioWaveMode mode) {
+        // validate waveform transmit mode :: 0-3
+        if(mode == null || mode == PiGpioWaveMode.UNKNOWN) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID WAVEFORM MODE [" + mode + "]");
+        }
+    }
+
+    /**
+     * <p>validateWaveChainLength.</p>
+     *
+     * @param length a int.
+     */
+    protected void validateWaveChainLength(int length) {
+        // validate waveform chain length :: 0-600
+        if(length < 0 || length > PI_WAVE_MAX_CHAIN) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID WAVEFORM CHAIN LENGTH [" + length + "]; Valid range: 0-" + PI_WAVE_MAX_CHAIN);
+        }
+    }
+
+    /**
+     * <p>validateWatchdogTimeout.</p>
+     *
+     * @param timeout a int.
+     */
+    protected void validateWatchdogTimeout(int timeout) {
+        // validate watchdog timeout :: 0-60000 milliseconds
+        if(timeout < PI_MIN_WDOG_TIMEOUT || timeout > PI_MAX_WDOG_TIMEOUT) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID WATCHDOG TIMEOUT [" + timeout + "]; Valid range: " + PI_MIN_WDOG_TIMEOUT + "-" + PI_MAX_WDOG_TIMEOUT);
+        }
+    }
+
+    /**
+     * Get a view of a buffer region for use as command or response payload; transferring
+     * through the view leaves the position and limit of the buffer itself untouched.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @param offset index of the first byte of the region
+     * @param length number of bytes in the region
+     * @return a view of the buffer positioned at the region's first byte and limited to its last byte
+     */
+    protected static ByteBuffer region(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer region = buffer.duplicate();
+        region.clear();
+        region.position(offset);
+        region.limit(offset + length);
+        return region;
+    }
+
+    /**
+     * Copy a buffer region to a new array; used to transfer the contents of buffers that
+     * are neither direct nor backed by an accessible array.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @param offset index of the first byte of the region
+     * @param length number of bytes in the region
+     * @return a new array holding the bytes of the region
+     */
+    protected static byte[] copy(ByteBuffer buffer, int offset, int length) {
+        byte[] data = new byte[length];
+        region(buffer, offset, length).get(data);
+        return data;
+    }
+
+    /**
+     * <p>validateEdge.</p>
+     *
+     * @param edge a int.
+     */
+    protected void validateEdge(int edge) {
+        // validate interrupt edge :: 0-2
+        if(edge < PI_RISING_EDGE || edge > PI_EITHER_EDGE) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID EDGE [" + edge + "]; Valid range: " + PI_RISING_EDGE + "-" + PI_EITHER_EDGE);
+        }
+    }
+
+    /**
+     * <p>validateEvent.</p>
+     *
+     * @param event a int.
+     */
+    protected void validateEvent(int event) {
+        // validate event number :: 0-31
+        if(event < PI_MIN_EVENT || event > PI_MAX_EVENT) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID EVENT [" + event + "]; Valid range: " + PI_MIN_EVENT + "-" + PI_MAX_EVENT);
+        }
+    }
+
+    /**
+     * <p>validateBitBangI2cBaud.</p>
+     *
+     * @param baud a int.
+     */
+    protected void validateBitBangI2cBaud(int baud) {
+        // validate bit-bang I2C baud rate :: 50-500000
+        if(baud < PI_BB_I2C_MIN_BAUD || baud > PI_BB_I2C_MAX_BAUD) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID BIT-BANG I2C BAUD RATE [" + baud + "]; Valid range: " + PI_BB_I2C_MIN_BAUD + "-" + PI_BB_I2C_MAX_BAUD);
+        }
+    }
+
+    /**
+     * <p>validateBitBangSpiBaud.</p>
+     *
+     * @param baud a int.
+     */
+    protected void validateBitBangSpiBaud(int baud) {
+        // validate bit-bang SPI baud rate :: 50-250000
+        if(baud < PI_BB_SPI_MIN_BAUD || baud > PI_BB_SPI_MAX_BAUD) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID BIT-BANG SPI BAUD RATE [" + baud + "]; Valid range: " + PI_BB_SPI_MIN_BAUD + "-" + PI_BB_SPI_MAX_BAUD);
+        }
+    }
+
 
     /**
      * Get the initialized state of the PiGpio library
@@ -465,6 +629,59 @@ public abstract class PiGpioBase implements PiGpio {
         stateChangeListeners.clear();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void addEventListener(int event, PiGpioEventListener listener){
+        validateEvent(event);
+        List<PiGpioEventListener> listeners = eventListeners.computeIfAbsent(event, e -> new CopyOnWriteArrayList<>());
+        if(!listeners.contains(listener)){
+            listeners.add(listener);
+        }
+
+        // enable this event for notification monitoring
+        this.eventNotifications(event, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeEventListener(int event, PiGpioEventListener listener){
+        List<PiGpioEventListener> listeners = eventListeners.get(event);
+        if(listeners == null) return;
+        listeners.remove(listener);
+
+        // disable this event for notification monitoring
+        if(listeners.isEmpty()) {
+            eventListeners.remove(event);
+            this.eventNotifications(event, false);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeAllEventListeners(){
+        for(Integer event : eventListeners.keySet()){
+            eventListeners.remove(event);
+            this.eventNotifications(event, false);
+        }
+    }
+
+    /**
+     * <p>dispatchEvent.</p>
+     *
+     * @param event a {@link com.pi4j.library.pigpio.PiGpioEvent} object.
+     */
+    protected void dispatchEvent(final PiGpioEvent event) {
+        List<PiGpioEventListener> listeners = eventListeners.get(event.event());
+        if(listeners == null) return;
+        listeners.forEach(listener -> {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        });
+    }
+
     /**
      * <p>dispatchEvent.</p>
      *
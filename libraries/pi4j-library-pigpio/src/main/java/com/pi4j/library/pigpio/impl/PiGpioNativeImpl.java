@@ -30,12 +30,17 @@ package com.pi4j.library.pigpio.impl;
 import com.pi4j.library.pigpio.*;
 import com.pi4j.library.pigpio.internal.PIGPIO;
 import com.pi4j.library.pigpio.internal.PiGpioAlertCallback;
+import com.pi4j.library.pigpio.internal.PiGpioEventCallback;
+import com.pi4j.library.pigpio.internal.PiGpioIsrCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_TIME_RELATIVE;
 
 /**
@@ -46,6 +51,14 @@ import static com.pi4j.library.pigpio.PiGpioConst.PI_TIME_RELATIVE;
  */
 public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
+    protected int alertDispatchers = 0;
+    protected int alertCapacity = PiGpioAlertDispatcher.DEFAULT_CAPACITY;
+    protected volatile PiGpioAlertDispatcher alertDispatcher = null;
+    protected boolean notificationPipe = false;
+    protected int notificationPipeCapacity = PiGpioNotifyPipe.DEFAULT_CAPACITY;
+    protected PiGpioNotifyPipe notifyPipe = null;
+    protected int alertPins = 0;
+    protected int interruptPins = 0;
 
     /**
      * Creates a PiGpio instance using direct (native) JNI access to the
@@ -68,6 +81,123 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         this.initialized = false;
     }
 
+    /**
+     * Configure the delivery of GPIO alerts.  By default, alerts are dispatched to the listeners
+     * synchronously on pigpio's alert thread, so a slow listener delays the reporting of every
+     * later edge.  With one or more dispatcher threads, the alert callback only copies the alert
+     * into a preallocated ring buffer and returns; the dispatcher threads deliver the alerts to the
+     * listeners.  Alerts arriving while a ring buffer is full are dropped and counted.
+     *
+     * @param dispatchers number of dispatcher threads; 0 to dispatch on pigpio's alert thread
+     * @param capacity number of alerts each dispatcher can hold
+     * @return this PiGpio instance
+     */
+    public synchronized PiGpioNativeImpl alertDispatchers(int dispatchers, int capacity) {
+        if(dispatchers < 0) throw new IllegalArgumentException("Invalid number of alert dispatchers [" + dispatchers + "]");
+        this.alertDispatchers = dispatchers;
+        this.alertCapacity = capacity;
+        if(this.initialized) startAlertDispatcher();
+        return this;
+    }
+
+    /**
+     * Get the number of alert dispatcher threads.
+     *
+     * @return number of dispatcher threads; 0 if alerts are dispatched on pigpio's alert thread
+     */
+    public int alertDispatchers() {
+        return this.alertDispatchers;
+    }
+
+    /**
+     * Get the number of GPIO alerts dropped because the ring buffer of a dispatcher was full.
+     *
+     * @return number of dropped alerts
+     */
+    public long droppedAlerts() {
+        PiGpioAlertDispatcher dispatcher = this.alertDispatcher;
+        return (dispatcher == null) ? 0 : dispatcher.dropped();
+    }
+
+    /**
+     * Select how GPIO level changes are received from the pigpio library.  By default, pigpio
+     * invokes a JNI alert callback per pin per edge.  With the notification pipe enabled,
+     * pigpio writes the level changes of all monitored pins to a notification pipe instead;
+     * a reader thread picks up many reports per read, which costs far less CPU for inputs
+     * toggling at high rates.  The alerts are delivered to the listeners as configured with
+     * {@link #alertDispatchers(int, int)}.
+     *
+     * @param enabled true to receive level changes through a notification pipe
+     * @return this PiGpio instance
+     */
+    public PiGpioNativeImpl notificationPipe(boolean enabled) {
+        return notificationPipe(enabled, this.notificationPipeCapacity);
+    }
+
+    /**
+     * Select how GPIO level changes are received from the pigpio library; see {@link #notificationPipe(boolean)}.
+     *
+     * @param enabled true to receive level changes through a notification pipe
+     * @param capacity number of notification reports the pipe can hold
+     * @return this PiGpio instance
+     */
+    public synchronized PiGpioNativeImpl notificationPipe(boolean enabled, int capacity) {
+        this.notificationPipeCapacity = capacity;
+        if(enabled == this.notificationPipe) return this;
+
+        // move the monitored pins over to the newly selected alert source
+        int pins = this.alertPins;
+        forEachPin(pins, pin -> gpioNotifications(pin, false));
+        this.notificationPipe = enabled;
+        if(!enabled) closeNotificationPipe();
+        forEachPin(pins, pin -> gpioNotifications(pin, true));
+        return this;
+    }
+
+    /**
+     * Get the number of GPIO notification reports detected missing from the notification pipe;
+     * level changes in dropped reports are not dispatched.
+     *
+     * @return number of dropped notification reports
+     */
+    public synchronized long droppedNotifications() {
+        return (notifyPipe == null) ? 0 : notifyPipe.droppedReports();
+    }
+
+    private synchronized PiGpioNotifyPipe openNotificationPipe() {
+        if(notifyPipe == null) {
+            notifyPipe = new PiGpioNotifyPipe(this::alert, metrics, notificationPipeCapacity).open();
+        }
+        return notifyPipe;
+    }
+
+    private synchronized void closeNotificationPipe() {
+        if(notifyPipe != null) {
+            notifyPipe.close();
+            notifyPipe = null;
+        }
+    }
+
+    private static void forEachPin(int pins, IntConsumer action) {
+        while (pins != 0) {
+            action.accept(Integer.numberOfTrailingZeros(pins));
+            pins &= pins - 1;
+        }
+    }
+
+    private synchronized void startAlertDispatcher() {
+        stopAlertDispatcher();
+        if(alertDispatchers > 0) {
+            this.alertDispatcher = new PiGpioAlertDispatcher(this::dispatchAlert, alertDispatchers, alertCapacity);
+        }
+    }
+
+    private synchronized void stopAlertDispatcher() {
+        PiGpioAlertDispatcher dispatcher = this.alertDispatcher;
+        this.alertDispatcher = null;
+        if(dispatcher != null) dispatcher.close();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -96,6 +226,7 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
 
             // initialization successful
             this.initialized = true;
+            startAlertDispatcher();
             logger.debug("[INITIALIZE] -- INITIALIZED SUCCESSFULLY");
         }
         else{
@@ -122,8 +253,14 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
             closeAllOpenHandles();
         }
 
+        // close notification pipe (if open) while the library is still running
+        closeNotificationPipe();
+        this.alertPins = 0;
+        this.interruptPins = 0;
+
         // terminate PiGPio library
         PIGPIO.gpioTerminate();
+        stopAlertDispatcher();
 
         // clear initialized flag
         this.initialized = false;
@@ -140,7 +277,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     public int gpioVersion() {
         logger.trace("[VERSION] -> GET VERSION");
         validateReady();
+        long start = System.nanoTime();
         int version = PIGPIO.gpioVersion();
+        metrics.command(PiGpioCmd.PIGPV, start, version);
         logger.trace("[VERSION] <- RESULT={}", version);
         return version;
     }
@@ -168,7 +307,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     public long gpioHardwareRevision() {
         logger.trace("[HARDWARE] -> GET REVISION");
         validateReady();
+        long start = System.nanoTime();
         int revision = PIGPIO.gpioHardwareRevision();
+        metrics.command(PiGpioCmd.HWVER, start, revision);
         logger.trace("[HARDWARE] <- REVISION: {}", revision);
         if(revision <= 0) throw new PiGpioException("Hardware revision could not be determined.");
         return revision;
@@ -191,7 +332,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO::PUD-SET] -> PIN: {}; PUD={}({});", pin, pud.name(), pud.value());
         validateReady();
         validatePin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioSetPullUpDown(pin, pud.value());
+        metrics.command(PiGpioCmd.PUD, start, result);
         logger.trace("[GPIO::PUD-SET] <- PIN: {}; PUD={}({}); SUCCESS={}", pud.name(), pud.value(), (result>=0));
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_MODE.
     }
@@ -207,7 +350,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO::MODE-GET] -> PIN: {};", pin);
         validateReady();
         validatePin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioGetMode(pin);
+        metrics.command(PiGpioCmd.MODEG, start, result);
         validateResult(result); // Returns the GPIO mode if OK, otherwise PI_BAD_GPIO.
         PiGpioMode mode = PiGpioMode.from(result);
         logger.trace("[GPIO::MODE-GET] <- PIN: {}; MODE={}({})", pin, mode.name(), mode.value());
@@ -228,7 +373,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO::MODE-SET] -> PIN: {}; MODE={}({});", pin, mode.name(), mode.value());
         validateReady();
         validatePin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioSetMode(pin, mode.value());
+        metrics.command(PiGpioCmd.MODES, start, result);
         logger.trace("[GPIO::MODE-SET] <- PIN: {}; MODE={}({}); SUCCESS={}", mode.name(), mode.value(), (result>=0));
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_PUD.
     }
@@ -244,7 +391,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO::GET] -> PIN: {}", pin);
         validateReady();
         validatePin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioRead(pin);
+        metrics.command(PiGpioCmd.READ, start, result);
         validateResult(result); // Returns the GPIO level if OK, otherwise PI_BAD_GPIO.
         PiGpioState state = PiGpioState.from(result);
         logger.trace("[GPIO::GET] <- PIN: {} is {}({})", pin, state.name(), state.value());
@@ -262,11 +411,117 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
         validateReady();
         validatePin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioWrite(pin, state.value());
+        metrics.command(PiGpioCmd.WRITE, start, result);
         logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 0-31.
+     * (The result is a raw bitmask and may legitimately be negative when the highest GPIO is HIGH)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioReadBank1() {
+        logger.trace("[GPIO::BR1] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioRead_Bits_0_31();
+        metrics.command(PiGpioCmd.BR1, start, result);
+        logger.trace("[GPIO::BR1] <- LEVELS: {}", Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 32-53.
+     * (The result is a raw bitmask and may legitimately be negative when the highest GPIO is HIGH)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioReadBank2() {
+        logger.trace("[GPIO::BR2] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioRead_Bits_32_53();
+        metrics.command(PiGpioCmd.BR2, start, result);
+        logger.trace("[GPIO::BR2] <- LEVELS: {}", Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets (HIGH) every GPIO in 0-31 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWriteBank1Set(int bits) {
+        logger.trace("[GPIO::BS1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Set(bits);
+        metrics.command(PiGpioCmd.BS1, start, result);
+        logger.trace("[GPIO::BS1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears (LOW) every GPIO in 0-31 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWriteBank1Clear(int bits) {
+        logger.trace("[GPIO::BC1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Clear(bits);
+        metrics.command(PiGpioCmd.BC1, start, result);
+        logger.trace("[GPIO::BC1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets (HIGH) every GPIO in 32-53 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    @Override
+    public void gpioWriteBank2Set(int bits) {
+        logger.trace("[GPIO::BS2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWrite_Bits_32_53_Set(bits);
+        metrics.command(PiGpioCmd.BS2, start, result);
+        logger.trace("[GPIO::BS2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears (LOW) every GPIO in 32-53 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    @Override
+    public void gpioWriteBank2Clear(int bits) {
+        logger.trace("[GPIO::BC2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWrite_Bits_32_53_Clear(bits);
+        metrics.command(PiGpioCmd.BC2, start, result);
+        logger.trace("[GPIO::BC2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -292,7 +547,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validatePin(pin);
         validateGpioGlitchFilter(steady);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioGlitchFilter(pin, steady);
+        metrics.command(PiGpioCmd.FG, start, result);
         logger.trace("[GPIO::GLITCH] <- PIN: {}; SUCCESS={}", pin, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
@@ -323,11 +580,51 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validatePin(pin);
         validateGpioNoiseFilter(steady, active);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioNoiseFilter(pin, steady, active);
+        metrics.command(PiGpioCmd.FN, start, result);
         logger.trace("[GPIO::NOISE] <- PIN: {}; SUCCESS={}",  pin, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Sets a watchdog for a GPIO; a timeout is reported every timeout milliseconds
+     * after the last level change on the GPIO until the watchdog is cancelled.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    @Override
+    public void gpioSetWatchdog(int pin, int timeout) {
+        logger.trace("[GPIO::WATCHDOG] -> PIN: {}; TIMEOUT: {};", pin, timeout);
+        validateReady();
+        validateUserPin(pin);
+        validateWatchdogTimeout(timeout);
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioSetWatchdog(pin, timeout);
+        metrics.command(PiGpioCmd.WDOG, start, result);
+        logger.trace("[GPIO::WATCHDOG] <- PIN: {}; SUCCESS={}",  pin, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_WDOG_TIMEOUT.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function signals the occurrence of an event.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#eventTrigger">PIGPIO::eventTrigger</a>
+     */
+    @Override
+    public void eventTrigger(int event) {
+        logger.trace("[EVENT::TRIGGER] -> EVENT: {}", event);
+        validateReady();
+        validateEvent(event);
+        long start = System.nanoTime();
+        int result = PIGPIO.eventTrigger(event);
+        metrics.command(PiGpioCmd.EVT, start, result);
+        logger.trace("[EVENT::TRIGGER] <- EVENT: {}; SUCCESS={}",  event, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_EVENT_ID.
+    }
+
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -350,7 +647,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validateDutyCycle(dutyCycle);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioPWM(pin, dutyCycle);
+        metrics.command(PiGpioCmd.PWM, start, result);
         logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
@@ -372,7 +671,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[PWM::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioGetPWMdutycycle(pin);
+        metrics.command(PiGpioCmd.GDC, start, result);
         logger.trace("[PWM::GET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, result, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_NOT_PWM_GPIO.
         return result;
@@ -410,7 +711,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         //validateDutyCycleRange(range);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioSetPWMrange(pin, range);
+        metrics.command(PiGpioCmd.PRS, start, result);
         logger.trace("[PWM-RANGE::SET] <- PIN: {}; REAL-RANGE={}; SUCCESS={}",  pin, result, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_DUTYRANGE.
         return result;
@@ -428,7 +731,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[PWM-RANGE::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioGetPWMrange(pin);
+        metrics.command(PiGpioCmd.PRG, start, result);
         logger.trace("[PWM-RANGE::GET] <- PIN: {}; RANGE={}; SUCCESS={}",  pin, result, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_DUTYRANGE.
         return result;
@@ -448,7 +753,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[PWM-REAL-RANGE::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioGetPWMrealRange(pin);
+        metrics.command(PiGpioCmd.PRRG, start, result);
         logger.trace("[PWM-REAL-RANGE::GET] <- PIN: {}; RANGE={}; SUCCESS={}",  pin, result, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_DUTYRANGE.
         return result;
@@ -499,7 +806,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         // validateFrequency(frequency); TODO :: IMPLEMENT 'validateFrequency()'
+        long start = System.nanoTime();
         int result = PIGPIO.gpioSetPWMfrequency(pin, frequency);
+        metrics.command(PiGpioCmd.PFS, start, result);
         logger.trace("[PWM-FREQ::SET] <- PIN: {}; FREQUENCY={}; SUCCESS={}",  pin, result, (result>=0));
         validateResult(result);  // Returns the numerically closest frequency if OK, otherwise PI_BAD_USER_GPIO.
         return result;
@@ -523,7 +832,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[PWM-FREQ::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioGetPWMfrequency(pin);
+        metrics.command(PiGpioCmd.PFG, start, result);
         logger.trace("[PWM-FREQ::GET] <- PIN: {}; FREQUENCY={}; SUCCESS={}",  pin, result, (result>=0));
         validateResult(result);  // Returns the frequency (in hertz) used for the GPIO if OK, otherwise PI_BAD_USER_GPIO.
         return result;
@@ -570,19 +881,78 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         // validateHwPwmFrequency(frequency); TODO :: IMPLEMENT 'validateHwPwmFrequency()'
+        long start = System.nanoTime();
         int result = PIGPIO.gpioHardwarePWM(pin, frequency, dutyCycle);
+        metrics.command(PiGpioCmd.HP, start, result);
         logger.trace("[HW-PWM::SET] <- PIN: {}; SUCCESS={}",  pin, (result>=0));
         validateResult(result);  // Returns the numerically closest frequency if OK, otherwise PI_BAD_USER_GPIO.
     }
 
     @Override
-    public void gpioNotifications(int pin, boolean enabled) {
-        if(enabled)
+    public synchronized void gpioNotifications(int pin, boolean enabled) {
+        validateUserPin(pin);
+        this.alertPins = enabled ? (alertPins | (1 << pin)) : (alertPins & ~(1 << pin));
+        sampleAlerts(pin);
+    }
+
+    @Override
+    public synchronized void gpioInterrupts(int pin, int edge, int timeout, boolean enabled) {
+        logger.trace("[GPIO::ISR] -> PIN: {}; EDGE: {}; TIMEOUT: {}; ENABLED: {}", pin, edge, timeout, enabled);
+        validateReady();
+        validateUserPin(pin);
+        validateEdge(edge);
+        validateWatchdogTimeout(timeout);
+        int result = enabled ? PIGPIO.gpioSetISRFunc(pin, edge, timeout, gpioIsrCallbackHandler)
+                             : PIGPIO.gpioDisableISRFunc(pin);
+        logger.trace("[GPIO::ISR] <- PIN: {}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO, PI_BAD_EDGE, or PI_BAD_ISR_INIT.
+        this.interruptPins = enabled ? (interruptPins | (1 << pin)) : (interruptPins & ~(1 << pin));
+        sampleAlerts(pin);
+    }
+
+    /**
+     * Start or stop sampled alerts for a pin to match the pins with listeners; pins
+     * delivered by interrupt are never sampled.
+     *
+     * @param pin GPIO pin number
+     */
+    private void sampleAlerts(int pin) {
+        int sampled = alertPins & ~interruptPins;
+        if(notificationPipe) {
+            openNotificationPipe().monitor(sampled, PIGPIO.gpioRead_Bits_0_31());
+        }
+        else if((sampled & (1 << pin)) != 0)
             PIGPIO.gpioSetAlertFunc(pin, gpioAlertCallbackHandler);
         else
             PIGPIO.gpioDisableAlertFunc(pin);
     }
 
+    @Override
+    public void eventNotifications(int event, boolean enabled) {
+        validateEvent(event);
+        if(enabled)
+            PIGPIO.eventSetFunc(event, eventCallbackHandler);
+        else
+            PIGPIO.eventRemoveFunc(event);
+    }
+
+    /**
+     * This handler is used internally to dispatch events to Java consumers
+     * (*this method is only invoked from native JNI code*)
+     */
+    private PiGpioEventCallback eventCallbackHandler = new PiGpioEventCallback() {
+        @Override
+        public void call(int event, long tick) {
+            try {
+                metrics.notificationReport();
+                dispatchEvent(new PiGpioEvent(event, tick));
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+    };
+
     /**
      * This handler is used internally to dispatch GPI state change events to Java consumers
      * (*this method is only invoked from native JNI code*)
@@ -591,7 +961,26 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         @Override
         public void call(int pin, int state, long tick) {
             try {
-                dispatchEvent(new PiGpioStateChangeEvent(pin, PiGpioState.from(state), tick));
+                metrics.notificationReport();
+                alert(pin, state, tick);
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+    };
+
+    /**
+     * This handler is used internally to dispatch GPIO interrupts to Java consumers; a level
+     * of 2 (PiGpioState.TIMEOUT) reports that no edge was seen within the interrupt timeout
+     * (*this method is only invoked from native JNI code*)
+     */
+    private PiGpioIsrCallback gpioIsrCallbackHandler = new PiGpioIsrCallback() {
+        @Override
+        public void call(int pin, int state, long tick) {
+            try {
+                metrics.notificationReport();
+                alert(pin, state, tick);
             }
             catch (Exception e){
                 logger.error(e.getMessage(), e);
@@ -599,6 +988,36 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         }
     };
 
+    /**
+     * Deliver a GPIO alert received from the pigpio library; the alert is handed off to a
+     * dispatcher thread if alert dispatchers are configured, otherwise it is dispatched on
+     * the calling thread.
+     *
+     * @param pin GPIO pin number
+     * @param state GPIO pin level
+     * @param tick pigpio tick of the level change (microseconds)
+     */
+    protected void alert(int pin, int state, long tick) {
+        PiGpioAlertDispatcher dispatcher = alertDispatcher;
+        if(dispatcher != null) {
+            // hand the alert off to a dispatcher thread and return to pigpio right away
+            dispatcher.offer(pin, state, tick);
+        } else {
+            dispatchAlert(pin, state, tick);
+        }
+    }
+
+    /**
+     * Dispatch a GPIO alert to the registered state change listeners.
+     *
+     * @param pin GPIO pin number
+     * @param state GPIO pin level
+     * @param tick pigpio tick of the level change (microseconds)
+     */
+    protected void dispatchAlert(int pin, int state, long tick) {
+        dispatchEvent(new PiGpioStateChangeEvent(pin, PiGpioState.from(state), tick));
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERVO IMPLEMENTATION
@@ -646,7 +1065,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validatePulseWidth(pulseWidth);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioServo(pin, pulseWidth);
+        metrics.command(PiGpioCmd.SERVO, start, result);
         logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_PULSEWIDTH.
     }
@@ -661,7 +1082,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[SERVO::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
+        long start = System.nanoTime();
         int result = PIGPIO.gpioGetServoPulsewidth(pin);
+        metrics.command(PiGpioCmd.GPW, start, result);
         logger.trace("[SERVO::GET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, result, (result>=0));
 
         // Returns 0 (off), 500 (most anti-clockwise) to 2500 (most clockwise)
@@ -774,7 +1197,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateI2cBus(bus);
         validateI2cDeviceAddress(device);
+        long start = System.nanoTime();
         int handle = PIGPIO.i2cOpen(bus, device, flags);
+        metrics.command(PiGpioCmd.I2CO, start, handle);
         boolean success = (handle>=0);
         logger.trace("[I2C::OPEN] <- HANDLE={}; SUCCESS={}",  handle, success);
         validateResult(handle, false);
@@ -799,7 +1224,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[I2C::CLOSE] -> HANDLE={}, Close I2C Bus", handle);
         validateReady();
         validateHandle(handle);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cClose(handle);
+        metrics.command(PiGpioCmd.I2CC, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::CLOSE] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
         validateResult(result, false);
@@ -822,7 +1249,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[I2C::WRITE] -> HANDLE={}; R/W Bit [{}]", handle, bit ? 1 : 0);
         validateReady();
         validateHandle(handle);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cWriteQuick(handle ,bit);
+        metrics.command(PiGpioCmd.I2CWQ, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, success, result);
         validateResult(result, false);
@@ -840,7 +1269,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[I2C::WRITE] -> HANDLE={}; Byte [{}]", handle, Byte.toUnsignedInt(value));
         validateReady();
         validateHandle(handle);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cWriteByte(handle, value);
+        metrics.command(PiGpioCmd.I2CWS, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, success, result);
         validateResult(result, false);
@@ -858,7 +1289,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[I2C::READ] -> [{}]; Byte", handle);
         validateReady();
         validateHandle(handle);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cReadByte(handle);
+        metrics.command(PiGpioCmd.I2CRS, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
         validateResult(result, false);
@@ -877,7 +1310,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cWriteByteData(handle, register, value);
+        metrics.command(PiGpioCmd.I2CWB, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, success, result);
         validateResult(result, false);
@@ -896,7 +1331,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cWriteWordData(handle, register, value);
+        metrics.command(PiGpioCmd.I2CWW, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, success, result);
         validateResult(result, false);
@@ -915,7 +1352,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cReadByteData(handle, register);
+        metrics.command(PiGpioCmd.I2CRB, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
         validateResult(result, false);
@@ -934,7 +1373,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cReadWordData(handle, register);
+        metrics.command(PiGpioCmd.I2CRW, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
         validateResult(result, false);
@@ -954,7 +1395,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
+        long start = System.nanoTime();
         int result = PIGPIO.i2cProcessCall(handle, register, value);
+        metrics.command(PiGpioCmd.I2CPC, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::W/R] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, success, result);
         validateResult(result, false);
@@ -976,7 +1419,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateI2cBlockLength(length);
         Objects.checkFromIndexSize(offset, length, data.length);
         // write data array to I2C device register
+        long start = System.nanoTime();
         int result = PIGPIO.i2cWriteBlockData(handle, register, data, offset, length);
+        metrics.command(PiGpioCmd.I2CWK, start, result);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
         validateResult(result, false);
         return result;
@@ -996,7 +1441,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateI2cRegister(register);
         Objects.checkFromIndexSize(offset, length, buffer.length);
         // perform the read on the I2C device register
+        long start = System.nanoTime();
         int result = PIGPIO.i2cReadBlockData(handle, register, buffer, offset);
+        metrics.command(PiGpioCmd.I2CRK, start, result);
         boolean success = result >=0;
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
         validateResult(result, false);
@@ -1020,7 +1467,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateI2cRegister(register);
         Objects.checkFromIndexSize(offset, length, data.length);
         // write/read from I2C device register
+        long start = System.nanoTime();
         int result = PIGPIO.i2cBlockProcessCall(handle, register, data, offset, length);
+        metrics.command(PiGpioCmd.I2CPK, start, result);
         boolean success = result >=0;
         logger.trace("[I2C::W/R] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, success, result);
         validateResult(result, false);
@@ -1055,7 +1504,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         byte[] buffer = Arrays.copyOfRange(write, writeOffset , writeOffset + writeLength);
 
         // write/read from I2C device register
+        long start = System.nanoTime();
         int result = PIGPIO.i2cBlockProcessCall(handle, register, buffer, 0, writeLength);
+        metrics.command(PiGpioCmd.I2CPK, start, result);
         boolean success = (result>=0);
         logger.trace("[I2C::W/R] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, success, result);
         validateResult(result, false);
@@ -1089,7 +1540,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateI2cRegister(register);
         Objects.checkFromIndexSize(offset, length, buffer.length);
         // perform the read on the I2C device register
+        long start = System.nanoTime();
         int result = PIGPIO.i2cReadI2CBlockData(handle, register, buffer, offset, length);
+        metrics.command(PiGpioCmd.I2CRI, start, result);
         boolean success = result >=0;
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
         validateResult(result, false);
@@ -1111,7 +1564,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateI2cBlockLength(length);
         Objects.checkFromIndexSize(offset, length, data.length);
         // write data array to I2C device register
+        long start = System.nanoTime();
         int result = PIGPIO.i2cWriteI2CBlockData(handle, register, data, offset, length);
+        metrics.command(PiGpioCmd.I2CWI, start, result);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
         validateResult(result, false);
         return result;
@@ -1130,13 +1585,43 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateHandle(handle);
         Objects.checkFromIndexSize(offset, length, buffer.length);
         // perform the read on the I2C device
+        long start = System.nanoTime();
         int result = PIGPIO.i2cReadDevice(handle, buffer, offset, length);
+        metrics.command(PiGpioCmd.I2CRD, start, result);
         boolean success = result >=0;
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, success, result);
         validateResult(result, false);
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers are read into by the pigpio library without intermediate arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cReadDevice">PIGPIO::i2cReadDevice</a>
+     */
+    @Override
+    public int i2cReadDevice(int handle, ByteBuffer buffer, int offset, int length) {
+        length = Math.min(length, buffer.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        if(!buffer.isDirect()) {
+            // heap buffers are read into their backing array
+            int result = i2cReadDevice(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(result >= 0) buffer.position(offset + result);
+            return result;
+        }
+        logger.trace("[I2C::READ] -> [{}]; I2C Raw Read [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        long start = System.nanoTime();
+        int result = PIGPIO.i2cReadDeviceDirect(handle, buffer, offset, length);
+        metrics.command(PiGpioCmd.I2CRD, start, result);
+        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1150,12 +1635,125 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateHandle(handle);
         Objects.checkFromIndexSize(offset, length, data.length);
         // write data array to I2C device
+        long start = System.nanoTime();
         int result = PIGPIO.i2cWriteDevice(handle, data, offset, length);
+        metrics.command(PiGpioCmd.I2CWD, start, result);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
         validateResult(result, false);
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers are written from by the pigpio library without intermediate arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cWriteDevice">PIGPIO::i2cWriteDevice</a>
+     */
+    @Override
+    public int i2cWriteDevice(int handle, ByteBuffer data, int offset, int length) {
+        length = Math.min(length, data.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+        if(!data.isDirect()) {
+            // heap buffers are written from their backing array (or from a copy if read-only)
+            return data.hasArray() ? i2cWriteDevice(handle, data.array(), data.arrayOffset() + offset, length)
+                                   : i2cWriteDevice(handle, copy(data, offset, length), 0, length);
+        }
+        logger.trace("[I2C::WRITE] -> [{}]; I2C Raw Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        long start = System.nanoTime();
+        int result = PIGPIO.i2cWriteDeviceDirect(handle, data, offset, length);
+        metrics.command(PiGpioCmd.I2CWD, start, result);
+        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a sequence of I2C operations (combined transaction) on the
+     * device associated with the handle.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length) {
+        logger.trace("[I2C::ZIP] -> [{}]; I2C Combined Transaction [{} command bytes]; read={}", handle, commandLength, length);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(commandOffset, commandLength, commands.length);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        // execute combined transaction; read data is copied into the buffer array
+        long start = System.nanoTime();
+        int result = PIGPIO.i2cZip(handle, commands, commandOffset, commandLength, buffer, offset, length);
+        metrics.command(PiGpioCmd.I2CZ, start, result);
+        logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; BYTES-READ={}", handle, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a pair of GPIO for bit banging I2C at a specified baud rate.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    @Override
+    public int bbI2COpen(int sda, int scl, int baud) {
+        logger.trace("[I2C::BB-OPEN] -> Open Bit-Bang I2C [SDA={}; SCL={}] at Baud Rate [{}]", sda, scl, baud);
+        validateReady();
+        validateUserPin(sda);
+        validateUserPin(scl);
+        validateBitBangI2cBaud(baud);
+        long start = System.nanoTime();
+        int result = PIGPIO.bbI2COpen(sda, scl, baud);
+        metrics.command(PiGpioCmd.BI2CO, start, result);
+        logger.trace("[I2C::BB-OPEN] <- SDA={}; SUCCESS={}", sda, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging I2C on a pair of GPIO previously opened with bbI2COpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    @Override
+    public int bbI2CClose(int sda) {
+        logger.trace("[I2C::BB-CLOSE] -> SDA [{}]; Close Bit-Bang I2C", sda);
+        validateReady();
+        validateUserPin(sda);
+        long start = System.nanoTime();
+        int result = PIGPIO.bbI2CClose(sda);
+        metrics.command(PiGpioCmd.BI2CC, start, result);
+        logger.trace("[I2C::BB-CLOSE] <- SDA={}; SUCCESS={}", sda, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a sequence of bit banged I2C operations.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    @Override
+    public int bbI2CZip(int sda, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length) {
+        logger.trace("[I2C::BB-ZIP] -> SDA [{}]; Bit-Bang I2C Transaction [{} command bytes]; read={}", sda, commandLength, length);
+        validateReady();
+        validateUserPin(sda);
+        Objects.checkFromIndexSize(commandOffset, commandLength, commands.length);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        // execute bit-banged transaction; read data is copied into the buffer array
+        long start = System.nanoTime();
+        int result = PIGPIO.bbI2CZip(sda, commands, commandOffset, commandLength, buffer, offset, length);
+        metrics.command(PiGpioCmd.BI2CZ, start, result);
+        logger.trace("[I2C::BB-ZIP] <- SDA={}; SUCCESS={}; BYTES-READ={}", sda, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -1175,7 +1773,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateReady();
 
         // open the serial port/device
+        long start = System.nanoTime();
         int result = PIGPIO.serOpen(device.toString(), baud, flags);
+        metrics.command(PiGpioCmd.SERO, start, result);
         int handle = result;
         boolean success = result >=0;
         logger.trace("[SERIAL::OPEN] <- HANDLE={}; SUCCESS={}",  handle, success);
@@ -1201,7 +1801,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateHandle(handle);
 
         // close the serial port/device
+        long start = System.nanoTime();
         int result  = PIGPIO.serClose(handle);
+        metrics.command(PiGpioCmd.SERC, start, result);
         boolean success = result >=0;
         logger.trace("[SERIAL::CLOSE] <- HANDLE={}; SUCCESS={}",  handle, success);
         validateResult(result, false);
@@ -1224,7 +1826,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[SERIAL::WRITE] -> HANDLE={}; Byte [{}]", handle, Byte.toUnsignedInt(value));
         validateReady();
         validateHandle(handle);
+        long start = System.nanoTime();
         int result = PIGPIO.serWriteByte(handle, value);
+        metrics.command(PiGpioCmd.SERWB, start, result);
         logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, (result>=0));
         validateResult(result, false);
         return 0;
@@ -1242,7 +1846,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[SERIAL::READ] -> [{}]; Byte", handle);
         validateReady();
         validateHandle(handle);
+        long start = System.nanoTime();
         int result = PIGPIO.serReadByte(handle);
+        metrics.command(PiGpioCmd.SERRB, start, result);
         logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}",  handle, (result>=0));
         validateResult(result, false);
         return result;
@@ -1262,12 +1868,40 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         Objects.checkFromIndexSize(offset, length, data.length);
         validateHandle(handle);
         // write data array to serial device/port
+        long start = System.nanoTime();
         int result = PIGPIO.serWrite(handle, data, offset, length);
+        metrics.command(PiGpioCmd.SERW, start, result);
         logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, (result>=0));
         validateResult(result, false);
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers are written from by the pigpio library without intermediate arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serWrite">PIGPIO::serWrite</a>
+     */
+    @Override
+    public int serWrite(int handle, ByteBuffer data, int offset, int length) {
+        length = Math.min(length, data.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+        if(!data.isDirect()) {
+            // heap buffers are written from their backing array (or from a copy if read-only)
+            return data.hasArray() ? serWrite(handle, data.array(), data.arrayOffset() + offset, length)
+                                   : serWrite(handle, copy(data, offset, length), 0, length);
+        }
+        logger.trace("[SERIAL::WRITE] -> [{}]; Serial Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        long start = System.nanoTime();
+        int result = PIGPIO.serWriteDirect(handle, data, offset, length);
+        metrics.command(PiGpioCmd.SERW, start, result);
+        logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1282,7 +1916,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
         // perform the read on the serial device/port
+        long start = System.nanoTime();
         int result = PIGPIO.serRead(handle, buffer, offset, length);
+        metrics.command(PiGpioCmd.SERR, start, result);
         boolean success = result >=0;
         logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, success, result);
         validateResult(result, false);
@@ -1292,15 +1928,45 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     /**
      * {@inheritDoc}
      *
-     * This function returns the number of bytes available to be read from the device associated with handle.
-     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serDataAvailable">PIGPIO::serDataAvailable</a>
+     * Direct buffers are read into by the pigpio library without intermediate arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serRead">PIGPIO::serRead</a>
      */
     @Override
-    public int serDataAvailable(int handle) {
-        logger.trace("[SERIAL::AVAIL] -> Get number of bytes available to read");
+    public int serRead(int handle, ByteBuffer buffer, int offset, int length) {
+        length = Math.min(length, buffer.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        if(!buffer.isDirect()) {
+            // heap buffers are read into their backing array
+            int result = serRead(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(result >= 0) buffer.position(offset + result);
+            return result;
+        }
+        logger.trace("[SERIAL::READ] -> [{}]; Serial Read [{} bytes]; offset={}", handle, length, offset);
         validateReady();
-        int result = PIGPIO.serDataAvailable(handle);
-        logger.trace("[SERIAL::AVAIL] <- HANDLE={}; SUCCESS={}; AVAILABLE={}",  handle, (result>=0), result);
+        validateHandle(handle);
+        long start = System.nanoTime();
+        int result = PIGPIO.serReadDirect(handle, buffer, offset, length);
+        metrics.command(PiGpioCmd.SERR, start, result);
+        logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}", handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) buffer.position(offset + result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the number of bytes available to be read from the device associated with handle.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serDataAvailable">PIGPIO::serDataAvailable</a>
+     */
+    @Override
+    public int serDataAvailable(int handle) {
+        logger.trace("[SERIAL::AVAIL] -> Get number of bytes available to read");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.serDataAvailable(handle);
+        metrics.command(PiGpioCmd.SERDA, start, result);
+        logger.trace("[SERIAL::AVAIL] <- HANDLE={}; SUCCESS={}; AVAILABLE={}",  handle, (result>=0), result);
         validateResult(result, false);
         return result;
     }
@@ -1393,7 +2059,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     public int spiOpen(int channel, int baud, int flags) {
         logger.trace("[SPI::OPEN] -> Open SPI Channel [{}] at Baud Rate [{}]; Flags=[{}]", channel, baud, flags);
         validateReady();
+        long start = System.nanoTime();
         int handle = PIGPIO.spiOpen(channel, baud, flags);
+        metrics.command(PiGpioCmd.SPIO, start, handle);
         boolean success = handle >=0;
         logger.trace("[SPI::OPEN] <- HANDLE={}; SUCCESS={}",  handle, success);
         validateResult(handle, false);
@@ -1416,7 +2084,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         logger.trace("[SPI::CLOSE] -> HANDLE={}, Close Serial Port", handle);
         validateReady();
         validateHandle(handle);
+        long start = System.nanoTime();
         int result = PIGPIO.spiClose(handle);
+        metrics.command(PiGpioCmd.SPIC, start, result);
         boolean success = result >=0;
         logger.trace("[SPI::CLOSE] <- HANDLE={}; SUCCESS={}",  handle, success);
         validateResult(result, false);
@@ -1443,12 +2113,40 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         Objects.checkFromIndexSize(offset, length, data.length);
         validateHandle(handle);
         // write data array to SPI bus/channel
+        long start = System.nanoTime();
         int result = PIGPIO.spiWrite(handle, data, offset, length);
+        metrics.command(PiGpioCmd.SPIW, start, result);
         logger.trace("[SPI::WRITE] <- HANDLE={}; SUCCESS={}", handle, (result>=0));
         validateResult(result, false);
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers are written from by the pigpio library without intermediate arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite">PIGPIO::spiWrite</a>
+     */
+    @Override
+    public int spiWrite(int handle, ByteBuffer data, int offset, int length) {
+        length = Math.min(length, data.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+        if(!data.isDirect()) {
+            // heap buffers are written from their backing array (or from a copy if read-only)
+            return data.hasArray() ? spiWrite(handle, data.array(), data.arrayOffset() + offset, length)
+                                   : spiWrite(handle, copy(data, offset, length), 0, length);
+        }
+        logger.trace("[SPI::WRITE] -> [{}]; Serial Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        long start = System.nanoTime();
+        int result = PIGPIO.spiWriteDirect(handle, data, offset, length);
+        metrics.command(PiGpioCmd.SPIW, start, result);
+        logger.trace("[SPI::WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1466,13 +2164,43 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
         // perform the read on the SPI bus/channel
+        long start = System.nanoTime();
         int result = PIGPIO.spiRead(handle, buffer, offset, length);
+        metrics.command(PiGpioCmd.SPIR, start, result);
         boolean success = result >=0;
         logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, success, result);
         validateResult(result, false);
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers are read into by the pigpio library without intermediate arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiRead">PIGPIO::spiRead</a>
+     */
+    @Override
+    public int spiRead(int handle, ByteBuffer buffer, int offset, int length) {
+        length = Math.min(length, buffer.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        if(!buffer.isDirect()) {
+            // heap buffers are read into their backing array
+            int result = spiRead(handle, buffer.array(), buffer.arrayOffset() + offset, length);
+            if(result >= 0) buffer.position(offset + result);
+            return result;
+        }
+        logger.trace("[SPI::READ] -> [{}]; Serial Read [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        long start = System.nanoTime();
+        int result = PIGPIO.spiReadDirect(handle, buffer, offset, length);
+        metrics.command(PiGpioCmd.SPIR, start, result);
+        logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}", handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) buffer.position(offset + result);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1492,10 +2220,578 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
         Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
         // perform SPI data transfer
+        long start = System.nanoTime();
         int result = PIGPIO.spiXfer(handle, write, writeOffset, read, readOffset, numberOfBytes);
+        metrics.command(PiGpioCmd.SPIX, start, result);
         boolean success = result >= 0;
         logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, success, result);
         validateResult(result, false);
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers are transferred by the pigpio library without intermediate arrays.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiXfer">PIGPIO::spiXfer</a>
+     */
+    @Override
+    public int spiXfer(int handle, ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        numberOfBytes = Math.min(numberOfBytes, Math.min(write.capacity() - writeOffset, read.capacity() - readOffset));
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.capacity());
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.capacity());
+        if(!write.isDirect() || !read.isDirect()) {
+            // heap buffers are transferred through their backing arrays (or through copies)
+            byte[] tx = write.hasArray() ? write.array() : copy(write, writeOffset, numberOfBytes);
+            int txOffset = write.hasArray() ? write.arrayOffset() + writeOffset : 0;
+            byte[] rx = read.isDirect() ? new byte[numberOfBytes] : read.array();
+            int rxOffset = read.isDirect() ? 0 : read.arrayOffset() + readOffset;
+            int result = spiXfer(handle, tx, txOffset, rx, rxOffset, numberOfBytes);
+            if(read.isDirect() && result > 0) region(read, readOffset, result).put(rx, 0, result);
+            if(result >= 0) read.position(readOffset + result);
+            return result;
+        }
+        logger.trace("[SPI::XFER] -> [{}]; Serial Transfer [{} bytes]", handle, numberOfBytes);
+        validateReady();
+        validateHandle(handle);
+        long start = System.nanoTime();
+        int result = PIGPIO.spiXferDirect(handle, write, writeOffset, read, readOffset, numberOfBytes);
+        metrics.command(PiGpioCmd.SPIX, start, result);
+        logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) read.position(readOffset + result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a set of GPIO for bit banging SPI with a specified baud rate and mode.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIOpen">PIGPIO::bbSPIOpen</a>
+     */
+    @Override
+    public int bbSPIOpen(int cs, int miso, int mosi, int sclk, int baud, int flags) {
+        logger.trace("[SPI::BB-OPEN] -> Open Bit-Bang SPI [CS={}; MISO={}; MOSI={}; SCLK={}] at Baud Rate [{}]; Flags=[{}]", cs, miso, mosi, sclk, baud, flags);
+        validateReady();
+        validateUserPin(cs);
+        validateUserPin(miso);
+        validateUserPin(mosi);
+        validateUserPin(sclk);
+        validateBitBangSpiBaud(baud);
+        long start = System.nanoTime();
+        int result = PIGPIO.bbSPIOpen(cs, miso, mosi, sclk, baud, flags);
+        metrics.command(PiGpioCmd.BSPIO, start, result);
+        logger.trace("[SPI::BB-OPEN] <- CS={}; SUCCESS={}", cs, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging SPI on a set of GPIO opened with bbSPIOpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIClose">PIGPIO::bbSPIClose</a>
+     */
+    @Override
+    public int bbSPIClose(int cs) {
+        logger.trace("[SPI::BB-CLOSE] -> CS [{}]; Close Bit-Bang SPI", cs);
+        validateReady();
+        validateUserPin(cs);
+        long start = System.nanoTime();
+        int result = PIGPIO.bbSPIClose(cs);
+        metrics.command(PiGpioCmd.BSPIC, start, result);
+        logger.trace("[SPI::BB-CLOSE] <- CS={}; SUCCESS={}", cs, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transfers (writes/reads simultaneously) multiple bytes with a bit banged SPI device.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    @Override
+    public int bbSPIXfer(int cs, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        logger.trace("[SPI::BB-XFER] -> CS [{}]; Bit-Bang Serial Transfer [{} bytes]", cs, numberOfBytes);
+        validateReady();
+        validateUserPin(cs);
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+        // perform bit-banged transfer; read data is copied into the 'read' array
+        long start = System.nanoTime();
+        int result = PIGPIO.bbSPIXfer(cs, write, writeOffset, read, readOffset, numberOfBytes);
+        metrics.command(PiGpioCmd.BSPIX, start, result);
+        logger.trace("[SPI::BB-XFER] <- CS={}; SUCCESS={}; BYTES-READ={}", cs, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPT IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * Stores a script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        logger.trace("[SCRIPT::STORE] -> [{} chars]", script.length());
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioStoreScript(script);
+        metrics.command(PiGpioCmd.PROC, start, result);
+        logger.trace("[SCRIPT::STORE] <- SUCCESS={}; SCRIPT-ID={}", result >= 0, result);
+        validateResult(result);  // Returns a script id if OK, otherwise PI_BAD_SCRIPT.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> SCRIPT-ID: {}; PARAMS: {}", scriptId, Arrays.toString(params));
+        validateReady();
+        validateScriptParams(params);
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioRunScript(scriptId, params.length, params);
+        metrics.command(PiGpioCmd.PROCR, start, result);
+        logger.trace("[SCRIPT::RUN] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> SCRIPT-ID: {}; PARAMS: {}", scriptId, Arrays.toString(params));
+        validateReady();
+        validateScriptParams(params);
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioUpdateScript(scriptId, params.length, params);
+        metrics.command(PiGpioCmd.PROCU, start, result);
+        logger.trace("[SCRIPT::UPDATE] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the run status of a script as well as the current values of its parameters.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> SCRIPT-ID: {}", scriptId);
+        validateReady();
+        int[] values = new int[PI_MAX_SCRIPT_PARAMS];
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioScriptStatus(scriptId, values);
+        metrics.command(PiGpioCmd.PROCP, start, result);
+        validateResult(result);  // Returns the script status if OK, otherwise PI_BAD_SCRIPT_ID.
+        if(params != null) System.arraycopy(values, 0, params, 0, Math.min(params.length, values.length));
+        PiGpioScriptStatus status = PiGpioScriptStatus.from(result);
+        logger.trace("[SCRIPT::STATUS] <- SCRIPT-ID: {}; STATUS={}", scriptId, status);
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> SCRIPT-ID: {}", scriptId);
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioStopScript(scriptId);
+        metrics.command(PiGpioCmd.PROCS, start, result);
+        logger.trace("[SCRIPT::STOP] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> SCRIPT-ID: {}", scriptId);
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioDeleteScript(scriptId);
+        metrics.command(PiGpioCmd.PROCD, start, result);
+        logger.trace("[SCRIPT::DELETE] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVEFORM IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveClear();
+        metrics.command(PiGpioCmd.WVCLR, start, result);
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveAddNew();
+        metrics.command(PiGpioCmd.WVNEW, start, result);
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Adds a number of pulses to the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(PiGpioPulse ... pulses) {
+        logger.trace("[WAVE::ADD] -> [{} pulses]", pulses.length);
+        validateReady();
+        validateWavePulses(pulses);
+        int[] data = new int[pulses.length * 3];
+        for(int i = 0; i < pulses.length; i++){
+            data[(i * 3)]     = pulses[i].gpioOn();
+            data[(i * 3) + 1] = pulses[i].gpioOff();
+            data[(i * 3) + 2] = pulses[i].usDelay();
+        }
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveAddGeneric(pulses.length, data);
+        metrics.command(PiGpioCmd.WVAG, start, result);
+        logger.trace("[WAVE::ADD] <- SUCCESS={}; PULSES={}", result >= 0, result);
+        validateResult(result);  // Returns the new total number of pulses in the current waveform if OK, otherwise PI_TOO_MANY_PULSES.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveCreate();
+        metrics.command(PiGpioCmd.WVCRE, start, result);
+        logger.trace("[WAVE::CREATE] <- SUCCESS={}; WAVE-ID={}", result >= 0, result);
+        validateResult(result);  // Returns the new waveform id if OK, otherwise PI_EMPTY_WAVEFORM, PI_NO_WAVEFORM_ID, PI_TOO_MANY_CBS, or PI_TOO_MANY_OOL.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Deletes the waveform with the given wave id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE-ID: {}", waveId);
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveDelete(waveId);
+        metrics.command(PiGpioCmd.WVDEL, start, result);
+        logger.trace("[WAVE::DELETE] <- WAVE-ID: {}; SUCCESS={}", waveId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Transmits the waveform with the given wave id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::SEND] -> WAVE-ID: {}; MODE: {}", waveId, mode);
+        validateReady();
+        validateWaveMode(mode);
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveTxSend(waveId, mode.value());
+        metrics.command(PiGpioCmd.WVTXM, start, result);
+        logger.trace("[WAVE::SEND] <- WAVE-ID: {}; SUCCESS={}; CBS={}", waveId, result >= 0, result);
+        validateResult(result);  // Returns the number of DMA control blocks in the waveform if OK, otherwise PI_BAD_WAVE_ID, or PI_BAD_WAVE_MODE.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] data, int offset, int length) {
+        logger.trace("[WAVE::CHAIN] -> [{} bytes]", length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateWaveChainLength(length);
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveChain(data, offset, length);
+        metrics.command(PiGpioCmd.WVCHA, start, result);
+        logger.trace("[WAVE::CHAIN] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_CHAIN_NESTING, PI_CHAIN_LOOP_CNT, PI_BAD_CHAIN_LOOP, PI_BAD_CHAIN_CMD, PI_CHAIN_COUNTER, PI_BAD_CHAIN_DELAY, PI_CHAIN_TOO_BIG, or PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the wave id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::AT] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveTxAt();
+        metrics.command(PiGpioCmd.WVTAT, start, result);
+        logger.trace("[WAVE::AT] <- WAVE-ID: {}", result);
+        validateResult(result);  // Returns the waveform id or one of PI_NO_TX_WAVE or PI_WAVE_NOT_FOUND.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Checks whether a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::BUSY] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveTxBusy();
+        metrics.command(PiGpioCmd.WVBSY, start, result);
+        logger.trace("[WAVE::BUSY] <- BUSY={}", result == 1);
+        validateResult(result);  // Returns 1 if a waveform is currently being transmitted, otherwise 0.
+        return result == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Aborts the transmission of the current waveform or chain.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::STOP] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveTxStop();
+        metrics.command(PiGpioCmd.WVHLT, start, result);
+        logger.trace("[WAVE::STOP] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in microseconds of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMicros() {
+        logger.trace("[WAVE::MICROS] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetMicros();
+        metrics.command(PiGpioCmd.WVSM, start, result);
+        logger.trace("[WAVE::MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in microseconds of the longest waveform created since gpioInitialise was called.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        logger.trace("[WAVE::HIGH-MICROS] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetHighMicros();
+        metrics.command(PiGpioCmd.WVSM, start, result);
+        logger.trace("[WAVE::HIGH-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the maximum possible size of a waveform in microseconds.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        logger.trace("[WAVE::MAX-MICROS] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetMaxMicros();
+        metrics.command(PiGpioCmd.WVSM, start, result);
+        logger.trace("[WAVE::MAX-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in pulses of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    @Override
+    public int gpioWaveGetPulses() {
+        logger.trace("[WAVE::PULSES] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetPulses();
+        metrics.command(PiGpioCmd.WVSP, start, result);
+        logger.trace("[WAVE::PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in pulses of the longest waveform created since gpioInitialise was called.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        logger.trace("[WAVE::HIGH-PULSES] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetHighPulses();
+        metrics.command(PiGpioCmd.WVSP, start, result);
+        logger.trace("[WAVE::HIGH-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the maximum possible size of a waveform in pulses.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        logger.trace("[WAVE::MAX-PULSES] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetMaxPulses();
+        metrics.command(PiGpioCmd.WVSP, start, result);
+        logger.trace("[WAVE::MAX-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in DMA control blocks of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    @Override
+    public int gpioWaveGetCbs() {
+        logger.trace("[WAVE::CBS] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetCbs();
+        metrics.command(PiGpioCmd.WVSC, start, result);
+        logger.trace("[WAVE::CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in DMA control blocks of the longest waveform created since gpioInitialise was called.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        logger.trace("[WAVE::HIGH-CBS] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetHighCbs();
+        metrics.command(PiGpioCmd.WVSC, start, result);
+        logger.trace("[WAVE::HIGH-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the maximum possible size of a waveform in DMA control blocks.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        logger.trace("[WAVE::MAX-CBS] ->");
+        validateReady();
+        long start = System.nanoTime();
+        int result = PIGPIO.gpioWaveGetMaxCbs();
+        metrics.command(PiGpioCmd.WVSC, start, result);
+        logger.trace("[WAVE::MAX-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
 }
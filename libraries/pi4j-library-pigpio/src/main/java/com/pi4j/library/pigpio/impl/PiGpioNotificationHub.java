@@ -0,0 +1,218 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotificationHub.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.pi4j.library.pigpio.PiGpioException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioNotificationHub class.</p>
+ *
+ * Multiplexes the notification sockets of any number of PiGpio socket instances on a single
+ * selector thread.  The selector thread only reads and decodes the notification reports; the
+ * resulting state change events are dispatched to the listeners on a pool of worker threads,
+ * in order for each notification socket.  The worker pool also runs the delayed reconnect
+ * attempts of notification sockets that have been disconnected.
+ *
+ * All PiGpio socket instances share the hub returned by {@link #shared()} by default.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioNotificationHub implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioNotificationHub.class);
+
+    /** Constant <code>NAME="pigpio-notify"</code> */
+    public static String NAME = "pigpio-notify";
+
+    private static PiGpioNotificationHub shared = null;
+
+    protected final Selector selector;
+    protected final Thread thread;
+    protected final ScheduledThreadPoolExecutor workers;
+    protected final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    protected volatile boolean running = true;
+
+    /**
+     * Get the notification hub shared by all PiGpio socket instances; the hub is started on first use.
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioNotificationHub} object.
+     */
+    public static synchronized PiGpioNotificationHub shared() {
+        if(shared == null || !shared.running) {
+            shared = new PiGpioNotificationHub(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        }
+        return shared;
+    }
+
+    /**
+     * Start a notification hub.
+     *
+     * @param workers number of threads dispatching state change events
+     */
+    public PiGpioNotificationHub(int workers) {
+        if(workers <= 0)
+            throw new IllegalArgumentException("Invalid number of notification workers: " + workers + "; (must be greater than zero)");
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new PiGpioException(e);
+        }
+        AtomicInteger count = new AtomicInteger();
+        this.workers = new ScheduledThreadPoolExecutor(workers, r -> {
+            Thread worker = new Thread(r, NAME + "-worker-" + count.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        });
+        this.workers.setRemoveOnCancelPolicy(true);
+        this.thread = new Thread(this::select, NAME);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Register a connected notification socket; the channel is switched to non-blocking mode
+     * and the monitor is notified on the selector thread whenever report bytes are available.
+     *
+     * @param channel connected notification socket
+     * @param monitor monitor reading and decoding the notification reports
+     * @throws IOException if the channel cannot be switched to non-blocking mode.
+     */
+    public void register(SocketChannel channel, PiGpioSocketMonitor monitor) throws IOException {
+        if(!running) throw new PiGpioException("PIGPIO notification hub is closed");
+        channel.configureBlocking(false);
+        pending.add(() -> {
+            try {
+                channel.register(selector, SelectionKey.OP_READ, monitor);
+            } catch (IOException e) {
+                // the channel has been closed before it could be registered
+                monitor.disconnected();
+            }
+        });
+        selector.wakeup();
+    }
+
+    /**
+     * Get the number of notification sockets multiplexed by this hub.
+     *
+     * @return number of registered notification sockets
+     */
+    public int size() {
+        return selector.keys().size();
+    }
+
+    /**
+     * Run a task on the worker pool.
+     *
+     * @param task task to run
+     */
+    public void execute(Runnable task) {
+        workers.execute(task);
+    }
+
+    /**
+     * Run a task on the worker pool after a delay.
+     *
+     * @param task task to run
+     * @param delay delay in milliseconds
+     */
+    public void schedule(Runnable task, long delay) {
+        workers.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the selector thread and the worker pool; all registered notification sockets are closed.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        workers.shutdownNow();
+    }
+
+    private void select() {
+        logger.trace("[THREAD] STARTED");
+        while (running) {
+            try {
+                selector.select();
+
+                // register notification sockets added since the last selection
+                Runnable registration;
+                while ((registration = pending.poll()) != null) {
+                    registration.run();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    PiGpioSocketMonitor monitor = (PiGpioSocketMonitor) key.attachment();
+                    try {
+                        if(key.isValid() && key.isReadable()) monitor.readable();
+                    } catch (IOException | RuntimeException e) {
+                        logger.debug("[SOCKET] notification socket failed: {}", e.getMessage());
+                        key.cancel();
+                        monitor.disconnected();
+                    }
+                }
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+
+        // close all notification sockets still registered
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException e) {
+                logger.debug(e.getMessage());
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.debug(e.getMessage());
+        }
+        logger.trace("[THREAD] ENDED");
+    }
+}
@@ -0,0 +1,272 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotifyPipe.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMetrics;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.internal.PIGPIO;
+import com.pi4j.library.pigpio.internal.PiGpioAlertCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_ALIVE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_BIT_MASK;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_EVENT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_WDOG;
+
+/**
+ * <p>PiGpioNotifyPipe class.</p>
+ *
+ * Native-mode notification reader.  Instead of a JNI up-call per pin per edge, pigpio writes a
+ * 12 byte report (gpioReport_t) per level change of the monitored GPIO to a notification pipe
+ * (/dev/pigpioN).  A reader thread reads as many reports as are available with a single
+ * {@link java.nio.channels.FileChannel} read into a direct buffer and decodes them with the same
+ * {@link com.pi4j.library.pigpio.impl.PiGpioReportDecoder} as the socket notification monitor.
+ * Each monitored pin that changed level (or whose watchdog expired) is passed to the alert sink
+ * on the reader thread.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioNotifyPipe implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioNotifyPipe.class);
+
+    /** Constant <code>NAME="pigpio-pipe"</code> */
+    public static String NAME = "pigpio-pipe";
+
+    /** Constant <code>DEFAULT_CAPACITY=4096</code> (reports per pipe and per read) */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    protected final PiGpioAlertCallback sink;
+    protected final PiGpioMetrics metrics;
+    protected final PiGpioReportDecoder decoder;
+    protected int handle = -1;
+    protected volatile int pinMonitor = 0;
+    protected volatile int pinState = 0;
+    protected volatile ReadableByteChannel channel = null;
+    protected Thread reader = null;
+
+    /**
+     * <p>Constructor for PiGpioNotifyPipe.</p>
+     *
+     * @param sink receives the pin, level and tick of each alert on the reader thread
+     * @param metrics metrics recording the number of reports received
+     * @param capacity number of reports buffered by the pipe and read at once
+     */
+    public PiGpioNotifyPipe(PiGpioAlertCallback sink, PiGpioMetrics metrics, int capacity) {
+        this.sink = sink;
+        this.metrics = metrics;
+        this.decoder = new PiGpioReportDecoder(capacity, true);
+    }
+
+    /**
+     * Open a pigpio notification pipe and start reading its reports.  The pigpio library must
+     * be initialized with the pipe interface enabled.
+     *
+     * @return this notification pipe
+     */
+    public synchronized PiGpioNotifyPipe open() {
+        if(channel != null) return this;
+        int result = PIGPIO.gpioNotifyOpenWithSize(decoder.buffer().capacity());
+        if(result < 0) throw new PiGpioException("Failed to open notification pipe; " + result);
+        String path = "/dev/pigpio" + result;
+        try {
+            start(FileChannel.open(Paths.get(path), StandardOpenOption.READ), path);
+        } catch (IOException e) {
+            PIGPIO.gpioNotifyClose(result);
+            throw new PiGpioException(e);
+        }
+        this.handle = result;
+        logger.debug("[NOTIFY] opened notification pipe {}", path);
+        return this;
+    }
+
+    /**
+     * Set the GPIO pins to report level changes for.
+     *
+     * @param pins bit mask of the GPIO pins (0-31) to monitor
+     * @param levels current levels of GPIO 0-31; level changes of newly monitored pins are reported relative to these
+     */
+    public synchronized void monitor(int pins, int levels) {
+        // pins already monitored keep their last reported level
+        this.pinState = (pinState & pinMonitor) | (levels & ~pinMonitor);
+        this.pinMonitor = pins;
+        if(handle >= 0) {
+            int result = (pins == 0) ? PIGPIO.gpioNotifyPause(handle)
+                                     : PIGPIO.gpioNotifyBegin(handle, Integer.toUnsignedLong(pins));
+            if(result < 0) throw new PiGpioException("Failed to update notification pipe; " + result);
+        }
+    }
+
+    /**
+     * Get the GPIO pins currently monitored.
+     *
+     * @return bit mask of the monitored GPIO pins
+     */
+    public int monitored() {
+        return pinMonitor;
+    }
+
+    /**
+     * Get the total number of notification reports read from the pipe.
+     *
+     * @return number of reports received
+     */
+    public long receivedReports() {
+        return decoder.received();
+    }
+
+    /**
+     * Get the total number of notification reports detected missing from the pipe, e.g.
+     * because the pipe was full; level changes in dropped reports are not reported.
+     *
+     * @return number of reports dropped
+     */
+    public long droppedReports() {
+        return decoder.dropped();
+    }
+
+    /**
+     * Close the notification pipe and stop the reader thread.
+     */
+    @Override
+    public synchronized void close() {
+        ReadableByteChannel current = channel;
+        channel = null;
+        if(handle >= 0) {
+            PIGPIO.gpioNotifyClose(handle);
+            handle = -1;
+        }
+        if(current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                logger.debug(e.getMessage());
+            }
+        }
+        if(reader != null && reader != Thread.currentThread()) {
+            try {
+                reader.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        reader = null;
+    }
+
+    /**
+     * Start reading notification reports from the given channel on a new reader thread.
+     *
+     * @param channel channel providing the notification reports
+     * @param name name of the channel
+     */
+    protected synchronized void start(ReadableByteChannel channel, String name) {
+        this.channel = channel;
+        decoder.reset();
+        reader = new Thread(() -> read(channel), NAME + "-" + name);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private void read(ReadableByteChannel source) {
+        logger.trace("[THREAD] STARTED");
+        try {
+            while (channel == source) {
+                // a single read picks up every report pigpio has written to the pipe so far
+                if(decoder.read(source) < 0) break;
+                long dropped = decoder.dropped();
+                decoder.decode(this::report);
+                if(decoder.dropped() != dropped) {
+                    logger.warn("[NOTIFY] {} notification report(s) dropped; {} dropped in total",
+                            decoder.dropped() - dropped, decoder.dropped());
+                }
+            }
+        } catch (AsynchronousCloseException e) {
+            // notification pipe closed
+        } catch (IOException e) {
+            if(channel == source) logger.warn("[NOTIFY] failed to read notification pipe; {}", e.getMessage());
+        }
+        logger.trace("[THREAD] ENDED");
+    }
+
+    /**
+     * Compare a decoded notification report with the last known pin levels and pass every
+     * monitored pin that has changed to the alert sink; watchdog reports pass the TIMEOUT
+     * level for the pin that timed out.
+     *
+     * @param sequence report sequence number
+     * @param flags report flags
+     * @param tick tick in microseconds at which the levels were sampled
+     * @param newPinState levels of GPIO 0-31
+     */
+    protected void report(int sequence, int flags, long tick, int newPinState) {
+        if(logger.isTraceEnabled()) logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
+                sequence, flags, tick, Integer.toBinaryString(newPinState));
+        metrics.notificationReport();
+
+        // software events are delivered by event callbacks; keep-alive reports carry no levels
+        if((flags & (PI_NTFY_FLAGS_EVENT | PI_NTFY_FLAGS_ALIVE)) != 0) return;
+
+        // watchdog reports carry the timed out pin in the low bits of the flags
+        if((flags & PI_NTFY_FLAGS_WDOG) != 0) {
+            int pin = flags & PI_NTFY_FLAGS_BIT_MASK;
+            if((pinMonitor & (1 << pin)) != 0) alert(pin, PiGpioState.TIMEOUT.value(), tick);
+            return;
+        }
+
+        // only monitored pins that have changed state produce an alert
+        int changed = (pinState ^ newPinState) & pinMonitor;
+        while (changed != 0) {
+            int i = Integer.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            alert(i, (newPinState >> i) & 1, tick);
+        }
+
+        // cache the newly read pins states for future comparisons
+        pinState = newPinState;
+    }
+
+    private void alert(int pin, int level, long tick) {
+        try {
+            sink.call(pin, level, tick);
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioReportDecoder.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_REPORT_SIZE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <p>PiGpioReportDecoder class.</p>
+ *
+ * Streaming decoder for the 12 byte notification reports (gpioReport_t) sent by the PiGpio daemon.
+ * Bytes are read into a large receive buffer; every complete report in the buffer is decoded
+ * and any trailing partial report is carried over to the next read.  The 16 bit report sequence
+ * number is tracked to detect and count reports lost between two received reports.
+ *
+ * The receive buffer is left in write mode between calls, so it may be filled either from a
+ * stream with {@link #read(InputStream)} or directly from a channel using
+ * {@link #read(ReadableByteChannel)} or {@link #buffer()}.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioReportDecoder {
+
+    /** Constant <code>DEFAULT_CAPACITY=1024</code> (reports) */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Receives each decoded notification report.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * <p>report.</p>
+         *
+         * @param sequence report sequence number (0-65535)
+         * @param flags report flags
+         * @param tick tick in microseconds at which the levels were sampled
+         * @param level levels of GPIO 0-31
+         */
+        void report(int sequence, int flags, long tick, int level);
+    }
+
+    protected final ByteBuffer buffer;
+    protected int sequence = -1;
+    protected volatile long received = 0;
+    protected volatile long dropped = 0;
+
+    /**
+     * <p>Constructor for PiGpioReportDecoder.</p>
+     */
+    public PiGpioReportDecoder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>Constructor for PiGpioReportDecoder.</p>
+     *
+     * @param capacity number of reports the receive buffer can hold
+     */
+    public PiGpioReportDecoder(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * <p>Constructor for PiGpioReportDecoder.</p>
+     *
+     * @param capacity number of reports the receive buffer can hold
+     * @param direct allocate a direct receive buffer; a direct buffer can only be filled from a
+     *               channel using {@link #read(ReadableByteChannel)} or {@link #buffer()}
+     */
+    public PiGpioReportDecoder(int capacity, boolean direct) {
+        if(capacity <= 0)
+            throw new IllegalArgumentException("Invalid report buffer capacity: " + capacity + "; (must be greater than zero)");
+        int size = capacity * PI_NTFY_REPORT_SIZE;
+        this.buffer = (direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Get the receive buffer (in write mode) to fill with report bytes.
+     *
+     * @return a {@link java.nio.ByteBuffer} object.
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Read as many report bytes as are available (blocking until at least one byte arrives)
+     * from the stream into the free space of the receive buffer.
+     *
+     * @param in stream to read report bytes from
+     * @return number of bytes read; -1 if the end of the stream has been reached
+     * @throws IOException if an error occurs accessing {@code in}.
+     */
+    public int read(InputStream in) throws IOException {
+        if(!buffer.hasArray()) throw new IllegalStateException("A direct report buffer can only be read from a channel");
+        int count = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        if(count > 0) buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    /**
+     * Read as many report bytes as the channel provides in a single read into the free space
+     * of the receive buffer.
+     *
+     * @param channel channel to read report bytes from
+     * @return number of bytes read; -1 if the end of the stream has been reached
+     * @throws IOException if an error occurs accessing {@code channel}.
+     */
+    public int read(ReadableByteChannel channel) throws IOException {
+        return channel.read(buffer);
+    }
+
+    /**
+     * Decode every complete report in the receive buffer; a trailing partial report is
+     * kept in the buffer until the rest of its bytes have been received.
+     *
+     * @param listener receives each decoded report
+     * @return number of reports decoded
+     */
+    public int decode(Listener listener) {
+        buffer.flip();
+        int count = 0;
+        while (buffer.remaining() >= PI_NTFY_REPORT_SIZE) {
+            int seq = Short.toUnsignedInt(buffer.getShort());
+            int flags = Short.toUnsignedInt(buffer.getShort());
+            long tick = Integer.toUnsignedLong(buffer.getInt());
+            int level = buffer.getInt();
+
+            // the sequence number increments by one (modulo 2^16) for each report sent
+            if(sequence >= 0) {
+                dropped += (seq - sequence - 1) & 0xFFFF;
+            }
+            sequence = seq;
+            received++;
+            count++;
+            listener.report(seq, flags, tick, level);
+        }
+        buffer.compact();
+        return count;
+    }
+
+    /**
+     * Get the total number of reports decoded.
+     *
+     * @return number of reports received
+     */
+    public long received() {
+        return received;
+    }
+
+    /**
+     * Get the total number of reports detected missing from the sequence of received reports.
+     *
+     * @return number of reports dropped
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Discard any buffered bytes and restart sequence tracking; used when a new notification
+     * handle is opened.  The received and dropped report totals are retained.
+     */
+    public void reset() {
+        buffer.clear();
+        sequence = -1;
+    }
+}
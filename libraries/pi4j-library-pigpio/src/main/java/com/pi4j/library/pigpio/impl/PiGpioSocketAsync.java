@@ -0,0 +1,793 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketAsync.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static com.pi4j.library.pigpio.PiGpioCmd.*;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioAsync;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioPud;
+import com.pi4j.library.pigpio.PiGpioState;
+
+/**
+ * <p>PiGpioSocketAsync class.</p>
+ *
+ * Asynchronous API of a PiGpio socket instance.  Commands are written to a pipelined connection
+ * and the returned futures are completed by the connection's reader thread when the responses
+ * arrive; no thread is parked while a command is outstanding.  Responses are validated and any
+ * received payload is copied into the caller's buffer on the reader thread before the future
+ * is completed.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketAsync implements PiGpioAsync {
+
+    protected final PiGpioSocketBase piGpio;
+
+    /**
+     * <p>Constructor for PiGpioSocketAsync.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.impl.PiGpioSocketBase} object.
+     */
+    public PiGpioSocketAsync(PiGpioSocketBase piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PiGpio sync() {
+        return piGpio;
+    }
+
+    /**
+     * Build a command packet and submit it to the pipelined connection.  Any exception raised while
+     * validating the arguments or building the packet is returned as an exceptionally completed future.
+     * The command is recorded in the metrics once its response arrives.
+     *
+     * @param request builds (and validates) the command packet
+     * @param response converts the response packet into the operation result
+     * @param <T> result type
+     * @return future completed with the operation result
+     */
+    protected <T> CompletableFuture<T> send(Supplier<PiGpioPacket> request, Function<PiGpioPacket, T> response) {
+        PiGpioPacket tx;
+        try {
+            piGpio.validateReady();
+            tx = piGpio.translate(request.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<PiGpioPacket> future;
+        try {
+            future = piGpio.asyncConnection().submit(tx);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return piGpio.measure(tx, start, future).thenApply(response);
+    }
+
+    /**
+     * Send a command that writes to GPIO pins.  Writes deferred by the write-behind layer are sent
+     * first so they reach the PiGpio daemon before this one, and the write-behind layer forgets the
+     * pins both when the command is sent and when its response arrives; the asynchronous connection
+     * is not ordered with synchronous writes, so the written values are never recorded.
+     *
+     * @param invalidate forgets the tracked values of the written pins
+     * @param request builds (and validates) the command packet
+     * @param response converts the response packet into the operation result
+     * @param <T> result type
+     * @return future completed with the operation result
+     */
+    protected <T> CompletableFuture<T> write(Runnable invalidate, Supplier<PiGpioPacket> request, Function<PiGpioPacket, T> response) {
+        return send(() -> {
+            PiGpioPacket tx = request.get();
+            piGpio.writeBehind.flush();
+            invalidate.run();
+            return tx;
+        }, rx -> {
+            try {
+                return response.apply(rx);
+            } finally {
+                invalidate.run();
+            }
+        });
+    }
+
+    /**
+     * Validate a response and fail on a PiGpio error code.
+     *
+     * @param rx response packet
+     * @return nothing
+     */
+    protected Void done(PiGpioPacket rx) {
+        piGpio.validateResult(rx);
+        return null;
+    }
+
+    /**
+     * Validate a response, fail on a PiGpio error code, and return the command result.
+     *
+     * @param rx response packet
+     * @return command result
+     */
+    protected Integer value(PiGpioPacket rx) {
+        piGpio.validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * Validate a response without failing on a PiGpio error code and return the command result.
+     *
+     * @param rx response packet
+     * @return command result; a negative PiGpio error code on failure
+     */
+    protected Integer status(PiGpioPacket rx) {
+        piGpio.validateResult(rx, false);
+        return rx.result();
+    }
+
+    /**
+     * Create a response handler that copies the response payload into the caller's buffer.
+     *
+     * @param buffer a byte array to receive the response payload
+     * @param offset the starting offset position in the provided buffer
+     * @param length the maximum number of bytes to copy
+     * @return response handler returning the command result
+     */
+    protected Function<PiGpioPacket, Integer> into(byte[] buffer, int offset, int length) {
+        return rx -> {
+            int result = status(rx);
+            if(result > 0) {
+                int count = Math.min(Math.min(result, rx.dataLength()), length);
+                if(count > 0) System.arraycopy(rx.data(), 0, buffer, offset, count);
+            }
+            return result;
+        };
+    }
+
+    // *****************************************************************************************************
+    // GENERAL
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioVersion() {
+        return send(() -> new PiGpioPacket(PIGPV), PiGpioPacket::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Long> gpioHardwareRevision() {
+        return send(() -> new PiGpioPacket(HWVER), rx -> {
+            long revision = rx.result();
+            if(revision <= 0) throw new PiGpioException("Hardware revision could not be determined.");
+            return revision;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Long> gpioTick() {
+        // convert (UInt32) 32-bit unsigned value to long
+        return send(() -> new PiGpioPacket(TICK), rx -> Integer.toUnsignedLong(rx.result()));
+    }
+
+    // *****************************************************************************************************
+    // GPIO
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetPullUpDown(int pin, PiGpioPud pud) {
+        return send(() -> {
+            piGpio.validatePin(pin);
+            return new PiGpioPacket(PUD, pin, pud.value());
+        }, rx -> {
+            done(rx);
+            piGpio.session.pull(pin, pud);
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioMode> gpioGetMode(int pin) {
+        return send(() -> {
+            piGpio.validatePin(pin);
+            return new PiGpioPacket(MODEG, pin);
+        }, rx -> PiGpioMode.from(value(rx)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetMode(int pin, PiGpioMode mode) {
+        return write(() -> piGpio.writeBehind.invalidate(pin), () -> {
+            piGpio.validatePin(pin);
+            return new PiGpioPacket(MODES, pin, mode.value());
+        }, rx -> {
+            done(rx);
+            piGpio.session.mode(pin, mode);
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioState> gpioRead(int pin) {
+        return send(() -> {
+            piGpio.validatePin(pin);
+            return new PiGpioPacket(READ, pin);
+        }, rx -> PiGpioState.from(value(rx)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWrite(int pin, PiGpioState state) {
+        return write(() -> piGpio.writeBehind.invalidate(pin), () -> {
+            piGpio.validatePin(pin);
+            return new PiGpioPacket(WRITE, pin, state.value());
+        }, this::done);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioReadBank1() {
+        return send(() -> new PiGpioPacket(BR1), PiGpioPacket::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioReadBank2() {
+        return send(() -> new PiGpioPacket(BR2), PiGpioPacket::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank1Set(int bits) {
+        return write(() -> piGpio.writeBehind.invalidateBank(1, bits), () -> new PiGpioPacket(BS1, bits), this::done);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank1Clear(int bits) {
+        return write(() -> piGpio.writeBehind.invalidateBank(1, bits), () -> new PiGpioPacket(BC1, bits), this::done);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank2Set(int bits) {
+        return write(() -> piGpio.writeBehind.invalidateBank(2, bits), () -> new PiGpioPacket(BS2, bits), this::done);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteBank2Clear(int bits) {
+        return write(() -> piGpio.writeBehind.invalidateBank(2, bits), () -> new PiGpioPacket(BC2, bits), this::done);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioGlitchFilter(int pin, int steady) {
+        return send(() -> {
+            piGpio.validatePin(pin);
+            piGpio.validateGpioGlitchFilter(steady);
+            return new PiGpioPacket(FG, pin, steady);
+        }, this::done);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioNoiseFilter(int pin, int steady, int active) {
+        return send(() -> {
+            piGpio.validatePin(pin);
+            piGpio.validateGpioNoiseFilter(steady, active);
+            return new PiGpioPacket(FN, pin, steady).data(active);
+        }, this::done);
+    }
+
+    // *****************************************************************************************************
+    // PWM
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioPWM(int pin, int dutyCycle) {
+        return write(() -> piGpio.writeBehind.invalidate(pin), () -> {
+            piGpio.validateUserPin(pin);
+            piGpio.validateDutyCycle(dutyCycle);
+            return new PiGpioPacket(PWM, pin, dutyCycle);
+        }, rx -> {
+            done(rx);
+            piGpio.session.dutyCycle(pin, dutyCycle);
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMdutycycle(int pin) {
+        return send(() -> {
+            piGpio.validateUserPin(pin);
+            return new PiGpioPacket(GDC, pin);
+        }, this::value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioSetPWMrange(int pin, int range) {
+        return write(() -> piGpio.writeBehind.invalidate(pin), () -> {
+            piGpio.validateUserPin(pin);
+            return new PiGpioPacket(PRS, pin, range);
+        }, rx -> {
+            int result = value(rx);
+            piGpio.session.range(pin, range);
+            return result;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMrange(int pin) {
+        return send(() -> {
+            piGpio.validateUserPin(pin);
+            return new PiGpioPacket(PRG, pin);
+        }, this::value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMrealRange(int pin) {
+        return send(() -> {
+            piGpio.validateUserPin(pin);
+            return new PiGpioPacket(PRRG, pin);
+        }, this::value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioSetPWMfrequency(int pin, int frequency) {
+        return send(() -> {
+            piGpio.validateUserPin(pin);
+            piGpio.writeBehind.flush(); // deferred dutycycles belong to the current frequency
+            return new PiGpioPacket(PFS, pin, frequency);
+        }, rx -> {
+            int result = value(rx);
+            piGpio.session.frequency(pin, frequency);
+            return result;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetPWMfrequency(int pin) {
+        return send(() -> {
+            piGpio.validateUserPin(pin);
+            return new PiGpioPacket(PFG, pin);
+        }, this::value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioHardwarePWM(int pin, int frequency, int dutyCycle) {
+        return write(() -> piGpio.writeBehind.invalidate(pin), () -> {
+            piGpio.validateUserPin(pin);
+            return new PiGpioPacket(HP, pin, frequency).data(dutyCycle);
+        }, rx -> {
+            done(rx);
+            piGpio.session.hardwarePwm(pin, frequency, dutyCycle);
+            return null;
+        });
+    }
+
+    // *****************************************************************************************************
+    // SERVO
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioServo(int pin, int pulseWidth) {
+        return write(() -> piGpio.writeBehind.invalidate(pin), () -> {
+            piGpio.validateUserPin(pin);
+            piGpio.validatePulseWidth(pulseWidth);
+            return new PiGpioPacket(SERVO, pin, pulseWidth);
+        }, rx -> {
+            done(rx);
+            piGpio.session.servo(pin, pulseWidth);
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioGetServoPulsewidth(int pin) {
+        return send(() -> {
+            piGpio.validateUserPin(pin);
+            return new PiGpioPacket(GPW, pin);
+        }, this::value);
+    }
+
+    // *****************************************************************************************************
+    // I2C
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cOpen(int bus, int device, int flags) {
+        return send(() -> {
+            piGpio.validateI2cBus(bus);
+            piGpio.validateI2cDeviceAddress(device);
+            return new PiGpioPacket(I2CO, bus, device).data(flags);
+        }, rx -> {
+            int handle = status(rx);
+            if(rx.success()) {
+                handle = piGpio.session.i2cOpened(handle, bus, device, flags);
+                piGpio.i2cHandles.add(handle);
+            }
+            return handle;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cClose(int handle) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(I2CC, handle);
+        }, rx -> {
+            int result = status(rx);
+            if(rx.success()) {
+                piGpio.i2cHandles.remove(handle);
+                piGpio.session.i2cClosed(handle);
+            }
+            return result;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteQuick(int handle, boolean bit) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(I2CWQ, handle, bit ? 1 : 0);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByte(int handle, byte value) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(I2CWS, handle, Byte.toUnsignedInt(value));
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByte(int handle) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(I2CRS, handle);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByteData(int handle, int register, byte value) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            return new PiGpioPacket(I2CWB, handle, register).data(Byte.toUnsignedInt(value));
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteWordData(int handle, int register, int value) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            return new PiGpioPacket(I2CWW, handle, register).data(value);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByteData(int handle, int register) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            return new PiGpioPacket(I2CRB, handle, register);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadWordData(int handle, int register) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            return new PiGpioPacket(I2CRW, handle, register);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cProcessCall(int handle, int register, int value) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            return new PiGpioPacket(I2CPC, handle, register).data(value);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteBlockData(int handle, int register, byte[] data, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            piGpio.validateI2cBlockLength(length);
+            return new PiGpioPacket(I2CWK, handle, register).data(data, offset, length);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadBlockData(int handle, int register, byte[] buffer, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            return new PiGpioPacket(I2CRK, handle, register);
+        }, into(buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cBlockProcessCall(int handle, int register,
+                                                          byte[] write, int writeOffset, int writeLength,
+                                                          byte[] read, int readOffset) {
+        return send(() -> {
+            Objects.checkFromIndexSize(writeOffset, writeLength, write.length);
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            piGpio.validateI2cBlockLength(writeLength);
+            return new PiGpioPacket(I2CPK, handle, register).data(write, writeOffset, writeLength);
+        }, into(read, readOffset, Math.max(0, read.length - readOffset)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadI2CBlockData(int handle, int register, byte[] buffer, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            return new PiGpioPacket(I2CRI, handle, register).data(length);
+        }, into(buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteI2CBlockData(int handle, int register, byte[] data, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            piGpio.validateHandle(handle);
+            piGpio.validateI2cRegister(register);
+            piGpio.validateI2cBlockLength(length);
+            return new PiGpioPacket(I2CWI, handle, register).data(data, offset, length);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadDevice(int handle, byte[] buffer, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(I2CRD, handle, length);
+        }, into(buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteDevice(int handle, byte[] data, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(I2CWD, handle).data(data, offset, length);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cZip(int handle, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(commandOffset, commandLength, commands.length);
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(I2CZ, handle).data(commands, commandOffset, commandLength);
+        }, into(buffer, offset, length));
+    }
+
+    // *****************************************************************************************************
+    // SPI
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiOpen(int channel, int baud, int flags) {
+        return send(() -> new PiGpioPacket(SPIO, channel, baud).data(flags), rx -> {
+            int handle = status(rx);
+            if(rx.success()) {
+                handle = piGpio.session.spiOpened(handle, channel, baud, flags);
+                piGpio.spiHandles.add(handle);
+            }
+            return handle;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiClose(int handle) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SPIC, handle);
+        }, rx -> {
+            int result = status(rx);
+            if(rx.success()) {
+                piGpio.spiHandles.remove(handle);
+                piGpio.session.spiClosed(handle);
+            }
+            return result;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiWrite(int handle, byte[] data, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SPIW, handle).data(data, offset, length);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiRead(int handle, byte[] buffer, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SPIR, handle, length);
+        }, into(buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        return send(() -> {
+            Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+            Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SPIX, handle).data(write, writeOffset, numberOfBytes);
+        }, into(read, readOffset, numberOfBytes));
+    }
+
+    // *****************************************************************************************************
+    // SERIAL
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serOpen(CharSequence device, int baud, int flags) {
+        return send(() -> new PiGpioPacket(SERO, baud, flags).data(device), rx -> {
+            int handle = status(rx);
+            if(rx.success()) {
+                handle = piGpio.session.serialOpened(handle, device, baud, flags);
+                piGpio.serialHandles.add(handle);
+            }
+            return handle;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serClose(int handle) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SERC, handle);
+        }, rx -> {
+            int result = status(rx);
+            if(rx.success()) {
+                piGpio.serialHandles.remove(handle);
+                piGpio.session.serialClosed(handle);
+            }
+            return result;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serWriteByte(int handle, byte value) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SERWB, handle, Byte.toUnsignedInt(value));
+        }, rx -> {
+            status(rx);
+            return 0;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serReadByte(int handle) {
+        return send(() -> {
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SERRB, handle);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serWrite(int handle, byte[] data, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SERW, handle).data(data, offset, length);
+        }, this::status);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serRead(int handle, byte[] buffer, int offset, int length) {
+        return send(() -> {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            piGpio.validateHandle(handle);
+            return new PiGpioPacket(SERR, handle, length);
+        }, into(buffer, offset, length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serDataAvailable(int handle) {
+        return send(() -> new PiGpioPacket(SERDA, handle), this::status);
+    }
+}
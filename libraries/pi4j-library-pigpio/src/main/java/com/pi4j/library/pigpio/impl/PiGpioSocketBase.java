@@ -28,16 +28,25 @@ package com.pi4j.library.pigpio.impl;
  */
 
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_POOL_SIZE;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_REPLY_TIMEOUT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_EITHER_EDGE;
 
 import java.io.IOException;
-import java.net.Socket;
-import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioAsync;
 import com.pi4j.library.pigpio.PiGpioCmd;
 import com.pi4j.library.pigpio.PiGpioException;
 import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocketCheckout;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,9 +65,17 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     protected String host = DEFAULT_HOST;
     protected int port = DEFAULT_PORT;
     protected boolean connected = false;
-    protected Socket socket = null;
-
-    // TODO :: IMPLEMENT CONNECTION MONITOR TO PROACTIVELY DETECT SOCKET DISCONNECTS AND AUTO-RETRY TO CONNECT IN BACKGROUND THREAD
+    protected PiGpioSocketWaitStrategy waitStrategy = PiGpioSocketWaitStrategy.BLOCKING;
+    protected volatile int replyTimeout = DEFAULT_REPLY_TIMEOUT;
+    protected boolean pipelined = false;
+    protected int poolSize = DEFAULT_POOL_SIZE;
+    protected PiGpioSocketCheckout checkout = PiGpioSocketCheckout.PER_THREAD;
+    protected volatile PiGpioSocketPool pool = null;
+    protected volatile PiGpioSocketPipeline asyncPipeline = null;
+    protected final PiGpioSocketAsync async = new PiGpioSocketAsync(this);
+    protected final PiGpioSocketSession session = new PiGpioSocketSession();
+    protected final PiGpioSocketWriteBehind writeBehind = new PiGpioSocketWriteBehind(this);
+    protected final PiGpioSocketSupervisor supervisor = new PiGpioSocketSupervisor(this, PiGpioSocketSupervisor.DEFAULT_INTERVAL);
 
     /**
      * ALTERNATE CONSTRUCTOR
@@ -69,13 +86,155 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
      */
     protected PiGpioSocketBase(String host, int port) {
+        this(host, port, PiGpioSocketWaitStrategy.BLOCKING);
+    }
+
+    /**
+     * ALTERNATE CONSTRUCTOR
+     *
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     */
+    protected PiGpioSocketBase(String host, int port, PiGpioSocketWaitStrategy waitStrategy) {
+        this(host, port, waitStrategy, false);
+    }
+
+    /**
+     * ALTERNATE CONSTRUCTOR
+     *
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     */
+    protected PiGpioSocketBase(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined) {
+        this(host, port, waitStrategy, pipelined, DEFAULT_POOL_SIZE, PiGpioSocketCheckout.PER_THREAD);
+    }
+
+    /**
+     * ALTERNATE CONSTRUCTOR
+     *
+     * Connects to a user specified socket hostname/ip address and port using a pool of
+     * command connections.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @param checkout policy used to select a pooled command connection for each command.
+     */
+    protected PiGpioSocketBase(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined,
+                               int poolSize, PiGpioSocketCheckout checkout) {
+        if(poolSize <= 0)
+            throw new IllegalArgumentException("Invalid connection pool size: " + poolSize + "; (must be greater than zero)");
         this.host = host;
         this.port = port;
+        this.waitStrategy = waitStrategy;
+        this.pipelined = pipelined;
+        this.poolSize = poolSize;
+        this.checkout = checkout;
         this.connected = false;
         this.initialized = false;
         this.monitor = new PiGpioSocketMonitor(this);
     }
 
+    /**
+     * Get the strategy used to wait for command responses from the PiGpio daemon.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioSocketWaitStrategy} object.
+     */
+    public PiGpioSocketWaitStrategy waitStrategy() {
+        return this.waitStrategy;
+    }
+
+    /**
+     * Set the strategy used to wait for command responses from the PiGpio daemon.
+     *
+     * @param waitStrategy a {@link com.pi4j.library.pigpio.PiGpioSocketWaitStrategy} object.
+     * @return this PiGpio socket instance
+     */
+    public PiGpioSocketBase waitStrategy(PiGpioSocketWaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+        return this;
+    }
+
+    /**
+     * Get the pipelined state of the command connection.  When pipelined, commands are sent to
+     * the PiGpio daemon without waiting for the responses of earlier commands and concurrent
+     * callers may share the command connection.
+     *
+     * @return true if the command connection is pipelined
+     */
+    public boolean isPipelined() {
+        return this.pipelined;
+    }
+
+    /**
+     * Get the number of command connections to the PiGpio daemon.
+     *
+     * @return connection pool size
+     */
+    public int poolSize() {
+        return this.poolSize;
+    }
+
+    /**
+     * Get the policy used to select a pooled command connection for each command.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioSocketCheckout} object.
+     */
+    public PiGpioSocketCheckout checkout() {
+        return this.checkout;
+    }
+
+    /**
+     * Get the supervisor that detects lost connections to the PiGpio daemon and
+     * re-establishes them in the background.
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketSupervisor} object.
+     */
+    public PiGpioSocketSupervisor supervisor() {
+        return this.supervisor;
+    }
+
+    /**
+     * Get the optional write-behind layer that elides redundant GPIO level, PWM and servo writes
+     * and collapses successive writes within its flush window.  (Disabled by default)
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketWriteBehind} object.
+     */
+    public PiGpioSocketWriteBehind writeBehind() {
+        return this.writeBehind;
+    }
+
+    /**
+     * Get the maximum time (in milliseconds) to wait for a command response from the PiGpio daemon.
+     *
+     * @return reply timeout in milliseconds
+     */
+    public int replyTimeout() {
+        return this.replyTimeout;
+    }
+
+    /**
+     * Set the maximum time (in milliseconds) to wait for a command response from the PiGpio daemon.
+     *
+     * @param millis reply timeout in milliseconds (must be greater than zero)
+     * @return this PiGpio socket instance
+     */
+    public PiGpioSocketBase replyTimeout(int millis) {
+        if(millis <= 0)
+            throw new IllegalArgumentException("Invalid reply timeout: " + millis + "; (must be greater than zero)");
+        this.replyTimeout = millis;
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -107,6 +266,9 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
 //            // set initialized flag
             this.initialized = true;
             result  = gpioVersion();
+
+            // proactively detect lost connections and reconnect in the background
+            supervisor.start();
             logger.debug("[INITIALIZE] -- INITIALIZED SUCCESSFULLY");
         }
         else{
@@ -128,23 +290,33 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     @Override
     public void gpioTerminate() {
         logger.trace("[SHUTDOWN] -> STARTED");
+        supervisor.stop();
         if(this.initialized) {
+            // send any deferred writes
+            writeBehind.close();
+
             // close all open SPI, SERIAL, I2C handles
             closeAllOpenHandles();
 
             // shutdown GPIO notifications monitor
-            if(monitor != null && monitor.isConnected())
+            if(monitor != null)
                 monitor.shutdown();
         }
 
-        // shutdown connected socket
-        if(socket != null && socket.isConnected())
-            try {
-                socket.close();
+        // shutdown all pooled command connections
+        synchronized (this) {
+            if(pool != null) {
+                pool.close();
+                pool = null;
             }
-            catch (IOException e) {
-                throw new PiGpioException(e);
+            if(asyncPipeline != null) {
+                asyncPipeline.close();
+                asyncPipeline = null;
             }
+            this.connected = false;
+        }
+        session.clear();
+        writeBehind.invalidate();
 
         // clear initialized flag
         this.initialized = false;
@@ -190,55 +362,265 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      */
     protected PiGpioPacket sendPacket(PiGpioPacket tx) {
         validateReady();
-        return sendPacket(tx, this.socket);
+        tx = translate(tx);
+        long start = System.nanoTime();
+        try {
+            PiGpioPacket rx = connection().transact(tx, waitStrategy, replyTimeout);
+            metrics.command(tx.cmd(), start, rx.result(),
+                    PiGpioPacket.HEADER_SIZE + tx.dataLength(), PiGpioPacket.HEADER_SIZE + rx.dataLength());
+            return rx;
+        } catch (PiGpioException e) {
+            metrics.failure(tx.cmd(), start);
+            throw e;
+        }
     }
+
     /**
-     * <p>sendPacket.</p>
+     * Translate the handle of an I2C, SPI or serial command to the handle assigned by the PiGpio daemon;
+     * see {@link com.pi4j.library.pigpio.impl.PiGpioSocketSession#handle(PiGpioCmd, int)}.
      *
      * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
-     * @param sck a {@link java.net.Socket} object.
-     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return the packet, or a copy of it carrying the translated handle
      */
-    protected PiGpioPacket sendPacket(PiGpioPacket tx, Socket sck) {
-        try {
-            try {
-                // get socket streams
-                var in = sck.getInputStream();
-                var out = sck.getOutputStream();
-
-                // transmit packet
-                logger.trace("[TX] -> " + tx.toString());
-                out.write(PiGpioPacket.encode(tx));
-                out.flush();
-
-                // wait until data has been received (timeout after 500 ms and throw exception)
-                int millis = 0;
+    protected PiGpioPacket translate(PiGpioPacket tx) {
+        int p1 = session.handle(tx.cmd(), tx.p1());
+        if(p1 == tx.p1()) return tx;
+        return new PiGpioPacket(tx.cmd(), p1, tx.p2()).data(tx.data(), 0, tx.dataLength());
+    }
+
+    /**
+     * Get a command connection from the connection pool using the configured checkout policy.
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketTransport} object.
+     */
+    protected PiGpioSocketTransport connection() {
+        PiGpioSocketPool connections = this.pool;
+        if(connections == null)
+            throw new PiGpioException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port + "]");
+        // fail fast instead of stalling the caller while the supervisor is reconnecting
+        if(!supervisor.isAvailable())
+            throw new PiGpioException("PIGPIO CONNECTION TO REMOTE HOST [" + this.host + ":" + this.port + "] LOST; RECONNECTING");
+        return connections.acquire();
+    }
+
+    /**
+     * Get the connection used by the asynchronous API.  Pipelined instances use the pooled
+     * command connections; otherwise a dedicated pipelined connection is opened on demand
+     * (and reopened if it was lost) so that asynchronous commands never block the caller.
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketTransport} object.
+     */
+    protected PiGpioSocketTransport asyncConnection() {
+        if(pipelined) return connection();
+        PiGpioSocketPipeline connection = this.asyncPipeline;
+        if(connection != null && connection.isConnected()) return connection;
+        synchronized (this) {
+            if(asyncPipeline == null || !asyncPipeline.isConnected()) {
                 try {
-                    while (in.available() < 16) {
-                        if (millis > 500) {   // timeout exception
-                            throw new PiGpioException("Command timed out; no response from host in 500 milliseconds");
-                        }
-                        millis += 5;
-                        Thread.sleep(5); // ... take a breath ..
-                    }
-                } catch (Exception e) {
-                    // wrap exception
-                    throw new PiGpioException(e.getMessage(), e);
+                    asyncPipeline = new PiGpioSocketPipeline(host, port);
+                } catch (IOException e) {
+                    throw new PiGpioException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port + "]", e);
                 }
+            }
+            return asyncPipeline;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Asynchronous commands are written to a pipelined connection and their futures are
+     * completed by the connection's reader thread.
+     */
+    @Override
+    public PiGpioAsync async() {
+        return this.async;
+    }
+
+    /**
+     * Send a command packet to the PiGpio daemon without waiting for the response.
+     *
+     * If the command connections are not pipelined, the command is executed synchronously
+     * and an already completed future is returned.
+     *
+     * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return future completed with the response packet
+     */
+    public CompletableFuture<PiGpioPacket> sendPacketAsync(PiGpioPacket tx) {
+        try {
+            validateReady();
+            tx = translate(tx);
+        } catch (PiGpioException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<PiGpioPacket> future;
+        try {
+            future = connection().submit(tx);
+        } catch (PiGpioException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return measure(tx, start, future);
+    }
 
-                // read receive packet
-                PiGpioPacket rx = PiGpioPacket.decode(in);
-                logger.trace("[RX] <- " + rx.toString());
-                return rx;
-            } catch (SocketException se) {
-                // socket is no longer connected
-                this.connected = false;
-                socket.close();
-                socket = null;
-                throw new PiGpioException(se);
+    /**
+     * Send a burst of command packets to the PiGpio daemon without waiting for the responses.
+     * All commands of the burst are sent over the same pooled connection so that they are processed
+     * in order.  On a pipelined connection all commands are written back-to-back in a single socket write.
+     *
+     * If the command connection is not pipelined, the commands are executed synchronously
+     * and already completed futures are returned.
+     *
+     * @param packets a collection of {@link com.pi4j.library.pigpio.PiGpioPacket} objects.
+     * @return futures completed with the response packets; in the same order as the commands
+     */
+    public List<CompletableFuture<PiGpioPacket>> sendPacketsAsync(Collection<PiGpioPacket> packets) {
+        List<PiGpioPacket> translated = new ArrayList<>(packets.size());
+        List<CompletableFuture<PiGpioPacket>> futures;
+        try {
+            validateReady();
+            packets.forEach(tx -> translated.add(translate(tx)));
+        } catch (PiGpioException e) {
+            futures = new ArrayList<>(packets.size());
+            for (int i = 0; i < packets.size(); i++) futures.add(CompletableFuture.failedFuture(e));
+            return futures;
+        }
+        long start = System.nanoTime();
+        try {
+            futures = connection().submit(translated);
+        } catch (PiGpioException e) {
+            futures = new ArrayList<>(translated.size());
+            for (int i = 0; i < translated.size(); i++) futures.add(CompletableFuture.failedFuture(e));
+        }
+        List<CompletableFuture<PiGpioPacket>> measured = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            measured.add(measure(translated.get(i), start, futures.get(i)));
+        }
+        return measured;
+    }
+
+    /**
+     * Record the metrics of an asynchronous command once its response arrives or it fails.
+     *
+     * @param tx command packet sent to the PiGpio daemon
+     * @param start {@link System#nanoTime()} at which the command was sent
+     * @param future pending command response
+     * @return future completed with the response packet after the metrics are recorded
+     */
+    protected CompletableFuture<PiGpioPacket> measure(PiGpioPacket tx, long start, CompletableFuture<PiGpioPacket> future) {
+        return future.whenComplete((rx, e) -> {
+            if(e == null) {
+                metrics.command(tx.cmd(), start, rx.result(),
+                        PiGpioPacket.HEADER_SIZE + tx.dataLength(), PiGpioPacket.HEADER_SIZE + rx.dataLength());
+            } else {
+                metrics.failure(tx.cmd(), start);
             }
-        } catch (IOException e) {
-            throw new PiGpioException(e);
+        });
+    }
+
+    /**
+     * Send a command without payload to the PiGpio daemon and return the command result.
+     * Unlike {@link #sendCommand(PiGpioCmd, int, int)}, no packet objects are created.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return command result (response parameter P3)
+     */
+    protected int transact(PiGpioCmd cmd, int p1, int p2) {
+        return transact(cmd, p1, p2, null, 0, 0, null, 0, 0);
+    }
+
+    /**
+     * Send a command to the PiGpio daemon and return the command result.  The command payload
+     * is taken from {@code txData} and the response payload is copied to {@code rxData}.
+     * Unlike {@link #sendPacket(PiGpioPacket)}, no packet objects or intermediate arrays are created.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @param txData command payload (may be null when {@code txLength} is zero)
+     * @param txOffset offset of the command payload in {@code txData}
+     * @param txLength number of command payload bytes
+     * @param rxData array receiving the response payload (may be null when {@code rxLength} is zero)
+     * @param rxOffset offset in {@code rxData} of the first response payload byte
+     * @param rxLength maximum number of response payload bytes to copy
+     * @return command result (response parameter P3)
+     */
+    protected int transact(PiGpioCmd cmd, int p1, int p2, byte[] txData, int txOffset, int txLength,
+                           byte[] rxData, int rxOffset, int rxLength) {
+        validateReady();
+        p1 = session.handle(cmd, p1);
+        long start = System.nanoTime();
+        try {
+            int result = connection().transact(cmd, p1, p2, txData, txOffset, txLength,
+                    rxData, rxOffset, rxLength, waitStrategy, replyTimeout);
+            metrics.command(cmd, start, result, PiGpioPacket.HEADER_SIZE + txLength,
+                    PiGpioPacket.HEADER_SIZE + ((cmd.extendedReply() && result > 0) ? result : 0));
+            return result;
+        } catch (PiGpioException e) {
+            metrics.failure(cmd, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Send a command to the PiGpio daemon and return the command result.  The remaining bytes of
+     * {@code txData} are sent as command payload and the response payload is put into {@code rxData}.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @param txData command payload (may be null)
+     * @param rxData buffer receiving the response payload (may be null)
+     * @return command result (response parameter P3)
+     */
+    protected int transact(PiGpioCmd cmd, int p1, int p2, ByteBuffer txData, ByteBuffer rxData) {
+        validateReady();
+        p1 = session.handle(cmd, p1);
+        int txLength = (txData != null) ? txData.remaining() : 0;
+        long start = System.nanoTime();
+        try {
+            int result = connection().transact(cmd, p1, p2, txData, rxData, waitStrategy, replyTimeout);
+            metrics.command(cmd, start, result, PiGpioPacket.HEADER_SIZE + txLength,
+                    PiGpioPacket.HEADER_SIZE + ((cmd.extendedReply() && result > 0) ? result : 0));
+            return result;
+        } catch (PiGpioException e) {
+            metrics.failure(cmd, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Stream a buffer of any size to the PiGpio daemon as a sequence of commands carrying at most
+     * {@code chunkSize} bytes each; see {@link PiGpioSocketTransport#stream}.  The whole stream is
+     * recorded as a single command in the metrics.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param txData command payload (may be null)
+     * @param txOffset offset of the first payload byte in {@code txData}
+     * @param rxData array receiving the response payloads (may be null)
+     * @param rxOffset offset in {@code rxData} of the first response payload byte
+     * @param length total number of bytes to stream
+     * @param chunkSize maximum number of bytes per command
+     * @return {@code length} if all commands succeeded; otherwise the result of the first failed command
+     */
+    protected int stream(PiGpioCmd cmd, int p1, byte[] txData, int txOffset, byte[] rxData, int rxOffset,
+                         int length, int chunkSize) {
+        validateReady();
+        p1 = session.handle(cmd, p1);
+        int headers = PiGpioPacket.HEADER_SIZE * ((length + chunkSize - 1) / chunkSize);
+        long start = System.nanoTime();
+        try {
+            int result = connection().stream(cmd, p1, txData, txOffset, rxData, rxOffset,
+                    length, chunkSize, waitStrategy, replyTimeout);
+            metrics.command(cmd, start, result, headers + ((txData != null) ? length : 0),
+                    headers + ((cmd.extendedReply() && result > 0) ? length : 0));
+            return result;
+        } catch (PiGpioException e) {
+            metrics.failure(cmd, start);
+            throw e;
         }
     }
 
@@ -250,6 +632,43 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO] <- Pin [PIN {}] Notifications [{}]", pin, (enabled ? "ENABLED" : "DISABLED"));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The PiGpio daemon does not expose GPIO interrupts over its socket interface; the
+     * interrupt is emulated by filtering the pin's notification reports to the selected
+     * edge and arming the pin's watchdog with the timeout.
+     */
+    public void gpioInterrupts(int pin, int edge, int timeout, boolean enabled){
+        logger.trace("[GPIO] -> {} Pin [{}] Interrupts", (enabled ? "ENABLE" : "DISABLE"), pin);
+        validateReady();
+        validateUserPin(pin);
+        validateEdge(edge);
+        validateWatchdogTimeout(timeout);
+        gpioSetWatchdog(pin, enabled ? timeout : 0);
+        this.monitor.edges(pin, enabled ? edge : PI_EITHER_EDGE);
+        logger.trace("[GPIO] <- Pin [PIN {}] Interrupts [{}]", pin, (enabled ? "ENABLED" : "DISABLED"));
+    }
+
+    /** {@inheritDoc} */
+    public void eventNotifications(int event, boolean enabled){
+        logger.trace("[EVENT] -> {} Event [{}] Notifications", (enabled ? "ENABLE" : "DISABLE"), event);
+        validateReady();
+        validateEvent(event);
+        this.monitor.enableEvent(event, enabled);
+        logger.trace("[EVENT] <- Event [{}] Notifications [{}]", event, (enabled ? "ENABLED" : "DISABLED"));
+    }
+
+    /**
+     * Get the number of GPIO notification reports detected missing from the notification
+     * stream of the PiGpio daemon; pin state transitions in dropped reports are not dispatched.
+     *
+     * @return number of dropped notification reports
+     */
+    public long droppedNotifications() {
+        return this.monitor.droppedReports();
+    }
+
     /**
      * <p>disableNotifications.</p>
      */
@@ -273,17 +692,19 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * <p>validateConnection.</p>
      */
     protected void validateConnection() {
-        // if not connected, attempt to reconnect
-        if(socket == null || !this.connected){
-            // attempt to connect to PiGpio Daemon on remote Raspberry Pi
-            try {
-                this.socket = new Socket(host, port);
-            } catch (IOException e) {
-                throw new PiGpioException(e);
+        // create the command connection pool; pooled connections are (re)connected on demand
+        if(pool == null) {
+            synchronized (this) {
+                if(pool == null) {
+                    PiGpioSocketPool connections = new PiGpioSocketPool(poolSize, checkout, () -> pipelined
+                            ? new PiGpioSocketPipeline(host, port)
+                            : new PiGpioSocketConnection(host, port, replyTimeout));
+                    // eagerly connect to the PiGpio daemon to report an unreachable host early
+                    connections.acquire(0);
+                    this.pool = connections;
+                    this.connected = connections.isConnected();
+                }
             }
-
-            // update connection status flag
-            this.connected = this.socket.isConnected();
         }
 //            throw new IOException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port +
 //                    "]; make sure the PiGpio Daemon is running on the remote Raspberry Pi and the host is accessible.");
@@ -0,0 +1,543 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketConnection.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioPacketHeader;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * <p>PiGpioSocketConnection class.</p>
+ *
+ * Synchronous command transport for a single PiGpio daemon connection based on a non-blocking
+ * {@link java.nio.channels.SocketChannel}.  Each command is sent and its response is read before
+ * the next command may use the connection; concurrent callers are serialized on the connection.
+ *
+ * Commands are encoded straight into a per-connection direct {@link java.nio.ByteBuffer} and
+ * response headers are decoded in place.  Response payload bytes are read directly into the
+ * caller's array or buffer, so the {@code transact} methods that take raw command parameters do
+ * not allocate any objects once the connection buffers are sized for the largest payload in use.
+ *
+ * Streaming transfers are double buffered: the next chunk is encoded into the second transmit
+ * buffer and sent while the response of the previous chunk is still outstanding, so the
+ * daemon always has the next command queued when it finishes a chunk.
+ *
+ * If a command times out, the connection is closed: a late response would otherwise be mistaken
+ * for the response of the next command.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketConnection implements PiGpioSocketTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketConnection.class);
+
+    /** Constant <code>BUFFER_SIZE=4096</code> (initial size of the direct transmit and receive buffers) */
+    public static final int BUFFER_SIZE = 4096;
+
+    protected final SocketChannel channel;
+    protected final Selector selector;
+    protected final Consumer<SelectionKey> ignoreKey = key -> {};
+    protected final SelectionKey key;
+    protected final ByteBuffer header = ByteBuffer.allocateDirect(PiGpioPacket.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    protected final PiGpioPacketHeader request = new PiGpioPacketHeader();
+    protected final PiGpioPacketHeader response = new PiGpioPacketHeader();
+    protected final ByteBuffer[] gather = new ByteBuffer[2];
+    protected ByteBuffer txBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    protected ByteBuffer rxBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    protected final ByteBuffer[] streamBuffers = new ByteBuffer[2];
+    protected final AtomicInteger inFlight = new AtomicInteger(0);
+    protected final int timeout;
+    protected volatile boolean closed = false;
+
+    /**
+     * Open a new command connection to the PiGpio daemon.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param timeout response timeout in milliseconds used for commands submitted without a timeout
+     * @throws IOException if the socket connection could not be established.
+     */
+    public PiGpioSocketConnection(String host, int port, int timeout) throws IOException {
+        this.timeout = timeout;
+        this.channel = SocketChannel.open(new InetSocketAddress(host, port));
+        try {
+            this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            this.channel.configureBlocking(false);
+            this.selector = Selector.open();
+            this.key = channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConnected() {
+        return !closed && channel.isConnected();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PiGpioPacket transact(PiGpioPacket tx, PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        inFlight.incrementAndGet();
+        try {
+            synchronized (this) {
+                logger.trace("[TX] -> {}", tx);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+                int result = exchange(tx.cmd(), tx.p1(), tx.p2(), tx.data(), 0, tx.dataLength(), waitStrategy, deadline, timeout);
+                int length = response.payloadLength();
+                byte[] raw = new byte[PiGpioPacket.HEADER_SIZE + length];
+                header.rewind();
+                header.get(raw, 0, PiGpioPacket.HEADER_SIZE);
+                if(length > 0) readPayload(raw, PiGpioPacket.HEADER_SIZE, length, length, waitStrategy, deadline, timeout);
+                PiGpioPacket rx = PiGpioPacket.decode(raw);
+                logger.trace("[RX] <- {}", rx);
+                return rx;
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int transact(PiGpioCmd cmd, int p1, int p2, byte[] txData, int txOffset, int txLength,
+                        byte[] rxData, int rxOffset, int rxLength,
+                        PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        inFlight.incrementAndGet();
+        try {
+            synchronized (this) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+                if(logger.isTraceEnabled()) logger.trace("[TX] -> CMD={}({}); P1={}; P2={}", cmd.name(), cmd.value(), p1, p2);
+                int result = exchange(cmd, p1, p2, txData, txOffset, txLength, waitStrategy, deadline, timeout);
+                int length = response.payloadLength();
+                if(length > 0) readPayload(rxData, rxOffset, rxLength, length, waitStrategy, deadline, timeout);
+                if(logger.isTraceEnabled()) logger.trace("[RX] <- CMD={}({}); P1={}; P2={}; RESULT={}", cmd.name(), cmd.value(), p1, p2, result);
+                return result;
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int transact(PiGpioCmd cmd, int p1, int p2, ByteBuffer txData, ByteBuffer rxData,
+                        PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        inFlight.incrementAndGet();
+        try {
+            synchronized (this) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+                if(logger.isTraceEnabled()) logger.trace("[TX] -> CMD={}({}); P1={}; P2={}", cmd.name(), cmd.value(), p1, p2);
+                int result = exchange(cmd, p1, p2, txData, waitStrategy, deadline, timeout);
+                int length = response.payloadLength();
+                if(length > 0) readPayload(rxData, length, waitStrategy, deadline, timeout);
+                if(logger.isTraceEnabled()) logger.trace("[RX] <- CMD={}({}); P1={}; P2={}; RESULT={}", cmd.name(), cmd.value(), p1, p2, result);
+                return result;
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * At most two chunks are in flight: while the response of one chunk is outstanding, the next
+     * chunk is encoded and sent from the second transmit buffer.  Response bytes are consumed
+     * whenever the socket cannot take more command bytes, so large chunks cannot stall on full
+     * socket buffers in both directions.
+     */
+    @Override
+    public int stream(PiGpioCmd cmd, int p1, byte[] txData, int txOffset, byte[] rxData, int rxOffset,
+                      int length, int chunkSize, PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        inFlight.incrementAndGet();
+        try {
+            synchronized (this) {
+                if(logger.isTraceEnabled()) logger.trace("[TX] -> CMD={}({}); P1={}; STREAM={} bytes; CHUNK={} bytes", cmd.name(), cmd.value(), p1, length, chunkSize);
+                int result = stream(cmd, p1, txData, txOffset, rxData, rxOffset, length, chunkSize, waitStrategy, timeout,
+                        streamBuffers((txData == null) ? 0 : chunkSize));
+                if(logger.isTraceEnabled()) logger.trace("[RX] <- CMD={}({}); P1={}; STREAM={} bytes; RESULT={}", cmd.name(), cmd.value(), p1, length, result);
+                return result;
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The command is executed synchronously; the returned future is already completed.
+     */
+    @Override
+    public CompletableFuture<PiGpioPacket> submit(PiGpioPacket tx) {
+        try {
+            return CompletableFuture.completedFuture(transact(tx, PiGpioSocketWaitStrategy.BLOCKING, timeout));
+        } catch (PiGpioException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The commands are executed synchronously; the returned futures are already completed.
+     */
+    @Override
+    public List<CompletableFuture<PiGpioPacket>> submit(Collection<PiGpioPacket> packets) {
+        List<CompletableFuture<PiGpioPacket>> futures = new ArrayList<>(packets.size());
+        packets.forEach(tx -> futures.add(submit(tx)));
+        return futures;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.debug(e.getMessage());
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.debug(e.getMessage());
+        }
+    }
+
+    // *****************************************************************************************************
+    // COMMAND/RESPONSE EXCHANGE
+    // *****************************************************************************************************
+
+    private int exchange(PiGpioCmd cmd, int p1, int p2, byte[] data, int offset, int length,
+                         PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) {
+        try {
+            ensureOpen();
+            ByteBuffer tx = txBuffer(PiGpioPacket.HEADER_SIZE + length);
+            tx.clear();
+            request.set(cmd, p1, p2, length).encode(tx);
+            if(length > 0) tx.put(data, offset, length);
+            tx.flip();
+            write(tx, waitStrategy, deadline, timeout);
+            return readHeader(cmd, waitStrategy, deadline, timeout);
+        } catch (IOException e) {
+            throw failure(e, timeout);
+        }
+    }
+
+    private int exchange(PiGpioCmd cmd, int p1, int p2, ByteBuffer data,
+                         PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) {
+        try {
+            ensureOpen();
+            int length = (data == null) ? 0 : data.remaining();
+            if(data != null && data.isDirect()) {
+                // gather-write the header and the caller's direct buffer; no copy
+                header.clear();
+                request.set(cmd, p1, p2, length).encode(header);
+                header.flip();
+                gather[0] = header;
+                gather[1] = data;
+                try {
+                    write(gather, waitStrategy, deadline, timeout);
+                } finally {
+                    gather[1] = null;
+                }
+            } else {
+                ByteBuffer tx = txBuffer(PiGpioPacket.HEADER_SIZE + length);
+                tx.clear();
+                request.set(cmd, p1, p2, length).encode(tx);
+                if(length > 0) tx.put(data);
+                tx.flip();
+                write(tx, waitStrategy, deadline, timeout);
+            }
+            return readHeader(cmd, waitStrategy, deadline, timeout);
+        } catch (IOException e) {
+            throw failure(e, timeout);
+        }
+    }
+
+    private int stream(PiGpioCmd cmd, int p1, byte[] txData, int txOffset, byte[] rxData, int rxOffset,
+                       int length, int chunkSize, PiGpioSocketWaitStrategy waitStrategy, int timeout, ByteBuffer[] buffers) {
+        try {
+            ensureOpen();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            ByteBuffer sending = null;  // chunk currently written to the socket
+            int slot = 0;               // transmit buffer of the next chunk
+            int next = 0;               // offset of the next chunk to send
+            int oldest = 0;             // offset of the oldest chunk awaiting its response
+            int pending = 0;            // number of chunks sent and awaiting their response
+            int payload = -1;           // response payload bytes left to read; -1 while reading the header
+            int consumed = 0;           // response payload bytes of the oldest chunk read so far
+            int error = 0;
+            header.clear();
+
+            while ((next < length && error == 0) || pending > 0 || sending != null) {
+                // encode the next chunk while the previous chunk is still in flight
+                if(sending == null && next < length && pending < 2 && error == 0) {
+                    int count = Math.min(chunkSize, length - next);
+                    sending = buffers[slot];
+                    slot ^= 1;
+                    sending.clear();
+                    if(txData == null) {
+                        request.set(cmd, p1, count, 0).encode(sending);
+                    } else {
+                        request.set(cmd, p1, 0, count).encode(sending);
+                        sending.put(txData, txOffset + next, count);
+                    }
+                    sending.flip();
+                    next += count;
+                    pending++;
+                }
+
+                boolean progress = false;
+                if(sending != null) {
+                    progress = channel.write(sending) > 0;
+                    if(!sending.hasRemaining()) sending = null;
+                }
+
+                // consume whatever is available of the oldest response
+                if(pending > 0) {
+                    if(payload < 0) {
+                        int count = channel.read(header);
+                        if(count < 0) throw new EOFException("End of stream reached while reading response from host");
+                        progress |= count > 0;
+                        if(!header.hasRemaining()) {
+                            header.flip();
+                            response.decode(header);
+                            if(response.cmd() != cmd) {
+                                throw new IOException("Unexpected response from host; expected CMD=" + cmd.value() + " but received " + response);
+                            }
+                            if(response.result() < 0 && error == 0) error = response.result();
+                            payload = response.payloadLength();
+                            consumed = 0;
+                        }
+                    }
+                    if(payload > 0) {
+                        rxBuffer.clear();
+                        rxBuffer.limit(Math.min(payload, rxBuffer.capacity()));
+                        int count = channel.read(rxBuffer);
+                        if(count < 0) throw new EOFException("End of stream reached while reading response from host");
+                        if(count > 0) {
+                            progress = true;
+                            rxBuffer.flip();
+                            int copy = (rxData == null) ? 0 : Math.min(count, Math.min(chunkSize, length - oldest) - consumed);
+                            if(copy > 0) rxBuffer.get(rxData, rxOffset + oldest + consumed, copy);
+                            consumed += count;
+                            payload -= count;
+                        }
+                    }
+                    if(payload == 0) {
+                        // the oldest chunk is complete; restart the response timeout for the next one
+                        oldest += Math.min(chunkSize, length - oldest);
+                        pending--;
+                        payload = -1;
+                        header.clear();
+                        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+                        progress = true;
+                    }
+                }
+
+                if(!progress) {
+                    await((sending != null) ? (SelectionKey.OP_READ | SelectionKey.OP_WRITE) : SelectionKey.OP_READ,
+                            waitStrategy, deadline, timeout);
+                }
+            }
+            return (error < 0) ? error : length;
+        } catch (IOException e) {
+            throw failure(e, timeout);
+        }
+    }
+
+    private ByteBuffer[] streamBuffers(int payloadSize) {
+        int size = PiGpioPacket.HEADER_SIZE + payloadSize;
+        for(int i = 0; i < streamBuffers.length; i++) {
+            if(streamBuffers[i] == null || streamBuffers[i].capacity() < size) {
+                streamBuffers[i] = ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        return streamBuffers;
+    }
+
+    private void readPayload(byte[] dst, int offset, int length, int payload,
+                             PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) {
+        try {
+            // copy at most 'length' bytes to the caller's array; discard any excess payload bytes
+            int remaining = payload;
+            int copied = 0;
+            while (remaining > 0) {
+                rxBuffer.clear();
+                rxBuffer.limit(Math.min(remaining, rxBuffer.capacity()));
+                read(rxBuffer, waitStrategy, deadline, timeout);
+                rxBuffer.flip();
+                int count = rxBuffer.remaining();
+                int copy = (dst == null) ? 0 : Math.min(count, length - copied);
+                if(copy > 0) {
+                    rxBuffer.get(dst, offset + copied, copy);
+                    copied += copy;
+                }
+                remaining -= count;
+            }
+        } catch (IOException e) {
+            throw failure(e, timeout);
+        }
+    }
+
+    private void readPayload(ByteBuffer dst, int payload,
+                             PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) {
+        try {
+            // read payload bytes straight into the caller's buffer
+            int remaining = payload;
+            if(dst != null && dst.hasRemaining()) {
+                int copy = Math.min(payload, dst.remaining());
+                int limit = dst.limit();
+                dst.limit(dst.position() + copy);
+                try {
+                    read(dst, waitStrategy, deadline, timeout);
+                } finally {
+                    dst.limit(limit);
+                }
+                remaining -= copy;
+            }
+
+            // discard any excess payload bytes
+            while (remaining > 0) {
+                rxBuffer.clear();
+                rxBuffer.limit(Math.min(remaining, rxBuffer.capacity()));
+                read(rxBuffer, waitStrategy, deadline, timeout);
+                remaining -= rxBuffer.position();
+            }
+        } catch (IOException e) {
+            throw failure(e, timeout);
+        }
+    }
+
+    private int readHeader(PiGpioCmd cmd, PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) throws IOException {
+        header.clear();
+        read(header, waitStrategy, deadline, timeout);
+        header.flip();
+        response.decode(header);
+        if(response.cmd() != cmd) {
+            throw new IOException("Unexpected response from host; expected CMD=" + cmd.value() + " but received " + response);
+        }
+        return response.result();
+    }
+
+    private ByteBuffer txBuffer(int size) {
+        if(txBuffer.capacity() < size) {
+            // grow the transmit buffer to fit the largest command payload in use
+            txBuffer = ByteBuffer.allocateDirect(Math.max(size, txBuffer.capacity() * 2)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return txBuffer;
+    }
+
+    private void write(ByteBuffer buffer, PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) throws IOException {
+        while (buffer.hasRemaining()) {
+            if(channel.write(buffer) == 0) await(SelectionKey.OP_WRITE, waitStrategy, deadline, timeout);
+        }
+    }
+
+    private void write(ByteBuffer[] buffers, PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) throws IOException {
+        while (buffers[buffers.length - 1].hasRemaining()) {
+            if(channel.write(buffers) == 0) await(SelectionKey.OP_WRITE, waitStrategy, deadline, timeout);
+        }
+    }
+
+    private void read(ByteBuffer buffer, PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) throws IOException {
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer);
+            if(count < 0) throw new EOFException("End of stream reached while reading response from host");
+            if(count == 0) await(SelectionKey.OP_READ, waitStrategy, deadline, timeout);
+        }
+    }
+
+    private void await(int operation, PiGpioSocketWaitStrategy waitStrategy, long deadline, int timeout) throws IOException {
+        long remaining = deadline - System.nanoTime();
+        if(remaining <= 0) {
+            throw new SocketTimeoutException("No response from host in " + timeout + " milliseconds");
+        }
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                // block until the channel is ready; select(Consumer, timeout) does not
+                // populate the selected-key set and thus does not allocate
+                if(key.interestOps() != operation) key.interestOps(operation);
+                selector.select(ignoreKey, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+                break;
+        }
+    }
+
+    private void ensureOpen() {
+        if(closed) throw new PiGpioException("PIGPIO socket connection is closed");
+    }
+
+    private PiGpioException failure(IOException e, int timeout) {
+        close();
+        if(e instanceof SocketTimeoutException) {
+            return new PiGpioException("Command timed out; no response from host in " + timeout + " milliseconds", e);
+        }
+        return new PiGpioException(e);
+    }
+}
@@ -31,11 +31,19 @@ import com.pi4j.library.pigpio.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 import static com.pi4j.library.pigpio.PiGpioCmd.*;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_CMD_MAX_EXTENSION;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SPI_DEVICE_COUNT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_WAVE_PULSE_SIZE;
 
 /**
  * <p>PiGpioSocketImpl class.</p>
@@ -71,6 +79,81 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         return new PiGpioSocketImpl(host, port);
     }
 
+    /**
+     * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port and waits for
+     * command responses using the given wait strategy.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public static PiGpio newInstance(String host, int port, PiGpioSocketWaitStrategy waitStrategy) {
+        return new PiGpioSocketImpl(host, port, waitStrategy, false);
+    }
+
+    /**
+     * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.  A pipelined
+     * instance sends commands without waiting for the responses of earlier commands so
+     * that concurrent callers and asynchronous command bursts share the connection.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public static PiGpio newInstance(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined) {
+        return new PiGpioSocketImpl(host, port, waitStrategy, pipelined);
+    }
+
+    /**
+     * Creates a thread-safe PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.  Each calling thread
+     * is bound to one of the pooled command connections.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public static PiGpio newInstance(String host, int port, int poolSize) {
+        return newInstance(host, port, poolSize, PiGpioSocketCheckout.PER_THREAD);
+    }
+
+    /**
+     * Creates a thread-safe PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @param checkout policy used to select a pooled command connection for each command.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public static PiGpio newInstance(String host, int port, int poolSize, PiGpioSocketCheckout checkout) {
+        return new PiGpioSocketImpl(host, port, PiGpioSocketWaitStrategy.BLOCKING, false, poolSize, checkout);
+    }
+
+    /**
+     * Creates a thread-safe PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @param checkout policy used to select a pooled command connection for each command.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public static PiGpio newInstance(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined,
+                                     int poolSize, PiGpioSocketCheckout checkout) {
+        return new PiGpioSocketImpl(host, port, waitStrategy, pipelined, poolSize, checkout);
+    }
+
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
      * Connects to a user specified socket hostname/ip address using the default port (8888).
@@ -104,6 +187,38 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         super(host, port);
     }
 
+    /**
+     * ALTERNATE PRIVATE CONSTRUCTOR
+     *
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     */
+    private PiGpioSocketImpl(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined) {
+        super(host, port, waitStrategy, pipelined);
+    }
+
+    /**
+     * ALTERNATE PRIVATE CONSTRUCTOR
+     *
+     * Connects to a user specified socket hostname/ip address and port using a pool of
+     * command connections.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param waitStrategy strategy used to wait for command responses from the PiGpio daemon.
+     * @param pipelined send commands without waiting for the responses of earlier commands.
+     * @param poolSize number of command connections to the PiGpio daemon.
+     * @param checkout policy used to select a pooled command connection for each command.
+     */
+    private PiGpioSocketImpl(String host, int port, PiGpioSocketWaitStrategy waitStrategy, boolean pipelined,
+                             int poolSize, PiGpioSocketCheckout checkout) {
+        super(host, port, waitStrategy, pipelined, poolSize, checkout);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -170,6 +285,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         PiGpioPacket result = sendCommand(PUD, pin, pud.value());
         logger.trace("[GPIO::PUD-SET] <- PIN: {}; PUD={}({}); SUCCESS={}", pud.name(), pud.value(), result.success());
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_MODE.
+        session.pull(pin, pud);
     }
 
     /**
@@ -180,13 +296,13 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public PiGpioMode gpioGetMode(int pin) {
-        logger.trace("[GPIO::MODE-GET] -> PIN: {};", pin);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::MODE-GET] -> PIN: {};", pin);
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(MODEG, pin);
+        int result = transact(MODEG, pin, 0);
         validateResult(result); // Returns the GPIO mode if OK, otherwise PI_BAD_GPIO.
-        PiGpioMode mode = PiGpioMode.from(result.result());
-        logger.trace("[GPIO::MODE-GET] <- PIN: {}; MODE={}({})", pin, mode.name(), mode.value());
+        PiGpioMode mode = PiGpioMode.from(result);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::MODE-GET] <- PIN: {}; MODE={}({})", pin, mode.name(), mode.value());
         return mode;
     }
 
@@ -201,12 +317,15 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public void gpioSetMode(int pin, PiGpioMode mode) {
-        logger.trace("[GPIO::MODE-SET] -> PIN: {}; MODE={}({});", pin, mode.name(), mode.value());
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::MODE-SET] -> PIN: {}; MODE={}({});", pin, mode.name(), mode.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(MODES, pin, mode.value());
-        logger.trace("[GPIO::MODE-SET] <- PIN: {}; MODE={}({}); SUCCESS={}", mode.name(), mode.value(), result.success());
+        writeBehind.flush();
+        int result = transact(MODES, pin, mode.value());
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::MODE-SET] <- PIN: {}; MODE={}({}); SUCCESS={}", mode.name(), mode.value(), result >= 0);
+        writeBehind.invalidate(pin);
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_PUD.
+        session.mode(pin, mode);
     }
 
     /**
@@ -217,13 +336,14 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public PiGpioState gpioRead(int pin) {
-        logger.trace("[GPIO::GET] -> PIN: {}", pin);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::GET] -> PIN: {}", pin);
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(READ, pin);
+        writeBehind.flush();
+        int result = transact(READ, pin, 0);
         validateResult(result); // Returns the GPIO level if OK, otherwise PI_BAD_GPIO.
-        PiGpioState state = PiGpioState.from(result.p3()); // result value stored in P3
-        logger.trace("[GPIO::GET] <- PIN: {} is {}({})", pin, state.name(), state.value());
+        PiGpioState state = PiGpioState.from(result); // result value stored in P3
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::GET] <- PIN: {} is {}({})", pin, state.name(), state.value());
         return state;
     }
 
@@ -235,12 +355,115 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public void gpioWrite(int pin, PiGpioState state) {
-        logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(WRITE, pin, state.value());
-        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result.success());
+        if(writeBehind.level(pin, state.value())) return; // elided or deferred
+        int result = transact(WRITE, pin, state.value());
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result >= 0);
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
+        writeBehind.written(pin, state.value());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 0-31.
+     * (The result is a raw bitmask and may legitimately be negative when the highest GPIO is HIGH)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioReadBank1() {
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BR1] ->");
+        validateReady();
+        writeBehind.flush();
+        int result = transact(BR1, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BR1] <- LEVELS: {}", Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 32-53.
+     * (The result is a raw bitmask and may legitimately be negative when the highest GPIO is HIGH)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioReadBank2() {
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BR2] ->");
+        validateReady();
+        int result = transact(BR2, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BR2] <- LEVELS: {}", Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets (HIGH) every GPIO in 0-31 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWriteBank1Set(int bits) {
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BS1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        writeBehind.flush();
+        int result = transact(BS1, bits, 0);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BS1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+        writeBehind.writtenBank(1, bits, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears (LOW) every GPIO in 0-31 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWriteBank1Clear(int bits) {
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BC1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        writeBehind.flush();
+        int result = transact(BC1, bits, 0);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BC1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+        writeBehind.writtenBank(1, 0, bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets (HIGH) every GPIO in 32-53 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    @Override
+    public void gpioWriteBank2Set(int bits) {
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BS2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        writeBehind.flush();
+        int result = transact(BS2, bits, 0);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BS2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+        writeBehind.writtenBank(2, bits, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears (LOW) every GPIO in 32-53 whose bit is set in the bitmask.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    @Override
+    public void gpioWriteBank2Clear(int bits) {
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BC2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        writeBehind.flush();
+        int result = transact(BC2, bits, 0);
+        if(logger.isTraceEnabled()) logger.trace("[GPIO::BC2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_SOME_PERMITTED.
+        writeBehind.writtenBank(2, 0, bits);
     }
 
     /**
@@ -304,6 +527,41 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Sets a watchdog for a GPIO; a timeout is reported every timeout milliseconds
+     * after the last level change on the GPIO until the watchdog is cancelled.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    @Override
+    public void gpioSetWatchdog(int pin, int timeout){
+        logger.trace("[GPIO::WATCHDOG] -> PIN: {}; TIMEOUT: {};", pin, timeout);
+        validateReady();
+        validateUserPin(pin);
+        validateWatchdogTimeout(timeout);
+        PiGpioPacket result = sendCommand(WDOG, pin, timeout);
+        logger.trace("[GPIO::WATCHDOG] <- PIN: {}; SUCCESS={}",  pin, result.success());
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_WDOG_TIMEOUT.
+        session.watchdog(pin, timeout);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function signals the occurrence of an event.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#eventTrigger">PIGPIO::eventTrigger</a>
+     */
+    @Override
+    public void eventTrigger(int event){
+        logger.trace("[EVENT::TRIGGER] -> EVENT: {}", event);
+        validateReady();
+        validateEvent(event);
+        PiGpioPacket result = sendCommand(EVT, event);
+        logger.trace("[EVENT::TRIGGER] <- EVENT: {}; SUCCESS={}",  event, result.success());
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_EVENT_ID.
+    }
+
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -326,9 +584,12 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validateDutyCycle(dutyCycle);
+        if(writeBehind.dutyCycle(pin, dutyCycle)) return; // elided or deferred
         PiGpioPacket result = sendCommand(PWM, pin, dutyCycle);
         logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result.success());
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
+        writeBehind.written(PWM, pin, dutyCycle);
+        session.dutyCycle(pin, dutyCycle);
     }
 
     /**
@@ -348,6 +609,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[PWM::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
+        writeBehind.flush();
         PiGpioPacket result = sendCommand(GDC, pin);
         var dutyCycle = result.result();
         logger.trace("[PWM::GET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result.success());
@@ -387,10 +649,13 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         //validateDutyCycleRange(range);
+        writeBehind.flush();
         PiGpioPacket result = sendCommand(PRS, pin, range);
+        writeBehind.invalidate(pin); // an active dutycycle is scaled to the new range
         var readRange = result.result();
         logger.trace("[PWM-RANGE::SET] <- PIN: {}; REAL-RANGE={}; SUCCESS={}",  pin, readRange, result.success());
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_DUTYRANGE.
+        session.range(pin, range);
         return result.result();
     }
 
@@ -479,10 +744,12 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         // validateFrequency(frequency); TODO :: IMPLEMENT 'validateFrequency()'
+        writeBehind.flush(); // deferred dutycycles belong to the current frequency
         PiGpioPacket result = sendCommand(PFS, pin, frequency);
         var actualRange = result.result();
         logger.trace("[PWM-FREQ::SET] <- PIN: {}; FREQUENCY={}; SUCCESS={}",  pin, frequency, result.success());
         validateResult(result);  // Returns the numerically closest frequency if OK, otherwise PI_BAD_USER_GPIO.
+        session.frequency(pin, frequency);
         return actualRange;
     }
 
@@ -552,10 +819,13 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         // validateHwPwmFrequency(frequency); TODO :: IMPLEMENT 'validateHwPwmFrequency()'
+        writeBehind.flush();
         PiGpioPacket tx = new PiGpioPacket(HP, pin, frequency).data(dutyCycle);
         PiGpioPacket rx = sendPacket(tx);
+        writeBehind.invalidate(pin);
         logger.trace("[HW-PWM::SET] <- PIN: {}; SUCCESS={}",  pin, rx.success());
         validateResult(rx);  // Returns the numerically closest frequency if OK, otherwise PI_BAD_USER_GPIO.
+        session.hardwarePwm(pin, frequency, dutyCycle);
     }
 
     // *****************************************************************************************************
@@ -605,9 +875,12 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validatePulseWidth(pulseWidth);
+        if(writeBehind.pulseWidth(pin, pulseWidth)) return; // elided or deferred
         PiGpioPacket result = sendCommand(SERVO, pin, pulseWidth);
         logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result.success());
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_PULSEWIDTH.
+        writeBehind.written(SERVO, pin, pulseWidth);
+        session.servo(pin, pulseWidth);
     }
 
     /**
@@ -620,6 +893,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[SERVO::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
+        writeBehind.flush();
         PiGpioPacket result = sendCommand(GPW, pin);
         var pulseWidth = result.result();
         logger.trace("[SERVO::GET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result.success());
@@ -739,6 +1013,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
 
         // if the open was successful, then we need to cache the I2C handle
         if(rx.success()) {
+            handle = session.i2cOpened(handle, bus, device, flags);
             i2cHandles.add(handle);
         }
 
@@ -763,7 +1038,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateResult(rx, false);
 
         // if the close was successful, then we need to remove the I2C handle from cache
-        if(rx.success()) i2cHandles.remove(handle);
+        if(rx.success()) {
+            i2cHandles.remove(handle);
+            session.i2cClosed(handle);
+        }
 
         // return result
         return rx.result();
@@ -927,17 +1205,16 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int i2cWriteBlockData(int handle, int register, byte[] data, int offset, int length) {
-        logger.trace("[I2C::WRITE] -> [{}]; Register [{}]; Block [{} bytes]; offset={}", handle ,register, length, offset);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] -> [{}]; Register [{}]; Block [{} bytes]; offset={}", handle ,register, length, offset);
         validateReady();
         Objects.checkFromIndexSize(offset, length, data.length);
         validateHandle(handle);
         validateI2cRegister(register);
         validateI2cBlockLength(length);
-        PiGpioPacket tx = new PiGpioPacket(I2CWK, handle, register).data(data, offset, length);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        return rx.result();
+        int result = transact(I2CWK, handle, register, data, offset, length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -948,20 +1225,14 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int i2cReadBlockData(int handle, int register, byte[] buffer, int offset, int length) {
-        logger.trace("[I2C::READ] -> [{}]; Register [{}]; Block [{} bytes]; offset={}", handle ,register, length, offset);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::READ] -> [{}]; Register [{}]; Block [{} bytes]; offset={}", handle ,register, length, offset);
         validateReady();
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CRK, handle, register);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
-        return rx.result();
+        int result = transact(I2CRK, handle, register, null, 0, 0, buffer, offset, length);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, result >= 0, result);
+        return result;
     }
 
     /**
@@ -978,7 +1249,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public int i2cBlockProcessCall(int handle, int register,
                                    byte[] write, int writeOffset, int writeLength,
                                    byte[] read, int readOffset) {
-        logger.trace("[I2C::W/R] -> [{}]; Register [{}]; Block [{} bytes]; woff={}; roff={}",
+        if(logger.isTraceEnabled()) logger.trace("[I2C::W/R] -> [{}]; Register [{}]; Block [{} bytes]; woff={}; roff={}",
             handle, register, writeLength, writeOffset, readOffset);
         validateReady();
         Objects.checkFromIndexSize(writeOffset, writeLength, write.length);
@@ -986,22 +1257,15 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateI2cRegister(register);
         validateI2cBlockLength(writeLength);
 
-        // write/read from I2C device
-        PiGpioPacket tx = new PiGpioPacket(I2CPK, handle, register).data(write, writeOffset, writeLength);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::W/R] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
-        validateResult(rx, false);
-
-        // copy data bytes to provided "read" array/buffer
-        if(rx.success()) {
-            int readLength = rx.result();
-            if(rx.dataLength() < readLength) readLength = rx.dataLength();
+        // write/read from I2C device; data bytes are copied to provided "read" array/buffer
+        int result = transact(I2CPK, handle, register, write, writeOffset, writeLength,
+                read, readOffset, Math.max(0, read.length - readOffset));
+        if(logger.isTraceEnabled()) logger.trace("[I2C::W/R] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
 
-            // make sure the read array has sufficient space to store the bytes returned
-            Objects.checkFromIndexSize(readOffset, readLength, read.length);
-            System.arraycopy(rx.data(), 0, read, readOffset, readLength);
-        }
-        return rx.result();
+        // make sure the read array has sufficient space to store the bytes returned
+        if(result > 0) Objects.checkFromIndexSize(readOffset, result, read.length);
+        return result;
     }
 
     /**
@@ -1065,16 +1329,15 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int i2cWriteI2CBlockData(int handle, int register, byte[] data, int offset, int length) {
-        logger.trace("[I2C::WRITE] -> [{}]; Register [{}]; I2C Block [{} bytes]; offset={}", handle ,register, length, offset);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] -> [{}]; Register [{}]; I2C Block [{} bytes]; offset={}", handle ,register, length, offset);
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
         validateI2cBlockLength(length);
-        PiGpioPacket tx = new PiGpioPacket(I2CWI, handle, register).data(data, offset, length);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        return rx.result();
+        int result = transact(I2CWI, handle, register, data, offset, length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -1085,19 +1348,33 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int i2cReadDevice(int handle, byte[] buffer, int offset, int length) {
-        logger.trace("[I2C::READ] -> [{}]; I2C Raw Read [{} bytes]; offset={}", handle, length, offset);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::READ] -> [{}]; I2C Raw Read [{} bytes]; offset={}", handle, length, offset);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CRD, handle, length);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
-        validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
-        return rx.result();
+        int result = transact(I2CRD, handle, length, null, 0, 0, buffer, offset, length);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The response payload is read from the socket straight into the buffer region.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cReadDevice">PIGPIO::i2cReadDevice</a>
+     */
+    @Override
+    public int i2cReadDevice(int handle, ByteBuffer buffer, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[I2C::READ] -> [{}]; I2C Raw Read [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        length = Math.min(length, buffer.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        validateHandle(handle);
+        int result = transact(I2CRD, handle, length, null, region(buffer, offset, length));
+        if(logger.isTraceEnabled()) logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) buffer.position(offset + result);
+        return result;
     }
 
     /**
@@ -1108,16 +1385,113 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int i2cWriteDevice(int handle, byte[] data, int offset, int length) {
-        logger.trace("[I2C::WRITE] -> [{}]; I2C Raw Write [{} bytes]; offset={}", handle, length, offset);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] -> [{}]; I2C Raw Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        validateHandle(handle);
+        int result = transact(I2CWD, handle, 0, data, offset, length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The buffer region is written to the socket behind the command header; direct buffers
+     * are gather-written without being copied.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cWriteDevice">PIGPIO::i2cWriteDevice</a>
+     */
+    @Override
+    public int i2cWriteDevice(int handle, ByteBuffer data, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] -> [{}]; I2C Raw Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        length = Math.min(length, data.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+        validateHandle(handle);
+        int result = transact(I2CWD, handle, 0, region(data, offset, length), null);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a sequence of I2C operations (combined transaction) on the
+     * device associated with the handle.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[I2C::ZIP] -> [{}]; I2C Combined Transaction [{} command bytes]; read={}", handle, commandLength, length);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CWD, handle).data(data, offset, length);
+        Objects.checkFromIndexSize(commandOffset, commandLength, commands.length);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        int result = transact(I2CZ, handle, 0, commands, commandOffset, commandLength, buffer, offset, length);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; BYTES-READ={}", handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a pair of GPIO for bit banging I2C at a specified baud rate.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    @Override
+    public int bbI2COpen(int sda, int scl, int baud) {
+        logger.trace("[I2C::BB-OPEN] -> Open Bit-Bang I2C [SDA={}; SCL={}] at Baud Rate [{}]", sda, scl, baud);
+        validateReady();
+        validateUserPin(sda);
+        validateUserPin(scl);
+        validateBitBangI2cBaud(baud);
+        PiGpioPacket tx = new PiGpioPacket(BI2CO, sda, scl).data(baud);
         PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
+        logger.trace("[I2C::BB-OPEN] <- SDA={}; SUCCESS={}", sda, rx.success());
+        validateResult(rx, false);
+        if(rx.success()) session.bitBangI2cOpened(sda, scl, baud);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging I2C on a pair of GPIO previously opened with bbI2COpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    @Override
+    public int bbI2CClose(int sda) {
+        logger.trace("[I2C::BB-CLOSE] -> SDA [{}]; Close Bit-Bang I2C", sda);
+        validateReady();
+        validateUserPin(sda);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(BI2CC, sda));
+        logger.trace("[I2C::BB-CLOSE] <- SDA={}; SUCCESS={}", sda, rx.success());
         validateResult(rx, false);
+        session.bitBangClosed(sda);
         return rx.result();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * This function executes a sequence of bit banged I2C operations.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    @Override
+    public int bbI2CZip(int sda, byte[] commands, int commandOffset, int commandLength, byte[] buffer, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[I2C::BB-ZIP] -> SDA [{}]; Bit-Bang I2C Transaction [{} command bytes]; read={}", sda, commandLength, length);
+        validateReady();
+        validateUserPin(sda);
+        Objects.checkFromIndexSize(commandOffset, commandLength, commands.length);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        int result = transact(BI2CZ, sda, 0, commands, commandOffset, commandLength, buffer, offset, length);
+        if(logger.isTraceEnabled()) logger.trace("[I2C::BB-ZIP] <- SDA={}; SUCCESS={}; BYTES-READ={}", sda, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -1142,7 +1516,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateResult(rx, false);
 
         // if the open was successful, then we need to add the SERIAL handle to cache
-        if(rx.success()) serialHandles.add(handle);
+        if(rx.success()) {
+            handle = session.serialOpened(handle, device, baud, flags);
+            serialHandles.add(handle);
+        }
 
         // return the handle
         return handle;
@@ -1165,7 +1542,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateResult(rx, false);
 
         // if the close was successful, then we need to remove the SERIAL handle from cache
-        if(rx.success()) serialHandles.remove(handle);
+        if(rx.success()) {
+            serialHandles.remove(handle);
+            session.serialClosed(handle);
+        }
 
         // return result
         return rx.result();
@@ -1217,15 +1597,34 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int serWrite(int handle, byte[] data, int offset, int length) {
-        logger.trace("[SERIAL::WRITE] -> [{}]; Serial Write [{} bytes]", handle, data.length);
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::WRITE] -> [{}]; Serial Write [{} bytes]", handle, data.length);
         validateReady();
         Objects.checkFromIndexSize(offset, length, data.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SERW, handle).data(data, offset, length);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, rx.success());
-        validateResult(rx, false);
-        return rx.result();
+        int result = transact(SERW, handle, 0, data, offset, length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The buffer region is written to the socket behind the command header; direct buffers
+     * are gather-written without being copied.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serWrite">PIGPIO::serWrite</a>
+     */
+    @Override
+    public int serWrite(int handle, ByteBuffer data, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::WRITE] -> [{}]; Serial Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        length = Math.min(length, data.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+        validateHandle(handle);
+        int result = transact(SERW, handle, 0, region(data, offset, length), null);
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -1237,20 +1636,53 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int serRead(int handle, byte[] buffer, int offset, int length) {
-        logger.trace("[SERIAL::READ] -> [{}]; Serial Read [{} bytes]", handle, length);
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::READ] -> [{}]; Serial Read [{} bytes]", handle, length);
         validateReady();
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SERR, handle, length);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.dataLength());
-        validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
-        return rx.result();
+        int result = transact(SERR, handle, length, null, 0, 0, buffer, offset, length);
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The response payload is read from the socket straight into the buffer region.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#serRead">PIGPIO::serRead</a>
+     */
+    @Override
+    public int serRead(int handle, ByteBuffer buffer, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::READ] -> [{}]; Serial Read [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        length = Math.min(length, buffer.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        validateHandle(handle);
+        int result = transact(SERR, handle, length, null, region(buffer, offset, length));
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}", handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) buffer.position(offset + result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The chunks are sent back-to-back: while the result of one chunk is outstanding, the
+     * next chunk is already on its way to the daemon.
+     */
+    @Override
+    public int serStreamWrite(int handle, byte[] data, int offset, int length, int chunkSize) {
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::STREAM-WRITE] -> [{}]; Serial Write [{} bytes; {} byte chunks]", handle, length, chunkSize);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateHandle(handle);
+        validateStreamChunkSize(chunkSize, PI_CMD_MAX_EXTENSION);
+        int result = stream(SERW, handle, data, offset, null, 0, length, chunkSize);
+        if(logger.isTraceEnabled()) logger.trace("[SERIAL::STREAM-WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -1373,8 +1805,11 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateResult(rx, false);
 
         // if the open was successful, then we need to add the SPI handle to cache
-        if(rx.success()) spiHandles.add(handle);
-
+        if(rx.success()) {
+            handle = session.spiOpened(handle, channel, baud, flags);
+            spiHandles.add(handle);
+        }
+
         // return handle
         return handle;
     }
@@ -1396,7 +1831,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateResult(rx, false);
 
         // if the close was successful, then we need to remove the SPI handle from cache
-        if(rx.success()) spiHandles.remove(handle);
+        if(rx.success()) {
+            spiHandles.remove(handle);
+            session.spiClosed(handle);
+        }
 
         // return result
         return rx.result();
@@ -1411,15 +1849,34 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int spiWrite(int handle, byte[] data, int offset, int length) {
-        logger.trace("[SPI::WRITE] -> [{}]; Serial Write [{} bytes]", handle, data.length);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::WRITE] -> [{}]; Serial Write [{} bytes]", handle, data.length);
         validateReady();
         Objects.checkFromIndexSize(offset, length, data.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SPIW, handle).data(data, offset, length);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SPI::WRITE] <- HANDLE={}; SUCCESS={}", handle, rx.success());
-        validateResult(rx, false);
-        return rx.result();
+        int result = transact(SPIW, handle, 0, data, offset, length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The buffer region is written to the socket behind the command header; direct buffers
+     * are gather-written without being copied.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiWrite">PIGPIO::spiWrite</a>
+     */
+    @Override
+    public int spiWrite(int handle, ByteBuffer data, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[SPI::WRITE] -> [{}]; Serial Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        length = Math.min(length, data.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, data.capacity());
+        validateHandle(handle);
+        int result = transact(SPIW, handle, 0, region(data, offset, length), null);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
     }
 
     /**
@@ -1433,20 +1890,34 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int spiRead(int handle, byte[] buffer, int offset, int length) {
-        logger.trace("[SPI::READ] -> [{}]; Serial Read [{} bytes]", handle, length);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::READ] -> [{}]; Serial Read [{} bytes]", handle, length);
         validateReady();
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SPIR, handle, length);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.dataLength());
-        validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
-        return rx.result();
+        int result = transact(SPIR, handle, length, null, 0, 0, buffer, offset, length);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The response payload is read from the socket straight into the buffer region.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiRead">PIGPIO::spiRead</a>
+     */
+    @Override
+    public int spiRead(int handle, ByteBuffer buffer, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[SPI::READ] -> [{}]; Serial Read [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        length = Math.min(length, buffer.capacity() - offset);
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        validateHandle(handle);
+        int result = transact(SPIR, handle, length, null, region(buffer, offset, length));
+        if(logger.isTraceEnabled()) logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}", handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) buffer.position(offset + result);
+        return result;
     }
 
     /**
@@ -1462,20 +1933,567 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public int spiXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
-        logger.trace("[SPI::XFER] -> [{}]; Serial Transfer [{} bytes]", handle, numberOfBytes);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::XFER] -> [{}]; Serial Transfer [{} bytes]", handle, numberOfBytes);
         validateReady();
         Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
         Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SPIX, handle).data(write, writeOffset, numberOfBytes);
-        PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.dataLength());
+        int result = transact(SPIX, handle, 0, write, writeOffset, numberOfBytes, read, readOffset, numberOfBytes);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The 'write' buffer region is written to the socket behind the command header and the
+     * response payload is read from the socket straight into the 'read' buffer region.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#spiXfer">PIGPIO::spiXfer</a>
+     */
+    @Override
+    public int spiXfer(int handle, ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        if(logger.isTraceEnabled()) logger.trace("[SPI::XFER] -> [{}]; Serial Transfer [{} bytes]", handle, numberOfBytes);
+        validateReady();
+        numberOfBytes = Math.min(numberOfBytes, Math.min(write.capacity() - writeOffset, read.capacity() - readOffset));
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.capacity());
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.capacity());
+        validateHandle(handle);
+        int result = transact(SPIX, handle, 0, region(write, writeOffset, numberOfBytes), region(read, readOffset, numberOfBytes));
+        if(logger.isTraceEnabled()) logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, result >= 0, result);
+        validateResult(result, false);
+        if(result >= 0) read.position(readOffset + result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The chunks are sent back-to-back: while the result of one chunk is outstanding, the
+     * next chunk is already on its way to the daemon.  The data read for each chunk is copied
+     * straight from the socket into the 'read' byte array.
+     */
+    @Override
+    public int spiStreamXfer(int handle, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes, int chunkSize) {
+        if(logger.isTraceEnabled()) logger.trace("[SPI::STREAM-XFER] -> [{}]; Serial Transfer [{} bytes; {} byte chunks]", handle, numberOfBytes, chunkSize);
+        validateReady();
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+        validateHandle(handle);
+        validateStreamChunkSize(chunkSize, PI_MAX_SPI_DEVICE_COUNT);
+        int result = stream(SPIX, handle, write, writeOffset, read, readOffset, numberOfBytes, chunkSize);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::STREAM-XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}", handle, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The chunks are sent back-to-back: while the result of one chunk is outstanding, the
+     * next chunk is already on its way to the daemon.
+     */
+    @Override
+    public int spiStreamWrite(int handle, byte[] data, int offset, int length, int chunkSize) {
+        if(logger.isTraceEnabled()) logger.trace("[SPI::STREAM-WRITE] -> [{}]; Serial Write [{} bytes; {} byte chunks]", handle, length, chunkSize);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateHandle(handle);
+        validateStreamChunkSize(chunkSize, PI_MAX_SPI_DEVICE_COUNT);
+        int result = stream(SPIW, handle, data, offset, null, 0, length, chunkSize);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::STREAM-WRITE] <- HANDLE={}; SUCCESS={}", handle, result >= 0);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function selects a set of GPIO for bit banging SPI with a specified baud rate and mode.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIOpen">PIGPIO::bbSPIOpen</a>
+     */
+    @Override
+    public int bbSPIOpen(int cs, int miso, int mosi, int sclk, int baud, int flags) {
+        logger.trace("[SPI::BB-OPEN] -> Open Bit-Bang SPI [CS={}; MISO={}; MOSI={}; SCLK={}] at Baud Rate [{}]; Flags=[{}]", cs, miso, mosi, sclk, baud, flags);
+        validateReady();
+        validateUserPin(cs);
+        validateUserPin(miso);
+        validateUserPin(mosi);
+        validateUserPin(sclk);
+        validateBitBangSpiBaud(baud);
+        byte[] data = new byte[20];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(new int[]{ miso, mosi, sclk, baud, flags });
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(BSPIO, cs, 0).data(data));
+        logger.trace("[SPI::BB-OPEN] <- CS={}; SUCCESS={}", cs, rx.success());
         validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, read, readOffset, actual);
-        }
+        if(rx.success()) session.bitBangSpiOpened(cs, miso, mosi, sclk, baud, flags);
         return rx.result();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops bit banging SPI on a set of GPIO opened with bbSPIOpen.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIClose">PIGPIO::bbSPIClose</a>
+     */
+    @Override
+    public int bbSPIClose(int cs) {
+        logger.trace("[SPI::BB-CLOSE] -> CS [{}]; Close Bit-Bang SPI", cs);
+        validateReady();
+        validateUserPin(cs);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(BSPIC, cs));
+        logger.trace("[SPI::BB-CLOSE] <- CS={}; SUCCESS={}", cs, rx.success());
+        validateResult(rx, false);
+        session.bitBangClosed(cs);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transfers (writes/reads simultaneously) multiple bytes with a bit banged SPI device.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbSPIXfer">PIGPIO::bbSPIXfer</a>
+     */
+    @Override
+    public int bbSPIXfer(int cs, byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        if(logger.isTraceEnabled()) logger.trace("[SPI::BB-XFER] -> CS [{}]; Bit-Bang Serial Transfer [{} bytes]", cs, numberOfBytes);
+        validateReady();
+        validateUserPin(cs);
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+        int result = transact(BSPIX, cs, 0, write, writeOffset, numberOfBytes, read, readOffset, numberOfBytes);
+        if(logger.isTraceEnabled()) logger.trace("[SPI::BB-XFER] <- CS={}; SUCCESS={}; BYTES-READ={}", cs, result >= 0, result);
+        validateResult(result, false);
+        return result;
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPT IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * Stores a script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::STORE] -> [{} chars]", script.length());
+        validateReady();
+        byte[] data = script.getBytes(StandardCharsets.US_ASCII);
+        int result = transact(PROC, 0, 0, data, 0, data.length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::STORE] <- SUCCESS={}; SCRIPT-ID={}", result >= 0, result);
+        validateResult(result);  // Returns a script id if OK, otherwise PI_BAD_SCRIPT.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::RUN] -> SCRIPT-ID: {}; PARAMS: {}", scriptId, Arrays.toString(params));
+        validateReady();
+        validateScriptParams(params);
+        byte[] data = new byte[params.length * 4];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(params);
+        int result = transact(PROCR, scriptId, 0, data, 0, data.length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::RUN] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::UPDATE] -> SCRIPT-ID: {}; PARAMS: {}", scriptId, Arrays.toString(params));
+        validateReady();
+        validateScriptParams(params);
+        byte[] data = new byte[params.length * 4];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(params);
+        int result = transact(PROCU, scriptId, 0, data, 0, data.length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::UPDATE] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the run status of a script as well as the current values of its parameters.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::STATUS] -> SCRIPT-ID: {}", scriptId);
+        validateReady();
+        byte[] data = new byte[(PI_MAX_SCRIPT_PARAMS + 1) * 4];
+        int result = transact(PROCP, scriptId, 0, null, 0, 0, data, 0, data.length);
+        validateResult(result);  // Returns the number of response bytes if OK, otherwise PI_BAD_SCRIPT_ID.
+        ByteBuffer buffer = ByteBuffer.wrap(data, 0, Math.min(result, data.length)).order(ByteOrder.LITTLE_ENDIAN);
+        PiGpioScriptStatus status = PiGpioScriptStatus.from(buffer.getInt());
+        for(int i = 0; params != null && i < params.length && buffer.remaining() >= 4; i++){
+            params[i] = buffer.getInt();
+        }
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::STATUS] <- SCRIPT-ID: {}; STATUS={}", scriptId, status);
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::STOP] -> SCRIPT-ID: {}", scriptId);
+        validateReady();
+        int result = transact(PROCS, scriptId, 0);
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::STOP] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::DELETE] -> SCRIPT-ID: {}", scriptId);
+        validateReady();
+        int result = transact(PROCD, scriptId, 0);
+        if(logger.isTraceEnabled()) logger.trace("[SCRIPT::DELETE] <- SCRIPT-ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVEFORM IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CLEAR] ->");
+        validateReady();
+        int result = transact(WVCLR, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CLEAR] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::NEW] ->");
+        validateReady();
+        int result = transact(WVNEW, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::NEW] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Adds a number of pulses to the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(PiGpioPulse ... pulses) {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::ADD] -> [{} pulses]", pulses.length);
+        validateReady();
+        validateWavePulses(pulses);
+        byte[] data = new byte[pulses.length * PI_WAVE_PULSE_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        for(PiGpioPulse pulse : pulses){
+            buffer.putInt(pulse.gpioOn()).putInt(pulse.gpioOff()).putInt(pulse.usDelay());
+        }
+        int result = transact(WVAG, 0, 0, data, 0, data.length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::ADD] <- SUCCESS={}; PULSES={}", result >= 0, result);
+        validateResult(result);  // Returns the new total number of pulses in the current waveform if OK, otherwise PI_TOO_MANY_PULSES.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CREATE] ->");
+        validateReady();
+        int result = transact(WVCRE, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CREATE] <- SUCCESS={}; WAVE-ID={}", result >= 0, result);
+        validateResult(result);  // Returns the new waveform id if OK, otherwise PI_EMPTY_WAVEFORM, PI_NO_WAVEFORM_ID, PI_TOO_MANY_CBS, or PI_TOO_MANY_OOL.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Deletes the waveform with the given wave id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::DELETE] -> WAVE-ID: {}", waveId);
+        validateReady();
+        int result = transact(WVDEL, waveId, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::DELETE] <- WAVE-ID: {}; SUCCESS={}", waveId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Transmits the waveform with the given wave id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::SEND] -> WAVE-ID: {}; MODE: {}", waveId, mode);
+        validateReady();
+        validateWaveMode(mode);
+        int result;
+        switch(mode){
+            case ONE_SHOT: result = transact(WVTX, waveId, 0); break;
+            case REPEAT: result = transact(WVTXR, waveId, 0); break;
+            default: result = transact(WVTXM, waveId, mode.value()); break;
+        }
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::SEND] <- WAVE-ID: {}; SUCCESS={}; CBS={}", waveId, result >= 0, result);
+        validateResult(result);  // Returns the number of DMA control blocks in the waveform if OK, otherwise PI_BAD_WAVE_ID, or PI_BAD_WAVE_MODE.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] data, int offset, int length) {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CHAIN] -> [{} bytes]", length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateWaveChainLength(length);
+        int result = transact(WVCHA, 0, 0, data, offset, length, null, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CHAIN] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_CHAIN_NESTING, PI_CHAIN_LOOP_CNT, PI_BAD_CHAIN_LOOP, PI_BAD_CHAIN_CMD, PI_CHAIN_COUNTER, PI_BAD_CHAIN_DELAY, PI_CHAIN_TOO_BIG, or PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the wave id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::AT] ->");
+        validateReady();
+        int result = transact(WVTAT, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::AT] <- WAVE-ID: {}", result);
+        validateResult(result);  // Returns the waveform id or one of PI_NO_TX_WAVE or PI_WAVE_NOT_FOUND.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Checks whether a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::BUSY] ->");
+        validateReady();
+        int result = transact(WVBSY, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::BUSY] <- BUSY={}", result == 1);
+        validateResult(result);  // Returns 1 if a waveform is currently being transmitted, otherwise 0.
+        return result == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Aborts the transmission of the current waveform or chain.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::STOP] ->");
+        validateReady();
+        int result = transact(WVHLT, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::STOP] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in microseconds of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMicros() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MICROS] ->");
+        validateReady();
+        int result = transact(WVSM, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in microseconds of the longest waveform created since gpioInitialise was called.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::HIGH-MICROS] ->");
+        validateReady();
+        int result = transact(WVSM, 1, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::HIGH-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the maximum possible size of a waveform in microseconds.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MAX-MICROS] ->");
+        validateReady();
+        int result = transact(WVSM, 2, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MAX-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in pulses of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    @Override
+    public int gpioWaveGetPulses() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::PULSES] ->");
+        validateReady();
+        int result = transact(WVSP, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in pulses of the longest waveform created since gpioInitialise was called.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::HIGH-PULSES] ->");
+        validateReady();
+        int result = transact(WVSP, 1, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::HIGH-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the maximum possible size of a waveform in pulses.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MAX-PULSES] ->");
+        validateReady();
+        int result = transact(WVSP, 2, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MAX-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in DMA control blocks of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    @Override
+    public int gpioWaveGetCbs() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CBS] ->");
+        validateReady();
+        int result = transact(WVSC, 0, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the length in DMA control blocks of the longest waveform created since gpioInitialise was called.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::HIGH-CBS] ->");
+        validateReady();
+        int result = transact(WVSC, 1, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::HIGH-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the maximum possible size of a waveform in DMA control blocks.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MAX-CBS] ->");
+        validateReady();
+        int result = transact(WVSC, 2, 0);
+        if(logger.isTraceEnabled()) logger.trace("[WAVE::MAX-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
 }
@@ -27,14 +27,26 @@ package com.pi4j.library.pigpio.impl;
  * #L%
  */
 
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_ALIVE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_EVENT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_WDOG;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_BIT_MASK;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_FALLING_EDGE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_RISING_EDGE;
+
 import java.io.IOException;
-import java.net.Socket;
-import java.net.SocketException;
-import java.net.SocketTimeoutException;
+import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioEvent;
+import com.pi4j.library.pigpio.PiGpioException;
 import com.pi4j.library.pigpio.PiGpioPacket;
 import com.pi4j.library.pigpio.PiGpioState;
 import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
@@ -44,6 +56,15 @@ import org.slf4j.LoggerFactory;
 /**
  * <p>PiGpioSocketMonitor class.</p>
  *
+ * Monitors the GPIO notification socket of a PiGpio socket instance.  The notification socket
+ * is multiplexed with the notification sockets of other instances on the selector thread of a
+ * {@link com.pi4j.library.pigpio.impl.PiGpioNotificationHub}; decoded state change events are
+ * dispatched in order on the hub's worker pool.
+ *
+ * Besides level changes the notification stream carries watchdog timeout reports (dispatched
+ * as state change events with the state TIMEOUT for the pin that timed out) and software event
+ * reports for the events selected with EVM (dispatched as {@link com.pi4j.library.pigpio.PiGpioEvent}).
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
@@ -54,16 +75,31 @@ public class PiGpioSocketMonitor  {
     /** Constant <code>NAME="pigpio-monitor"</code> */
     public static String NAME = "pigpio-monitor";
 
+    /** Constant <code>RECONNECT_DELAY=5000</code> (milliseconds) */
+    public static final int RECONNECT_DELAY = 5000;
+
     protected final PiGpioSocketBase piGpio;
-    protected Socket listener = null;
-    protected boolean shutdown = false;
-    protected Integer handle = null;
-    protected Thread monitoringThread = null;
+    protected PiGpioNotificationHub hub;
+    protected volatile SocketChannel listener = null;
+    protected volatile boolean shutdown = false;
+    protected volatile Integer handle = null;
 
     // 32 bits are used to store the last known states of pins 0-31
-    protected int pinState = 0b00000000000000000000000000000000;
-    protected int pinMonitor = 0b00000000000000000000000000000000;
+    protected volatile int pinState = 0b00000000000000000000000000000000;
+    protected volatile int pinMonitor = 0b00000000000000000000000000000000;
 
+    // 32 bits each are used to select the rising and falling edges reported for pins 0-31
+    protected volatile int risingEdges = 0b11111111111111111111111111111111;
+    protected volatile int fallingEdges = 0b11111111111111111111111111111111;
+
+    // 32 bits are used to select the monitored events 0-31
+    protected volatile int eventMonitor = 0b00000000000000000000000000000000;
+
+    protected final PiGpioReportDecoder decoder = new PiGpioReportDecoder();
+    // decoded state change events (PiGpioStateChangeEvent) and software events (PiGpioEvent)
+    protected final List<Object> batch = new ArrayList<>();
+    protected final Queue<Batch> events = new ConcurrentLinkedQueue<>();
+    protected final AtomicBoolean dispatching = new AtomicBoolean(false);
 
     /**
      * <p>Constructor for PiGpioSocketMonitor.</p>
@@ -71,7 +107,28 @@ public class PiGpioSocketMonitor  {
      * @param piGpio a {@link com.pi4j.library.pigpio.impl.PiGpioSocketBase} object.
      */
     public PiGpioSocketMonitor(PiGpioSocketBase piGpio) {
+        this(piGpio, null);
+    }
+
+    /**
+     * <p>Constructor for PiGpioSocketMonitor.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.impl.PiGpioSocketBase} object.
+     * @param hub notification hub to multiplex the notification socket on; null for the shared hub
+     */
+    public PiGpioSocketMonitor(PiGpioSocketBase piGpio, PiGpioNotificationHub hub) {
         this.piGpio = piGpio;
+        this.hub = hub;
+    }
+
+    /**
+     * Get the notification hub the notification socket is multiplexed on.
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioNotificationHub} object.
+     */
+    public synchronized PiGpioNotificationHub hub() {
+        if(hub == null) hub = PiGpioNotificationHub.shared();
+        return hub;
     }
 
     /**
@@ -93,7 +150,8 @@ public class PiGpioSocketMonitor  {
      * @return a boolean.
      */
     public boolean isConnected(){
-        return (listener != null && listener.isConnected());
+        SocketChannel channel = listener;
+        return (channel != null && channel.isConnected());
     }
 
     /**
@@ -102,225 +160,337 @@ public class PiGpioSocketMonitor  {
      * @param pin a int.
      * @param enabled a boolean.
      */
-    public void enable(int pin, boolean enabled){
+    public synchronized void enable(int pin, boolean enabled){
 
         // update pin monitor
         if(enabled) {
             pinMonitor |= 1 << pin;
+            shutdown = false;
         } else {
             pinMonitor &= ~(1 << pin);
         }
 
-        // start the monitoring thread if its not currently running
-        if(pinMonitor != 0){
-            if(monitoringThread == null || !monitoringThread.isAlive()){
-                startMonitoringThread();
-            } else {
-                // update specific pin set to monitor
-                PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.NB, this.handle, pinMonitor);
-                piGpio.sendPacket(tx);
-            }
+        if(!monitoring()) {
+            // no pins or events are monitored any longer; release the notification socket
+            disable();
+        } else if(!isConnected()) {
+            // open the notification socket if its not currently connected
+            connect();
+        } else {
+            // update specific pin set to monitor
+            PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.NB, this.handle, pinMonitor);
+            piGpio.sendPacket(tx);
         }
     }
 
+    /**
+     * Select the level changes reported for a monitored pin.
+     *
+     * @param pin GPIO pin number (0-31)
+     * @param edge PI_RISING_EDGE, PI_FALLING_EDGE or PI_EITHER_EDGE
+     */
+    public synchronized void edges(int pin, int edge){
+        risingEdges = (edge != PI_FALLING_EDGE) ? (risingEdges | (1 << pin)) : (risingEdges & ~(1 << pin));
+        fallingEdges = (edge != PI_RISING_EDGE) ? (fallingEdges | (1 << pin)) : (fallingEdges & ~(1 << pin));
+    }
+
+    /**
+     * Events decoded from a single read of the notification socket.
+     */
+    protected static class Batch {
+        protected final List<Object> events;
+        // System.nanoTime() at which the reports were read
+        protected final long received;
+
+        protected Batch(List<Object> events, long received) {
+            this.events = new ArrayList<>(events);
+            this.received = received;
+        }
+    }
+
+    /**
+     * <p>enableEvent.</p>
+     *
+     * @param event event number (0-31)
+     * @param enabled a boolean.
+     */
+    public synchronized void enableEvent(int event, boolean enabled){
+
+        // update event monitor
+        if(enabled) {
+            eventMonitor |= 1 << event;
+            shutdown = false;
+        } else {
+            eventMonitor &= ~(1 << event);
+        }
+
+        if(!monitoring()) {
+            // no pins or events are monitored any longer; release the notification socket
+            disable();
+        } else if(!isConnected()) {
+            // open the notification socket if its not currently connected
+            connect();
+        } else {
+            // update specific event set to monitor
+            PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.EVM, this.handle, eventMonitor);
+            piGpio.sendPacket(tx);
+        }
+    }
+
+    /**
+     * Check if any pins or events are monitored.
+     *
+     * @return true if the notification socket is required
+     */
+    protected boolean monitoring() {
+        return pinMonitor != 0 || eventMonitor != 0;
+    }
+
     /**
      * <p>disable.</p>
      */
-    protected void disable() {
-        // reset pin monitoring flags
+    protected synchronized void disable() {
+        // reset pin and event monitoring flags
         pinMonitor = 0b00000000000000000000000000000000;
+        eventMonitor = 0b00000000000000000000000000000000;
+
+        Integer handle = this.handle;
+        if(handle != null && isConnected()) {
+            // update specific pin set to monitor
+            logger.trace("[NOTIFY] disable pin notifications [NB] <ALL PINS 0-31>");
+            PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.NB, handle, pinMonitor);
+            piGpio.sendPacket(tx);
+
+            // update specific event set to monitor
+            logger.trace("[NOTIFY] disable event notifications [EVM] <ALL EVENTS 0-31>");
+            tx = new PiGpioPacket(PiGpioCmd.EVM, handle, eventMonitor);
+            piGpio.sendPacket(tx);
+
+            // close the notification handle
+            logger.trace("[NOTIFY] disable socket notifications [NC]; HANDLE={}", handle);
+            tx = new PiGpioPacket(PiGpioCmd.NC, handle);
+            piGpio.sendPacket(tx);
+        }
+        close();
+    }
+
+    /**
+     * Get the total number of notification reports received from the PiGpio daemon.
+     *
+     * @return number of reports received
+     */
+    public long receivedReports() {
+        return decoder.received();
+    }
+
+    /**
+     * Get the total number of notification reports detected missing from the report sequence;
+     * each dropped report may have carried pin state transitions that were not dispatched.
+     *
+     * @return number of reports dropped
+     */
+    public long droppedReports() {
+        return decoder.dropped();
+    }
 
-        // update specific pin set to monitor
-        logger.trace("[NOTIFY] disable pin notifications [NB] <ALL PINS 0-31>");
-        PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.NB, this.handle, pinMonitor);
-        piGpio.sendPacket(tx);
+    /**
+     * Open the notification socket, read the current pin states and enable notifications
+     * for the monitored pins; then hand the socket over to the notification hub.  If the
+     * PiGpio daemon cannot be reached, a reconnect attempt is scheduled.
+     */
+    protected synchronized void connect() {
+        SocketChannel channel = null;
+        try {
+            logger.debug("[SOCKET] attempting to connect to: {}:{}", piGpio.host, piGpio.port);
+            channel = SocketChannel.open(new InetSocketAddress(piGpio.host, piGpio.port));
+            channel.socket().setTcpNoDelay(true);
+            channel.socket().setSoTimeout(piGpio.replyTimeout());
+            logger.debug("[SOCKET] successfully connected");
+
+            // get the current pin states for pins 0-31
+            PiGpioPacket rx = request(channel, new PiGpioPacket(PiGpioCmd.BR1));
+            pinState = rx.p3();
+            logger.trace("[GPIO] current pin states [BR1] <{}>", Integer.toBinaryString(pinState));
+
+            // enable socket notifications for pins 0-31; from now on the
+            // socket only carries notification reports
+            rx = request(channel, new PiGpioPacket(PiGpioCmd.NOIB));
+            handle = rx.p3();
+            logger.trace("[NOTIFY] enable socket notifications [NOIB]; HANDLE={}", handle);
+
+            // a new notification handle restarts the report sequence numbers
+            decoder.reset();
+            listener = channel;
+
+            // enable specific pin set to monitor
+            piGpio.sendPacket(new PiGpioPacket(PiGpioCmd.NB, handle, pinMonitor));
+            logger.trace("[NOTIFY] enable pin notifications [NB] <{}>", Integer.toBinaryString(pinMonitor));
+
+            // enable specific event set to monitor
+            if(eventMonitor != 0) {
+                piGpio.sendPacket(new PiGpioPacket(PiGpioCmd.EVM, handle, eventMonitor));
+                logger.trace("[NOTIFY] enable event notifications [EVM] <{}>", Integer.toBinaryString(eventMonitor));
+            }
+
+            hub().register(channel, this);
+        }
+        catch (IOException | PiGpioException e) {
+            logger.warn("[SOCKET] notification socket failed to connect: {}", e.getMessage());
+            if(channel != null && listener != channel) {
+                try {
+                    channel.close();
+                } catch (IOException ce) {
+                    logger.debug(ce.getMessage());
+                }
+            }
+            disconnected();
+        }
+    }
 
-        // close the notification handle
-        logger.trace("[NOTIFY] disable socket notifications [NC]; HANDLE={}", handle);
-        tx = new PiGpioPacket(PiGpioCmd.NC, handle);
-        piGpio.sendPacket(tx);
+    private PiGpioPacket request(SocketChannel channel, PiGpioPacket tx) throws IOException {
+        logger.trace("[TX] -> {}", tx);
+        ByteBuffer encoded = ByteBuffer.wrap(PiGpioPacket.encode(tx));
+        while (encoded.hasRemaining()) channel.write(encoded);
+        PiGpioPacket rx = PiGpioPacket.decode(channel.socket().getInputStream());
+        logger.trace("[RX] <- {}", rx);
+        return rx;
     }
 
-    private void startMonitoringThread(){
-        // create monitoring thread
-        monitoringThread = new Thread(NAME) {
-            @Override
-            public void run() {
-                logger.trace("[THREAD] STARTED");
+    /**
+     * Read and decode the notification reports available on the notification socket.
+     * Invoked by the notification hub's selector thread.
+     *
+     * @throws IOException if an error occurs reading from the notification socket.
+     */
+    protected void readable() throws IOException {
+        SocketChannel channel = listener;
+        if(channel == null) return;
+
+        // check for end of stream
+        long received = System.nanoTime();
+        if(channel.read(decoder.buffer()) < 0) {
+            logger.warn("[SOCKET] failed to read socket stream; socket is not connected.");
+            disconnected();
+            return;
+        }
+
+        // decode every complete report received; partial reports are carried over
+        long dropped = decoder.dropped();
+        decoder.decode(this::report);
+        if(decoder.dropped() != dropped) {
+            logger.warn("[NOTIFY] {} notification report(s) dropped; {} dropped in total",
+                    decoder.dropped() - dropped, decoder.dropped());
+        }
 
-                // continue running this thread until this monitor is 'shutdown'
-                while (!shutdown && pinMonitor > 0){
+        // hand the events of this read over to the worker pool
+        if(!batch.isEmpty()) {
+            events.add(new Batch(batch, received));
+            batch.clear();
+            if(dispatching.compareAndSet(false, true)) hub().execute(this::dispatch);
+        }
+    }
 
-                    // create new listener socket instance
+    /**
+     * Compare a decoded notification report with the last known pin states and queue a
+     * state change event for every monitored pin that has changed.  Watchdog reports queue
+     * a TIMEOUT state change event for the pin that timed out and event reports queue the
+     * software event if it is monitored.
+     *
+     * @param sequence report sequence number
+     * @param flags report flags
+     * @param tick tick in microseconds at which the levels were sampled
+     * @param newPinState levels of GPIO 0-31
+     */
+    protected void report(int sequence, int flags, long tick, int newPinState) {
+        if(logger.isTraceEnabled()) logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
+                sequence, flags, tick, Integer.toBinaryString(newPinState));
+        piGpio.metrics().notificationReport();
+
+        // event reports carry the event number in the low bits of the flags
+        if((flags & PI_NTFY_FLAGS_EVENT) != 0) {
+            int event = flags & PI_NTFY_FLAGS_BIT_MASK;
+            if((eventMonitor & (1 << event)) != 0) batch.add(new PiGpioEvent(event, tick));
+            return;
+        }
+
+        // keep-alive reports do not carry pin levels
+        if((flags & PI_NTFY_FLAGS_ALIVE) != 0) return;
+
+        // watchdog reports carry the timed out pin in the low bits of the flags
+        if((flags & PI_NTFY_FLAGS_WDOG) != 0) {
+            int pin = flags & PI_NTFY_FLAGS_BIT_MASK;
+            if((pinMonitor & (1 << pin)) != 0) batch.add(new PiGpioStateChangeEvent(pin, PiGpioState.TIMEOUT, tick));
+            return;
+        }
+
+        // only monitored pins that have changed state on a selected edge produce an event
+        int changed = (pinState ^ newPinState) & pinMonitor
+                & ((newPinState & risingEdges) | (~newPinState & fallingEdges));
+        while (changed != 0) {
+            int i = Integer.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            final PiGpioState state = PiGpioState.from((newPinState >> i) & 1);
+            batch.add(new PiGpioStateChangeEvent(i, state, tick));
+        }
+
+        // cache the newly read pins states for future comparisons
+        pinState = newPinState;
+    }
+
+    /**
+     * Dispatch all queued state change and software events in the order they were received.
+     * Runs on the notification hub's worker pool; at most one dispatch runs at a time.
+     */
+    protected void dispatch() {
+        do {
+            Batch received;
+            while ((received = events.poll()) != null) {
+                piGpio.metrics().dispatchLag(System.nanoTime() - received.received);
+                for (int i = 0; i < received.events.size(); i++) {
+                    Object event = received.events.get(i);
+                    logger.trace("[DISPATCH] {}", event);
                     try {
-                        logger.debug("[SOCKET] attempting to connect to: {}:{}", piGpio.host, piGpio.port);
-                        listener = new Socket(piGpio.host, piGpio.port);
-                        listener.setSoTimeout(1000);
-
-                        // check to see if we connected successfully
-                        if(listener.isConnected()) {
-
-                            logger.debug("[SOCKET] successfully connected");
-
-                            // get the current pin states for pins 0-31
-                            PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.BR1);
-                            PiGpioPacket rx = piGpio.sendPacket(tx, listener);
-                            pinState = rx.p3();
-                            logger.trace("[GPIO] current pin states [BR1] <{}>", Integer.toBinaryString(pinState));
-
-//                        ByteBuffer b = ByteBuffer.allocate(4);
-//                        b.order(ByteOrder.LITTLE_ENDIAN);
-//                        b.putInt(rx.p3());
-//                        logger.info("[STATES] [" + Integer.toBinaryString(rx.p3()) + "]");
-
-                            // enable socket notifications for pins 0-31
-                            tx = new PiGpioPacket(PiGpioCmd.NOIB);
-                            rx = piGpio.sendPacket(tx, listener);
-                            handle = rx.p3();
-                            logger.trace("[NOTIFY] enable socket notifications [NOIB]; HANDLE={}", handle);
-
-                            // enable specific pin set to monitor
-                            tx = new PiGpioPacket(PiGpioCmd.NB, handle, pinMonitor);
-                            piGpio.sendPacket(tx, listener);
-                            logger.trace("[NOTIFY] enable pin notifications [NB] <{}>", Integer.toBinaryString(pinMonitor));
-
-                            // get the input stream from the listener socket
-                            var in = listener.getInputStream();
-
-                            boolean disconnected = false;
-                            byte[] raw = new byte[12];
-
-                            // continue reading from the socket until the socket has become disconnected,
-                            // this monitor is being shutdown or until no pins are actively being monitored
-                            while (!disconnected && !shutdown && pinMonitor != 0) {
-
-                                try {
-                                    int result = in.read(raw, 0, raw.length);
-
-                                    // check for end of stream error code
-                                    if(result == -1){
-                                        logger.warn("[SOCKET] failed to read socket stream; socket is not connected.");
-                                        disconnected = true;   // set disconnected flag
-                                        if(!listener.isClosed()) listener.close();  // close listener socket
-                                        break;
-                                    }
-
-                                    // process the data read buffer if we have a sufficient number of bytes
-                                    if (result >= 12) {
-                                        // wrap the raw data in a byte buffer to process/decode the results (Little Endian)
-                                        ByteBuffer buffer = ByteBuffer.wrap(raw);
-                                        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-                                        // decode each event data element from the buffer
-                                        final long sequence = Integer.toUnsignedLong(buffer.getShort());
-                                        final long flags = Integer.toUnsignedLong(buffer.getShort());
-                                        final long tick = Integer.toUnsignedLong(buffer.getInt());
-                                        final int newPinState = buffer.getInt();
-
-//                        final BitSet levels = BitSet.valueOf(buffer.array());
-//                        logger.info("[BYTES] [0x" + StringUtil.toHexString(buffer) + "]");
-//                        logger.info("[SEQUE] " + sequence);
-//                        logger.info("[FLAGS] " + flags);
-//                        logger.info("[TICK ] " + tick);
-//                        logger.info("[LEVEL] " + Integer.toBinaryString(level));
-//                        logger.info("[STATE] " + BitSet.valueOf(raw).get(0));
-//                        logger.info("--------------------------------------------------------");
-                                        logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
-                                                sequence, flags, tick, Integer.toBinaryString(newPinState));
-
-                                        // iterate over the 32 bits in the level value
-                                        for (int i = 0; i < 32; i++) {
-                                            // determine if this pin is enabled for events
-                                            // if it is, then process the event; else ignore it
-                                            int pinNotify = (pinMonitor >> i) & 1;
-                                            if(pinNotify > 0) {
-                                                // get the states for this pin from the 32-bit value
-                                                int oldState = (pinState >> i) & 1;
-                                                int newState = (newPinState >> i) & 1;
-
-                                                // compare the old state value with the new state value to determine if there is a change
-                                                if (oldState != newState) {
-                                                    // if there is a change detected, then create a new change event and dispatch it
-                                                    final PiGpioState state = PiGpioState.from(newState);
-                                                    final PiGpioStateChangeEvent event = new PiGpioStateChangeEvent(i, state, tick);
-                                                    logger.trace("[DISPATCH] PiGpioStateChangeEvent(PIN={}; FLAGS={}; TICK={}; STATE=[{}]",
-                                                            i, flags, tick, Integer.toBinaryString(newPinState));
-                                                    try {
-                                                        piGpio.dispatchEvent(event);
-                                                    }
-                                                    catch (Exception e){
-                                                        logger.error(e.getMessage(), e);
-                                                    }
-                                                }
-                                            }
-                                        }
-
-                                        // cache the new;y read pins states for future comparisons
-                                        pinState = newPinState;
-                                    }
-                                }
-                                catch (SocketTimeoutException ste){
-                                    // ignore this timeout and continue reading
-                                }
-                            }
-
-                            // if the socket is not disconnected, then attempt to send a few clean up
-                            // instructions to the PiGpio daemon to disable notifications for this socket
-                            if(!disconnected) {
-                                // disable pin monitoring on socket for all pins (0-32)
-                                logger.trace("[NOTIFY] disable pin notifications [NB] <ALL PINS 0-31>");
-                                tx = new PiGpioPacket(PiGpioCmd.NB, handle, 0b00000000000000000000000000000000);
-                                piGpio.sendPacket(tx, listener);
-
-                                // close the notification handle
-                                logger.trace("[NOTIFY] disable socket notifications [NC]; HANDLE={}", handle);
-                                tx = new PiGpioPacket(PiGpioCmd.NC, handle);
-                                piGpio.sendPacket(tx, listener);
-                            }
-                        }
-                        else {
-                            logger.warn("[SOCKET] Listener socket failed to connect");
-                        }
+                        if(event instanceof PiGpioEvent) piGpio.dispatchEvent((PiGpioEvent) event);
+                        else piGpio.dispatchEvent((PiGpioStateChangeEvent) event);
                     }
-                    catch (SocketException se) {
-                        // the listener socket was closed
-                    }
-                    catch (IOException e) {
+                    catch (Exception e){
                         logger.error(e.getMessage(), e);
                     }
+                }
+            }
+            dispatching.set(false);
+        } while (!events.isEmpty() && dispatching.compareAndSet(false, true));
+    }
 
-                    // clear handle
-                    handle = null;
+    /**
+     * Handle a lost notification socket; a reconnect attempt is scheduled
+     * unless the monitor is shutting down or no pins or events are monitored.
+     */
+    protected void disconnected() {
+        close();
+        if(!shutdown && monitoring()) {
+            logger.debug("[SOCKET] will attempt to reconnect in {} milliseconds", RECONNECT_DELAY);
+            hub().schedule(this::reconnect, RECONNECT_DELAY);
+        }
+    }
 
-                    // make sure the listener is closed at this point
-                    if(!listener.isClosed()) {
-                        try {
-                            listener.close();
-                        } catch (IOException e) {
-                            logger.error(e.getMessage(), e);
-                        }
-                    }
+    /**
+     * Re-open the notification socket if pins or events are monitored and the socket is not connected.
+     */
+    protected synchronized void reconnect() {
+        if(!shutdown && monitoring() && !isConnected()) connect();
+    }
 
-                    // attempt to reconnect if we are not shutting down
-                    if(!shutdown && pinMonitor > 0) {
-                        // sleep for 5 seconds
-                        try {
-                            logger.debug("[SOCKET] will attempt to reconnect in 5 seconds");
-                            for(int i = 0; i < 50; i++) {
-                                Thread.sleep(100);
-                                if(shutdown) break;
-                            }
-
-                        } catch (InterruptedException e) {
-                            logger.error(e.getMessage(), e);
-                        }
-                    }
-                }
-                logger.debug("[THREAD] ENDED");
+    private void close() {
+        SocketChannel channel = listener;
+        listener = null;
+        handle = null;
+        if(channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
             }
-        };
-
-        // start thread
-        monitoringThread.start();
+        }
     }
 }
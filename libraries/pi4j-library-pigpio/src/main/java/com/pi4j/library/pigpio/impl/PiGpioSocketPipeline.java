@@ -0,0 +1,349 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPipeline.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>PiGpioSocketPipeline class.</p>
+ *
+ * Pipelined command transport for a single PiGpio daemon socket connection.  Commands are
+ * written to the socket back-to-back without waiting for the responses of earlier commands.
+ * The PiGpio daemon processes the commands of a socket strictly in order, so a dedicated
+ * reader thread matches each response to the oldest pending command and completes its future.
+ *
+ * The command of each response is checked against the command it is matched to.  A response of
+ * another command, or a command whose caller gave up waiting (timeout), means the order of the
+ * responses can no longer be trusted; the connection is closed and all pending commands fail.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketPipeline implements PiGpioSocketTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketPipeline.class);
+
+    /** Constant <code>NAME="pigpio-pipeline"</code> */
+    public static String NAME = "pigpio-pipeline";
+
+    protected final Socket socket;
+    protected final InputStream in;
+    protected final OutputStream out;
+    protected final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger inFlight = new AtomicInteger(0);
+    protected final Object writeLock = new Object();
+    protected final Thread reader;
+    protected volatile boolean closed = false;
+
+    /**
+     * Open a new pipelined connection to the PiGpio daemon.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @throws IOException if the socket connection could not be established.
+     */
+    public PiGpioSocketPipeline(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        this.socket.setTcpNoDelay(true);
+        this.in = socket.getInputStream();
+        this.out = socket.getOutputStream();
+        this.reader = new Thread(this::read, NAME + "-" + host + ":" + port);
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    /**
+     * <p>isConnected.</p>
+     *
+     * @return a boolean.
+     */
+    public boolean isConnected() {
+        return !closed && socket.isConnected() && !socket.isClosed();
+    }
+
+    /**
+     * Get the number of commands sent to the PiGpio daemon that have not yet received a response.
+     *
+     * @return number of in-flight commands
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Send a command to the PiGpio daemon without waiting for the response.
+     *
+     * @param tx command packet to send
+     * @return future completed with the response packet by the reader thread
+     */
+    public CompletableFuture<PiGpioPacket> submit(PiGpioPacket tx) {
+        CompletableFuture<PiGpioPacket> future = new CompletableFuture<>();
+        byte[] encoded = PiGpioPacket.encode(tx);
+        synchronized (writeLock) {
+            if(closed) {
+                future.completeExceptionally(new PiGpioException("PIGPIO pipeline connection is closed"));
+                return future;
+            }
+            // the pending entry must be queued before the bytes hit the wire
+            logger.trace("[TX] -> {}", tx);
+            enqueue(tx.cmd(), future);
+            try {
+                out.write(encoded);
+                out.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Send a burst of commands to the PiGpio daemon in a single socket write without
+     * waiting for any of the responses.
+     *
+     * @param packets command packets to send
+     * @return futures completed with the response packets; in the same order as the commands
+     */
+    public List<CompletableFuture<PiGpioPacket>> submit(Collection<PiGpioPacket> packets) {
+        List<CompletableFuture<PiGpioPacket>> futures = new ArrayList<>(packets.size());
+        List<Pending> entries = new ArrayList<>(packets.size());
+
+        // encode all command packets into a single contiguous buffer
+        int size = 0;
+        for(PiGpioPacket tx : packets) {
+            size += PiGpioPacket.HEADER_SIZE + tx.dataLength();
+        }
+        byte[] encoded = new byte[size];
+        int offset = 0;
+        for(PiGpioPacket tx : packets) {
+            byte[] bytes = PiGpioPacket.encode(tx);
+            System.arraycopy(bytes, 0, encoded, offset, bytes.length);
+            offset += bytes.length;
+            Pending entry = new Pending(tx.cmd(), new CompletableFuture<>());
+            entries.add(entry);
+            futures.add(entry.future);
+        }
+
+        synchronized (writeLock) {
+            if(closed) {
+                futures.forEach(f -> f.completeExceptionally(new PiGpioException("PIGPIO pipeline connection is closed")));
+                return futures;
+            }
+            entries.forEach(this::enqueue);
+            try {
+                out.write(encoded);
+                out.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Send a command to the PiGpio daemon and wait for its response using the given wait strategy.
+     *
+     * @param tx command packet to send
+     * @param waitStrategy strategy used to wait for the response
+     * @param timeout maximum time in milliseconds to wait for the response
+     * @return response packet
+     */
+    public PiGpioPacket transact(PiGpioPacket tx, PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        return receive(submit(tx), waitStrategy, timeout);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The command of the next chunk is submitted before waiting for the response of the previous
+     * chunk, so at most two chunks are in flight.
+     */
+    @Override
+    public int stream(PiGpioCmd cmd, int p1, byte[] txData, int txOffset, byte[] rxData, int rxOffset,
+                      int length, int chunkSize, PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        CompletableFuture<PiGpioPacket> previous = null;
+        int offset = 0;
+        int error = 0;
+        for(int next = 0; (next < length && error == 0) || previous != null; ) {
+            CompletableFuture<PiGpioPacket> current = null;
+            if(next < length && error == 0) {
+                int count = Math.min(chunkSize, length - next);
+                PiGpioPacket tx = new PiGpioPacket(cmd, p1, (txData == null) ? count : 0);
+                if(txData != null) tx.data(txData, txOffset + next, count);
+                current = submit(tx);
+                next += count;
+            }
+            if(previous != null) {
+                PiGpioPacket rx = receive(previous, waitStrategy, timeout);
+                int count = Math.min(chunkSize, length - offset);
+                if(rx.result() < 0 && error == 0) error = rx.result();
+                if(rxData != null && rx.result() > 0 && rx.dataLength() > 0) {
+                    System.arraycopy(rx.data(), 0, rxData, rxOffset + offset, Math.min(rx.dataLength(), count));
+                }
+                offset += count;
+            }
+            previous = current;
+        }
+        return (error < 0) ? error : length;
+    }
+
+    /**
+     * Wait for a pending command response using the given wait strategy.
+     *
+     * @param future pending command response
+     * @param waitStrategy strategy used to wait for the response
+     * @param timeout maximum time in milliseconds to wait for the response
+     * @return response packet
+     */
+    public static PiGpioPacket await(CompletableFuture<PiGpioPacket> future, PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        try {
+            if(waitStrategy != PiGpioSocketWaitStrategy.BLOCKING) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+                while (!future.isDone()) {
+                    if(System.nanoTime() - deadline > 0) throw new TimeoutException();
+                    if(waitStrategy == PiGpioSocketWaitStrategy.YIELD) {
+                        Thread.yield();
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+            }
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new PiGpioException("Command timed out; no response from host in " + timeout + " milliseconds", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof PiGpioException) throw (PiGpioException)e.getCause();
+            throw new PiGpioException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PiGpioException(e);
+        }
+    }
+
+    /**
+     * Close the socket connection; all pending commands are completed exceptionally.
+     */
+    public void close() {
+        fail(new IOException("PIGPIO pipeline connection closed"));
+    }
+
+    private PiGpioPacket receive(CompletableFuture<PiGpioPacket> future, PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        try {
+            return await(future, waitStrategy, timeout);
+        } catch (PiGpioException e) {
+            if(e.getCause() instanceof TimeoutException) {
+                // the late response would be matched to the wrong command; drop the connection
+                fail(new IOException("No response from host in " + timeout + " milliseconds", e.getCause()));
+            }
+            throw e;
+        }
+    }
+
+    private void enqueue(PiGpioCmd cmd, CompletableFuture<PiGpioPacket> future) {
+        enqueue(new Pending(cmd, future));
+    }
+
+    private void enqueue(Pending entry) {
+        inFlight.incrementAndGet();
+        pending.add(entry);
+    }
+
+    private void read() {
+        logger.trace("[THREAD] STARTED");
+        try {
+            while (!closed) {
+                PiGpioPacket rx = PiGpioPacket.decode(in);
+                logger.trace("[RX] <- {}", rx);
+                Pending entry = pending.poll();
+                if(entry == null) {
+                    throw new IOException("Unexpected response from host without pending command: " + rx);
+                }
+                inFlight.decrementAndGet();
+                if(rx.cmd() != entry.cmd) {
+                    IOException e = new IOException("Unexpected response from host; expected CMD=" + entry.cmd.value() + " but received " + rx);
+                    entry.future.completeExceptionally(new PiGpioException(e));
+                    throw e;
+                }
+                entry.future.complete(rx);
+            }
+        } catch (IOException e) {
+            if(!closed) logger.debug("[SOCKET] pipeline connection failed: {}", e.getMessage());
+            fail(e);
+        }
+        logger.trace("[THREAD] ENDED");
+    }
+
+    private void fail(IOException cause) {
+        synchronized (writeLock) {
+            closed = true;
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug(e.getMessage());
+            }
+        }
+        Pending entry;
+        while ((entry = pending.poll()) != null) {
+            inFlight.decrementAndGet();
+            entry.future.completeExceptionally(new PiGpioException(cause));
+        }
+    }
+
+    /**
+     * Command sent to the PiGpio daemon awaiting its response.
+     */
+    protected static class Pending {
+        protected final PiGpioCmd cmd;
+        protected final CompletableFuture<PiGpioPacket> future;
+
+        protected Pending(PiGpioCmd cmd, CompletableFuture<PiGpioPacket> future) {
+            this.cmd = cmd;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPool.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioSocketCheckout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>PiGpioSocketPool class.</p>
+ *
+ * Fixed size pool of command connections to the PiGpio daemon.  Connections are opened lazily
+ * on first use and are transparently re-opened when they have been closed (for example after a
+ * command timeout or a lost connection).
+ *
+ * The PiGpio daemon processes the commands of each socket connection in order, but commands sent
+ * over different connections may be processed in any order relative to each other.  The
+ * PER_THREAD checkout policy therefore preserves the command order of each calling thread.
+ *
+ * Connections are held in an atomic array so that a connection opened by one thread is safely
+ * published to the threads reading it without taking the lock of its slot.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketPool.class);
+
+    /**
+     * Factory used by the pool to open a new command connection.
+     */
+    @FunctionalInterface
+    public interface Connector {
+        /**
+         * Open a new command connection to the PiGpio daemon.
+         *
+         * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketTransport} object.
+         * @throws IOException if the socket connection could not be established.
+         */
+        PiGpioSocketTransport connect() throws IOException;
+    }
+
+    protected final AtomicReferenceArray<PiGpioSocketTransport> connections;
+    protected final Object[] locks;
+    protected final PiGpioSocketCheckout checkout;
+    protected final Connector connector;
+    protected volatile boolean closed = false;
+
+    /**
+     * Create a new connection pool.  No connections are opened until the first checkout.
+     *
+     * @param size number of connections in the pool (must be greater than zero)
+     * @param checkout policy used to select a connection for each command
+     * @param connector factory used to open new connections
+     */
+    public PiGpioSocketPool(int size, PiGpioSocketCheckout checkout, Connector connector) {
+        if(size <= 0)
+            throw new IllegalArgumentException("Invalid connection pool size: " + size + "; (must be greater than zero)");
+        this.connections = new AtomicReferenceArray<>(size);
+        this.locks = new Object[size];
+        for(int i = 0; i < size; i++) locks[i] = new Object();
+        this.checkout = checkout;
+        this.connector = connector;
+    }
+
+    /**
+     * Get the number of connections in the pool.
+     *
+     * @return pool size
+     */
+    public int size() {
+        return connections.length();
+    }
+
+    /**
+     * <p>checkout.</p>
+     *
+     * @return the connection checkout policy of this pool.
+     */
+    public PiGpioSocketCheckout checkout() {
+        return checkout;
+    }
+
+    /**
+     * Select a connection for the calling thread using the pool's checkout policy; the
+     * connection is (re-)opened if necessary.
+     *
+     * @return a connected {@link com.pi4j.library.pigpio.impl.PiGpioSocketTransport} object.
+     */
+    public PiGpioSocketTransport acquire() {
+        return acquire(select());
+    }
+
+    /**
+     * Get a connection from the pool by index; the connection is (re-)opened if necessary.
+     *
+     * @param index connection index
+     * @return a connected {@link com.pi4j.library.pigpio.impl.PiGpioSocketTransport} object.
+     */
+    public PiGpioSocketTransport acquire(int index) {
+        PiGpioSocketTransport connection = connections.get(index);
+        if(connection != null && connection.isConnected()) return connection;
+        synchronized (locks[index]) {
+            connection = connections.get(index);
+            if(connection == null || !connection.isConnected()) {
+                if(closed) throw new PiGpioException("PIGPIO connection pool is closed");
+                try {
+                    logger.trace("[POOL] opening connection [{}]", index);
+                    connection = connector.connect();
+                } catch (IOException e) {
+                    throw new PiGpioException(e);
+                }
+                connections.set(index, connection);
+            }
+            return connection;
+        }
+    }
+
+    /**
+     * Get a connection from the pool by index without opening it.
+     *
+     * @param index connection index
+     * @return the connection or null if it has not been opened.
+     */
+    public PiGpioSocketTransport get(int index) {
+        return connections.get(index);
+    }
+
+    /**
+     * Get the connected state of the pool.
+     *
+     * @return true if at least one connection of the pool is connected
+     */
+    public boolean isConnected() {
+        for(int i = 0; i < connections.length(); i++) {
+            PiGpioSocketTransport connection = connections.get(i);
+            if(connection != null && connection.isConnected()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Close all connections of the pool.
+     */
+    public void close() {
+        closed = true;
+        for(int i = 0; i < connections.length(); i++) {
+            synchronized (locks[i]) {
+                PiGpioSocketTransport connection = connections.getAndSet(i, null);
+                if(connection != null) connection.close();
+            }
+        }
+    }
+
+    private int select() {
+        int size = connections.length();
+        if(size == 1) return 0;
+        if(checkout == PiGpioSocketCheckout.PER_THREAD) {
+            return (int)(Thread.currentThread().getId() % size);
+        }
+
+        // LEAST_BUSY; an unopened connection counts as idle
+        int index = 0;
+        int least = Integer.MAX_VALUE;
+        for(int i = 0; i < size; i++) {
+            PiGpioSocketTransport connection = connections.get(i);
+            int busy = (connection == null) ? 0 : connection.inFlight();
+            if(busy < least) {
+                least = busy;
+                index = i;
+                if(busy == 0) break;
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,447 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketSession.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static com.pi4j.library.pigpio.PiGpioCmd.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioPud;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioSocketSession class.</p>
+ *
+ * Records the configuration applied through a PiGpio socket instance (pin modes, pull resistors,
+ * PWM, servo and watchdog settings, open I2C, SPI and serial handles and bit-banged I2C and SPI buses) so that
+ * it can be replayed to the PiGpio daemon after the connection to the daemon was lost and re-established.
+ *
+ * Open handles and bit-banged buses are replayed by re-opening them; nothing is closed first, as after a
+ * daemon restart the recorded handle numbers may belong to another client.  The handle numbers returned
+ * to the caller never change: commands sent with a handle that has been re-opened under a different
+ * number are translated with {@link #handle(PiGpioCmd, int)}.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketSession {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketSession.class);
+
+    // handle sent in place of a handle that could not be re-opened; rejected by the PiGpio daemon
+    protected static final int CLOSED = -1;
+
+    /**
+     * Parameters used to open an I2C, SPI or serial handle.
+     */
+    protected static class Opened {
+        // handle assigned by the PiGpio daemon (CLOSED while it is being re-opened)
+        protected volatile int handle;
+        protected final PiGpioCmd open;
+        protected final PiGpioCmd close;
+        protected final int p1;
+        protected final int p2;
+        protected final int flags;
+        protected final String device;
+        protected final int[] data;
+
+        protected Opened(PiGpioCmd open, PiGpioCmd close, int handle, int p1, int p2, int flags, String device) {
+            this(open, close, handle, p1, p2, flags, device, null);
+        }
+
+        protected Opened(PiGpioCmd open, PiGpioCmd close, int p1, int p2, int[] data) {
+            this(open, close, CLOSED, p1, p2, 0, null, data);
+        }
+
+        private Opened(PiGpioCmd open, PiGpioCmd close, int handle, int p1, int p2, int flags, String device, int[] data) {
+            this.handle = handle;
+            this.open = open;
+            this.close = close;
+            this.p1 = p1;
+            this.p2 = p2;
+            this.flags = flags;
+            this.device = device;
+            this.data = data;
+        }
+
+        protected PiGpioPacket packet() {
+            PiGpioPacket tx = new PiGpioPacket(open, p1, p2);
+            if(data != null) {
+                byte[] raw = new byte[data.length * 4];
+                ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(data);
+                return tx.data(raw);
+            }
+            return (device != null) ? tx.data(device) : tx.data(flags);
+        }
+    }
+
+    protected final Map<Integer, PiGpioMode> modes = new ConcurrentHashMap<>();
+    protected final Map<Integer, PiGpioPud> pulls = new ConcurrentHashMap<>();
+    protected final Map<Integer, Integer> ranges = new ConcurrentHashMap<>();
+    protected final Map<Integer, Integer> frequencies = new ConcurrentHashMap<>();
+    protected final Map<Integer, Integer> dutyCycles = new ConcurrentHashMap<>();
+    protected final Map<Integer, int[]> hardwarePwm = new ConcurrentHashMap<>();
+    protected final Map<Integer, Integer> servos = new ConcurrentHashMap<>();
+    protected final Map<Integer, Integer> watchdogs = new ConcurrentHashMap<>();
+    protected final NavigableMap<Integer, Opened> i2c = new ConcurrentSkipListMap<>();
+    protected final NavigableMap<Integer, Opened> spi = new ConcurrentSkipListMap<>();
+    protected final NavigableMap<Integer, Opened> serial = new ConcurrentSkipListMap<>();
+    protected final Map<Integer, Opened> bitBang = new ConcurrentHashMap<>();
+
+    // *****************************************************************************************************
+    // RECORDING
+    // *****************************************************************************************************
+
+    /**
+     * Record a pin mode; changing the mode of a pin stops any PWM or servo pulses on the pin.
+     *
+     * @param pin gpio pin address
+     * @param mode pin mode
+     */
+    public void mode(int pin, PiGpioMode mode) {
+        if(modes.put(pin, mode) != mode) {
+            dutyCycles.remove(pin);
+            hardwarePwm.remove(pin);
+            servos.remove(pin);
+        }
+    }
+
+    /**
+     * <p>pull.</p>
+     *
+     * @param pin gpio pin address
+     * @param pud pull up/down resistor
+     */
+    public void pull(int pin, PiGpioPud pud) {
+        pulls.put(pin, pud);
+    }
+
+    /**
+     * <p>range.</p>
+     *
+     * @param pin gpio pin address
+     * @param range PWM dutycycle range
+     */
+    public void range(int pin, int range) {
+        ranges.put(pin, range);
+    }
+
+    /**
+     * <p>frequency.</p>
+     *
+     * @param pin gpio pin address
+     * @param frequency PWM frequency in hertz
+     */
+    public void frequency(int pin, int frequency) {
+        frequencies.put(pin, frequency);
+    }
+
+    /**
+     * <p>dutyCycle.</p>
+     *
+     * @param pin gpio pin address
+     * @param dutyCycle PWM dutycycle
+     */
+    public void dutyCycle(int pin, int dutyCycle) {
+        dutyCycles.put(pin, dutyCycle);
+        servos.remove(pin);
+        hardwarePwm.remove(pin);
+    }
+
+    /**
+     * <p>hardwarePwm.</p>
+     *
+     * @param pin gpio pin address
+     * @param frequency hardware PWM frequency in hertz
+     * @param dutyCycle hardware PWM dutycycle
+     */
+    public void hardwarePwm(int pin, int frequency, int dutyCycle) {
+        hardwarePwm.put(pin, new int[] { frequency, dutyCycle });
+        dutyCycles.remove(pin);
+        servos.remove(pin);
+    }
+
+    /**
+     * <p>servo.</p>
+     *
+     * @param pin gpio pin address
+     * @param pulseWidth servo pulse width (0 = off)
+     */
+    public void servo(int pin, int pulseWidth) {
+        if(pulseWidth == 0) servos.remove(pin);
+        else servos.put(pin, pulseWidth);
+        dutyCycles.remove(pin);
+        hardwarePwm.remove(pin);
+    }
+
+    /**
+     * Record a watchdog timeout; a timeout of zero cancels the watchdog.
+     *
+     * @param pin gpio pin address
+     * @param timeout watchdog timeout in milliseconds
+     */
+    public void watchdog(int pin, int timeout) {
+        if(timeout == 0) watchdogs.remove(pin);
+        else watchdogs.put(pin, timeout);
+    }
+
+    /**
+     * <p>i2cOpened.</p>
+     *
+     * @param handle I2C handle assigned by the PiGpio daemon
+     * @param bus I2C bus
+     * @param device I2C device address
+     * @param flags I2C flags
+     * @return I2C handle to return to the caller
+     */
+    public int i2cOpened(int handle, int bus, int device, int flags) {
+        return opened(i2c, new Opened(I2CO, I2CC, handle, bus, device, flags, null));
+    }
+
+    /**
+     * <p>i2cClosed.</p>
+     *
+     * @param handle I2C handle
+     */
+    public void i2cClosed(int handle) {
+        i2c.remove(handle);
+    }
+
+    /**
+     * <p>spiOpened.</p>
+     *
+     * @param handle SPI handle assigned by the PiGpio daemon
+     * @param channel SPI channel
+     * @param baud SPI baud rate
+     * @param flags SPI flags
+     * @return SPI handle to return to the caller
+     */
+    public int spiOpened(int handle, int channel, int baud, int flags) {
+        return opened(spi, new Opened(SPIO, SPIC, handle, channel, baud, flags, null));
+    }
+
+    /**
+     * <p>spiClosed.</p>
+     *
+     * @param handle SPI handle
+     */
+    public void spiClosed(int handle) {
+        spi.remove(handle);
+    }
+
+    /**
+     * <p>serialOpened.</p>
+     *
+     * @param handle serial handle assigned by the PiGpio daemon
+     * @param device serial device
+     * @param baud baud rate
+     * @param flags serial flags
+     * @return serial handle to return to the caller
+     */
+    public int serialOpened(int handle, CharSequence device, int baud, int flags) {
+        return opened(serial, new Opened(SERO, SERC, handle, baud, flags, flags, device.toString()));
+    }
+
+    /**
+     * <p>serialClosed.</p>
+     *
+     * @param handle serial handle
+     */
+    public void serialClosed(int handle) {
+        serial.remove(handle);
+    }
+
+    /**
+     * <p>bitBangI2cOpened.</p>
+     *
+     * @param sda GPIO used for SDA
+     * @param scl GPIO used for SCL
+     * @param baud baud rate
+     */
+    public void bitBangI2cOpened(int sda, int scl, int baud) {
+        bitBang.put(sda, new Opened(BI2CO, BI2CC, sda, scl, new int[]{ baud }));
+    }
+
+    /**
+     * <p>bitBangSpiOpened.</p>
+     *
+     * @param cs GPIO used for chip select
+     * @param miso GPIO used for MISO
+     * @param mosi GPIO used for MOSI
+     * @param sclk GPIO used for SCLK
+     * @param baud baud rate
+     * @param flags SPI flags
+     */
+    public void bitBangSpiOpened(int cs, int miso, int mosi, int sclk, int baud, int flags) {
+        bitBang.put(cs, new Opened(BSPIO, BSPIC, cs, 0, new int[]{ miso, mosi, sclk, baud, flags }));
+    }
+
+    /**
+     * <p>bitBangClosed.</p>
+     *
+     * @param pin GPIO used for SDA (I2C) or chip select (SPI)
+     */
+    public void bitBangClosed(int pin) {
+        bitBang.remove(pin);
+    }
+
+    /**
+     * Get the handle assigned by the PiGpio daemon to a handle returned to the caller.
+     *
+     * @param cmd command sent with the handle
+     * @param handle handle (parameter P1) as given by the caller
+     * @return handle to send to the PiGpio daemon; unchanged unless the handle has been re-opened
+     *         under a different number
+     */
+    public int handle(PiGpioCmd cmd, int handle) {
+        NavigableMap<Integer, Opened> opened = handles(cmd);
+        if(opened == null) return handle;
+        Opened entry = opened.get(handle);
+        return (entry != null) ? entry.handle : handle;
+    }
+
+    /**
+     * Forget all recorded configuration.
+     */
+    public void clear() {
+        modes.clear();
+        pulls.clear();
+        ranges.clear();
+        frequencies.clear();
+        dutyCycles.clear();
+        hardwarePwm.clear();
+        servos.clear();
+        watchdogs.clear();
+        i2c.clear();
+        spi.clear();
+        serial.clear();
+        bitBang.clear();
+    }
+
+    // *****************************************************************************************************
+    // REPLAY
+    // *****************************************************************************************************
+
+    /**
+     * Replay the recorded configuration to the PiGpio daemon.  Failed commands are logged and skipped.
+     *
+     * @param piGpio PiGpio socket instance the configuration was recorded from
+     * @return number of replayed commands that failed
+     */
+    public int replay(PiGpioSocketBase piGpio) {
+        int failures = 0;
+        for (Map.Entry<Integer, PiGpioMode> e : modes.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(MODES, e.getKey(), e.getValue().value()));
+        for (Map.Entry<Integer, PiGpioPud> e : pulls.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(PUD, e.getKey(), e.getValue().value()));
+        for (Map.Entry<Integer, Integer> e : ranges.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(PRS, e.getKey(), e.getValue()));
+        for (Map.Entry<Integer, Integer> e : frequencies.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(PFS, e.getKey(), e.getValue()));
+        for (Map.Entry<Integer, Integer> e : dutyCycles.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(PWM, e.getKey(), e.getValue()));
+        for (Map.Entry<Integer, int[]> e : hardwarePwm.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(HP, e.getKey(), e.getValue()[0]).data(e.getValue()[1]));
+        for (Map.Entry<Integer, Integer> e : servos.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(SERVO, e.getKey(), e.getValue()));
+        for (Map.Entry<Integer, Integer> e : watchdogs.entrySet())
+            failures += failed(piGpio, new PiGpioPacket(WDOG, e.getKey(), e.getValue()));
+        failures += reopen(piGpio, i2c);
+        failures += reopen(piGpio, spi);
+        failures += reopen(piGpio, serial);
+        for (Opened opened : bitBang.values())
+            failures += failed(piGpio, opened.packet());
+        return failures;
+    }
+
+    private int reopen(PiGpioSocketBase piGpio, NavigableMap<Integer, Opened> opened) {
+        int failures = 0;
+        for (Map.Entry<Integer, Opened> e : opened.entrySet()) {
+            Opened entry = e.getValue();
+            int previous = entry.handle;
+            // until it is re-opened, the old handle number must not reach the daemon
+            entry.handle = CLOSED;
+            PiGpioPacket rx = send(piGpio, entry.packet());
+            if(rx == null) {
+                failures++;
+                continue;
+            }
+            entry.handle = rx.result();
+            if(rx.result() != previous)
+                logger.info("[REPLAY] handle [{}] was re-opened as handle [{}]", e.getKey(), rx.result());
+        }
+        return failures;
+    }
+
+    private static int opened(NavigableMap<Integer, Opened> opened, Opened entry) {
+        // the daemon may assign a handle that is still known to the caller by an earlier (re-opened) handle
+        int handle = entry.handle;
+        while (opened.putIfAbsent(handle, entry) != null) handle++;
+        return handle;
+    }
+
+    private NavigableMap<Integer, Opened> handles(PiGpioCmd cmd) {
+        switch (cmd) {
+            case I2CC: case I2CRD: case I2CWD: case I2CWQ: case I2CRS: case I2CWS: case I2CRB: case I2CWB:
+            case I2CRW: case I2CWW: case I2CRK: case I2CWK: case I2CRI: case I2CWI: case I2CPC: case I2CPK:
+            case I2CZ:
+                return i2c;
+            case SPIC: case SPIR: case SPIW: case SPIX:
+                return spi;
+            case SERC: case SERRB: case SERWB: case SERR: case SERW: case SERDA:
+                return serial;
+            default:
+                return null;
+        }
+    }
+
+    private int failed(PiGpioSocketBase piGpio, PiGpioPacket tx) {
+        return (send(piGpio, tx) == null) ? 1 : 0;
+    }
+
+    private PiGpioPacket send(PiGpioSocketBase piGpio, PiGpioPacket tx) {
+        try {
+            PiGpioPacket rx = piGpio.sendPacket(tx);
+            if(rx.success()) return rx;
+            logger.warn("[REPLAY] command failed; {}", rx);
+        } catch (RuntimeException e) {
+            logger.warn("[REPLAY] command {} failed; {}", tx.cmd().name(), e.getMessage());
+        }
+        return null;
+    }
+}
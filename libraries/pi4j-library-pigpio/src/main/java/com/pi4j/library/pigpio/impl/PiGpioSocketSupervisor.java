@@ -0,0 +1,242 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketSupervisor.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioSocketSupervisor class.</p>
+ *
+ * Supervises the command connections of a PiGpio socket instance.  Idle connections are probed
+ * periodically so that a lost connection is detected before the next command is sent.  A lost
+ * connection is re-established in the background with exponential backoff; once all connections
+ * are back, the recorded {@link com.pi4j.library.pigpio.impl.PiGpioSocketSession} is replayed and
+ * the GPIO notification socket is reconnected.  Until then only the supervisor itself may send commands;
+ * the instance reports the connection as lost, so no command reaches a daemon whose pin modes,
+ * handles and notifications have not been restored yet.
+ *
+ * The supervisors of all PiGpio socket instances share a small pool of daemon threads.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketSupervisor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketSupervisor.class);
+
+    /** Constant <code>NAME="pigpio-supervisor"</code> */
+    public static String NAME = "pigpio-supervisor";
+
+    /** Constant <code>DEFAULT_INTERVAL=1000</code> (milliseconds) */
+    public static final int DEFAULT_INTERVAL = 1000;
+    /** Constant <code>MIN_BACKOFF=100</code> (milliseconds) */
+    public static final int MIN_BACKOFF = 100;
+    /** Constant <code>MAX_BACKOFF=30000</code> (milliseconds) */
+    public static final int MAX_BACKOFF = 30000;
+
+    private static final ScheduledThreadPoolExecutor executor;
+    static {
+        AtomicInteger count = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+            Thread thread = new Thread(r, NAME + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    protected final PiGpioSocketBase piGpio;
+    protected final int interval;
+    protected ScheduledFuture<?> heartbeat = null;
+    protected volatile boolean connected = true;
+    // thread restoring the session; the only one allowed to send commands while not connected
+    protected volatile Thread restoring = null;
+    protected volatile int backoff = MIN_BACKOFF;
+    protected final AtomicInteger reconnects = new AtomicInteger();
+
+    /**
+     * <p>Constructor for PiGpioSocketSupervisor.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.impl.PiGpioSocketBase} object.
+     * @param interval connection probe interval in milliseconds
+     */
+    public PiGpioSocketSupervisor(PiGpioSocketBase piGpio, int interval) {
+        if(interval <= 0)
+            throw new IllegalArgumentException("Invalid supervisor interval: " + interval + "; (must be greater than zero)");
+        this.piGpio = piGpio;
+        this.interval = interval;
+    }
+
+    /**
+     * Start probing the command connections.
+     */
+    public synchronized void start() {
+        if(heartbeat != null) return;
+        connected = true;
+        backoff = MIN_BACKOFF;
+        heartbeat = executor.scheduleWithFixedDelay(this::probe, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop probing the command connections and cancel any pending reconnect attempt.
+     */
+    public synchronized void stop() {
+        if(heartbeat != null) {
+            heartbeat.cancel(false);
+            heartbeat = null;
+        }
+        connected = true;
+    }
+
+    /**
+     * <p>isRunning.</p>
+     *
+     * @return true if the supervisor has been started
+     */
+    public synchronized boolean isRunning() {
+        return heartbeat != null;
+    }
+
+    /**
+     * Get the connected state of the supervised command connections as of the last probe.
+     *
+     * @return false while the supervisor is re-establishing a lost connection
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Check whether the calling thread may send commands to the PiGpio daemon.
+     *
+     * @return true if connected, or if the calling thread is restoring the session after a reconnect
+     */
+    public boolean isAvailable() {
+        return connected || restoring == Thread.currentThread();
+    }
+
+    /**
+     * Get the number of times the supervisor has re-established lost connections.
+     *
+     * @return number of successful reconnects
+     */
+    public int reconnects() {
+        return reconnects.get();
+    }
+
+    /**
+     * Probe each idle command connection with a TICK command; a connection that is closed
+     * or does not respond triggers a background reconnect.
+     */
+    protected void probe() {
+        if(!connected || !isRunning()) return;
+        PiGpioSocketPool pool = piGpio.pool;
+        if(pool == null) return;
+        for (int i = 0; i < pool.size(); i++) {
+            PiGpioSocketTransport connection = pool.get(i);
+            if(connection == null) continue;
+            if(connection.isConnected() && connection.inFlight() > 0) continue;
+            try {
+                if(!connection.isConnected()) throw new PiGpioException("connection closed");
+                connection.transact(new PiGpioPacket(PiGpioCmd.TICK), piGpio.waitStrategy(), piGpio.replyTimeout());
+            } catch (RuntimeException e) {
+                logger.warn("[SUPERVISOR] lost connection [{}] to {}:{}; {}", i, piGpio.host, piGpio.port, e.getMessage());
+                connection.close();
+                connected = false;
+                executor.execute(this::reconnect);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Re-open all command connections; on success the recorded session is replayed,
+     * otherwise the next attempt is scheduled with exponential backoff.
+     */
+    protected void reconnect() {
+        if(!isRunning()) return;
+        PiGpioSocketPool pool = piGpio.pool;
+        try {
+            if(pool != null) {
+                for (int i = 0; i < pool.size(); i++) pool.acquire(i);
+            }
+            if(piGpio.asyncPipeline != null) piGpio.asyncConnection();
+        } catch (RuntimeException e) {
+            retry("reconnect", e.getMessage());
+            return;
+        }
+
+        logger.info("[SUPERVISOR] reconnected to {}:{}; replaying session", piGpio.host, piGpio.port);
+        restoring = Thread.currentThread();
+        try {
+            // the daemon may have been restarted; pin values written before are no longer known
+            piGpio.writeBehind.invalidate();
+            int failures = piGpio.session.replay(piGpio);
+            if(failures > 0) logger.warn("[SUPERVISOR] {} session command(s) failed to replay", failures);
+            piGpio.monitor.reconnect();
+
+            // a connection lost while replaying fails the remaining commands; start over
+            if(pool != null) {
+                for (int i = 0; i < pool.size(); i++) {
+                    PiGpioSocketTransport connection = pool.get(i);
+                    if(connection == null || !connection.isConnected())
+                        throw new PiGpioException("connection [" + i + "] lost while replaying");
+                }
+            }
+        } catch (RuntimeException e) {
+            retry("session replay", e.getMessage());
+            return;
+        } finally {
+            restoring = null;
+        }
+
+        // only report the connection and count the reconnect once the session is restored
+        backoff = MIN_BACKOFF;
+        connected = true;
+        reconnects.incrementAndGet();
+    }
+
+    private void retry(String attempt, String reason) {
+        int delay = backoff;
+        backoff = Math.min(delay * 2, MAX_BACKOFF);
+        logger.debug("[SUPERVISOR] {} to {}:{} failed; retry in {} ms; {}", attempt, piGpio.host, piGpio.port, delay, reason);
+        synchronized (this) {
+            if(heartbeat != null) executor.schedule(this::reconnect, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+}
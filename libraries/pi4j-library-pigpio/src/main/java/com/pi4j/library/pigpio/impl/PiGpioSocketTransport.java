@@ -0,0 +1,184 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketTransport.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>PiGpioSocketTransport interface.</p>
+ *
+ * A single command connection to the PiGpio daemon.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpioSocketTransport {
+
+    /**
+     * Send a command to the PiGpio daemon and wait for its response using the given wait strategy.
+     *
+     * @param tx command packet to send
+     * @param waitStrategy strategy used to wait for the response
+     * @param timeout maximum time in milliseconds to wait for the response
+     * @return response packet
+     */
+    PiGpioPacket transact(PiGpioPacket tx, PiGpioSocketWaitStrategy waitStrategy, int timeout);
+
+    /**
+     * Send a command to the PiGpio daemon and wait for its response using the given wait strategy.
+     * Response payload bytes (if any) are copied to the given array; payload bytes exceeding
+     * {@code rxLength} are discarded.
+     *
+     * @param cmd command to send
+     * @param p1 command parameter P1
+     * @param p2 command parameter P2
+     * @param txData command payload (may be null when {@code txLength} is zero)
+     * @param txOffset offset of the command payload in {@code txData}
+     * @param txLength number of command payload bytes
+     * @param rxData array receiving the response payload (may be null when {@code rxLength} is zero)
+     * @param rxOffset offset in {@code rxData} of the first response payload byte
+     * @param rxLength maximum number of response payload bytes to copy
+     * @param waitStrategy strategy used to wait for the response
+     * @param timeout maximum time in milliseconds to wait for the response
+     * @return command result (response parameter P3)
+     */
+    default int transact(PiGpioCmd cmd, int p1, int p2, byte[] txData, int txOffset, int txLength,
+                         byte[] rxData, int rxOffset, int rxLength,
+                         PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        PiGpioPacket tx = new PiGpioPacket(cmd, p1, p2);
+        if(txLength > 0) tx.data(txData, txOffset, txLength);
+        PiGpioPacket rx = transact(tx, waitStrategy, timeout);
+        int length = Math.min(rx.dataLength(), rxLength);
+        if(rx.result() > 0 && length > 0) System.arraycopy(rx.data(), 0, rxData, rxOffset, length);
+        return rx.result();
+    }
+
+    /**
+     * Send a command to the PiGpio daemon and wait for its response using the given wait strategy.
+     * The remaining bytes of {@code txData} are sent as command payload and the response payload
+     * bytes (if any) are put into {@code rxData}; payload bytes exceeding the remaining space of
+     * {@code rxData} are discarded.
+     *
+     * @param cmd command to send
+     * @param p1 command parameter P1
+     * @param p2 command parameter P2
+     * @param txData command payload (may be null)
+     * @param rxData buffer receiving the response payload (may be null)
+     * @param waitStrategy strategy used to wait for the response
+     * @param timeout maximum time in milliseconds to wait for the response
+     * @return command result (response parameter P3)
+     */
+    default int transact(PiGpioCmd cmd, int p1, int p2, ByteBuffer txData, ByteBuffer rxData,
+                         PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        PiGpioPacket tx = new PiGpioPacket(cmd, p1, p2);
+        if(txData != null && txData.hasRemaining()) {
+            byte[] data = new byte[txData.remaining()];
+            txData.get(data);
+            tx.data(data);
+        }
+        PiGpioPacket rx = transact(tx, waitStrategy, timeout);
+        if(rxData != null && rx.result() > 0 && rx.dataLength() > 0) {
+            rxData.put(rx.data(), 0, Math.min(rx.dataLength(), rxData.remaining()));
+        }
+        return rx.result();
+    }
+
+    /**
+     * Stream a buffer of any size to the PiGpio daemon as a sequence of commands carrying at most
+     * {@code chunkSize} bytes each.  Each command carries the next chunk of {@code txData} as command
+     * payload; if {@code txData} is null, the commands have no payload and the chunk length is sent
+     * as P2 instead.  The response payload of each chunk is copied to {@code rxData} at the position
+     * of the chunk.  No further chunks are sent once a command fails.
+     *
+     * @param cmd command to send for each chunk
+     * @param p1 command parameter P1 of each chunk
+     * @param txData command payload (may be null)
+     * @param txOffset offset of the first payload byte in {@code txData}
+     * @param rxData array receiving the response payloads (may be null)
+     * @param rxOffset offset in {@code rxData} of the first response payload byte
+     * @param length total number of bytes to stream
+     * @param chunkSize maximum number of bytes per command
+     * @param waitStrategy strategy used to wait for the responses
+     * @param timeout maximum time in milliseconds to wait for each response
+     * @return {@code length} if all commands succeeded; otherwise the result of the first failed command
+     */
+    default int stream(PiGpioCmd cmd, int p1, byte[] txData, int txOffset, byte[] rxData, int rxOffset,
+                       int length, int chunkSize, PiGpioSocketWaitStrategy waitStrategy, int timeout) {
+        for(int offset = 0; offset < length; offset += chunkSize) {
+            int count = Math.min(chunkSize, length - offset);
+            int result = transact(cmd, p1, (txData == null) ? count : 0,
+                    txData, txOffset + offset, (txData == null) ? 0 : count,
+                    rxData, rxOffset + offset, (rxData == null) ? 0 : count, waitStrategy, timeout);
+            if(result < 0) return result;
+        }
+        return length;
+    }
+
+    /**
+     * Send a command to the PiGpio daemon.
+     *
+     * @param tx command packet to send
+     * @return future completed with the response packet
+     */
+    CompletableFuture<PiGpioPacket> submit(PiGpioPacket tx);
+
+    /**
+     * Send a burst of commands to the PiGpio daemon.
+     *
+     * @param packets command packets to send
+     * @return futures completed with the response packets; in the same order as the commands
+     */
+    List<CompletableFuture<PiGpioPacket>> submit(Collection<PiGpioPacket> packets);
+
+    /**
+     * Get the number of commands currently sent to or waiting for this connection.
+     *
+     * @return number of busy commands
+     */
+    int inFlight();
+
+    /**
+     * <p>isConnected.</p>
+     *
+     * @return a boolean.
+     */
+    boolean isConnected();
+
+    /**
+     * Close the connection to the PiGpio daemon.
+     */
+    void close();
+}
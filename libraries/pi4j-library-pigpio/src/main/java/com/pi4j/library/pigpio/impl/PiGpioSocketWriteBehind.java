@@ -0,0 +1,440 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketWriteBehind.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static com.pi4j.library.pigpio.PiGpioCmd.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioSocketWriteBehind class.</p>
+ *
+ * Optional write-behind layer for the GPIO level, PWM duty cycle and servo pulse width writes of a
+ * PiGpio socket instance.  When enabled, the last value written to each pin is tracked and writes
+ * that would not change it are elided without a round trip to the PiGpio daemon.  With a flush
+ * window greater than zero, writes are deferred for up to the flush window: successive writes to
+ * the same pin collapse into the latest value and the deferred level changes of GPIO 0-31 are
+ * sent with at most one BS1 and one BC1 command.
+ *
+ * Deferred writes are flushed before any read of the same pin kind (level, duty cycle or pulse
+ * width), before bank writes and before a different kind of write to the same pin.  Errors of
+ * deferred writes cannot be reported to the caller; they are logged and the affected pins are
+ * no longer considered known.  The tracked values assume that this instance is the only writer
+ * of the pins; call {@link #invalidate()} after pins may have been changed by waveforms, scripts
+ * or other clients.  Write-behind is disabled by default.
+ *
+ * Deferred writes are flushed on a thread of their own, started on demand, so a slow or unreachable
+ * PiGpio daemon never holds up the notification hub shared by all PiGpio socket instances.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketWriteBehind.class);
+
+    /** Constant <code>UNKNOWN=-1</code> (the value of a pin is not known) */
+    public static final int UNKNOWN = -1;
+
+    /** Constant <code>NAME="pigpio-write-behind"</code> */
+    public static String NAME = "pigpio-write-behind";
+
+    // idle time (in milliseconds) after which the flush thread ends
+    protected static final long FLUSHER_KEEP_ALIVE = 5000;
+
+    protected static final int PINS = 54;
+    protected static final int USER_PINS = 32;
+
+    protected final PiGpioSocketBase piGpio;
+    protected volatile boolean enabled = false;
+    protected volatile int flushWindow = 0;
+
+    // last values written to the pins
+    protected final int[] levels = new int[PINS];
+    protected final int[] dutyCycles = new int[USER_PINS];
+    protected final int[] pulseWidths = new int[USER_PINS];
+
+    // deferred writes
+    protected int pendingSet = 0;
+    protected int pendingClear = 0;
+    protected final int[] pendingDutyCycles = new int[USER_PINS];
+    protected final int[] pendingPulseWidths = new int[USER_PINS];
+    // deferred writes are pending (and a flush is scheduled)
+    protected volatile boolean scheduled = false;
+    protected ScheduledThreadPoolExecutor flusher = null;
+
+    protected long elided = 0;
+    protected long coalesced = 0;
+
+    /**
+     * <p>Constructor for PiGpioSocketWriteBehind.</p>
+     *
+     * @param piGpio PiGpio socket instance whose writes are tracked
+     */
+    public PiGpioSocketWriteBehind(PiGpioSocketBase piGpio) {
+        this.piGpio = piGpio;
+        invalidate();
+        Arrays.fill(pendingDutyCycles, UNKNOWN);
+        Arrays.fill(pendingPulseWidths, UNKNOWN);
+    }
+
+    /**
+     * <p>enabled.</p>
+     *
+     * @return true if redundant writes are elided (and deferred within the flush window)
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable the write-behind layer; disabling it flushes all deferred writes.
+     *
+     * @param enabled true to elide redundant writes
+     * @return this write-behind layer
+     */
+    public PiGpioSocketWriteBehind enabled(boolean enabled) {
+        if(!enabled) flush();
+        synchronized (this) {
+            if(enabled && !this.enabled) invalidate();
+            this.enabled = enabled;
+        }
+        return this;
+    }
+
+    /**
+     * Get the time (in milliseconds) writes may be deferred to collapse successive writes.
+     *
+     * @return flush window in milliseconds (0 = writes are sent immediately)
+     */
+    public int flushWindow() {
+        return flushWindow;
+    }
+
+    /**
+     * Set the time (in milliseconds) writes may be deferred to collapse successive writes.
+     *
+     * @param millis flush window in milliseconds (0 = writes are sent immediately)
+     * @return this write-behind layer
+     */
+    public PiGpioSocketWriteBehind flushWindow(int millis) {
+        if(millis < 0)
+            throw new IllegalArgumentException("Invalid flush window: " + millis + "; (must not be negative)");
+        this.flushWindow = millis;
+        if(millis == 0) flush();
+        return this;
+    }
+
+    /**
+     * <p>elided.</p>
+     *
+     * @return number of writes that were not sent because they would not change the pin
+     */
+    public synchronized long elided() {
+        return elided;
+    }
+
+    /**
+     * <p>coalesced.</p>
+     *
+     * @return number of deferred writes replaced by a later write before they were sent
+     */
+    public synchronized long coalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Forget the tracked values of all pins; the next write to every pin is sent to the PiGpio daemon.
+     * Deferred writes are kept.
+     */
+    public synchronized void invalidate() {
+        Arrays.fill(levels, UNKNOWN);
+        Arrays.fill(dutyCycles, UNKNOWN);
+        Arrays.fill(pulseWidths, UNKNOWN);
+    }
+
+    /**
+     * Forget the tracked values of a pin; for example after its mode has been changed.
+     *
+     * @param pin GPIO pin
+     */
+    public synchronized void invalidate(int pin) {
+        levels[pin] = UNKNOWN;
+        if(pin < USER_PINS) {
+            dutyCycles[pin] = UNKNOWN;
+            pulseWidths[pin] = UNKNOWN;
+        }
+    }
+
+    /**
+     * Forget the tracked values of the pins of a bank; for example after a bank write whose outcome
+     * is not known.
+     *
+     * @param bank GPIO bank (1 = GPIO 0-31, 2 = GPIO 32-53)
+     * @param bits bitmask of the GPIO to forget
+     */
+    public synchronized void invalidateBank(int bank, int bits) {
+        int offset = (bank == 2) ? USER_PINS : 0;
+        while (bits != 0) {
+            int bit = Integer.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+            if(offset + bit >= PINS) break;
+            invalidate(offset + bit);
+        }
+    }
+
+    /**
+     * Handle a GPIO level write.
+     *
+     * @param pin GPIO pin (0-53)
+     * @param level new level (0 or 1)
+     * @return true if the write was elided or deferred; false if the caller must send it
+     *         (and report it with {@link #written(int, int)} once it succeeded)
+     */
+    public boolean level(int pin, int level) {
+        if(!enabled) return false;
+        boolean flush;
+        synchronized (this) {
+            int bit = 1 << pin;
+            boolean pending = pin < USER_PINS && ((pendingSet | pendingClear) & bit) != 0;
+            int current = !pending ? levels[pin] : ((pendingSet & bit) != 0) ? 1 : 0;
+            if(current == level) {
+                elided++;
+                return true;
+            }
+            flush = pin < USER_PINS && (pendingDutyCycles[pin] != UNKNOWN || pendingPulseWidths[pin] != UNKNOWN);
+            if(!flush && flushWindow > 0 && pin < USER_PINS) {
+                if(pending) {
+                    coalesced++;
+                    // a deferred write returning the pin to its sent level cancels out
+                    pendingSet &= ~bit;
+                    pendingClear &= ~bit;
+                    if(levels[pin] == level) return true;
+                }
+                if(level != 0) pendingSet |= bit; else pendingClear |= bit;
+                schedule();
+                return true;
+            }
+        }
+        if(flush) flush();
+        return false;
+    }
+
+    /**
+     * Handle a PWM duty cycle write.
+     *
+     * @param pin GPIO pin (0-31)
+     * @param dutyCycle new duty cycle
+     * @return true if the write was elided or deferred; false if the caller must send it
+     *         (and report it with {@link #written(PiGpioCmd, int, int)} once it succeeded)
+     */
+    public boolean dutyCycle(int pin, int dutyCycle) {
+        return value(pin, dutyCycle, dutyCycles, pendingDutyCycles);
+    }
+
+    /**
+     * Handle a servo pulse width write.
+     *
+     * @param pin GPIO pin (0-31)
+     * @param pulseWidth new pulse width
+     * @return true if the write was elided or deferred; false if the caller must send it
+     *         (and report it with {@link #written(PiGpioCmd, int, int)} once it succeeded)
+     */
+    public boolean pulseWidth(int pin, int pulseWidth) {
+        return value(pin, pulseWidth, pulseWidths, pendingPulseWidths);
+    }
+
+    private boolean value(int pin, int value, int[] sent, int[] pending) {
+        if(!enabled) return false;
+        boolean flush;
+        synchronized (this) {
+            int current = (pending[pin] != UNKNOWN) ? pending[pin] : sent[pin];
+            if(current == value) {
+                elided++;
+                return true;
+            }
+            // a deferred write of another kind to the same pin must be sent first
+            flush = (((pendingSet | pendingClear) & (1 << pin)) != 0)
+                    || (pending == pendingDutyCycles ? pendingPulseWidths[pin] : pendingDutyCycles[pin]) != UNKNOWN;
+            if(!flush && flushWindow > 0) {
+                if(pending[pin] != UNKNOWN) coalesced++;
+                pending[pin] = (sent[pin] == value) ? UNKNOWN : value;
+                schedule();
+                return true;
+            }
+        }
+        if(flush) flush();
+        return false;
+    }
+
+    /**
+     * Record a GPIO level write that has been sent successfully.  A level write stops PWM and
+     * servo pulses on the pin.
+     *
+     * @param pin GPIO pin
+     * @param level written level
+     */
+    public void written(int pin, int level) {
+        if(!enabled) return;
+        synchronized (this) {
+            invalidate(pin);
+            levels[pin] = level;
+        }
+    }
+
+    /**
+     * Record a PWM (PWM) or servo (SERVO) write that has been sent successfully.  A PWM or servo write
+     * replaces any other output on the pin.
+     *
+     * @param cmd PWM or SERVO
+     * @param pin GPIO pin
+     * @param value written duty cycle or pulse width
+     */
+    public void written(PiGpioCmd cmd, int pin, int value) {
+        if(!enabled) return;
+        synchronized (this) {
+            invalidate(pin);
+            if(cmd == PWM) dutyCycles[pin] = value;
+            else if(cmd == SERVO) pulseWidths[pin] = value;
+        }
+    }
+
+    /**
+     * Record bank writes that have been sent successfully.
+     *
+     * @param bank GPIO bank (1 = GPIO 0-31, 2 = GPIO 32-53)
+     * @param set bitmask of the GPIO that were set
+     * @param clear bitmask of the GPIO that were cleared
+     */
+    public void writtenBank(int bank, int set, int clear) {
+        if(!enabled) return;
+        int offset = (bank == 2) ? USER_PINS : 0;
+        synchronized (this) {
+            int changed = set | clear;
+            while (changed != 0) {
+                int bit = Integer.numberOfTrailingZeros(changed);
+                changed &= changed - 1;
+                if(offset + bit >= PINS) break;
+                invalidate(offset + bit);
+                levels[offset + bit] = (set >> bit) & 1;
+            }
+        }
+    }
+
+    private void schedule() {
+        if(scheduled) return;
+        scheduled = true;
+        if(flusher == null) {
+            flusher = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.setKeepAliveTime(FLUSHER_KEEP_ALIVE, TimeUnit.MILLISECONDS);
+            flusher.allowCoreThreadTimeOut(true);
+        }
+        flusher.schedule(this::flush, flushWindow, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Send all deferred writes and stop the flush thread; it is started again by the next deferred write.
+     */
+    public void close() {
+        flush();
+        synchronized (this) {
+            if(flusher != null) {
+                flusher.shutdown();
+                flusher = null;
+            }
+        }
+    }
+
+    /**
+     * Send all deferred writes to the PiGpio daemon now.
+     */
+    public void flush() {
+        if(!scheduled) return;
+        int set, clear;
+        int[] duty, pulse;
+        synchronized (this) {
+            scheduled = false;
+            if((pendingSet | pendingClear) == 0 && !pending(pendingDutyCycles) && !pending(pendingPulseWidths)) return;
+            set = pendingSet;
+            clear = pendingClear;
+            duty = pendingDutyCycles.clone();
+            pulse = pendingPulseWidths.clone();
+            pendingSet = pendingClear = 0;
+            Arrays.fill(pendingDutyCycles, UNKNOWN);
+            Arrays.fill(pendingPulseWidths, UNKNOWN);
+        }
+        if(set != 0) send(BS1, set, 0);
+        if(clear != 0) send(BC1, clear, 0);
+        for (int pin = 0; pin < USER_PINS; pin++) {
+            if(duty[pin] != UNKNOWN && send(PWM, pin, duty[pin])) piGpio.session.dutyCycle(pin, duty[pin]);
+            if(pulse[pin] != UNKNOWN && send(SERVO, pin, pulse[pin])) piGpio.session.servo(pin, pulse[pin]);
+        }
+    }
+
+    private boolean send(PiGpioCmd cmd, int p1, int p2) {
+        int result;
+        try {
+            result = piGpio.transact(cmd, p1, p2);
+        } catch (PiGpioException e) {
+            logger.warn("[WRITE-BEHIND] deferred {} write failed; {}", cmd.name(), e.getMessage());
+            result = -1;
+        }
+        if(result < 0) {
+            logger.warn("[WRITE-BEHIND] deferred {} write rejected; RESULT={}", cmd.name(), result);
+            if(cmd == BS1 || cmd == BC1) {
+                synchronized (this) {
+                    for (int pin = 0; pin < USER_PINS; pin++) if(((p1 >> pin) & 1) != 0) levels[pin] = UNKNOWN;
+                }
+            } else {
+                invalidate(p1);
+            }
+            return false;
+        }
+        if(cmd == BS1) writtenBank(1, p1, 0);
+        else if(cmd == BC1) writtenBank(1, 0, p1);
+        else written(cmd, p1, p2);
+        return true;
+    }
+
+    private static boolean pending(int[] values) {
+        for (int value : values) if(value != UNKNOWN) return true;
+        return false;
+    }
+}
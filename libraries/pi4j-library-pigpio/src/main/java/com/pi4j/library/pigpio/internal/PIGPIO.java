@@ -31,6 +31,7 @@ package com.pi4j.library.pigpio.internal;
 import com.pi4j.library.pigpio.PiGpioConst;
 import com.pi4j.library.pigpio.util.NativeLibraryLoader;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.Callable;
 
 /**
@@ -335,26 +336,141 @@ public class PIGPIO {
      * @return a int.
      */
     public static native int gpioNotifyClose(int handle);
-//    public static native int gpioWaveClear();
-//    public static native int gpioWaveAddNew();
-//    public static native int gpioWaveAddGeneric(int numPulses, gpioPulse_t *pulses)
+    /**
+     * <p>gpioWaveClear.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveClear();
+    /**
+     * <p>gpioWaveAddNew.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveAddNew();
+    /**
+     * <p>gpioWaveAddGeneric.</p>
+     *
+     * The pulses are passed as consecutive (gpioOn, gpioOff, usDelay) triplets.
+     *
+     * @param numPulses a int.
+     * @param pulses an array of {@link int} objects.
+     * @return a int.
+     */
+    public static native int gpioWaveAddGeneric(int numPulses, int[] pulses);
 //    public static native int gpioWaveAddSerial(int user_gpio, int baud, int data_bits, int stop_bits, int offset, int numBytes, char *str);
-//    public static native int gpioWaveCreate();
-//    public static native int gpioWaveDelete(int wave_id);
-//    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
-//    public static native int gpioWaveChain(byte[] buf, int bufSize);
-//    public static native int gpioWaveTxAt();
-//    public static native int gpioWaveTxBusy();
-//    public static native int gpioWaveTxStop();
-//    public static native int gpioWaveGetMicros();
-//    public static native int gpioWaveGetHighMicros();
-//    public static native int gpioWaveGetMaxMicros();
-//    public static native int gpioWaveGetPulses();
-//    public static native int gpioWaveGetHighPulses();
-//    public static native int gpioWaveGetMaxPulses();
-//    public static native int gpioWaveGetCbs();
-//    public static native int gpioWaveGetHighCbs();
-//    public static native int gpioWaveGetMaxCbs();
+    /**
+     * <p>gpioWaveCreate.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveCreate();
+    /**
+     * <p>gpioWaveDelete.</p>
+     *
+     * @param wave_id a int.
+     * @return a int.
+     */
+    public static native int gpioWaveDelete(int wave_id);
+    /**
+     * <p>gpioWaveTxSend.</p>
+     *
+     * @param wave_id a int.
+     * @param wave_mode a int.
+     * @return a int.
+     */
+    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
+    /**
+     * <p>gpioWaveChain.</p>
+     *
+     * @param buf an array of {@link byte} objects.
+     * @param offset starting position in buffer.
+     * @param bufSize a int.
+     * @return a int.
+     */
+    public static native int gpioWaveChain(byte[] buf, int offset, int bufSize);
+    /**
+     * <p>gpioWaveChain.</p>
+     *
+     * @param buf an array of {@link byte} objects.
+     * @param bufSize a int.
+     * @return a int.
+     */
+    public static int gpioWaveChain(byte[] buf, int bufSize){
+        return gpioWaveChain(buf, 0, bufSize);
+    }
+    /**
+     * <p>gpioWaveTxAt.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxAt();
+    /**
+     * <p>gpioWaveTxBusy.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxBusy();
+    /**
+     * <p>gpioWaveTxStop.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxStop();
+    /**
+     * <p>gpioWaveGetMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMicros();
+    /**
+     * <p>gpioWaveGetHighMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighMicros();
+    /**
+     * <p>gpioWaveGetMaxMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxMicros();
+    /**
+     * <p>gpioWaveGetPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetPulses();
+    /**
+     * <p>gpioWaveGetHighPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighPulses();
+    /**
+     * <p>gpioWaveGetMaxPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxPulses();
+    /**
+     * <p>gpioWaveGetCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetCbs();
+    /**
+     * <p>gpioWaveGetHighCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighCbs();
+    /**
+     * <p>gpioWaveGetMaxCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxCbs();
     /**
      * <p>gpioSerialReadOpen.</p>
      *
@@ -646,6 +762,19 @@ public class PIGPIO {
         return i2cReadDevice(handle, buf, 0, count);
     }
 
+    /**
+     * <p>i2cReadDeviceDirect.</p>
+     *
+     * The data is read into the memory of the direct byte buffer; no Java arrays are pinned or copied.
+     *
+     * @param handle a int.
+     * @param buf a direct {@link java.nio.ByteBuffer}.
+     * @param offset starting position in buffer.
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cReadDeviceDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cWriteDevice.</p>
      *
@@ -669,6 +798,19 @@ public class PIGPIO {
         return i2cWriteDevice(handle, buf, 0, count);
     }
 
+    /**
+     * <p>i2cWriteDeviceDirect.</p>
+     *
+     * The data is written from the memory of the direct byte buffer; no Java arrays are pinned or copied.
+     *
+     * @param handle a int.
+     * @param buf a direct {@link java.nio.ByteBuffer}.
+     * @param offset starting position in buffer.
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int i2cWriteDeviceDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>i2cSwitchCombined.</p>
      *
@@ -681,12 +823,14 @@ public class PIGPIO {
      *
      * @param handle a int.
      * @param inBuf an array of {@link byte} objects.
+     * @param inOffset a int.
      * @param inLen a int.
      * @param outBuf an array of {@link byte} objects.
+     * @param outOffset a int.
      * @param outLen a int.
      * @return a int.
      */
-    public static native int i2cZip(int handle, byte[] inBuf, int inLen, byte[] outBuf, int outLen);
+    public static native int i2cZip(int handle, byte[] inBuf, int inOffset, int inLen, byte[] outBuf, int outOffset, int outLen);
     /**
      * <p>bbI2COpen.</p>
      *
@@ -708,12 +852,14 @@ public class PIGPIO {
      *
      * @param SDA a int.
      * @param inBuf an array of {@link byte} objects.
+     * @param inOffset a int.
      * @param inLen a int.
      * @param outBuf an array of {@link byte} objects.
+     * @param outOffset a int.
      * @param outLen a int.
      * @return a int.
      */
-    public static native int bbI2CZip(int SDA, byte[] inBuf, int inLen, byte[] outBuf, int outLen);
+    public static native int bbI2CZip(int SDA, byte[] inBuf, int inOffset, int inLen, byte[] outBuf, int outOffset, int outLen);
 //    public static native int bscXfer(bsc_xfer_t *bsc_xfer);
     /**
      * <p>bbSPIOpen.</p>
@@ -739,11 +885,13 @@ public class PIGPIO {
      *
      * @param CS a int.
      * @param inBuf an array of {@link byte} objects.
+     * @param inOffset a int.
      * @param outBuf an array of {@link byte} objects.
+     * @param outOffset a int.
      * @param count a int.
      * @return a int.
      */
-    public static native int bbSPIXfer(int CS, byte[] inBuf, byte[] outBuf, int count);
+    public static native int bbSPIXfer(int CS, byte[] inBuf, int inOffset, byte[] outBuf, int outOffset, int count);
     /**
      * <p>spiOpen.</p>
      *
@@ -784,6 +932,19 @@ public class PIGPIO {
         return spiRead(handle ,buf, 0 ,count);
     }
 
+    /**
+     * <p>spiReadDirect.</p>
+     *
+     * The data is read into the memory of the direct byte buffer; no Java arrays are pinned or copied.
+     *
+     * @param handle a int.
+     * @param buf a direct {@link java.nio.ByteBuffer}.
+     * @param offset starting position in buffer.
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int spiReadDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>spiWrite.</p>
      *
@@ -807,6 +968,19 @@ public class PIGPIO {
         return spiWrite(handle, buf, 0, count);
     }
 
+    /**
+     * <p>spiWriteDirect.</p>
+     *
+     * The data is written from the memory of the direct byte buffer; no Java arrays are pinned or copied.
+     *
+     * @param handle a int.
+     * @param buf a direct {@link java.nio.ByteBuffer}.
+     * @param offset starting position in buffer.
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int spiWriteDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>spiXfer.</p>
      *
@@ -833,6 +1007,22 @@ public class PIGPIO {
         return spiXfer(handle, txBuf, 0, rxBuf, 0, count);
     }
 
+    /**
+     * <p>spiXferDirect.</p>
+     *
+     * The data is written from and read into the memory of the direct byte buffers; no Java
+     * arrays are pinned or copied.
+     *
+     * @param handle a int.
+     * @param txBuf a direct {@link java.nio.ByteBuffer}.
+     * @param txOffset position in txBuf to start
+     * @param rxBuf a direct {@link java.nio.ByteBuffer}.
+     * @param rxOffset position in rxBuf to start
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int spiXferDirect(int handle, ByteBuffer txBuf, int txOffset, ByteBuffer rxBuf, int rxOffset, int count);
+
     /**
      * <p>serOpen.</p>
      *
@@ -898,6 +1088,19 @@ public class PIGPIO {
         return serWrite(handle, buf, 0, count);
     }
 
+    /**
+     * <p>serWriteDirect.</p>
+     *
+     * The data is written from the memory of the direct byte buffer; no Java arrays are pinned or copied.
+     *
+     * @param handle a int.
+     * @param buf a direct {@link java.nio.ByteBuffer}.
+     * @param offset starting position in buffer.
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int serWriteDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>serRead.</p>
      *
@@ -921,6 +1124,19 @@ public class PIGPIO {
         return serRead(handle, buf, 0 , count);
     }
 
+    /**
+     * <p>serReadDirect.</p>
+     *
+     * The data is read into the memory of the direct byte buffer; no Java arrays are pinned or copied.
+     *
+     * @param handle a int.
+     * @param buf a direct {@link java.nio.ByteBuffer}.
+     * @param offset starting position in buffer.
+     * @param count a int.
+     * @return a int.
+     */
+    public static native int serReadDirect(int handle, ByteBuffer buf, int offset, int count);
+
     /**
      * <p>serDataAvailable.</p>
      *
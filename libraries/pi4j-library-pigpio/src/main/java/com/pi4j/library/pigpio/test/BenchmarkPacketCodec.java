@@ -0,0 +1,141 @@
+package com.pi4j.library.pigpio.test;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  BenchmarkPacketCodec.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioPacketHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * <p>BenchmarkPacketCodec class.</p>
+ *
+ * Compares the cost of encoding a command and decoding its response using the
+ * {@link PiGpioPacket} encode/decode methods versus a reused {@link PiGpioPacketHeader}
+ * reading and writing a direct {@link ByteBuffer}.  Each case reports the time and the
+ * number of heap bytes allocated per encode/decode round.  (Allocation figures require
+ * a JVM that supports thread allocation accounting.)
+ *
+ * Usage: BenchmarkPacketCodec [seconds]
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class BenchmarkPacketCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkPacketCodec.class);
+
+    private static final int WARMUP = 2_000_000;
+    private static volatile long sink = 0;
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args an array of {@link String} objects.
+     * @throws Exception if the benchmark fails.
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "INFO");
+        int seconds = (args.length >= 1) ? Integer.parseInt(args[0]) : 3;
+
+        // a typical response: GPIO read result
+        byte[] response = PiGpioPacket.encode(new PiGpioPacket(PiGpioCmd.READ, 4, 0));
+
+        // PiGpioPacket: new packet + byte[] per command; new packet per response
+        LongUnaryOperator packet = i -> {
+            byte[] tx = PiGpioPacket.encode(new PiGpioPacket(PiGpioCmd.WRITE, 4, (int)(i & 1)));
+            PiGpioPacket rx = PiGpioPacket.decode(response);
+            return tx.length + rx.result();
+        };
+
+        // PiGpioPacketHeader: reused headers and direct buffers
+        ByteBuffer txBuffer = ByteBuffer.allocateDirect(PiGpioPacket.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer rxBuffer = ByteBuffer.allocateDirect(PiGpioPacket.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        rxBuffer.put(response).flip();
+        PiGpioPacketHeader request = new PiGpioPacketHeader();
+        PiGpioPacketHeader reply = new PiGpioPacketHeader();
+        LongUnaryOperator header = i -> {
+            txBuffer.clear();
+            request.set(PiGpioCmd.WRITE, 4, (int)(i & 1), 0).encode(txBuffer);
+            rxBuffer.rewind();
+            reply.decode(rxBuffer);
+            return txBuffer.position() + reply.result();
+        };
+
+        logger.info("-----------------------------------------------------");
+        logger.info("PIGPIO PACKET CODEC BENCHMARK ({} seconds per case)", seconds);
+        logger.info("-----------------------------------------------------");
+        run("PiGpioPacket      ", packet, seconds);
+        run("PiGpioPacketHeader", header, seconds);
+        logger.info("-----------------------------------------------------");
+    }
+
+    private static void run(String name, LongUnaryOperator codec, int seconds) throws Exception {
+        // warm up JIT
+        long total = 0;
+        for (long i = 0; i < WARMUP; i++) total += codec.applyAsLong(i);
+
+        // measure encode/decode rounds in batches to keep the clock out of the loop
+        long count = 0;
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < 10_000; i++) total += codec.applyAsLong(count++);
+        }
+        double elapsed = System.nanoTime() - start;
+        allocated = allocatedBytes() - allocated;
+        sink += total;
+
+        logger.info("{} : {} rounds/sec; {} ns/round; {} bytes/round", name,
+                String.format("%,.0f", count / (elapsed / 1e9)),
+                String.format("%.1f", elapsed / count),
+                (allocated < 0) ? "n/a" : String.format("%.1f", (double) allocated / count));
+    }
+
+    private static long allocatedBytes() {
+        try {
+            // accessed reflectively; this module does not read the java.management module
+            Object bean = Class.forName("java.lang.management.ManagementFactory")
+                    .getMethod("getThreadMXBean").invoke(null);
+            Method method = Class.forName("com.sun.management.ThreadMXBean")
+                    .getMethod("getThreadAllocatedBytes", long.class);
+            return (long) method.invoke(bean, Thread.currentThread().getId());
+        } catch (Exception e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.pi4j.library.pigpio.test;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  BenchmarkSocketWait.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioConst;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeListener;
+import com.pi4j.library.pigpio.impl.PiGpioSocketImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>BenchmarkSocketLatency class.</p>
+ *
+ * Drives {@link PiGpioSocketImpl} through GPIO, notification, I2C, SPI and serial operations
+ * and reports the throughput (commands/sec) and the p50/p99 latency of each operation.  When
+ * no host argument (or "local") is provided the benchmark runs against a local
+ * {@link PiGpioStandInDaemon} whose I2C and serial handles echo the written bytes; the
+ * optional latency argument sets the stand-in daemon's emulated response latency.
+ *
+ * Usage: BenchmarkSocketLatency [host|local] [port] [seconds] [latency-us]
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class BenchmarkSocketLatency {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkSocketLatency.class);
+
+    private static final int PIN = 4;
+    private static final int WARMUP = 2000;
+    private static final int MAX_SAMPLES = 1 << 20;
+    private static final int PAYLOAD = 16;
+    private static final int FRAME = 64 * 1024;
+
+    /**
+     * A single benchmarked operation issuing one or more commands.
+     */
+    private interface Operation {
+        void run(long iteration) throws Exception;
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args an array of {@link String} objects.
+     * @throws Exception if the benchmark fails.
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "INFO");
+
+        PiGpioStandInDaemon daemon = null;
+        String host;
+        int port;
+        int seconds = (args.length >= 3) ? Integer.parseInt(args[2]) : 3;
+        long latency = (args.length >= 4) ? Long.parseLong(args[3]) : 0;
+        if(args.length >= 1 && !args[0].equalsIgnoreCase("local")) {
+            host = args[0];
+            port = (args.length >= 2) ? Integer.parseInt(args[1]) : PiGpioConst.DEFAULT_PORT;
+        } else {
+            daemon = new PiGpioStandInDaemon().latency(latency);
+            host = daemon.host();
+            port = daemon.port();
+        }
+
+        logger.info("-----------------------------------------------------");
+        logger.info("PIGPIO LATENCY BENCHMARK :: {}:{} ({} seconds per operation; {} us emulated latency)",
+                host, port, seconds, (daemon != null) ? daemon.latency() : 0);
+        logger.info("-----------------------------------------------------");
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(host, port);
+        piGpio.gpioInitialise();
+        try {
+            byte[] write = new byte[PAYLOAD];
+            byte[] read = new byte[PAYLOAD];
+            for (int i = 0; i < PAYLOAD; i++) write[i] = (byte) i;
+
+            run("GPIO WRITE", 1, seconds, i -> piGpio.gpioWrite(PIN, (i & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW));
+            run("GPIO READ", 1, seconds, i -> piGpio.gpioRead(PIN));
+
+            // level change to notification delivery
+            Semaphore notified = new Semaphore(0);
+            PiGpioStateChangeListener listener = event -> notified.release();
+            piGpio.addPinListener(PIN, listener);
+            try {
+                run("NOTIFY", 1, seconds, i -> {
+                    piGpio.gpioWrite(PIN, (i & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW);
+                    if(!notified.tryAcquire(1, TimeUnit.SECONDS)) throw new IllegalStateException("notification lost");
+                });
+            } finally {
+                piGpio.removePinListener(PIN, listener);
+            }
+
+            int i2c = piGpio.i2cOpen(1, 0x04);
+            try {
+                run("I2C ECHO(" + PAYLOAD + ")", 2, seconds, i -> {
+                    piGpio.i2cWriteDevice(i2c, write);
+                    piGpio.i2cReadDevice(i2c, read);
+                });
+            } finally {
+                piGpio.i2cClose(i2c);
+            }
+
+            int spi = piGpio.spiOpen(0, 1000000);
+            try {
+                run("SPI XFER(" + PAYLOAD + ")", 1, seconds, i -> piGpio.spiXfer(spi, write, read));
+
+                // a display frame buffer sent one chunk at a time versus streamed with two chunks in flight
+                byte[] frame = new byte[FRAME];
+                byte[] frameRead = new byte[FRAME];
+                int chunks = FRAME / PiGpioConst.DEFAULT_STREAM_CHUNK_SIZE;
+                run("SPI FRAME(" + FRAME + ") SEQUENTIAL", chunks, seconds, i -> {
+                    for (int offset = 0; offset < FRAME; offset += PiGpioConst.DEFAULT_STREAM_CHUNK_SIZE) {
+                        piGpio.spiXfer(spi, frame, offset, frameRead, offset, PiGpioConst.DEFAULT_STREAM_CHUNK_SIZE);
+                    }
+                });
+                run("SPI FRAME(" + FRAME + ") STREAM", chunks, seconds, i -> piGpio.spiStreamXfer(spi, frame, 0, frameRead, 0, FRAME));
+            } finally {
+                piGpio.spiClose(spi);
+            }
+
+            int serial = piGpio.serOpen("/dev/ttyS0", 115200);
+            try {
+                run("SERIAL ECHO(" + PAYLOAD + ")", 2, seconds, i -> {
+                    piGpio.serWrite(serial, write);
+                    piGpio.serRead(serial, read);
+                });
+            } finally {
+                piGpio.serClose(serial);
+            }
+        } finally {
+            piGpio.gpioTerminate();
+            if(daemon != null) daemon.close();
+        }
+        logger.info("-----------------------------------------------------");
+    }
+
+    private static void run(String name, int commands, int seconds, Operation operation) throws Exception {
+        // warm up connection and JIT
+        for (int i = 0; i < WARMUP; i++) operation.run(i);
+
+        // measure operations and record the latency of each
+        long[] samples = new long[MAX_SAMPLES];
+        long count = 0;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        long now = start;
+        while (now < end) {
+            operation.run(count);
+            long done = System.nanoTime();
+            samples[(int) (count % MAX_SAMPLES)] = done - now;
+            now = done;
+            count++;
+        }
+        double elapsed = (now - start) / 1e9;
+
+        int size = (int) Math.min(count, MAX_SAMPLES);
+        Arrays.sort(samples, 0, size);
+        logger.info("{} : {} commands/sec; p50 {} us; p99 {} us", String.format("%-18s", name),
+                String.format("%,.0f", (count * commands) / elapsed),
+                String.format("%.1f", percentile(samples, size, 0.50) / 1e3),
+                String.format("%.1f", percentile(samples, size, 0.99) / 1e3));
+    }
+
+    private static long percentile(long[] sorted, int size, double percentile) {
+        if(size == 0) return 0;
+        return sorted[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+    }
+}
@@ -0,0 +1,167 @@
+package com.pi4j.library.pigpio.test;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  BenchmarkSocketPipeline.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioConst;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.impl.PiGpioSocketBase;
+import com.pi4j.library.pigpio.impl.PiGpioSocketImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>BenchmarkSocketPipeline class.</p>
+ *
+ * Compares the command throughput of a single socket connection when commands are sent
+ * one at a time versus pipelined (asynchronous bursts and concurrent callers).  When no
+ * host argument is provided the benchmark runs against a local {@link PiGpioStandInDaemon}.
+ *
+ * Usage: BenchmarkSocketPipeline [host] [port] [seconds]
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class BenchmarkSocketPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkSocketPipeline.class);
+
+    private static final int PIN = 4;
+    private static final int BURST = 64;
+    private static final int THREADS = 4;
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args an array of {@link String} objects.
+     * @throws Exception if the benchmark fails.
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "INFO");
+
+        PiGpioStandInDaemon daemon = null;
+        String host;
+        int port;
+        int seconds = (args.length >= 3) ? Integer.parseInt(args[2]) : 3;
+        if(args.length >= 1) {
+            host = args[0];
+            port = (args.length >= 2) ? Integer.parseInt(args[1]) : PiGpioConst.DEFAULT_PORT;
+        } else {
+            daemon = new PiGpioStandInDaemon();
+            host = daemon.host();
+            port = daemon.port();
+        }
+
+        logger.info("-----------------------------------------------------");
+        logger.info("PIGPIO PIPELINE BENCHMARK :: {}:{} ({} seconds per run)", host, port, seconds);
+        logger.info("-----------------------------------------------------");
+        try {
+            // one command at a time on a non-pipelined connection
+            PiGpio piGpio = PiGpioSocketImpl.newInstance(host, port, PiGpioSocketWaitStrategy.BLOCKING, false);
+            piGpio.gpioInitialise();
+            try {
+                long count = 0;
+                long start = System.nanoTime();
+                long end = start + TimeUnit.SECONDS.toNanos(seconds);
+                while (System.nanoTime() < end) {
+                    piGpio.gpioWrite(PIN, (count & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW);
+                    count++;
+                }
+                report("SEQUENTIAL", count, start);
+            } finally {
+                piGpio.gpioTerminate();
+            }
+
+            // asynchronous command bursts on a pipelined connection
+            piGpio = PiGpioSocketImpl.newInstance(host, port, PiGpioSocketWaitStrategy.BLOCKING, true);
+            piGpio.gpioInitialise();
+            try {
+                PiGpioSocketBase socketGpio = (PiGpioSocketBase) piGpio;
+                List<PiGpioPacket> burst = new ArrayList<>(BURST);
+                for (int i = 0; i < BURST; i++) {
+                    burst.add(new PiGpioPacket(PiGpioCmd.WRITE, PIN, i & 1));
+                }
+                long count = 0;
+                long start = System.nanoTime();
+                long end = start + TimeUnit.SECONDS.toNanos(seconds);
+                while (System.nanoTime() < end) {
+                    List<CompletableFuture<PiGpioPacket>> futures = socketGpio.sendPacketsAsync(burst);
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+                    count += BURST;
+                }
+                report("BURST(" + BURST + ")", count, start);
+            } finally {
+                piGpio.gpioTerminate();
+            }
+
+            // concurrent synchronous callers sharing a pipelined connection
+            PiGpio shared = PiGpioSocketImpl.newInstance(host, port, PiGpioSocketWaitStrategy.BLOCKING, true);
+            shared.gpioInitialise();
+            try {
+                AtomicLong total = new AtomicLong();
+                long start = System.nanoTime();
+                long end = start + TimeUnit.SECONDS.toNanos(seconds);
+                List<Thread> threads = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    final int pin = PIN + t;
+                    Thread thread = new Thread(() -> {
+                        long count = 0;
+                        while (System.nanoTime() < end) {
+                            shared.gpioWrite(pin, (count & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW);
+                            count++;
+                        }
+                        total.addAndGet(count);
+                    });
+                    threads.add(thread);
+                    thread.start();
+                }
+                for (Thread thread : threads) thread.join();
+                report("THREADS(" + THREADS + ")", total.get(), start);
+            } finally {
+                shared.gpioTerminate();
+            }
+        } finally {
+            if(daemon != null) daemon.close();
+        }
+        logger.info("-----------------------------------------------------");
+    }
+
+    private static void report(String name, long count, long start) {
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        logger.info("{} : {} commands/sec", String.format("%-12s", name), String.format("%,.0f", count / elapsed));
+    }
+}
@@ -0,0 +1,116 @@
+package com.pi4j.library.pigpio.test;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  BenchmarkSocketWait.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioConst;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.impl.PiGpioSocketImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>BenchmarkSocketWait class.</p>
+ *
+ * Measures the number of round-trip commands per second a single socket connection
+ * achieves with each {@link PiGpioSocketWaitStrategy}.  When no host argument is
+ * provided the benchmark runs against a local {@link PiGpioStandInDaemon}.
+ *
+ * Usage: BenchmarkSocketWait [host] [port] [seconds]
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class BenchmarkSocketWait {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkSocketWait.class);
+
+    private static final int PIN = 4;
+    private static final int WARMUP = 5000;
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args an array of {@link String} objects.
+     * @throws Exception if the benchmark fails.
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "INFO");
+
+        PiGpioStandInDaemon daemon = null;
+        String host;
+        int port;
+        int seconds = (args.length >= 3) ? Integer.parseInt(args[2]) : 3;
+        if(args.length >= 1) {
+            host = args[0];
+            port = (args.length >= 2) ? Integer.parseInt(args[1]) : PiGpioConst.DEFAULT_PORT;
+        } else {
+            daemon = new PiGpioStandInDaemon();
+            host = daemon.host();
+            port = daemon.port();
+        }
+
+        logger.info("-----------------------------------------------------");
+        logger.info("PIGPIO SOCKET BENCHMARK :: {}:{} ({} seconds per strategy)", host, port, seconds);
+        logger.info("-----------------------------------------------------");
+        try {
+            for (PiGpioSocketWaitStrategy strategy : PiGpioSocketWaitStrategy.values()) {
+                PiGpio piGpio = PiGpioSocketImpl.newInstance(host, port, strategy);
+                piGpio.gpioInitialise();
+                try {
+                    // warm up connection and JIT
+                    for (int i = 0; i < WARMUP; i++) {
+                        piGpio.gpioWrite(PIN, (i & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW);
+                    }
+
+                    // measure write/read round trips
+                    long count = 0;
+                    long start = System.nanoTime();
+                    long end = start + TimeUnit.SECONDS.toNanos(seconds);
+                    while (System.nanoTime() < end) {
+                        piGpio.gpioWrite(PIN, (count & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW);
+                        piGpio.gpioRead(PIN);
+                        count += 2;
+                    }
+                    double elapsed = (System.nanoTime() - start) / 1e9;
+                    logger.info("{} : {} commands/sec; {} us/command", String.format("%-10s", strategy),
+                            String.format("%,.0f", count / elapsed),
+                            String.format("%.1f", (elapsed * 1e6) / count));
+                } finally {
+                    piGpio.gpioTerminate();
+                }
+            }
+        } finally {
+            if(daemon != null) daemon.close();
+        }
+        logger.info("-----------------------------------------------------");
+    }
+}
@@ -0,0 +1,701 @@
+package com.pi4j.library.pigpio.test;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioStandInDaemon.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioI2CZip;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioWaveMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * <p>PiGpioStandInDaemon class.</p>
+ *
+ * A minimal in-process stand-in for the PiGpio daemon (pigpiod) speaking the
+ * 16 byte command/response socket protocol on the loopback interface.  It is
+ * intended for exercising and benchmarking the socket client without access
+ * to a Raspberry Pi.  Only a small subset of commands is emulated; all other
+ * commands are acknowledged with a zero result.  SPI transfers (hardware and bit-banged) are echoed
+ * back.  I2C and serial handles behave as loopback (echo) devices: bytes written to a handle are
+ * returned by its next reads; I2C reads beyond the echoed bytes, SPI reads and the reads of
+ * hardware and bit-banged I2C zip transactions return an ascending byte pattern.  Serial reads
+ * only return the bytes that have been written.  A response latency can be configured to
+ * emulate the network round trip to a remote daemon.  Sockets switched to
+ * notifications with NOIB receive a report for each level change of a pin
+ * selected with NB, a watchdog report for each pin whose watchdog (WDOG) expired
+ * without a level change and an event report for each triggered event (EVT) selected
+ * with EVM.  Waveforms are tracked by pulse count and duration only;
+ * a transmitted waveform reports busy for its emulated duration.  Stored scripts
+ * are not interpreted; running a script only records its parameters and state.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioStandInDaemon implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioStandInDaemon.class);
+
+    /** Constant <code>VERSION=79</code> */
+    public static final int VERSION = 79;
+    /** Constant <code>HARDWARE_REVISION=0xa020d3</code> */
+    public static final int HARDWARE_REVISION = 0xa020d3;
+
+    protected final ServerSocket server;
+    protected final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    protected final int[] modes = new int[54];
+    protected volatile int levels = 0;
+    protected volatile boolean running = true;
+    protected final Map<Integer, Notifier> notifiers = new ConcurrentHashMap<>();
+    protected final AtomicInteger notifyHandles = new AtomicInteger();
+    protected final Map<Integer, Integer> waves = new ConcurrentHashMap<>();
+    protected int wavePulses = 0;
+    protected int waveMicros = 0;
+    protected volatile int txWave = PI_NO_TX_WAVE;
+    protected volatile long txEnd = 0;
+    protected final Map<Integer, int[]> scripts = new ConcurrentHashMap<>();
+    protected final long[] lastChange = new long[32];
+    protected final Map<Integer, ScheduledFuture<?>> watchdogs = new ConcurrentHashMap<>();
+    protected final Map<Integer, EchoDevice> i2cDevices = new ConcurrentHashMap<>();
+    protected final Map<Integer, EchoDevice> serialDevices = new ConcurrentHashMap<>();
+    protected volatile long latency = 0;
+    protected final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "pigpio-stand-in-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Notification stream opened on a client socket with NOIB.
+     */
+    protected static class Notifier {
+        protected final OutputStream out;
+        protected final ByteBuffer report = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        protected volatile int bits = 0;
+        protected volatile int events = 0;
+        protected int sequence = 0;
+
+        protected Notifier(OutputStream out) {
+            this.out = out;
+        }
+    }
+
+    /**
+     * Command received from a client along with its time of arrival.
+     */
+    protected static class Request {
+        protected static final Request CLOSED = new Request(0, 0, 0, new byte[0], 0);
+        protected final int cmd;
+        protected final int p1;
+        protected final int p2;
+        protected final byte[] ext;
+        protected final long received;
+
+        protected Request(int cmd, int p1, int p2, byte[] ext, long received) {
+            this.cmd = cmd;
+            this.p1 = p1;
+            this.p2 = p2;
+            this.ext = ext;
+            this.received = received;
+        }
+    }
+
+    /**
+     * Loopback device returning the written bytes in order on subsequent reads.
+     */
+    protected static class EchoDevice {
+        private byte[] buffer = new byte[256];
+        private int head = 0;
+        private int tail = 0;
+
+        protected synchronized void write(byte[] data, int offset, int length) {
+            if(tail + length > buffer.length) {
+                int available = tail - head;
+                byte[] target = (available + length > buffer.length)
+                        ? new byte[Math.max(buffer.length * 2, available + length)] : buffer;
+                System.arraycopy(buffer, head, target, 0, available);
+                buffer = target;
+                head = 0;
+                tail = available;
+            }
+            System.arraycopy(data, offset, buffer, tail, length);
+            tail += length;
+        }
+
+        protected synchronized int available() {
+            return tail - head;
+        }
+
+        protected synchronized int read(byte[] data, int offset, int length) {
+            int count = Math.min(length, tail - head);
+            System.arraycopy(buffer, head, data, offset, count);
+            head += count;
+            if(head == tail) head = tail = 0;
+            return count;
+        }
+    }
+
+    /**
+     * Start a stand-in daemon listening on a free loopback port.
+     *
+     * @throws IOException if the server socket cannot be opened.
+     */
+    public PiGpioStandInDaemon() throws IOException {
+        this(0);
+    }
+
+    /**
+     * Start a stand-in daemon listening on the given loopback port.
+     *
+     * @param port TCP port number to listen on (0 = any free port)
+     * @throws IOException if the server socket cannot be opened.
+     */
+    public PiGpioStandInDaemon(int port) throws IOException {
+        this.server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "pigpio-stand-in");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * <p>host.</p>
+     *
+     * @return the host address the stand-in daemon is listening on
+     */
+    public String host() {
+        return server.getInetAddress().getHostAddress();
+    }
+
+    /**
+     * <p>port.</p>
+     *
+     * @return the TCP port the stand-in daemon is listening on
+     */
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * <p>latency.</p>
+     *
+     * @return the emulated response latency in microseconds
+     */
+    public long latency() {
+        return latency;
+    }
+
+    /**
+     * Delay every response by the given latency after its command has been received.
+     * Commands are still executed in order as they arrive, so pipelined commands
+     * overlap their latency just as they would on a network link to a remote daemon.
+     *
+     * @param micros response latency in microseconds (0 = respond immediately)
+     * @return this stand-in daemon
+     */
+    public PiGpioStandInDaemon latency(long micros) {
+        this.latency = Math.max(micros, 0);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        timer.shutdownNow();
+        server.close();
+        for(Socket client : clients) {
+            client.close();
+        }
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket client = server.accept();
+                client.setTcpNoDelay(true);
+                clients.add(client);
+                Thread handler = new Thread(() -> serve(client), "pigpio-stand-in-" + client.getPort());
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if(running) logger.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        byte[] raw = new byte[PiGpioPacket.HEADER_SIZE];
+        ByteBuffer header = ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN);
+        BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> receive(client, requests), Thread.currentThread().getName() + "-rx");
+        reader.setDaemon(true);
+        reader.start();
+        try (client) {
+            OutputStream out = new BufferedOutputStream(client.getOutputStream());
+            while (running) {
+                Request request = requests.take();
+                if(request == Request.CLOSED) break;
+
+                // execute command and write response header (and payload for extended responses)
+                PiGpioCmd command = PiGpioCmd.from(request.cmd);
+                byte[] payload = command.extendedReply() ? reply(command, request.p1, request.p2, request.ext) : null;
+                int result = (payload != null) ? payload.length
+                        : (command == PiGpioCmd.NOIB) ? openNotifier(out)
+                        : execute(command, request.p1, request.p2, request.ext);
+                long due = request.received + latency * 1000;
+                while (latency > 0 && System.nanoTime() < due) {
+                    LockSupport.parkNanos(due - System.nanoTime());
+                }
+                synchronized (out) {
+                    header.clear();
+                    header.putInt(request.cmd).putInt(request.p1).putInt(request.p2).putInt(result);
+                    out.write(raw);
+                    if(payload != null) out.write(payload);
+                    out.flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            if(running) logger.debug(e.getMessage());
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private void receive(Socket client, BlockingQueue<Request> requests) {
+        // commands are read as soon as they arrive so that their latency is counted from the
+        // time of arrival, even while an earlier command of the same client is still pending
+        byte[] raw = new byte[PiGpioPacket.HEADER_SIZE];
+        ByteBuffer header = ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            DataInputStream in = new DataInputStream(client.getInputStream());
+            while (running) {
+                // read command header and any extension bytes (P3 holds the extension length)
+                in.readFully(raw);
+                long received = System.nanoTime();
+                header.clear();
+                int cmd = header.getInt();
+                int p1 = header.getInt();
+                int p2 = header.getInt();
+                int p3 = header.getInt();
+                byte[] ext = new byte[Math.max(p3, 0)];
+                in.readFully(ext);
+                requests.add(new Request(cmd, p1, p2, ext, received));
+            }
+        } catch (EOFException e) {
+            // client disconnected
+        } catch (IOException e) {
+            if(running) logger.debug(e.getMessage());
+        } finally {
+            requests.add(Request.CLOSED);
+        }
+    }
+
+    private int openNotifier(OutputStream out) {
+        int handle = notifyHandles.getAndIncrement();
+        notifiers.put(handle, new Notifier(out));
+        return handle;
+    }
+
+    /**
+     * Send a notification report with the current levels to every notification
+     * stream monitoring at least one of the changed pins.
+     *
+     * @param changed bit mask of the pins that changed level
+     */
+    protected void report(int changed) {
+        for (Map.Entry<Integer, Notifier> entry : notifiers.entrySet()) {
+            if((entry.getValue().bits & changed) != 0) report(entry.getKey(), entry.getValue(), 0);
+        }
+    }
+
+    /**
+     * Send a watchdog report for the given pin to every notification stream monitoring it.
+     *
+     * @param pin GPIO pin whose watchdog expired
+     */
+    protected void watchdog(int pin) {
+        for (Map.Entry<Integer, Notifier> entry : notifiers.entrySet()) {
+            if((entry.getValue().bits & (1 << pin)) != 0) report(entry.getKey(), entry.getValue(), PI_NTFY_FLAGS_WDOG | pin);
+        }
+    }
+
+    /**
+     * Send an event report for the given event to every notification stream monitoring it.
+     *
+     * @param event triggered event number
+     */
+    protected void event(int event) {
+        for (Map.Entry<Integer, Notifier> entry : notifiers.entrySet()) {
+            if((entry.getValue().events & (1 << event)) != 0) report(entry.getKey(), entry.getValue(), PI_NTFY_FLAGS_EVENT | event);
+        }
+    }
+
+    private void report(int handle, Notifier notifier, int flags) {
+        synchronized (notifier.out) {
+            notifier.report.clear();
+            notifier.report.putShort((short) notifier.sequence++);
+            notifier.report.putShort((short) flags);
+            notifier.report.putInt((int) (System.nanoTime() / 1000));
+            notifier.report.putInt(levels);
+            try {
+                notifier.out.write(notifier.report.array());
+                notifier.out.flush();
+            } catch (IOException e) {
+                notifiers.remove(handle);
+            }
+        }
+    }
+
+    /**
+     * Arm or cancel the emulated watchdog of a pin; an armed watchdog reports
+     * each timeout period that passes without a level change on the pin.
+     *
+     * @param pin GPIO pin
+     * @param timeout timeout in milliseconds (0 = cancel)
+     * @return command result
+     */
+    protected int watchdog(int pin, int timeout) {
+        if(pin < 0 || pin > 31) return PiGpioError.PI_BAD_USER_GPIO.value();
+        if(timeout < PI_MIN_WDOG_TIMEOUT || timeout > PI_MAX_WDOG_TIMEOUT) return PiGpioError.PI_BAD_WDOG_TIMEOUT.value();
+        ScheduledFuture<?> previous = watchdogs.remove(pin);
+        if(previous != null) previous.cancel(false);
+        if(timeout > 0) {
+            synchronized (modes) { lastChange[pin] = System.nanoTime(); }
+            long period = TimeUnit.MILLISECONDS.toNanos(timeout);
+            watchdogs.put(pin, timer.scheduleAtFixedRate(() -> {
+                long now = System.nanoTime();
+                synchronized (modes) {
+                    if(now - lastChange[pin] < period) return;
+                    lastChange[pin] = now;
+                }
+                watchdog(pin);
+            }, timeout, timeout, TimeUnit.MILLISECONDS));
+        }
+        return 0;
+    }
+
+    /**
+     * Emulate a single command with an extended response and return the response payload.
+     *
+     * @param cmd command to execute
+     * @param p1 command parameter P1
+     * @param p2 command parameter P2
+     * @param ext command extension bytes
+     * @return response payload; the payload length is returned as command result
+     *         (or null to respond with the result of {@link #execute} instead)
+     */
+    protected byte[] reply(PiGpioCmd cmd, int p1, int p2, byte[] ext) {
+        switch (cmd) {
+            case SPIX:
+            case BSPIX: return ext;
+            case PROCP: {
+                int[] script = scripts.get(p1);
+                if(script == null) return null;
+                ByteBuffer data = ByteBuffer.allocate(script.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+                data.asIntBuffer().put(script);
+                return data.array();
+            }
+            case I2CZ:
+            case BI2CZ: {
+                int length = zipReadLength(ext);
+                if(length < 0) return null;
+                byte[] data = new byte[length];
+                for (int i = 0; i < data.length; i++) data[i] = (byte) i;
+                return data;
+            }
+            case I2CRD: {
+                byte[] data = new byte[Math.max(p2, 0)];
+                int echoed = device(i2cDevices, p1).read(data, 0, data.length);
+                for (int i = echoed; i < data.length; i++) data[i] = (byte) i;
+                return data;
+            }
+            case SERR: {
+                EchoDevice device = device(serialDevices, p1);
+                // like pigpio, an empty receive buffer is an error rather than an empty read
+                if(p2 > 0 && device.available() == 0) return null;
+                byte[] data = new byte[Math.min(Math.max(p2, 0), device.available())];
+                device.read(data, 0, data.length);
+                return data;
+            }
+            case SPIR: {
+                byte[] data = new byte[Math.max(p2, 0)];
+                for (int i = 0; i < data.length; i++) data[i] = (byte) i;
+                return data;
+            }
+            default: return new byte[0];
+        }
+    }
+
+    /**
+     * Get (or create) the echo device of an I2C or serial handle.
+     *
+     * @param devices I2C or serial echo devices
+     * @param handle device handle
+     * @return echo device
+     */
+    protected EchoDevice device(Map<Integer, EchoDevice> devices, int handle) {
+        return devices.computeIfAbsent(handle, h -> new EchoDevice());
+    }
+
+    /**
+     * Read a single byte from an echo device.
+     *
+     * @param device echo device
+     * @param empty result to return if no bytes are available
+     * @return byte value (0-255) or the given result
+     */
+    protected int read(EchoDevice device, int empty) {
+        byte[] data = new byte[1];
+        return (device.read(data, 0, 1) == 1) ? (data[0] & 0xFF) : empty;
+    }
+
+    /**
+     * Walk an I2C zip command buffer and total the number of bytes read.
+     *
+     * @param commands zip command buffer
+     * @return total read length; or -1 if the buffer contains an unknown command
+     */
+    protected int zipReadLength(byte[] commands) {
+        int total = 0;
+        int i = 0;
+        while (i < commands.length) {
+            int command = commands[i++] & 0xFF;
+            boolean escaped = false;
+            if(command == PiGpioI2CZip.ESCAPE && i < commands.length) {
+                escaped = true;
+                command = commands[i++] & 0xFF;
+            }
+            switch (command) {
+                case PiGpioI2CZip.END: return total;
+                case PiGpioI2CZip.ON:
+                case PiGpioI2CZip.OFF: break;
+                case PiGpioI2CZip.ADDRESS: i++; break;
+                case PiGpioI2CZip.FLAGS: i += 2; break;
+                case PiGpioI2CZip.READ:
+                case PiGpioI2CZip.WRITE: {
+                    int length = commands[i] & 0xFF;
+                    if(escaped) length |= (commands[i + 1] & 0xFF) << 8;
+                    i += escaped ? 2 : 1;
+                    if(command == PiGpioI2CZip.READ) total += length; else i += length;
+                    break;
+                }
+                default: return -1;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Apply a set and a clear bitmask to the emulated levels of bank 1 and report
+     * the changed bits to every notification subscriber.
+     *
+     * @param set bitmask of GPIO to set
+     * @param clear bitmask of GPIO to clear
+     * @return command result
+     */
+    protected int write(int set, int clear) {
+        synchronized (modes) {
+            int previous = levels;
+            levels = (levels | set) & ~clear;
+            if(levels != previous) {
+                int changed = levels ^ previous;
+                long now = System.nanoTime();
+                for(int pin = 0; pin < 32; pin++) {
+                    if((changed & (1 << pin)) != 0) lastChange[pin] = now;
+                }
+                report(changed);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Start the emulated transmission of a waveform.
+     *
+     * @param waveId wave id returned by WVCRE
+     * @param mode transmit mode
+     * @return command result
+     */
+    protected int transmit(int waveId, PiGpioWaveMode mode) {
+        Integer micros = waves.get(waveId);
+        if(micros == null) return PiGpioError.PI_BAD_WAVE_ID.value();
+        boolean repeat = (mode == PiGpioWaveMode.REPEAT || mode == PiGpioWaveMode.REPEAT_SYNC);
+        txWave = waveId;
+        txEnd = repeat ? Long.MAX_VALUE : System.nanoTime() + micros * 1000L;
+        return 1;
+    }
+
+    /**
+     * Emulate a single command and return the result value for the response header.
+     *
+     * @param cmd command to execute
+     * @param p1 command parameter P1
+     * @param p2 command parameter P2
+     * @param ext command extension bytes
+     * @return command result
+     */
+    protected int execute(PiGpioCmd cmd, int p1, int p2, byte[] ext) {
+        switch (cmd) {
+            case PIGPV: return VERSION;
+            case HWVER: return HARDWARE_REVISION;
+            case TICK:  return (int)(System.nanoTime() / 1000);
+            case MODES: modes[p1] = p2; return 0;
+            case MODEG: return modes[p1];
+            case READ:  return (levels >> p1) & 1;
+            case BR1:   return levels;
+            case BR2:   return 0;
+            case WRITE: return (p2 == 0) ? write(0, 1 << p1) : write(1 << p1, 0);
+            case BS1:   return write(p1, 0);
+            case BC1:   return write(0, p1);
+            case NB: {
+                Notifier notifier = notifiers.get(p1);
+                if(notifier == null) return -1;
+                notifier.bits = p2;
+                return 0;
+            }
+            case NC: return (notifiers.remove(p1) != null) ? 0 : -1;
+            case EVM: {
+                Notifier notifier = notifiers.get(p1);
+                if(notifier == null) return -1;
+                notifier.events = p2;
+                return 0;
+            }
+            case EVT: {
+                if(p1 < PI_MIN_EVENT || p1 > PI_MAX_EVENT) return PiGpioError.PI_BAD_EVENT_ID.value();
+                event(p1);
+                return 0;
+            }
+            case WDOG: return watchdog(p1, p2);
+            case I2CWD: device(i2cDevices, p1).write(ext, 0, ext.length); return 0;
+            case I2CWS: device(i2cDevices, p1).write(new byte[] { (byte) p2 }, 0, 1); return 0;
+            case I2CRS: return read(device(i2cDevices, p1), 0);
+            case I2CC:  i2cDevices.remove(p1); return 0;
+            case SERW:  device(serialDevices, p1).write(ext, 0, ext.length); return 0;
+            case SPIW:  return ext.length;
+            case SERWB: device(serialDevices, p1).write(new byte[] { (byte) p2 }, 0, 1); return 0;
+            case SERRB: return read(device(serialDevices, p1), PiGpioError.PI_SER_READ_NO_DATA.value());
+            case SERR:  return PiGpioError.PI_SER_READ_NO_DATA.value();
+            case SERDA: return device(serialDevices, p1).available();
+            case SERC:  serialDevices.remove(p1); return 0;
+            case WVCLR: waves.clear(); wavePulses = 0; waveMicros = 0; return 0;
+            case WVNEW: wavePulses = 0; waveMicros = 0; return 0;
+            case WVAG: {
+                ByteBuffer pulses = ByteBuffer.wrap(ext).order(ByteOrder.LITTLE_ENDIAN);
+                while(pulses.remaining() >= PI_WAVE_PULSE_SIZE) {
+                    pulses.getInt(); pulses.getInt();
+                    waveMicros += pulses.getInt();
+                    wavePulses++;
+                }
+                return wavePulses;
+            }
+            case WVCRE: {
+                if(wavePulses == 0) return PiGpioError.PI_EMPTY_WAVEFORM.value();
+                int id = 0;
+                while(waves.containsKey(id)) id++;
+                waves.put(id, waveMicros);
+                wavePulses = 0; waveMicros = 0;
+                return id;
+            }
+            case WVDEL: return (waves.remove(p1) != null) ? 0 : PiGpioError.PI_BAD_WAVE_ID.value();
+            case WVTX:  return transmit(p1, PiGpioWaveMode.ONE_SHOT);
+            case WVTXR: return transmit(p1, PiGpioWaveMode.REPEAT);
+            case WVTXM: return transmit(p1, PiGpioWaveMode.from(p2));
+            case WVCHA: {
+                long micros = 0;
+                for(byte id : ext) {
+                    Integer length = waves.get(id & 0xFF);
+                    if(length != null) micros += length;
+                }
+                txWave = PI_NO_TX_WAVE;
+                txEnd = System.nanoTime() + micros * 1000;
+                return 0;
+            }
+            case WVBSY: return (System.nanoTime() < txEnd) ? 1 : 0;
+            case WVTAT: return (System.nanoTime() < txEnd) ? txWave : PI_NO_TX_WAVE;
+            case WVHLT: txWave = PI_NO_TX_WAVE; txEnd = 0; return 0;
+            case WVSP:  return (p1 == 2) ? PI_WAVE_MAX_PULSES : wavePulses;
+            case PROC: {
+                if(ext.length == 0) return PiGpioError.PI_BAD_SCRIPT.value();
+                int id = 0;
+                int[] script = new int[PI_MAX_SCRIPT_PARAMS + 1];
+                script[0] = PI_SCRIPT_HALTED;
+                while(scripts.putIfAbsent(id, script) != null) id++;
+                return id;
+            }
+            case PROCR:
+            case PROCU: {
+                int[] script = scripts.get(p1);
+                if(script == null) return PiGpioError.PI_BAD_SCRIPT_ID.value();
+                if(ext.length > PI_MAX_SCRIPT_PARAMS * 4) return PiGpioError.PI_TOO_MANY_PARAM.value();
+                ByteBuffer.wrap(ext).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(script, 1, ext.length / 4);
+                if(cmd == PiGpioCmd.PROCR) script[0] = PI_SCRIPT_RUNNING;
+                return 0;
+            }
+            case PROCS: {
+                int[] script = scripts.get(p1);
+                if(script == null) return PiGpioError.PI_BAD_SCRIPT_ID.value();
+                script[0] = PI_SCRIPT_HALTED;
+                return 0;
+            }
+            case PROCP: return PiGpioError.PI_BAD_SCRIPT_ID.value();
+            case I2CZ:
+            case BI2CZ: return PiGpioError.PI_BAD_I2C_CMD.value();
+            case PROCD: return (scripts.remove(p1) != null) ? 0 : PiGpioError.PI_BAD_SCRIPT_ID.value();
+            case WVSM:  return (p1 == 2) ? 1800 * 1000 * 1000 : waveMicros;
+            default: return 0;
+        }
+    }
+}
@@ -507,6 +507,72 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite
     return gpioWrite((unsigned)gpio, (unsigned)level);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_0_31
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_0_31();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_32_53
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_32_53();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Set((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Set((uint32_t)bits);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    gpioTrigger
@@ -635,6 +701,383 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioNotifyCl
     return gpioNotifyClose((unsigned)handle);
 }
 
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// WAVEFORMS IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveClear
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveClear
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveClear();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddNew
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddNew
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveAddNew();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddGeneric
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddGeneric
+  (JNIEnv *env, jclass class, jint numPulses, jintArray pulses)
+{
+    // validate the pulse count against the size of the Java pulse array
+    jsize max_pulses = (*env)->GetArrayLength(env, pulses) / 3;
+    if(numPulses < 0 || numPulses > max_pulses){
+        return PI_TOO_MANY_PULSES;
+    }
+
+    // copy the (gpioOn, gpioOff, usDelay) triplets into native pulse structures
+    gpioPulse_t *native_pulses = (gpioPulse_t *)malloc(sizeof(gpioPulse_t) * (numPulses > 0 ? numPulses : 1));
+    if(native_pulses == NULL){
+        return PI_TOO_MANY_PULSES;
+    }
+    jint *values = (*env)->GetIntArrayElements(env, pulses, 0);
+    int i;
+    for(i = 0; i < numPulses; i++){
+        native_pulses[i].gpioOn  = (uint32_t)values[(i * 3)];
+        native_pulses[i].gpioOff = (uint32_t)values[(i * 3) + 1];
+        native_pulses[i].usDelay = (uint32_t)values[(i * 3) + 2];
+    }
+
+	// unpin the reserved memory for 'pulses'; abort preserving any changes back to the Java array
+    (*env)->ReleaseIntArrayElements(env, pulses, values, JNI_ABORT);
+
+    // add the pulses to the waveform being built
+    jint result = gpioWaveAddGeneric((unsigned)numPulses, native_pulses);
+    free(native_pulses);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveCreate
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveCreate
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveCreate();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveDelete
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveDelete
+  (JNIEnv *env, jclass class, jint wave_id)
+{
+    return gpioWaveDelete((unsigned)wave_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxSend
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxSend
+  (JNIEnv *env, jclass class, jint wave_id, jint wave_mode)
+{
+    return gpioWaveTxSend((unsigned)wave_id, (unsigned)wave_mode);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveChain
+ * Signature: ([BII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveChain
+  (JNIEnv *env, jclass class, jbyteArray buf, jint offset, jint bufSize)
+{
+	// obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, buf, 0);
+
+    // get the maximum size of the Java data array; subtract any offset value
+    jsize max_length = (*env)->GetArrayLength(env, buf) - offset;
+
+    // bounds check to make sure byte count does not exceed max array length (minus offset)
+    int length = (bufSize > max_length) ? max_length : bufSize;
+
+    // transmit the chain of waveforms described by the (offset) buffer
+    jint result = gpioWaveChain((char *)(buffer + offset), (unsigned)length);
+
+	// unpin the reserved memory for 'buf'; abort preserving any changes back to the Java array
+	(*env)->ReleaseByteArrayElements(env, buf, buffer, JNI_ABORT);
+
+    // return the result
+	return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxAt
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxAt
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxAt();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxBusy
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxBusy
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxBusy();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxStop
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxStop
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxStop();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxCbs();
+}
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// SCRIPTS IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStoreScript
+ * Signature: (Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStoreScript
+  (JNIEnv *env, jclass class, jstring script)
+{
+    // pin the memory and get a pointer to the underlying char array for 'script' string parameter
+    const char *script_ptr = (*env)->GetStringUTFChars(env, script, NULL);
+
+    // store (and compile) the script using PIGPIO library call
+    jint result = gpioStoreScript((char *)script_ptr);
+
+    // release/unpin memory
+    (*env)->ReleaseStringUTFChars(env, script, script_ptr);
+
+    // return the result (script id)
+	return result;
+}
+
+/*
+ * copy up to PI_MAX_SCRIPT_PARAMS script parameters from a Java int array
+ */
+static int copyScriptParams(JNIEnv *env, jint numPar, jintArray param, uint32_t *native_param)
+{
+    if(numPar < 0 || numPar > PI_MAX_SCRIPT_PARAMS){
+        return PI_TOO_MANY_PARAM;
+    }
+    if(numPar > 0){
+        if(param == NULL || (*env)->GetArrayLength(env, param) < numPar){
+            return PI_TOO_MANY_PARAM;
+        }
+        (*env)->GetIntArrayRegion(env, param, 0, numPar, (jint *)native_param);
+    }
+    return 0;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRunScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRunScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t native_param[PI_MAX_SCRIPT_PARAMS];
+    int result = copyScriptParams(env, numPar, param, native_param);
+    if(result < 0){
+        return result;
+    }
+    return gpioRunScript((unsigned)script_id, (unsigned)numPar, native_param);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioUpdateScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioUpdateScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t native_param[PI_MAX_SCRIPT_PARAMS];
+    int result = copyScriptParams(env, numPar, param, native_param);
+    if(result < 0){
+        return result;
+    }
+    return gpioUpdateScript((unsigned)script_id, (unsigned)numPar, native_param);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioScriptStatus
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioScriptStatus
+  (JNIEnv *env, jclass class, jint script_id, jintArray param)
+{
+    uint32_t native_param[PI_MAX_SCRIPT_PARAMS];
+
+    // get the script status and current parameter values
+    jint result = gpioScriptStatus((unsigned)script_id, native_param);
+
+    // copy as many parameters as fit into the Java array
+    if(result >= 0 && param != NULL){
+        jsize length = (*env)->GetArrayLength(env, param);
+        if(length > PI_MAX_SCRIPT_PARAMS) length = PI_MAX_SCRIPT_PARAMS;
+        (*env)->SetIntArrayRegion(env, param, 0, length, (jint *)native_param);
+    }
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStopScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStopScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioStopScript((unsigned)script_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioDeleteScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioDeleteScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioDeleteScript((unsigned)script_id);
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // GPIO ALERTS (and callbacks) IMPLEMENTATION
@@ -1613,6 +2056,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadDevic
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cReadDeviceDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cReadDeviceDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // obtain the address of the direct buffer memory; nothing is pinned or copied
+    jbyte *buffer = (jbyte *)(*env)->GetDirectBufferAddress(env, data);
+    if(buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed max buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // perform the actual I2C read operation into the direct buffer memory
+    return i2cReadDevice((unsigned)handle, (char *)(buffer + offset), (unsigned)length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cWriteDevice
@@ -1643,6 +2108,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDevi
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cWriteDeviceDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDeviceDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // obtain the address of the direct buffer memory; nothing is pinned or copied
+    jbyte *buffer = (jbyte *)(*env)->GetDirectBufferAddress(env, data);
+    if(buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed max buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // perform the actual I2C write operation from the direct buffer memory
+    return i2cWriteDevice((unsigned)handle, (char *)(buffer + offset), (unsigned)length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cSwitchCombined
@@ -1654,6 +2141,38 @@ JNIEXPORT void JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cSwitchCom
     i2cSwitchCombined(setting);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cZip
+ * Signature: (I[BII[BII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cZip
+  (JNIEnv *env, jclass class, jint handle, jbyteArray commands, jint commandOffset, jint commandCount, jbyteArray data, jint offset, jint count)
+{
+	// obtain pointers to the elements of the command and data arrays and pin the memory
+    jbyte *commandBuffer = (*env)->GetByteArrayElements(env, commands, 0);
+    jbyte *buffer = (*env)->GetByteArrayElements(env, data, 0);
+
+    // bounds check to make sure byte counts do not exceed max array lengths (minus offsets)
+    jsize max_command_length = (*env)->GetArrayLength(env, commands) - commandOffset;
+    int commandLength = (commandCount > max_command_length) ? max_command_length : commandCount;
+    jsize max_length = (*env)->GetArrayLength(env, data) - offset;
+    int length = (count > max_length) ? max_length : count;
+
+    // perform the combined I2C transaction; read data is placed into the native buffer array
+    jint result = i2cZip((unsigned)handle, (char *)(commandBuffer + commandOffset), (unsigned)commandLength,
+                         (char *)(buffer + offset), (unsigned)length);
+
+	// unpin the reserved memory for 'commands'; no changes to copy back
+	(*env)->ReleaseByteArrayElements(env, commands, commandBuffer, JNI_ABORT);
+
+	// unpin the reserved memory for 'data'; persist change to the Java array and free the native array
+	(*env)->ReleaseByteArrayElements(env, data, buffer, 0);
+
+    // return the result
+	return result;
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // SPI IMPLEMENTATION
@@ -1712,6 +2231,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiRead
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiReadDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiReadDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // obtain the address of the direct buffer memory; nothing is pinned or copied
+    jbyte *buffer = (jbyte *)(*env)->GetDirectBufferAddress(env, data);
+    if(buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed max buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // perform the actual SPI read operation into the direct buffer memory
+    return spiRead((unsigned)handle, (char *)(buffer + offset), (unsigned)length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    spiWrite
@@ -1742,6 +2283,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiWrite
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiWriteDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiWriteDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // obtain the address of the direct buffer memory; nothing is pinned or copied
+    jbyte *buffer = (jbyte *)(*env)->GetDirectBufferAddress(env, data);
+    if(buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed max buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // perform the actual SPI write operation from the direct buffer memory
+    return spiWrite((unsigned)handle, (char *)(buffer + offset), (unsigned)length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    spiXfer
@@ -1779,6 +2342,151 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXfer
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    spiXferDirect
+ * Signature: (ILjava/nio/ByteBuffer;ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_spiXferDirect
+  (JNIEnv *env, jclass class, jint handle, jobject writeData, jint writeOffset, jobject readData, jint readOffset, jint count)
+{
+    // obtain the addresses of the direct buffer memory; nothing is pinned or copied
+    jbyte *writeBuffer = (jbyte *)(*env)->GetDirectBufferAddress(env, writeData);
+    jbyte *readBuffer = (jbyte *)(*env)->GetDirectBufferAddress(env, readData);
+    if(writeBuffer == NULL || readBuffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffers; subtract any offset values
+    jlong max_write = (*env)->GetDirectBufferCapacity(env, writeData) - writeOffset;
+    jlong max_read = (*env)->GetDirectBufferCapacity(env, readData) - readOffset;
+
+    // bounds check to make sure byte count does not exceed either buffer capacity (minus offset)
+    int length = count;
+    if(length > max_write) length = (int)max_write;
+    if(length > max_read) length = (int)max_read;
+
+    // perform the actual SPI transfer operation between the direct buffers
+    return spiXfer((unsigned)handle, (char *)(writeBuffer + writeOffset), (char *)(readBuffer + readOffset), (unsigned)length);
+}
+
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// BIT-BANG I2C IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2COpen
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2COpen
+  (JNIEnv *env, jclass class, jint sda, jint scl, jint baud)
+{
+    return bbI2COpen((unsigned)sda, (unsigned)scl, (unsigned)baud);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2CClose
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2CClose
+  (JNIEnv *env, jclass class, jint sda)
+{
+    return bbI2CClose((unsigned)sda);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2CZip
+ * Signature: (I[BII[BII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2CZip
+  (JNIEnv *env, jclass class, jint sda, jbyteArray commands, jint commandOffset, jint commandCount, jbyteArray data, jint offset, jint count)
+{
+	// obtain pointers to the elements of the command and data arrays and pin the memory
+    jbyte *commandBuffer = (*env)->GetByteArrayElements(env, commands, 0);
+    jbyte *buffer = (*env)->GetByteArrayElements(env, data, 0);
+
+    // bounds check to make sure byte counts do not exceed max array lengths (minus offsets)
+    jsize max_command_length = (*env)->GetArrayLength(env, commands) - commandOffset;
+    int commandLength = (commandCount > max_command_length) ? max_command_length : commandCount;
+    jsize max_length = (*env)->GetArrayLength(env, data) - offset;
+    int length = (count > max_length) ? max_length : count;
+
+    // perform the bit-banged I2C transaction; read data is placed into the native buffer array
+    jint result = bbI2CZip((unsigned)sda, (char *)(commandBuffer + commandOffset), (unsigned)commandLength,
+                           (char *)(buffer + offset), (unsigned)length);
+
+	// unpin the reserved memory for 'commands'; no changes to copy back
+	(*env)->ReleaseByteArrayElements(env, commands, commandBuffer, JNI_ABORT);
+
+	// unpin the reserved memory for 'data'; persist change to the Java array and free the native array
+	(*env)->ReleaseByteArrayElements(env, data, buffer, 0);
+
+    // return the result
+	return result;
+}
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// BIT-BANG SPI IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbSPIOpen
+ * Signature: (IIIIII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbSPIOpen
+  (JNIEnv *env, jclass class, jint cs, jint miso, jint mosi, jint sclk, jint baud, jint flags)
+{
+    return bbSPIOpen((unsigned)cs, (unsigned)miso, (unsigned)mosi, (unsigned)sclk, (unsigned)baud, (unsigned)flags);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbSPIClose
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbSPIClose
+  (JNIEnv *env, jclass class, jint cs)
+{
+    return bbSPIClose((unsigned)cs);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbSPIXfer
+ * Signature: (I[BI[BII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbSPIXfer
+  (JNIEnv *env, jclass class, jint cs, jbyteArray writeData, jint writeOffset, jbyteArray readData, jint readOffset, jint count)
+{
+	// obtain a pointer to the elements of the array and pin the memory
+    jbyte *writeBuffer = (*env)->GetByteArrayElements(env, writeData, 0);
+    jbyte *readBuffer = (*env)->GetByteArrayElements(env, readData, 0);
+
+    // get the maximum size of the Java data array; subtract any offset value
+    jsize max_length = (*env)->GetArrayLength(env, writeData) - writeOffset;
+
+    // bounds check to make sure byte count does not exceed max array length (minus offset)
+    int length = (count > max_length) ? max_length : count;
+
+    // perform the bit-banged SPI transfer into the native buffer array
+    jint result = bbSPIXfer((unsigned)cs, (char *)(writeBuffer + writeOffset), (char *)(readBuffer + readOffset), (unsigned)length);
+
+	// unpin the reserved memory for 'writeData'; abort preserving any changes back to the Java array
+	(*env)->ReleaseByteArrayElements(env, writeData, writeBuffer, JNI_ABORT);
+
+	// unpin the reserved memory for 'readData'; persist change to the Java array and free the native array
+	(*env)->ReleaseByteArrayElements(env, readData, readBuffer, 0);
+
+    // return the result
+	return result;
+}
 
 // *****************************************************************************************************
 // *****************************************************************************************************
@@ -1877,6 +2585,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serWrite
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    serWriteDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serWriteDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // obtain the address of the direct buffer memory; nothing is pinned or copied
+    jbyte *buffer = (jbyte *)(*env)->GetDirectBufferAddress(env, data);
+    if(buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed max buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // perform the actual SERIAL write operation from the direct buffer memory
+    return serWrite((unsigned)handle, (char *)(buffer + offset), (unsigned)length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serRead
@@ -1907,6 +2637,28 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serRead
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    serReadDirect
+ * Signature: (ILjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serReadDirect
+  (JNIEnv *env, jclass class, jint handle, jobject data, jint offset, jint count)
+{
+    // obtain the address of the direct buffer memory; nothing is pinned or copied
+    jbyte *buffer = (jbyte *)(*env)->GetDirectBufferAddress(env, data);
+    if(buffer == NULL) return PI_BAD_PARAM;
+
+    // get the maximum size of the direct buffer; subtract any offset value
+    jlong max_length = (*env)->GetDirectBufferCapacity(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed max buffer capacity (minus offset)
+    int length = (count > max_length) ? (int)max_length : count;
+
+    // perform the actual SERIAL read operation into the direct buffer memory
+    return serRead((unsigned)handle, (char *)(buffer + offset), (unsigned)length);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    serDataAvailable
@@ -0,0 +1,92 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPacketHeaderTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioPacketHeaderTest {
+
+    @DisplayName("PIGPIO CODEC :: Command lookup by value")
+    @Test
+    public void testCommandLookup() {
+        for (PiGpioCmd cmd : PiGpioCmd.values()) {
+            assertSame(cmd, PiGpioCmd.from(cmd.value()));
+        }
+        assertSame(PiGpioCmd.UNKNOWN, PiGpioCmd.from(-5));
+        assertSame(PiGpioCmd.UNKNOWN, PiGpioCmd.from(10000));
+    }
+
+    @DisplayName("PIGPIO CODEC :: Header encoding matches PiGpioPacket")
+    @Test
+    public void testEncodeMatchesPacket() {
+        byte[] expected = PiGpioPacket.encode(new PiGpioPacket(PiGpioCmd.WRITE, 17, 1));
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN }) {
+            ByteBuffer buffer = ByteBuffer.allocate(PiGpioPacket.HEADER_SIZE).order(order);
+            new PiGpioPacketHeader().set(PiGpioCmd.WRITE, 17, 1, 0).encode(buffer);
+            assertArrayEquals(expected, buffer.array());
+        }
+    }
+
+    @DisplayName("PIGPIO CODEC :: Header decoding and reuse")
+    @Test
+    public void testDecode() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(40).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(PiGpioCmd.SPIX.value()).putInt(2).putInt(0).putInt(3).put(new byte[] { 9, 8, 7 });
+        buffer.putInt(PiGpioCmd.READ.value()).putInt(4).putInt(0).putInt(-2);
+        buffer.flip();
+
+        PiGpioPacketHeader header = new PiGpioPacketHeader();
+        assertTrue(header.decode(buffer));
+        assertEquals(PiGpioCmd.SPIX, header.cmd());
+        assertEquals(2, header.p1());
+        assertEquals(3, header.result());
+        assertEquals(3, header.payloadLength());
+        buffer.position(buffer.position() + header.payloadLength());
+
+        assertTrue(header.decode(buffer));
+        assertEquals(PiGpioCmd.READ, header.cmd());
+        assertEquals(4, header.p1());
+        assertFalse(header.success());
+        assertEquals(0, header.payloadLength());
+
+        // incomplete header is not consumed
+        buffer.position(0).limit(8);
+        assertFalse(header.decode(buffer));
+        assertEquals(0, buffer.position());
+    }
+}
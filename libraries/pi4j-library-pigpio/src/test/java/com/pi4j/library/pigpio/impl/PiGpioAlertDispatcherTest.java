@@ -0,0 +1,101 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioAlertDispatcherTest {
+
+    @DisplayName("PIGPIO ALERTS :: A slow listener does not delay the alerts of other pins")
+    @Test
+    public void testDelivery() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1000);
+        List<Long> ticks = new CopyOnWriteArrayList<>();
+        try (PiGpioAlertDispatcher dispatcher = new PiGpioAlertDispatcher((pin, level, tick) -> {
+            if(pin == 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                ticks.add(tick);
+                delivered.countDown();
+            }
+        }, 2, 1024)) {
+            assertEquals(1024, dispatcher.capacity());
+
+            // pin 0 blocks its dispatcher; pin 1 is served by the other dispatcher, in order
+            assertTrue(dispatcher.offer(0, 1, 0));
+            for (long tick = 0; tick < 1000; tick++) {
+                assertTrue(dispatcher.offer(1, (int) (tick & 1), tick));
+            }
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 1000; i++) assertEquals(i, ticks.get(i).longValue());
+            release.countDown();
+        }
+    }
+
+    @DisplayName("PIGPIO ALERTS :: Alerts exceeding the ring capacity are dropped and counted")
+    @Test
+    public void testOverflow() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (PiGpioAlertDispatcher dispatcher = new PiGpioAlertDispatcher((pin, level, tick) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, 3)) {
+            assertEquals(4, dispatcher.capacity());
+
+            // the first alert is taken by the (blocked) dispatcher; four more fill the ring
+            assertTrue(dispatcher.offer(4, 1, 0));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i <= 4; i++) assertTrue(dispatcher.offer(4, 0, i));
+            assertFalse(dispatcher.offer(4, 1, 5));
+            assertFalse(dispatcher.offer(4, 0, 6));
+            assertEquals(2, dispatcher.dropped());
+            assertEquals(4, dispatcher.pending());
+            release.countDown();
+        }
+    }
+}
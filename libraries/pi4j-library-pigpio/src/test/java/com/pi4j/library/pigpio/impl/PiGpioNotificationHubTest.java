@@ -0,0 +1,105 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotificationHubTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioNotificationHubTest {
+
+    @DisplayName("PIGPIO NOTIFICATIONS :: One selector thread serves many hosts")
+    @Test
+    public void testManyHosts() throws Exception {
+        int hosts = 4;
+        int toggles = 50;
+        List<PiGpioStandInDaemon> daemons = new ArrayList<>();
+        List<PiGpio> instances = new ArrayList<>();
+        List<List<PiGpioStateChangeEvent>> received = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(hosts * toggles);
+        try {
+            for (int h = 0; h < hosts; h++) {
+                PiGpioStandInDaemon daemon = new PiGpioStandInDaemon();
+                daemons.add(daemon);
+                PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+                piGpio.gpioInitialise();
+                instances.add(piGpio);
+                List<PiGpioStateChangeEvent> events = Collections.synchronizedList(new ArrayList<>());
+                received.add(events);
+                piGpio.addPinListener(17, event -> {
+                    events.add(event);
+                    latch.countDown();
+                });
+                piGpio.gpioSetMode(17, PiGpioMode.OUTPUT);
+                piGpio.gpioNotifications(17, true);
+            }
+            // toggle the monitored pin on every host
+            for (int i = 0; i < toggles; i++) {
+                for (PiGpio piGpio : instances) {
+                    piGpio.gpioWrite(17, PiGpioState.from((i + 1) % 2));
+                }
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "missing state change events");
+
+            // events of each host are dispatched in order
+            for (List<PiGpioStateChangeEvent> events : received) {
+                assertEquals(toggles, events.size());
+                for (int i = 0; i < toggles; i++) {
+                    assertEquals(17, events.get(i).pin());
+                    assertEquals(PiGpioState.from((i + 1) % 2), events.get(i).state());
+                }
+            }
+            for (PiGpio piGpio : instances) {
+                assertEquals(0, ((PiGpioSocketBase) piGpio).droppedNotifications());
+            }
+
+            // the notification sockets of all hosts share one selector thread
+            assertTrue(PiGpioNotificationHub.shared().size() >= hosts);
+            long selectors = Thread.getAllStackTraces().keySet().stream()
+                    .filter(t -> t.getName().equals(PiGpioNotificationHub.NAME)).count();
+            assertEquals(1, selectors);
+        } finally {
+            for (PiGpio piGpio : instances) piGpio.gpioTerminate();
+            for (PiGpioStandInDaemon daemon : daemons) daemon.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioMetrics;
+import com.pi4j.library.pigpio.PiGpioState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Pipe;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_WDOG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PiGpioNotifyPipeTest {
+
+    @DisplayName("PIGPIO NOTIFY PIPE :: Reports are decoded into alerts of the monitored pins")
+    @Test
+    public void testReports() throws Exception {
+        List<String> alerts = new CopyOnWriteArrayList<>();
+        PiGpioMetrics metrics = new PiGpioMetrics();
+        Pipe pipe = Pipe.open();
+        PiGpioNotifyPipe notifyPipe = new PiGpioNotifyPipe((pin, level, tick) -> alerts.add(pin + ":" + level + "@" + tick), metrics, 64);
+        try {
+            // monitor pins 4 and 5; pin 4 starts HIGH
+            notifyPipe.monitor((1 << 4) | (1 << 5), 1 << 4);
+            notifyPipe.start(pipe.source(), "test");
+
+            // all reports arrive in a single write, the last one split across two writes
+            ByteBuffer reports = ByteBuffer.allocate(5 * 12).order(ByteOrder.LITTLE_ENDIAN);
+            report(reports, 0, 0, 100, (1 << 4) | (1 << 6));              // pin 6 is not monitored
+            report(reports, 1, 0, 200, (1 << 5) | (1 << 6));              // pin 4 LOW, pin 5 HIGH
+            report(reports, 3, PI_NTFY_FLAGS_WDOG | 5, 300, 1 << 5);      // one report lost; pin 5 watchdog
+            report(reports, 4, PI_NTFY_FLAGS_WDOG | 7, 400, 1 << 5);      // watchdog of an unmonitored pin
+            report(reports, 5, 0, 500, 0);                                // pin 5 LOW
+            reports.flip();
+            reports.limit(reports.capacity() - 5);
+            pipe.sink().write(reports);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (notifyPipe.receivedReports() < 4 && System.nanoTime() < deadline) Thread.sleep(5);
+            assertEquals(4, notifyPipe.receivedReports());
+            reports.limit(reports.capacity());
+            pipe.sink().write(reports);
+            while (alerts.size() < 4 && System.nanoTime() < deadline) Thread.sleep(5);
+
+            assertEquals(List.of("4:0@200", "5:1@200", "5:" + PiGpioState.TIMEOUT.value() + "@300", "5:0@500"), alerts);
+            assertEquals(5, notifyPipe.receivedReports());
+            assertEquals(1, notifyPipe.droppedReports());
+            assertEquals(5, metrics.snapshot().notificationReports());
+        } finally {
+            notifyPipe.close();
+            pipe.sink().close();
+        }
+    }
+
+    private static void report(ByteBuffer buffer, int sequence, int flags, int tick, int levels) {
+        buffer.putShort((short) sequence).putShort((short) flags).putInt(tick).putInt(levels);
+    }
+}
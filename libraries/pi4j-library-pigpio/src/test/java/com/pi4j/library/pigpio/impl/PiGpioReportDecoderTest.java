@@ -0,0 +1,121 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioReportDecoderTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PiGpioReportDecoderTest {
+
+    private static byte[] reports(int[] sequences) {
+        ByteBuffer buffer = ByteBuffer.allocate(sequences.length * 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (int seq : sequences) {
+            buffer.putShort((short) seq);       // sequence
+            buffer.putShort((short) 0);         // flags
+            buffer.putInt(seq * 10);            // tick
+            buffer.putInt(seq);                 // levels
+        }
+        return buffer.array();
+    }
+
+    /** Input stream returning at most a few bytes per read to split reports across reads. */
+    private static InputStream chunked(byte[] data, int chunk) {
+        return new InputStream() {
+            int position = 0;
+            @Override
+            public int read() {
+                return position < data.length ? data[position++] & 0xFF : -1;
+            }
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if(position >= data.length) return -1;
+                int count = Math.min(Math.min(len, chunk), data.length - position);
+                System.arraycopy(data, position, b, off, count);
+                position += count;
+                return count;
+            }
+        };
+    }
+
+    @DisplayName("PIGPIO REPORTS :: Partial reports are carried over between reads")
+    @Test
+    public void testPartialReports() throws IOException {
+        int[] sequences = new int[100];
+        for (int i = 0; i < sequences.length; i++) sequences[i] = i;
+        InputStream in = chunked(reports(sequences), 7);
+
+        PiGpioReportDecoder decoder = new PiGpioReportDecoder(4);
+        List<Integer> decoded = new ArrayList<>();
+        while (decoder.read(in) >= 0) {
+            decoder.decode((seq, flags, tick, level) -> {
+                assertEquals(seq * 10L, tick);
+                assertEquals(seq, level);
+                decoded.add(seq);
+            });
+        }
+        assertEquals(100, decoded.size());
+        for (int i = 0; i < decoded.size(); i++) assertEquals(i, (int) decoded.get(i));
+        assertEquals(100, decoder.received());
+        assertEquals(0, decoder.dropped());
+    }
+
+    @DisplayName("PIGPIO REPORTS :: All buffered reports are decoded in one pass")
+    @Test
+    public void testMultipleReports() throws IOException {
+        PiGpioReportDecoder decoder = new PiGpioReportDecoder();
+        decoder.read(chunked(reports(new int[] { 1, 2, 3, 4, 5 }), Integer.MAX_VALUE));
+        assertEquals(5, decoder.decode((seq, flags, tick, level) -> {}));
+        assertEquals(0, decoder.buffer().position());
+    }
+
+    @DisplayName("PIGPIO REPORTS :: Sequence gaps are counted as dropped reports")
+    @Test
+    public void testDroppedReports() throws IOException {
+        PiGpioReportDecoder decoder = new PiGpioReportDecoder();
+        decoder.read(chunked(reports(new int[] { 10, 11, 15, 65534, 65535, 0, 2 }), Integer.MAX_VALUE));
+        decoder.decode((seq, flags, tick, level) -> {});
+        assertEquals(7, decoder.received());
+        assertEquals(3 + 65518 + 1, decoder.dropped());
+
+        // a new notification handle restarts the sequence without counting a gap
+        decoder.reset();
+        decoder.read(chunked(reports(new int[] { 0, 1 }), Integer.MAX_VALUE));
+        decoder.decode((seq, flags, tick, level) -> {});
+        assertEquals(3 + 65518 + 1, decoder.dropped());
+    }
+}
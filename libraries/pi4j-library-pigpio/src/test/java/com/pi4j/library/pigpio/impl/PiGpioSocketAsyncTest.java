@@ -0,0 +1,132 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketAsyncTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioAsync;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketAsyncTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO ASYNC :: One thread drives many outstanding commands")
+    @Test
+    public void testOutstandingCommands() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            PiGpioAsync async = piGpio.async();
+            assertTrue(async instanceof PiGpioSocketAsync);
+            List<CompletableFuture<?>> writes = new ArrayList<>();
+            List<CompletableFuture<PiGpioState>> reads = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                int pin = i % 28;
+                writes.add(async.gpioSetMode(pin, PiGpioMode.OUTPUT));
+                writes.add(async.gpioWrite(pin, PiGpioState.from(i % 2)));
+                reads.add(async.gpioRead(pin));
+            }
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+            for (int i = 0; i < reads.size(); i++) {
+                assertEquals(PiGpioState.from(i % 2), reads.get(i).get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(PiGpioMode.OUTPUT, async.gpioGetMode(3).get(5, TimeUnit.SECONDS));
+            assertEquals(PiGpioStandInDaemon.VERSION, async.gpioVersion().get(5, TimeUnit.SECONDS));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO ASYNC :: Response payload lands in the caller's array")
+    @Test
+    public void testPayloadIntoArray() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            byte[] write = { 1, 2, 3, 4, 5, 6, 7, 8 };
+            byte[] read = new byte[12];
+            CompletableFuture<Integer> xfer = piGpio.async().spiXfer(0, write, 0, read, 4, 8);
+
+            // the command payload was copied when the command was submitted
+            write[0] = 99;
+            assertEquals(8, xfer.get(5, TimeUnit.SECONDS));
+            assertArrayEquals(new byte[] { 0, 0, 0, 0, 1, 2, 3, 4, 5, 6, 7, 8 }, read);
+
+            byte[] buffer = new byte[4];
+            assertEquals(3, piGpio.async().spiRead(0, buffer, 1, 3).get(5, TimeUnit.SECONDS));
+            assertArrayEquals(new byte[] { 0, 0, 1, 2 }, buffer);
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO ASYNC :: Invalid arguments complete the future exceptionally")
+    @Test
+    public void testInvalidArguments() {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            CompletableFuture<PiGpioState> read = piGpio.async().gpioRead(99);
+            assertTrue(read.isCompletedExceptionally());
+            CompletionException e = assertThrows(CompletionException.class, read::join);
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertTrue(piGpio.async().spiRead(0, new byte[2], 0, 4).isCompletedExceptionally());
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PiGpioSocketBankTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO BANK :: Set, clear and read many pins with single commands")
+    @Test
+    public void testBankWrites() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            piGpio.gpioWriteBank1Clear(0xFFFFFFFF);
+            assertEquals(0, piGpio.gpioReadBank1());
+
+            piGpio.gpioWriteBank1Set(0x0000FFFF);
+            assertEquals(0x0000FFFF, piGpio.gpioReadBank1());
+            assertEquals(PiGpioState.HIGH, piGpio.gpioRead(15));
+            assertEquals(PiGpioState.LOW, piGpio.gpioRead(16));
+
+            piGpio.gpioWriteBank1Clear(0x000000F0);
+            assertEquals(0x0000FF0F, piGpio.gpioReadBank1());
+
+            // the highest pin of the bank yields a negative bitmask, not an error
+            piGpio.gpioWriteBank1Set(0x80000000);
+            assertEquals(0x8000FF0F, piGpio.gpioReadBank1());
+
+            piGpio.async().gpioWriteBank1Clear(0x8000FF00).get(5, TimeUnit.SECONDS);
+            assertEquals(0x0000000F, (int)piGpio.async().gpioReadBank1().get(5, TimeUnit.SECONDS));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketScriptTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioI2CZip;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioSocketBitBangTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("BIT-BANG :: I2C open, transaction and close")
+    @Test
+    public void testBitBangI2C() throws Exception {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            assertEquals(0, piGpio.bbI2COpen(20, 21, 100000));
+            assertTrue(piGpio.session.bitBang.containsKey(20));
+
+            byte[] buffer = new byte[4];
+            PiGpioI2CZip zip = PiGpioI2CZip.newInstance().address(0x48).start().write(0x01).start().read(4).stop();
+            assertEquals(4, piGpio.bbI2CZip(20, zip, buffer));
+            assertArrayEquals(new byte[]{ 0, 1, 2, 3 }, buffer);
+
+            assertEquals(0, piGpio.bbI2CClose(20));
+            assertFalse(piGpio.session.bitBang.containsKey(20));
+            assertThrows(IllegalArgumentException.class, () -> piGpio.bbI2COpen(20, 21, 10));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("BIT-BANG :: SPI open, transfer and close")
+    @Test
+    public void testBitBangSpi() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            assertEquals(0, piGpio.bbSPIOpen(5, 6, 12, 13, 250000, 0));
+            byte[] write = { 9, 8, 7 };
+            byte[] read = new byte[5];
+            assertEquals(3, piGpio.bbSPIXfer(5, write, 0, read, 2, 3));
+            assertArrayEquals(new byte[]{ 0, 0, 9, 8, 7 }, read);
+            assertEquals(0, piGpio.bbSPIClose(5));
+            assertThrows(IllegalArgumentException.class, () -> piGpio.bbSPIOpen(5, 6, 12, 13, 1000000, 0));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
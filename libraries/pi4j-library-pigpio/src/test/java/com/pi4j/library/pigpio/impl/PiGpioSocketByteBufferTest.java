@@ -0,0 +1,125 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PiGpioSocketByteBufferTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    private static ByteBuffer sequence(ByteBuffer buffer) {
+        for (int i = 0; i < buffer.capacity(); i++) buffer.put(i, (byte) (i + 1));
+        return buffer;
+    }
+
+    @DisplayName("PIGPIO BYTE BUFFERS :: Direct buffer regions are written from and read into")
+    @Test
+    public void testDirectBuffers() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            // I2C echo device: write bytes 3-6 of one buffer, read them back into another at offset 1
+            int i2c = piGpio.i2cOpen(1, 0x04);
+            ByteBuffer write = sequence(ByteBuffer.allocateDirect(8));
+            assertEquals(0, piGpio.i2cWriteDevice(i2c, write, 2, 4));
+            assertEquals(0, write.position());
+            ByteBuffer read = ByteBuffer.allocateDirect(8);
+            assertEquals(4, piGpio.i2cReadDevice(i2c, read, 1, 4));
+            assertEquals(5, read.position());
+            for (int i = 0; i < 4; i++) assertEquals(i + 3, read.get(i + 1));
+            piGpio.i2cClose(i2c);
+
+            // SPI transfers are echoed into the region of the read buffer
+            int spi = piGpio.spiOpen(0, 1000000);
+            ByteBuffer rx = ByteBuffer.allocateDirect(16);
+            assertEquals(8, piGpio.spiXfer(spi, sequence(ByteBuffer.allocateDirect(8)), 0, rx, 4, 8));
+            assertEquals(12, rx.position());
+            for (int i = 0; i < 8; i++) assertEquals(i + 1, rx.get(i + 4));
+            assertEquals(0, rx.get(3));
+            assertEquals(0, rx.get(12));
+            assertEquals(8, piGpio.spiWrite(spi, rx, 4, 8));
+            piGpio.spiClose(spi);
+
+            // serial echo device: read-only heap buffers are written, heap buffers are read into
+            int serial = piGpio.serOpen("/dev/ttyS0", 115200);
+            assertEquals(0, piGpio.serWrite(serial, sequence(ByteBuffer.allocate(6)).asReadOnlyBuffer(), 0, 6));
+            ByteBuffer buffer = ByteBuffer.allocate(10);
+            assertEquals(6, piGpio.serRead(serial, buffer, 2, 6));
+            assertEquals(8, buffer.position());
+            for (int i = 0; i < 6; i++) assertEquals(i + 1, buffer.get(i + 2));
+            piGpio.serClose(serial);
+
+            // interface defaults accept direct buffers too
+            int block = piGpio.i2cOpen(1, 0x05);
+            assertEquals(0, piGpio.i2cWriteBlockData(block, 0x10, sequence(ByteBuffer.allocateDirect(4)), 0, 4));
+            piGpio.i2cClose(block);
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO BYTE BUFFERS :: Failed reads leave the buffer position untouched")
+    @Test
+    public void testReadWithoutData() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            int serial = piGpio.serOpen("/dev/ttyS0", 115200);
+            for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.allocate(8), ByteBuffer.allocateDirect(8) }) {
+                buffer.position(3);
+                assertEquals(PiGpioError.PI_SER_READ_NO_DATA.value(), piGpio.serRead(serial, buffer, 2, 4));
+                assertEquals(3, buffer.position());
+            }
+            piGpio.serClose(serial);
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketConnectionTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketConnectionTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO CONNECTION :: Response payload lands in the caller's array")
+    @Test
+    public void testPayloadIntoArray() {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            byte[] write = { 1, 2, 3, 4, 5, 6, 7, 8 };
+            byte[] read = new byte[12];
+            assertEquals(8, piGpio.spiXfer(0, write, 0, read, 4, 8));
+            assertArrayEquals(new byte[] { 0, 0, 0, 0, 1, 2, 3, 4, 5, 6, 7, 8 }, read);
+
+            // payload bytes beyond the requested length are discarded
+            byte[] buffer = new byte[4];
+            assertEquals(6, piGpio.connection().transact(PiGpioCmd.SPIR, 0, 6, null, 0, 0, buffer, 0, 4,
+                    PiGpioSocketWaitStrategy.BLOCKING, 500));
+            assertArrayEquals(new byte[] { 0, 1, 2, 3 }, buffer);
+            assertEquals(3, piGpio.spiRead(0, buffer, 1, 3));
+            assertArrayEquals(new byte[] { 0, 0, 1, 2 }, buffer);
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO CONNECTION :: Command and response payload in direct buffers")
+    @Test
+    public void testPayloadIntoByteBuffer() {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            ByteBuffer tx = ByteBuffer.allocateDirect(16);
+            for (int i = 0; i < 16; i++) tx.put((byte) (0x40 + i));
+            tx.flip();
+            ByteBuffer rx = ByteBuffer.allocateDirect(16);
+            assertEquals(16, piGpio.transact(PiGpioCmd.SPIX, 0, 0, tx, rx));
+            assertEquals(16, rx.position());
+            for (int i = 0; i < 16; i++) assertEquals((byte) (0x40 + i), rx.get(i));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO CONNECTION :: Steady state transfers do not allocate")
+    @Test
+    public void testNoAllocation() throws Exception {
+        PiGpioSocketConnection connection = new PiGpioSocketConnection(daemon.host(), daemon.port(), 500);
+        try {
+            // accessed reflectively; this module does not read the java.management module
+            Object bean = Class.forName("java.lang.management.ManagementFactory")
+                    .getMethod("getThreadMXBean").invoke(null);
+            Method allocated = Class.forName("com.sun.management.ThreadMXBean")
+                    .getMethod("getThreadAllocatedBytes", long.class);
+            long thread = Thread.currentThread().getId();
+
+            byte[] write = new byte[64];
+            byte[] read = new byte[64];
+            for (int i = 0; i < 20000; i++) {
+                connection.transact(PiGpioCmd.SPIX, 0, 0, write, 0, 64, read, 0, 64, PiGpioSocketWaitStrategy.BLOCKING, 500);
+            }
+            long before = (long) allocated.invoke(bean, thread);
+            for (int i = 0; i < 10000; i++) {
+                connection.transact(PiGpioCmd.SPIX, 0, 0, write, 0, 64, read, 0, 64, PiGpioSocketWaitStrategy.BLOCKING, 500);
+            }
+            long after = (long) allocated.invoke(bean, thread);
+            long perCall = (after - before) / 10000;
+            assertTrue(perCall < 8, "allocated " + perCall + " bytes per call");
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketScriptTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioI2CZip;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioSocketI2CZipTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("I2C ZIP :: Command buffer encoding")
+    @Test
+    public void testZipEncoding() {
+        PiGpioI2CZip zip = PiGpioI2CZip.newInstance()
+                .address(0x68).flags(0x0102).combinedOn().write(0x3B).read(14).read(300).combinedOff();
+        assertArrayEquals(new byte[]{ 4, 0x68, 5, 0x02, 0x01, 2, 7, 1, 0x3B, 6, 14, 1, 6, 0x2C, 0x01, 3, 0 }, zip.toArray());
+        assertEquals(314, zip.readLength());
+        assertThrows(IllegalArgumentException.class, () -> PiGpioI2CZip.newInstance().address(0x80));
+        assertThrows(IllegalArgumentException.class, () -> PiGpioI2CZip.newInstance().read(65536));
+        assertThrows(IllegalArgumentException.class, () -> PiGpioI2CZip.newInstance().read(0));
+        assertThrows(IllegalArgumentException.class, () -> PiGpioI2CZip.newInstance().write(new byte[0]));
+    }
+
+    @DisplayName("I2C ZIP :: Register read in a single transaction")
+    @Test
+    public void testZipTransaction() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            int handle = piGpio.i2cOpen(1, 0x68);
+            byte[] data = piGpio.i2cZip(handle, PiGpioI2CZip.newInstance().combinedOn().write(0x3B).read(6).combinedOff());
+            assertArrayEquals(new byte[]{ 0, 1, 2, 3, 4, 5 }, data);
+
+            byte[] buffer = new byte[10];
+            assertEquals(4, piGpio.i2cZip(handle, PiGpioI2CZip.newInstance().read(4), buffer, 3));
+            assertArrayEquals(new byte[]{ 0, 0, 0, 0, 1, 2, 3, 0, 0, 0 }, buffer);
+
+            assertEquals(4, piGpio.async().i2cZip(handle, PiGpioI2CZip.newInstance().read(4).toArray(), 0, 3, buffer, 0, 4).get());
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_EITHER_EDGE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_RISING_EDGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PiGpioSocketInterruptTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO INTERRUPTS :: Only the selected edge is reported and timeouts are reported as TIMEOUT")
+    @Test
+    public void testInterrupts() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            BlockingQueue<PiGpioStateChangeEvent> received = new ArrayBlockingQueue<>(100);
+            piGpio.gpioSetMode(5, PiGpioMode.OUTPUT);
+            piGpio.addPinListener(5, received::offer);
+
+            // falling edges are filtered out
+            piGpio.gpioEnableInterrupts(5, PI_RISING_EDGE, 0);
+            piGpio.gpioWrite(5, PiGpioState.HIGH);
+            piGpio.gpioWrite(5, PiGpioState.LOW);
+            piGpio.gpioWrite(5, PiGpioState.HIGH);
+            for(int i = 0; i < 2; i++) {
+                PiGpioStateChangeEvent event = received.poll(5, TimeUnit.SECONDS);
+                assertNotNull(event);
+                assertEquals(PiGpioState.HIGH, event.state());
+            }
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+
+            // no edge within the timeout
+            piGpio.gpioEnableInterrupts(5, PI_EITHER_EDGE, 20);
+            PiGpioStateChangeEvent event = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(PiGpioState.TIMEOUT, event.state());
+
+            // both edges are reported again once interrupts are disabled
+            piGpio.gpioDisableInterrupts(5);
+            Thread.sleep(50);
+            received.clear();
+            piGpio.gpioWrite(5, PiGpioState.LOW);
+            event = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(PiGpioState.LOW, event.state());
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+
+            assertThrows(IllegalArgumentException.class, () -> piGpio.gpioEnableInterrupts(5, 3, 0));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMetrics;
+import com.pi4j.library.pigpio.PiGpioMetricsSnapshot;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketMetricsTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon().latency(200);
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO METRICS :: Latency histogram buckets are log-linear")
+    @Test
+    public void testBuckets() {
+        for (long nanos = 0; nanos < 100000; nanos++) {
+            int bucket = PiGpioMetrics.bucket(nanos);
+            assertTrue(PiGpioMetrics.bucketValue(bucket) <= nanos);
+            assertTrue(PiGpioMetrics.bucketValue(bucket + 1) > nanos);
+        }
+        assertEquals(PiGpioMetrics.BUCKETS - 1, PiGpioMetrics.bucket(Long.MAX_VALUE));
+    }
+
+    @DisplayName("PIGPIO METRICS :: Commands, errors, bytes and notifications are recorded")
+    @Test
+    public void testMetrics() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            CountDownLatch notified = new CountDownLatch(1);
+            piGpio.addPinListener(4, event -> notified.countDown());
+            piGpio.metrics().reset();
+
+            for (int i = 0; i < 10; i++) piGpio.gpioWrite(4, (i & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW);
+            piGpio.spiXfer(0, new byte[8]);
+            assertThrows(PiGpioException.class, () -> piGpio.gpioWaveDelete(99));
+            assertTrue(notified.await(5, TimeUnit.SECONDS));
+
+            PiGpioMetricsSnapshot snapshot = piGpio.metrics().snapshot();
+            assertEquals(10, snapshot.commands(PiGpioCmd.WRITE));
+            assertEquals(1, snapshot.commands(PiGpioCmd.SPIX));
+            assertEquals(12, snapshot.commands());
+            assertEquals(1, snapshot.errors(PiGpioCmd.WVDEL));
+            assertEquals(1, snapshot.errors(PiGpioError.PI_BAD_WAVE_ID));
+            assertEquals(0, snapshot.errors(PiGpioCmd.WRITE));
+            assertEquals(12 * PiGpioPacket.HEADER_SIZE + 8, snapshot.bytesSent());
+            assertEquals(12 * PiGpioPacket.HEADER_SIZE + 8, snapshot.bytesReceived());
+
+            // every command waits at least the emulated response latency
+            assertTrue(snapshot.latency(PiGpioCmd.WRITE, 0.50) >= TimeUnit.MICROSECONDS.toNanos(150));
+            assertTrue(snapshot.latency(PiGpioCmd.WRITE, 0.99) >= snapshot.latency(PiGpioCmd.WRITE, 0.50));
+            assertTrue(snapshot.meanLatency(PiGpioCmd.WRITE) >= TimeUnit.MICROSECONDS.toNanos(200));
+            assertTrue(snapshot.throughput() > 0);
+            assertTrue(snapshot.notificationReports() >= 1);
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO METRICS :: Asynchronous commands are recorded when their responses arrive")
+    @Test
+    public void testAsyncMetrics() {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(
+                daemon.host(), daemon.port(), PiGpioSocketWaitStrategy.BLOCKING, true);
+        piGpio.gpioInitialise();
+        try {
+            piGpio.metrics().reset();
+
+            for (int i = 0; i < 5; i++) piGpio.async().gpioWrite(4, PiGpioState.HIGH).join();
+            piGpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.WVDEL, 99)).join();
+            List<CompletableFuture<PiGpioPacket>> burst = piGpio.sendPacketsAsync(List.of(
+                    new PiGpioPacket(PiGpioCmd.READ, 4), new PiGpioPacket(PiGpioCmd.READ, 5)));
+            burst.forEach(CompletableFuture::join);
+
+            PiGpioMetricsSnapshot snapshot = piGpio.metrics().snapshot();
+            assertEquals(5, snapshot.commands(PiGpioCmd.WRITE));
+            assertEquals(2, snapshot.commands(PiGpioCmd.READ));
+            assertEquals(1, snapshot.errors(PiGpioCmd.WVDEL));
+            assertEquals(8, snapshot.commands());
+            assertEquals(8 * PiGpioPacket.HEADER_SIZE, snapshot.bytesSent());
+            assertTrue(snapshot.meanLatency(PiGpioCmd.WRITE) >= TimeUnit.MICROSECONDS.toNanos(200));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPipelineTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketPipelineTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO PIPELINE :: Responses are matched to commands in order")
+    @Test
+    public void testBurstResponsesMatchCommands() {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(
+                daemon.host(), daemon.port(), PiGpioSocketWaitStrategy.BLOCKING, true);
+        piGpio.gpioInitialise();
+        try {
+            List<PiGpioPacket> burst = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                burst.add(new PiGpioPacket(PiGpioCmd.WRITE, i % 32, i % 2));
+            }
+            List<CompletableFuture<PiGpioPacket>> futures = piGpio.sendPacketsAsync(burst);
+            assertEquals(burst.size(), futures.size());
+            for (int i = 0; i < burst.size(); i++) {
+                PiGpioPacket rx = futures.get(i).join();
+                assertEquals(PiGpioCmd.WRITE, rx.cmd());
+                assertEquals(burst.get(i).p1(), rx.p1());
+                assertEquals(burst.get(i).p2(), rx.p2());
+            }
+            assertEquals(0, piGpio.pool.get(0).inFlight());
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO PIPELINE :: Concurrent callers share one connection")
+    @Test
+    public void testConcurrentCallers() throws InterruptedException {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(
+                daemon.host(), daemon.port(), PiGpioSocketWaitStrategy.BLOCKING, true);
+        piGpio.gpioInitialise();
+        try {
+            List<Thread> threads = new ArrayList<>();
+            List<Throwable> errors = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int pin = 10 + t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 200; i++) {
+                            PiGpioState state = (i % 2 == 0) ? PiGpioState.HIGH : PiGpioState.LOW;
+                            piGpio.gpioWrite(pin, state);
+                            assertEquals(state, piGpio.gpioRead(pin));
+                        }
+                    } catch (Throwable e) {
+                        synchronized (errors) { errors.add(e); }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) thread.join();
+            assertTrue(errors.isEmpty(), errors.toString());
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO PIPELINE :: A response of another command fails all pending commands")
+    @Test
+    public void testMismatchedResponse() throws IOException {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            // answer the first command with a response of another command
+            Thread host = serve(server, PiGpioCmd.READ);
+            PiGpioSocketPipeline pipeline = new PiGpioSocketPipeline(
+                    server.getInetAddress().getHostAddress(), server.getLocalPort());
+            try {
+                CompletableFuture<PiGpioPacket> first = pipeline.submit(new PiGpioPacket(PiGpioCmd.WRITE, 1, 1));
+                CompletableFuture<PiGpioPacket> second = pipeline.submit(new PiGpioPacket(PiGpioCmd.WRITE, 2, 1));
+                assertThrows(CompletionException.class, first::join);
+                assertThrows(CompletionException.class, second::join);
+                assertFalse(pipeline.isConnected());
+                assertEquals(0, pipeline.inFlight());
+            } finally {
+                pipeline.close();
+                host.interrupt();
+            }
+        }
+    }
+
+    @DisplayName("PIGPIO PIPELINE :: A timed out command fails all pending commands")
+    @Test
+    public void testTimeout() throws IOException {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            // never answer
+            Thread host = serve(server, null);
+            PiGpioSocketPipeline pipeline = new PiGpioSocketPipeline(
+                    server.getInetAddress().getHostAddress(), server.getLocalPort());
+            try {
+                CompletableFuture<PiGpioPacket> first = pipeline.submit(new PiGpioPacket(PiGpioCmd.WRITE, 1, 1));
+                assertThrows(PiGpioException.class, () ->
+                        pipeline.transact(new PiGpioPacket(PiGpioCmd.WRITE, 2, 1), PiGpioSocketWaitStrategy.BLOCKING, 100));
+                assertThrows(CompletionException.class, first::join);
+                assertFalse(pipeline.isConnected());
+                assertEquals(0, pipeline.inFlight());
+            } finally {
+                pipeline.close();
+                host.interrupt();
+            }
+        }
+    }
+
+    private static Thread serve(ServerSocket server, PiGpioCmd reply) {
+        Thread thread = new Thread(() -> {
+            try (Socket socket = server.accept()) {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                OutputStream out = socket.getOutputStream();
+                byte[] header = new byte[PiGpioPacket.HEADER_SIZE];
+                while (!Thread.currentThread().isInterrupted()) {
+                    in.readFully(header);
+                    PiGpioPacket tx = PiGpioPacket.decode(header);
+                    if(reply != null) {
+                        out.write(PiGpioPacket.encode(new PiGpioPacket(reply, tx.p1(), tx.p2())));
+                        out.flush();
+                    }
+                }
+            } catch (IOException e) {
+                // connection closed by the pipeline
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
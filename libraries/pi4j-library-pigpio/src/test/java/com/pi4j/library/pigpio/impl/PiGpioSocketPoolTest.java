@@ -0,0 +1,121 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPoolTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioSocketCheckout;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketPoolTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO POOL :: Concurrent callers on per-thread connections")
+    @Test
+    public void testPerThreadCheckout() throws InterruptedException {
+        testConcurrentCallers(PiGpioSocketCheckout.PER_THREAD);
+    }
+
+    @DisplayName("PIGPIO POOL :: Concurrent callers on least-busy connections")
+    @Test
+    public void testLeastBusyCheckout() throws InterruptedException {
+        testConcurrentCallers(PiGpioSocketCheckout.LEAST_BUSY);
+    }
+
+    @DisplayName("PIGPIO POOL :: Closed connection is re-opened on demand")
+    @Test
+    public void testReconnect() {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port(), 1);
+        piGpio.gpioInitialise();
+        try {
+            PiGpioSocketTransport connection = piGpio.pool.get(0);
+            assertNotNull(connection);
+            connection.close();
+            piGpio.gpioWrite(5, PiGpioState.HIGH);
+            assertEquals(PiGpioState.HIGH, piGpio.gpioRead(5));
+            assertTrue(piGpio.pool.get(0) != connection);
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    private void testConcurrentCallers(PiGpioSocketCheckout checkout) throws InterruptedException {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port(), 4, checkout);
+        piGpio.gpioInitialise();
+        try {
+            List<Thread> threads = new ArrayList<>();
+            List<Throwable> errors = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int pin = 10 + t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 200; i++) {
+                            PiGpioState state = (i % 2 == 0) ? PiGpioState.HIGH : PiGpioState.LOW;
+                            piGpio.gpioWrite(pin, state);
+                            assertEquals(state, piGpio.gpioRead(pin));
+                        }
+                    } catch (Throwable e) {
+                        synchronized (errors) { errors.add(e); }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) thread.join();
+            assertTrue(errors.isEmpty(), errors.toString());
+            assertEquals(4, piGpio.poolSize());
+            for (int i = 0; i < piGpio.poolSize(); i++) {
+                if(piGpio.pool.get(i) != null) assertEquals(0, piGpio.pool.get(i).inFlight());
+            }
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketScriptTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioScript;
+import com.pi4j.library.pigpio.PiGpioScriptStatus;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.pi4j.library.pigpio.PiGpioScript.param;
+import static com.pi4j.library.pigpio.PiGpioScript.var;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioSocketScriptTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO SCRIPT :: Script language builder")
+    @Test
+    public void testScriptBuilder() {
+        PiGpioScript script = PiGpioScript.newInstance()
+                .mode(4, PiGpioMode.OUTPUT).mode(5, PiGpioMode.ALT3)
+                .tag(100).write(4, 1).mils(param(1)).write(4, 0).mils(param(1))
+                .inr(var(0)).dcr(param(0)).jnz(100)
+                .command("mlt", 2);
+        assertEquals("M 4 W\nM 5 3\nTAG 100\nW 4 1\nMILS p1\nW 4 0\nMILS p1\nINR v0\nDCR p0\nJNZ 100\nMLT 2",
+                script.build());
+        assertThrows(IllegalArgumentException.class, () -> param(10));
+        assertThrows(IllegalArgumentException.class, () -> var(150));
+        assertThrows(IllegalArgumentException.class, () -> PiGpioScript.newInstance().lda("A; HALT"));
+    }
+
+    @DisplayName("PIGPIO SCRIPT :: Store, run, poll, update, stop and delete")
+    @Test
+    public void testScriptLifecycle() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            int id = piGpio.gpioStoreScript(PiGpioScript.newInstance().tag(0).write(4, 1).write(4, 0).jmp(0));
+            assertTrue(id >= 0);
+            assertEquals(PiGpioScriptStatus.HALTED, piGpio.gpioScriptStatus(id));
+
+            piGpio.gpioRunScript(id, 10, 20, 30);
+            int[] params = new int[10];
+            assertEquals(PiGpioScriptStatus.RUNNING, piGpio.gpioScriptStatus(id, params));
+            assertArrayEquals(new int[]{ 10, 20, 30, 0, 0, 0, 0, 0, 0, 0 }, params);
+
+            piGpio.gpioUpdateScript(id, -1);
+            int[] first = new int[2];
+            piGpio.gpioScriptStatus(id, first);
+            assertArrayEquals(new int[]{ -1, 20 }, first);
+
+            piGpio.gpioStopScript(id);
+            assertEquals(PiGpioScriptStatus.HALTED, piGpio.gpioScriptStatus(id));
+            assertThrows(IllegalArgumentException.class, () -> piGpio.gpioRunScript(id, new int[11]));
+
+            piGpio.gpioDeleteScript(id);
+            assertThrows(PiGpioException.class, () -> piGpio.gpioScriptStatus(id));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
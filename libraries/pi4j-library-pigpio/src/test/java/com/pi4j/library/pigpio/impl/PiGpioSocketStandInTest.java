@@ -0,0 +1,88 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketStandInTest {
+
+    @DisplayName("PIGPIO STAND-IN :: I2C and serial handles echo the written bytes")
+    @Test
+    public void testEchoDevices() throws Exception {
+        try (PiGpioStandInDaemon daemon = new PiGpioStandInDaemon()) {
+            PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+            piGpio.gpioInitialise();
+            try {
+                byte[] data = new byte[] { 9, 8, 7, 6 };
+                byte[] buffer = new byte[6];
+
+                int i2c = piGpio.i2cOpen(1, 0x04);
+                piGpio.i2cWriteDevice(i2c, data);
+                assertEquals(6, piGpio.i2cReadDevice(i2c, buffer));
+                // bytes beyond the echoed bytes continue the ascending pattern
+                assertArrayEquals(new byte[] { 9, 8, 7, 6, 4, 5 }, buffer);
+                piGpio.i2cClose(i2c);
+
+                int serial = piGpio.serOpen("/dev/ttyS0", 115200);
+                piGpio.serWrite(serial, data);
+                assertEquals(4, piGpio.serDataAvailable(serial));
+                assertEquals(4, piGpio.serRead(serial, buffer));
+                assertEquals(0, piGpio.serDataAvailable(serial));
+                piGpio.serClose(serial);
+            } finally {
+                piGpio.gpioTerminate();
+            }
+        }
+    }
+
+    @DisplayName("PIGPIO STAND-IN :: Responses are delayed by the configured latency")
+    @Test
+    public void testLatency() throws Exception {
+        try (PiGpioStandInDaemon daemon = new PiGpioStandInDaemon().latency(20000)) {
+            PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+            piGpio.gpioInitialise();
+            try {
+                long start = System.nanoTime();
+                assertEquals(PiGpioState.LOW, piGpio.gpioRead(4));
+                assertTrue(System.nanoTime() - start >= TimeUnit.MICROSECONDS.toNanos(20000));
+            } finally {
+                piGpio.gpioTerminate();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioMetricsSnapshot;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PiGpioSocketStreamTest {
+
+    private static final int LENGTH = 300 * 1024 + 17;
+    private static final int CHUNK = 4096;
+    private static final int CHUNKS = (LENGTH + CHUNK - 1) / CHUNK;
+
+    @DisplayName("PIGPIO SOCKET :: Streaming SPI transfers are split into chunks")
+    @Test
+    public void testSpiStream() throws Exception {
+        try (PiGpioStandInDaemon daemon = new PiGpioStandInDaemon()) {
+            for (boolean pipelined : new boolean[] { false, true }) {
+                PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port(), PiGpioSocketWaitStrategy.BLOCKING, pipelined);
+                piGpio.gpioInitialise();
+                try {
+                    byte[] write = new byte[LENGTH];
+                    new Random(LENGTH).nextBytes(write);
+                    byte[] read = new byte[LENGTH + 2];
+
+                    // the stand-in daemon loops the written bytes back
+                    int handle = piGpio.spiOpen(0, 1000000);
+                    piGpio.metrics().reset();
+                    assertEquals(LENGTH, piGpio.spiStreamXfer(handle, write, 0, read, 2, LENGTH, CHUNK));
+                    assertArrayEquals(write, Arrays.copyOfRange(read, 2, LENGTH + 2));
+                    assertEquals(LENGTH, piGpio.spiStreamWrite(handle, write, 0, LENGTH));
+
+                    // each stream is recorded as a single command carrying all chunk headers
+                    PiGpioMetricsSnapshot snapshot = piGpio.metrics().snapshot();
+                    assertEquals(1, snapshot.commands(PiGpioCmd.SPIX));
+                    assertEquals(1, snapshot.commands(PiGpioCmd.SPIW));
+                    assertEquals(2L * CHUNKS * 16 + 2L * LENGTH, snapshot.bytesSent());
+                    piGpio.spiClose(handle);
+                } finally {
+                    piGpio.gpioTerminate();
+                }
+            }
+        }
+    }
+
+    @DisplayName("PIGPIO SOCKET :: Streaming serial writes deliver every chunk in order")
+    @Test
+    public void testSerialStream() throws Exception {
+        try (PiGpioStandInDaemon daemon = new PiGpioStandInDaemon().latency(200)) {
+            PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+            piGpio.gpioInitialise();
+            try {
+                byte[] data = new byte[LENGTH];
+                new Random(CHUNK).nextBytes(data);
+
+                int handle = piGpio.serOpen("/dev/ttyS0", 115200);
+                assertEquals(LENGTH, piGpio.serStreamWrite(handle, data, 0, LENGTH, CHUNK));
+                assertEquals(LENGTH, piGpio.serDataAvailable(handle));
+
+                byte[] echo = new byte[LENGTH];
+                for (int offset = 0; offset < LENGTH; ) {
+                    offset += piGpio.serRead(handle, echo, offset, Math.min(CHUNK, LENGTH - offset));
+                }
+                assertArrayEquals(data, echo);
+                piGpio.serClose(handle);
+            } finally {
+                piGpio.gpioTerminate();
+            }
+        }
+    }
+}
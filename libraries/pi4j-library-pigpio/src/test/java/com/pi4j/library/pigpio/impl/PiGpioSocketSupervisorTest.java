@@ -0,0 +1,173 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketSupervisorTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketSupervisorTest {
+
+    /** Stand-in daemon recording the commands it receives. */
+    private static class RecordingDaemon extends PiGpioStandInDaemon {
+        final List<PiGpioCmd> commands = new CopyOnWriteArrayList<>();
+        final List<Integer> handles = new CopyOnWriteArrayList<>();
+        // handle assigned to the next I2C device opened
+        volatile int i2cHandle = 0;
+        // holds I2CO commands until counted down
+        volatile CountDownLatch hold = null;
+
+        RecordingDaemon(int port) throws IOException {
+            super(port);
+        }
+
+        @Override
+        protected int execute(PiGpioCmd cmd, int p1, int p2, byte[] ext) {
+            commands.add(cmd);
+            if(cmd == PiGpioCmd.I2CO) {
+                try {
+                    if(hold != null) hold.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return i2cHandle;
+            }
+            if(cmd.name().startsWith("I2C")) handles.add(p1);
+            return super.execute(cmd, p1, p2, ext);
+        }
+    }
+
+    @DisplayName("PIGPIO SUPERVISOR :: Lost connection is re-established and the session replayed")
+    @Test
+    public void testReconnectAndReplay() throws Exception {
+        RecordingDaemon daemon = new RecordingDaemon(0);
+        int port = daemon.port();
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), port);
+        piGpio.gpioInitialise();
+        try {
+            piGpio.gpioSetMode(4, PiGpioMode.OUTPUT);
+            piGpio.gpioSetMode(5, PiGpioMode.ALT0);
+            int handle = piGpio.i2cOpen(1, 0x20, 0);
+            assertTrue(piGpio.supervisor().isRunning());
+
+            // restart the daemon; the supervisor detects the outage without any command being sent
+            daemon.close();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (piGpio.supervisor().isConnected() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+            assertFalse(piGpio.supervisor().isConnected());
+
+            // commands fail fast while reconnecting
+            assertThrows(PiGpioException.class, () -> piGpio.gpioRead(4));
+
+            daemon = new RecordingDaemon(port);
+            deadline = System.currentTimeMillis() + 10000;
+            while (piGpio.supervisor().reconnects() == 0 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+            assertEquals(1, piGpio.supervisor().reconnects());
+
+            // pin modes and the I2C handle were replayed to the new daemon
+            assertEquals(PiGpioMode.OUTPUT, piGpio.gpioGetMode(4));
+            assertEquals(PiGpioMode.ALT0, piGpio.gpioGetMode(5));
+            assertTrue(daemon.commands.contains(PiGpioCmd.I2CO));
+            assertTrue(piGpio.i2cHandles.contains(handle));
+        } finally {
+            piGpio.gpioTerminate();
+            daemon.close();
+        }
+    }
+
+    @DisplayName("PIGPIO SUPERVISOR :: Replay only re-opens handles and commands wait for the restored session")
+    @Test
+    public void testReplayReopensHandles() throws Exception {
+        RecordingDaemon daemon = new RecordingDaemon(0);
+        int port = daemon.port();
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), port);
+        piGpio.gpioInitialise();
+        try {
+            daemon.i2cHandle = 1;
+            int handle = piGpio.i2cOpen(1, 0x20, 0);
+            assertEquals(1, handle);
+
+            daemon.close();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (piGpio.supervisor().isConnected() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+            assertFalse(piGpio.supervisor().isConnected());
+
+            // after the restart another client holds handle 1; the replayed device gets handle 2
+            daemon = new RecordingDaemon(port);
+            daemon.i2cHandle = 2;
+            daemon.hold = new CountDownLatch(1);
+            deadline = System.currentTimeMillis() + 10000;
+            while (!daemon.commands.contains(PiGpioCmd.I2CO) && System.currentTimeMillis() < deadline) Thread.sleep(10);
+
+            // the session is being replayed: not connected yet and commands still fail fast
+            assertTrue(daemon.commands.contains(PiGpioCmd.I2CO));
+            assertFalse(piGpio.supervisor().isConnected());
+            assertEquals(0, piGpio.supervisor().reconnects());
+            assertThrows(PiGpioException.class, () -> piGpio.gpioRead(4));
+            daemon.hold.countDown();
+
+            deadline = System.currentTimeMillis() + 10000;
+            while (piGpio.supervisor().reconnects() == 0 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+            assertEquals(1, piGpio.supervisor().reconnects());
+            assertTrue(piGpio.supervisor().isConnected());
+
+            // the handle of the other client was never closed; the caller's handle reaches the new one
+            assertFalse(daemon.commands.contains(PiGpioCmd.I2CC));
+            piGpio.i2cWriteByte(handle, (byte) 0x55);
+            assertEquals(List.of(2), daemon.handles);
+
+            // a device opened under a number the caller already knows is returned under a number of its own
+            daemon.i2cHandle = 1;
+            int other = piGpio.i2cOpen(1, 0x21, 0);
+            assertEquals(2, other);
+            piGpio.i2cWriteByte(other, (byte) 0x55);
+            piGpio.i2cClose(handle);
+            piGpio.i2cClose(other);
+            assertEquals(List.of(2, 1, 2, 1), daemon.handles);
+            assertTrue(piGpio.i2cHandles.isEmpty());
+        } finally {
+            piGpio.gpioTerminate();
+            daemon.close();
+        }
+    }
+}
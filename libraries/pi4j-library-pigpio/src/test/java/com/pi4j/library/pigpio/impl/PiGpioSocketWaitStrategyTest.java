@@ -0,0 +1,77 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketWaitStrategyTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioSocketWaitStrategy;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PiGpioSocketWaitStrategyTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO SOCKET :: Round trip commands with each wait strategy")
+    @Test
+    public void testRoundTripWithEachWaitStrategy() {
+        for (PiGpioSocketWaitStrategy strategy : PiGpioSocketWaitStrategy.values()) {
+            PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port(), strategy);
+            assertEquals(PiGpioStandInDaemon.VERSION, piGpio.gpioInitialise());
+            try {
+                piGpio.gpioSetMode(5, PiGpioMode.OUTPUT);
+                assertEquals(PiGpioMode.OUTPUT, piGpio.gpioGetMode(5));
+                for (int i = 0; i < 100; i++) {
+                    PiGpioState state = (i % 2 == 0) ? PiGpioState.HIGH : PiGpioState.LOW;
+                    piGpio.gpioWrite(5, state);
+                    assertEquals(state, piGpio.gpioRead(5));
+                }
+            } finally {
+                piGpio.gpioTerminate();
+            }
+        }
+    }
+}
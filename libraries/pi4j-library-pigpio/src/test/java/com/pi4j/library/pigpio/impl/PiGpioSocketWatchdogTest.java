@@ -0,0 +1,114 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioEvent;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PiGpioSocketWatchdogTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO WATCHDOG :: Watchdog reports are dispatched as TIMEOUT state changes")
+    @Test
+    public void testWatchdog() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            BlockingQueue<PiGpioStateChangeEvent> received = new ArrayBlockingQueue<>(100);
+            piGpio.addPinListener(4, received::offer);
+            piGpio.gpioSetWatchdog(4, 20);
+
+            PiGpioStateChangeEvent event = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(4, event.pin());
+            assertEquals(PiGpioState.TIMEOUT, event.state());
+
+            // a cancelled watchdog no longer reports
+            piGpio.gpioSetWatchdog(4, 0);
+            Thread.sleep(50);
+            received.clear();
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+
+            assertThrows(IllegalArgumentException.class, () -> piGpio.gpioSetWatchdog(4, 60001));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO EVENTS :: Triggered events are dispatched to the event listeners")
+    @Test
+    public void testEvents() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            BlockingQueue<PiGpioEvent> received = new ArrayBlockingQueue<>(100);
+            piGpio.addEventListener(7, received::offer);
+
+            // events that are not monitored are not reported
+            piGpio.eventTrigger(8);
+            piGpio.eventTrigger(7);
+
+            PiGpioEvent event = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(7, event.event());
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+
+            assertThrows(IllegalArgumentException.class, () -> piGpio.eventTrigger(32));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
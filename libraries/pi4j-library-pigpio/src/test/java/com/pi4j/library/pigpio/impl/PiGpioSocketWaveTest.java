@@ -0,0 +1,101 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketWaveTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioConst;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPulse;
+import com.pi4j.library.pigpio.PiGpioWaveChain;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioSocketWaveTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO WAVE :: Chain control bytes")
+    @Test
+    public void testChainEncoding() {
+        byte[] chain = PiGpioWaveChain.newInstance()
+                .wave(0).loopStart().wave(1, 2).delay(500).loopEnd(300).loopStart().wave(3).loopForever()
+                .toArray();
+        assertArrayEquals(new byte[]{ 0, (byte)255, 0, 1, 2, (byte)255, 2, (byte)0xF4, 1, (byte)255, 1, 44, 1,
+                (byte)255, 0, 3, (byte)255, 3 }, chain);
+        assertThrows(IllegalArgumentException.class, () -> PiGpioWaveChain.newInstance().wave(250));
+        assertThrows(IllegalArgumentException.class, () -> PiGpioWaveChain.newInstance().delay(65536));
+    }
+
+    @DisplayName("PIGPIO WAVE :: Add pulses, create, send and stop")
+    @Test
+    public void testWaveLifecycle() throws Exception {
+        PiGpio piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            piGpio.gpioWaveClear();
+            assertEquals(2, piGpio.gpioWaveAddGeneric(PiGpioPulse.on(4, 100), PiGpioPulse.off(4, 100)));
+            assertEquals(4, piGpio.gpioWaveAddGeneric(new PiGpioPulse(1 << 5, 1 << 6, 50), PiGpioPulse.delay(50)));
+            assertEquals(300, piGpio.gpioWaveGetMicros());
+            int wave = piGpio.gpioWaveCreate();
+            assertTrue(wave >= 0);
+
+            piGpio.gpioWaveSendRepeat(wave);
+            assertTrue(piGpio.gpioWaveTxBusy());
+            assertEquals(wave, piGpio.gpioWaveTxAt());
+            piGpio.gpioWaveTxStop();
+            assertFalse(piGpio.gpioWaveTxBusy());
+            assertEquals(PiGpioConst.PI_NO_TX_WAVE, piGpio.gpioWaveTxAt());
+
+            piGpio.gpioWaveChain(PiGpioWaveChain.newInstance().wave(wave).delay(10));
+            piGpio.gpioWaveDelete(wave);
+            assertThrows(PiGpioException.class, () -> piGpio.gpioWaveSendOnce(wave));
+            assertThrows(PiGpioException.class, piGpio::gpioWaveCreate);
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
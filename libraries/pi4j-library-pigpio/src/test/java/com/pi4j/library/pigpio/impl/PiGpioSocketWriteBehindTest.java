@@ -0,0 +1,195 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioMetricsSnapshot;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.test.PiGpioStandInDaemon;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PiGpioSocketWriteBehindTest {
+
+    private static PiGpioStandInDaemon daemon;
+
+    @BeforeAll
+    public static void beforeAllTests() throws IOException {
+        daemon = new PiGpioStandInDaemon();
+    }
+
+    @AfterAll
+    public static void afterAllTests() throws IOException {
+        daemon.close();
+    }
+
+    @DisplayName("PIGPIO WRITE-BEHIND :: Writes that do not change a pin are elided")
+    @Test
+    public void testElision() throws Exception {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            piGpio.writeBehind().enabled(true);
+            piGpio.metrics().reset();
+
+            for (int i = 0; i < 5; i++) piGpio.gpioWrite(4, PiGpioState.HIGH);
+            piGpio.gpioWrite(4, PiGpioState.LOW);
+            for (int i = 0; i < 3; i++) piGpio.gpioPWM(5, 128);
+
+            // a mode change forgets the level of the pin
+            piGpio.gpioSetMode(4, PiGpioMode.OUTPUT);
+            piGpio.gpioWrite(4, PiGpioState.LOW);
+
+            PiGpioMetricsSnapshot snapshot = piGpio.metrics().snapshot();
+            assertEquals(3, snapshot.commands(PiGpioCmd.WRITE));
+            assertEquals(1, snapshot.commands(PiGpioCmd.PWM));
+            assertEquals(6, piGpio.writeBehind().elided());
+            assertEquals(PiGpioState.LOW, piGpio.gpioRead(4));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO WRITE-BEHIND :: Writes within the flush window are collapsed into bank writes")
+    @Test
+    public void testCoalescing() throws Exception {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            // bank writes make the levels of all pins known
+            piGpio.writeBehind().enabled(true);
+            piGpio.gpioWriteBank1Clear(0xFFFFFFFF);
+            piGpio.writeBehind().flushWindow(60000);
+            piGpio.metrics().reset();
+
+            for (int i = 0; i < 100; i++) {
+                for (int pin = 4; pin < 8; pin++) {
+                    piGpio.gpioWrite(pin, ((i + pin) & 1) == 0 ? PiGpioState.HIGH : PiGpioState.LOW);
+                }
+            }
+            assertEquals(0, piGpio.metrics().snapshot().commands());
+
+            // a read sends the deferred writes first: pins 5 and 7 end HIGH, pins 4 and 6 end LOW as before
+            assertEquals(0b10100000, piGpio.gpioReadBank1());
+            PiGpioMetricsSnapshot snapshot = piGpio.metrics().snapshot();
+            assertEquals(1, snapshot.commands(PiGpioCmd.BS1));
+            assertEquals(0, snapshot.commands(PiGpioCmd.BC1));
+            assertEquals(0, snapshot.commands(PiGpioCmd.WRITE));
+
+            // the flushed levels are known; writing them again is elided
+            piGpio.gpioWrite(5, PiGpioState.HIGH);
+            piGpio.gpioWrite(4, PiGpioState.LOW);
+            piGpio.writeBehind().flush();
+            assertEquals(2, piGpio.metrics().snapshot().commands());
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO WRITE-BEHIND :: Asynchronous writes are ordered with deferred writes and forget the pin")
+    @Test
+    public void testAsyncWrites() throws Exception {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            piGpio.writeBehind().enabled(true);
+
+            // restoring the level known before an async write is not a no-op
+            piGpio.gpioWrite(4, PiGpioState.HIGH);
+            piGpio.async().gpioWrite(4, PiGpioState.LOW).get(5, TimeUnit.SECONDS);
+            piGpio.gpioWrite(4, PiGpioState.HIGH);
+            assertEquals(PiGpioState.HIGH, piGpio.gpioRead(4));
+
+            piGpio.gpioPWM(6, 128);
+            piGpio.async().gpioPWM(6, 0).get(5, TimeUnit.SECONDS);
+            piGpio.metrics().reset();
+            piGpio.gpioPWM(6, 128);
+            assertEquals(1, piGpio.metrics().snapshot().commands(PiGpioCmd.PWM));
+
+            // a deferred write reaches the daemon before a later async write to the same pin
+            piGpio.writeBehind().flushWindow(60000);
+            piGpio.gpioWrite(5, PiGpioState.HIGH);
+            piGpio.async().gpioWrite(5, PiGpioState.LOW).get(5, TimeUnit.SECONDS);
+            piGpio.writeBehind().flush();
+            assertEquals(PiGpioState.LOW, piGpio.gpioRead(5));
+
+            piGpio.gpioWrite(7, PiGpioState.HIGH);
+            piGpio.async().gpioWriteBank1Clear(1 << 7).get(5, TimeUnit.SECONDS);
+            piGpio.gpioWrite(7, PiGpioState.HIGH);
+            piGpio.writeBehind().flush();
+            assertEquals(PiGpioState.HIGH, piGpio.gpioRead(7));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+
+    @DisplayName("PIGPIO WRITE-BEHIND :: Deferred writes are flushed on their own thread and before frequency changes")
+    @Test
+    public void testFlushThread() throws Exception {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port());
+        piGpio.gpioInitialise();
+        try {
+            piGpio.writeBehind().enabled(true);
+            piGpio.gpioWriteBank1Clear(0xFFFFFFFF);
+            piGpio.writeBehind().flushWindow(10);
+            piGpio.metrics().reset();
+
+            // the flush window elapses without any other call
+            piGpio.gpioWrite(8, PiGpioState.HIGH);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (piGpio.metrics().snapshot().commands(PiGpioCmd.BS1) == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, piGpio.metrics().snapshot().commands(PiGpioCmd.BS1));
+            assertTrue(Thread.getAllStackTraces().keySet().stream()
+                    .anyMatch(thread -> thread.getName().equals(PiGpioSocketWriteBehind.NAME)));
+
+            // a deferred dutycycle is sent before the PWM frequency changes
+            piGpio.writeBehind().flushWindow(60000);
+            piGpio.gpioPWM(9, 100);
+            piGpio.metrics().reset();
+            piGpio.gpioSetPWMfrequency(9, 800);
+            assertEquals(1, piGpio.metrics().snapshot().commands(PiGpioCmd.PWM));
+
+            piGpio.gpioPWM(9, 50);
+            piGpio.async().gpioSetPWMfrequency(9, 400).get(5, TimeUnit.SECONDS);
+            assertEquals(2, piGpio.metrics().snapshot().commands(PiGpioCmd.PWM));
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
@@ -74,7 +74,7 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
     @Override
     public DigitalOutput state(DigitalState state) throws IOException {
 
-        if(!this.equals(state)){
+        if(!this.state.equals(state)){
             this.state = state;
             this.dispatch(new DigitalStateChangeEvent<DigitalOutputBase>(this, this.state));
         }
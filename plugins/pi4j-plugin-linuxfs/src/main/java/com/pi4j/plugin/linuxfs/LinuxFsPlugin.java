@@ -30,6 +30,8 @@ package com.pi4j.plugin.linuxfs;
 import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.GpioChipDigitalInputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.GpioChipDigitalOutputProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
 import com.pi4j.provider.Provider;
@@ -85,6 +87,26 @@ public class LinuxFsPlugin implements Plugin {
      */
     public static final String DIGITAL_OUTPUT_PROVIDER_ID = ID + "-digital-output";
 
+    // Digital Input (GPIO character device) Provider name and unique ID
+    /**
+     * Constant <code>GPIOCHIP_DIGITAL_INPUT_PROVIDER_NAME="NAME +   GPIO Chip Digital Input (GPIO) Provider"</code>
+     */
+    public static final String GPIOCHIP_DIGITAL_INPUT_PROVIDER_NAME = NAME + " GPIO Chip Digital Input (GPIO) Provider";
+    /**
+     * Constant <code>GPIOCHIP_DIGITAL_INPUT_PROVIDER_ID="ID + -gpiochip-digital-input"</code>
+     */
+    public static final String GPIOCHIP_DIGITAL_INPUT_PROVIDER_ID = ID + "-gpiochip-digital-input";
+
+    // Digital Output (GPIO character device) Provider name and unique ID
+    /**
+     * Constant <code>GPIOCHIP_DIGITAL_OUTPUT_PROVIDER_NAME="NAME +   GPIO Chip Digital Output (GPIO) Provider"</code>
+     */
+    public static final String GPIOCHIP_DIGITAL_OUTPUT_PROVIDER_NAME = NAME + " GPIO Chip Digital Output (GPIO) Provider";
+    /**
+     * Constant <code>GPIOCHIP_DIGITAL_OUTPUT_PROVIDER_ID="ID + -gpiochip-digital-output"</code>
+     */
+    public static final String GPIOCHIP_DIGITAL_OUTPUT_PROVIDER_ID = ID + "-gpiochip-digital-output";
+
 //    // PWM Provider name and unique ID
 //    public static final String PWM_PROVIDER_NAME = NAME + " PWM Provider";
 //    public static final String PWM_PROVIDER_ID = ID + "-pwm";
@@ -109,6 +131,8 @@ public class LinuxFsPlugin implements Plugin {
 
         Provider[] providers = { LinuxFsDigitalInputProvider.newInstance(),
             LinuxFsDigitalOutputProvider.newInstance(),
+            GpioChipDigitalInputProvider.newInstance(),
+            GpioChipDigitalOutputProvider.newInstance(),
             LinuxFsI2CProvider.newInstance()
         };
 
@@ -0,0 +1,448 @@
+package com.pi4j.plugin.linuxfs.provider.gpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChip.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PullResistance;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pi4j.plugin.linuxfs.provider.gpio.GpioChipConstants.*;
+
+/**
+ * <p>A set of lines of a GPIO character device held by a single line request.</p>
+ *
+ * <p>All lines share one handle, so the values of any number of them are read or written with a
+ * single GPIO_V2_LINE_GET_VALUES/SET_VALUES ioctl, and edge events of all of them are read in
+ * batches from the same fd. Bit <i>n</i> of a values bitmap is the line added <i>n</i>-th, see
+ * {@link #index(int)}.</p>
+ *
+ * <p>The kernel cannot add lines to an existing request, so adding or removing a line releases
+ * the handle and requests the new set of lines; outputs keep their current values across that.</p>
+ *
+ * @see "https://www.kernel.org/doc/html/latest/userspace-api/gpio/chardev.html"
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class GpioChip implements Closeable {
+
+    /** Number of edge events read from the line fd at once. */
+    public static final int EVENT_BATCH_SIZE = 16;
+
+    /**
+     * Receives the edge events of the lines on the event thread of the device.
+     */
+    public interface Listener {
+        /**
+         * <p>onEdge.</p>
+         *
+         * @param offset line offset on the chip
+         * @param state state of the line after the edge
+         * @param timestamp kernel timestamp of the edge in nanoseconds (CLOCK_MONOTONIC)
+         */
+        void onEdge(int offset, DigitalState state, long timestamp);
+    }
+
+    protected static class Line {
+        final int offset;
+        final long flags;
+        final int debounce;
+        boolean high;
+
+        Line(int offset, long flags, int debounce, boolean high) {
+            this.offset = offset;
+            this.flags = flags;
+            this.debounce = debounce;
+            this.high = high;
+        }
+    }
+
+    protected final GpioChipDevice device;
+    protected final String consumer;
+    protected final List<Line> lines = new ArrayList<>();
+    protected int fd = -1;
+    protected Closeable watch = null;
+    protected Listener listener = null;
+
+    private final ByteBuffer request = ByteBuffer.allocateDirect(LINE_REQUEST_SIZE).order(ByteOrder.nativeOrder());
+    private final ByteBuffer values = ByteBuffer.allocateDirect(LINE_VALUES_SIZE).order(ByteOrder.nativeOrder());
+    private final ByteBuffer events = ByteBuffer.allocateDirect(LINE_EVENT_SIZE * EVENT_BATCH_SIZE).order(ByteOrder.nativeOrder());
+
+    /**
+     * <p>Constructor for GpioChip.</p>
+     *
+     * @param device the ioctl layer of the chip
+     * @param consumer label of the line request, shown by the kernel as the user of the lines
+     */
+    public GpioChip(GpioChipDevice device, String consumer) {
+        this.device = device;
+        this.consumer = consumer;
+    }
+
+    /**
+     * <p>Flags of an input line reporting both edges.</p>
+     *
+     * @param pull pull resistance, or null to leave the bias untouched
+     * @return the GPIO_V2_LINE_FLAG_* flags
+     */
+    public static long inputFlags(PullResistance pull) {
+        long flags = GPIO_V2_LINE_FLAG_INPUT | GPIO_V2_LINE_FLAG_EDGE_RISING | GPIO_V2_LINE_FLAG_EDGE_FALLING;
+        if (pull == null) return flags;
+        switch (pull) {
+            case PULL_UP: return flags | GPIO_V2_LINE_FLAG_BIAS_PULL_UP;
+            case PULL_DOWN: return flags | GPIO_V2_LINE_FLAG_BIAS_PULL_DOWN;
+            default: return flags | GPIO_V2_LINE_FLAG_BIAS_DISABLED;
+        }
+    }
+
+    /**
+     * <p>Flags of an output line.</p>
+     *
+     * @return the GPIO_V2_LINE_FLAG_* flags
+     */
+    public static long outputFlags() {
+        return GPIO_V2_LINE_FLAG_OUTPUT;
+    }
+
+    /**
+     * Set the listener receiving the edge events of all lines.
+     *
+     * @param listener a {@link com.pi4j.plugin.linuxfs.provider.gpio.GpioChip.Listener} object.
+     */
+    public synchronized void listen(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Add a line to the request.
+     *
+     * @param offset line offset on the chip
+     * @param flags GPIO_V2_LINE_FLAG_* flags of the line
+     * @param debounce debounce period in microseconds, 0 for none
+     * @param initial initial value of an output line
+     * @return the bit of the line in values bitmaps
+     * @throws java.io.IOException if any.
+     */
+    public synchronized int add(int offset, long flags, int debounce, DigitalState initial) throws IOException {
+        if (index(offset) >= 0)
+            throw new IOException(String.format("Line %d of %s is already requested", offset, device));
+        if (lines.size() >= GPIO_V2_LINES_MAX)
+            throw new IOException(String.format("No more than %d lines can be requested from %s", GPIO_V2_LINES_MAX, device));
+
+        sync();
+        lines.add(new Line(offset, flags, debounce, initial != null && initial.isHigh()));
+        try {
+            request();
+        } catch (IOException e) {
+            lines.remove(lines.size() - 1);
+            if (!lines.isEmpty()) request();
+            throw e;
+        }
+        return lines.size() - 1;
+    }
+
+    /**
+     * Remove a line from the request.
+     *
+     * @param offset line offset on the chip
+     * @throws java.io.IOException if any.
+     */
+    public synchronized void remove(int offset) throws IOException {
+        int index = index(offset);
+        if (index < 0) return;
+
+        sync();
+        lines.remove(index);
+        if (lines.isEmpty()) {
+            release();
+        } else {
+            request();
+        }
+    }
+
+    /**
+     * Get the bit of a line in values bitmaps.
+     *
+     * @param offset line offset on the chip
+     * @return the bit, or -1 if the line is not requested
+     */
+    public synchronized int index(int offset) {
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).offset == offset) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Read the values of any number of lines with a single ioctl.
+     *
+     * @param mask bitmap of the lines to read
+     * @return bitmap of the line values, limited to the mask
+     * @throws java.io.IOException if any.
+     */
+    public synchronized long get(long mask) throws IOException {
+        values.putLong(LINE_VALUES_BITS, 0).putLong(LINE_VALUES_MASK, mask);
+        device.lineIoctl(handle(), GPIO_V2_LINE_GET_VALUES_IOCTL, values);
+        return values.getLong(LINE_VALUES_BITS) & mask;
+    }
+
+    /**
+     * Write the values of any number of lines with a single ioctl.
+     *
+     * @param bits bitmap of the line values
+     * @param mask bitmap of the lines to write
+     * @throws java.io.IOException if any.
+     */
+    public synchronized void set(long bits, long mask) throws IOException {
+        values.putLong(LINE_VALUES_BITS, bits).putLong(LINE_VALUES_MASK, mask);
+        device.lineIoctl(handle(), GPIO_V2_LINE_SET_VALUES_IOCTL, values);
+        for (int i = 0; i < lines.size(); i++) {
+            if ((mask & (1L << i)) != 0) lines.get(i).high = (bits & (1L << i)) != 0;
+        }
+    }
+
+    /**
+     * <p>Read the state of a single line.</p>
+     *
+     * @param offset line offset on the chip
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalState} object.
+     * @throws java.io.IOException if any.
+     */
+    public synchronized DigitalState state(int offset) throws IOException {
+        long mask = mask(offset);
+        return get(mask) != 0 ? DigitalState.HIGH : DigitalState.LOW;
+    }
+
+    /**
+     * <p>Write the state of a single line.</p>
+     *
+     * @param offset line offset on the chip
+     * @param state a {@link com.pi4j.io.gpio.digital.DigitalState} object.
+     * @throws java.io.IOException if any.
+     */
+    public synchronized void state(int offset, DigitalState state) throws IOException {
+        long mask = mask(offset);
+        set(state.isHigh() ? mask : 0, mask);
+    }
+
+    /**
+     * Read one batch of queued edge events and hand them to the listener; called by the device
+     * when events are pending.
+     *
+     * @return the number of events read
+     * @throws java.io.IOException if any.
+     */
+    public int readEvents() throws IOException {
+        return readEvents(fd);
+    }
+
+    private int readEvents(int handle) throws IOException {
+        int count;
+        int[] offsets = new int[EVENT_BATCH_SIZE];
+        int[] ids = new int[EVENT_BATCH_SIZE];
+        long[] timestamps = new long[EVENT_BATCH_SIZE];
+        Listener listener;
+
+        synchronized (this) {
+            // events of a handle released in the meantime are gone with it
+            if (fd < 0 || fd != handle) return 0;
+            events.clear();
+            count = device.read(fd, events) / LINE_EVENT_SIZE;
+            for (int i = 0; i < count; i++) {
+                int base = i * LINE_EVENT_SIZE;
+                timestamps[i] = events.getLong(base + LINE_EVENT_TIMESTAMP);
+                ids[i] = events.getInt(base + LINE_EVENT_ID);
+                offsets[i] = events.getInt(base + LINE_EVENT_OFFSET);
+            }
+            listener = this.listener;
+        }
+
+        // dispatch without holding the chip, listeners may read or write lines
+        if (listener != null) {
+            for (int i = 0; i < count; i++) {
+                DigitalState state = ids[i] == GPIO_V2_LINE_EVENT_RISING_EDGE ? DigitalState.HIGH : DigitalState.LOW;
+                listener.onEdge(offsets[i], state, timestamps[i]);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Release the line request.
+     *
+     * @throws java.io.IOException if any.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        lines.clear();
+        try {
+            release();
+        } finally {
+            device.close();
+        }
+    }
+
+    private long mask(int offset) throws IOException {
+        int index = index(offset);
+        if (index < 0)
+            throw new IOException(String.format("Line %d of %s is not requested", offset, device));
+        return 1L << index;
+    }
+
+    private int handle() throws IOException {
+        if (fd < 0)
+            throw new IOException(String.format("No lines of %s are requested", device));
+        return fd;
+    }
+
+    /**
+     * Capture the current output values so they survive the next request.
+     */
+    private void sync() throws IOException {
+        long outputs = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if ((lines.get(i).flags & GPIO_V2_LINE_FLAG_OUTPUT) != 0) outputs |= 1L << i;
+        }
+        if (outputs == 0 || fd < 0) return;
+
+        long bits = get(outputs);
+        for (int i = 0; i < lines.size(); i++) {
+            if ((outputs & (1L << i)) != 0) lines.get(i).high = (bits & (1L << i)) != 0;
+        }
+    }
+
+    private void release() throws IOException {
+        int released = fd;
+        fd = -1;
+        try {
+            if (watch != null) watch.close();
+        } finally {
+            watch = null;
+            if (released >= 0) device.release(released);
+        }
+    }
+
+    private void request() throws IOException {
+        release();
+
+        request.clear();
+        for (int i = 0; i < LINE_REQUEST_SIZE; i += 8) request.putLong(i, 0);
+
+        for (int i = 0; i < lines.size(); i++) {
+            request.putInt(LINE_REQUEST_OFFSETS + i * 4, lines.get(i).offset);
+        }
+        byte[] name = consumer.getBytes(StandardCharsets.US_ASCII);
+        request.position(LINE_REQUEST_CONSUMER);
+        request.put(name, 0, Math.min(name.length, GPIO_MAX_NAME_SIZE - 1));
+        request.position(0);
+
+        // the flags of the first line are the default, any other flags, debounce periods and
+        // the output values are attributes applying to a mask of lines
+        int config = LINE_REQUEST_CONFIG;
+        long defaultFlags = lines.get(0).flags;
+        request.putLong(config + LINE_CONFIG_FLAGS, defaultFlags);
+
+        int attrs = 0;
+        long done = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            long flags = lines.get(i).flags;
+            if (flags == defaultFlags || (done & (1L << i)) != 0) continue;
+            long mask = 0;
+            for (int j = i; j < lines.size(); j++) {
+                if (lines.get(j).flags == flags) mask |= 1L << j;
+            }
+            done |= mask;
+            attrs = attribute(attrs, GPIO_V2_LINE_ATTR_ID_FLAGS, flags, mask);
+        }
+
+        done = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            int debounce = lines.get(i).debounce;
+            if (debounce <= 0 || (done & (1L << i)) != 0) continue;
+            long mask = 0;
+            for (int j = i; j < lines.size(); j++) {
+                if (lines.get(j).debounce == debounce) mask |= 1L << j;
+            }
+            done |= mask;
+            attrs = attribute(attrs, GPIO_V2_LINE_ATTR_ID_DEBOUNCE, debounce, mask);
+        }
+
+        long outputs = 0;
+        long high = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            if ((line.flags & GPIO_V2_LINE_FLAG_OUTPUT) == 0) continue;
+            outputs |= 1L << i;
+            if (line.high) high |= 1L << i;
+        }
+        if (outputs != 0) attrs = attribute(attrs, GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES, high, outputs);
+
+        request.putInt(config + LINE_CONFIG_NUM_ATTRS, attrs);
+        request.putInt(LINE_REQUEST_NUM_LINES, lines.size());
+
+        device.chipIoctl(GPIO_V2_GET_LINE_IOCTL, request);
+        fd = request.getInt(LINE_REQUEST_FD);
+
+        boolean edges = false;
+        for (Line line : lines) {
+            if ((line.flags & (GPIO_V2_LINE_FLAG_EDGE_RISING | GPIO_V2_LINE_FLAG_EDGE_FALLING)) != 0) edges = true;
+        }
+        if (edges) {
+            final int handle = fd;
+            watch = device.watch(handle, () -> {
+                try {
+                    readEvents(handle);
+                } catch (IOException e) {
+                    throw new com.pi4j.io.exception.IOException(e);
+                }
+            });
+        }
+    }
+
+    private int attribute(int index, int id, long value, long mask) throws IOException {
+        if (index >= GPIO_V2_LINE_NUM_ATTRS_MAX)
+            throw new IOException(String.format("Too many distinct line configurations for one request of %s", device));
+
+        int base = LINE_REQUEST_CONFIG + LINE_CONFIG_ATTRS + index * LINE_CONFIG_ATTRIBUTE_SIZE;
+        request.putInt(base + LINE_CONFIG_ATTRIBUTE_ID, id);
+        if (id == GPIO_V2_LINE_ATTR_ID_DEBOUNCE) {
+            request.putInt(base + LINE_CONFIG_ATTRIBUTE_VALUE, (int) value);
+        } else {
+            request.putLong(base + LINE_CONFIG_ATTRIBUTE_VALUE, value);
+        }
+        request.putLong(base + LINE_CONFIG_ATTRIBUTE_MASK, mask);
+        return index + 1;
+    }
+}
@@ -0,0 +1,116 @@
+package com.pi4j.plugin.linuxfs.provider.gpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChipConstants.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+/**
+ * These are constants and structure layouts scraped directly from the linux kernel GPIO character
+ * device uAPI v2 (linux/gpio.h). They are to be used with the line request ioctls of a gpiochip.
+ *
+ * @see "https://www.kernel.org/doc/html/latest/userspace-api/gpio/chardev.html"
+ */
+public class GpioChipConstants {
+
+    public static final int GPIO_V2_LINES_MAX               = 64;
+    public static final int GPIO_MAX_NAME_SIZE              = 32;
+    public static final int GPIO_V2_LINE_NUM_ATTRS_MAX      = 10;
+
+    /* enum gpio_v2_line_flag */
+
+    public static final long GPIO_V2_LINE_FLAG_USED                 = 1L << 0;
+    public static final long GPIO_V2_LINE_FLAG_ACTIVE_LOW           = 1L << 1;
+    public static final long GPIO_V2_LINE_FLAG_INPUT                = 1L << 2;
+    public static final long GPIO_V2_LINE_FLAG_OUTPUT               = 1L << 3;
+    public static final long GPIO_V2_LINE_FLAG_EDGE_RISING          = 1L << 4;
+    public static final long GPIO_V2_LINE_FLAG_EDGE_FALLING         = 1L << 5;
+    public static final long GPIO_V2_LINE_FLAG_OPEN_DRAIN           = 1L << 6;
+    public static final long GPIO_V2_LINE_FLAG_OPEN_SOURCE          = 1L << 7;
+    public static final long GPIO_V2_LINE_FLAG_BIAS_PULL_UP         = 1L << 8;
+    public static final long GPIO_V2_LINE_FLAG_BIAS_PULL_DOWN       = 1L << 9;
+    public static final long GPIO_V2_LINE_FLAG_BIAS_DISABLED        = 1L << 10;
+    public static final long GPIO_V2_LINE_FLAG_EVENT_CLOCK_REALTIME = 1L << 11;
+
+    /* enum gpio_v2_line_attr_id */
+
+    public static final int GPIO_V2_LINE_ATTR_ID_FLAGS          = 1;
+    public static final int GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES  = 2;
+    public static final int GPIO_V2_LINE_ATTR_ID_DEBOUNCE       = 3;
+
+    /* enum gpio_v2_line_event_id */
+
+    public static final int GPIO_V2_LINE_EVENT_RISING_EDGE      = 1;
+    public static final int GPIO_V2_LINE_EVENT_FALLING_EDGE     = 2;
+
+    /* struct gpio_v2_line_values { __aligned_u64 bits; __aligned_u64 mask; } */
+
+    public static final int LINE_VALUES_SIZE                    = 16;
+    public static final int LINE_VALUES_BITS                    = 0;
+    public static final int LINE_VALUES_MASK                    = 8;
+
+    /* struct gpio_v2_line_config_attribute { { __u32 id; __u32 padding; __aligned_u64 value; } attr; __aligned_u64 mask; } */
+
+    public static final int LINE_CONFIG_ATTRIBUTE_SIZE          = 24;
+    public static final int LINE_CONFIG_ATTRIBUTE_ID            = 0;
+    public static final int LINE_CONFIG_ATTRIBUTE_VALUE         = 8;  /* flags, values or debounce_period_us */
+    public static final int LINE_CONFIG_ATTRIBUTE_MASK          = 16;
+
+    /* struct gpio_v2_line_config { __aligned_u64 flags; __u32 num_attrs; __u32 padding[5]; attrs[10]; } */
+
+    public static final int LINE_CONFIG_SIZE                    = 272;
+    public static final int LINE_CONFIG_FLAGS                   = 0;
+    public static final int LINE_CONFIG_NUM_ATTRS               = 8;
+    public static final int LINE_CONFIG_ATTRS                   = 32;
+
+    /* struct gpio_v2_line_request { __u32 offsets[64]; char consumer[32]; config; __u32 num_lines;
+                                     __u32 event_buffer_size; __u32 padding[5]; __s32 fd; } */
+
+    public static final int LINE_REQUEST_SIZE                   = 592;
+    public static final int LINE_REQUEST_OFFSETS                = 0;
+    public static final int LINE_REQUEST_CONSUMER               = 256;
+    public static final int LINE_REQUEST_CONFIG                 = 288;
+    public static final int LINE_REQUEST_NUM_LINES              = 560;
+    public static final int LINE_REQUEST_EVENT_BUFFER_SIZE      = 564;
+    public static final int LINE_REQUEST_FD                     = 588;
+
+    /* struct gpio_v2_line_event { __aligned_u64 timestamp_ns; __u32 id; __u32 offset; __u32 seqno;
+                                   __u32 line_seqno; __u32 padding[6]; } */
+
+    public static final int LINE_EVENT_SIZE                     = 48;
+    public static final int LINE_EVENT_TIMESTAMP                = 0;
+    public static final int LINE_EVENT_ID                       = 8;
+    public static final int LINE_EVENT_OFFSET                   = 12;
+    public static final int LINE_EVENT_SEQNO                    = 16;
+    public static final int LINE_EVENT_LINE_SEQNO               = 20;
+
+    /* ioctls: _IOWR(0xB4, nr, struct) */
+
+    public static final long GPIO_V2_GET_LINE_IOCTL             = 0xC250B407L;
+    public static final long GPIO_V2_LINE_SET_CONFIG_IOCTL      = 0xC110B40DL;
+    public static final long GPIO_V2_LINE_GET_VALUES_IOCTL      = 0xC010B40EL;
+    public static final long GPIO_V2_LINE_SET_VALUES_IOCTL      = 0xC010B40FL;
+}
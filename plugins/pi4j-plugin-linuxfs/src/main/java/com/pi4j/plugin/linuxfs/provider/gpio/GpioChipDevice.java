@@ -0,0 +1,94 @@
+package com.pi4j.plugin.linuxfs.provider.gpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChipDevice.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The ioctl layer of a GPIO character device (gpiochip).</p>
+ *
+ * <p>All structures are exchanged as direct buffers in native byte order, laid out exactly as the
+ * kernel expects them (see {@link GpioChipConstants}), so an implementation backed by a fake kernel
+ * sees the same bytes as the real device.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface GpioChipDevice extends Closeable {
+
+    /**
+     * Run an ioctl on the chip itself (e.g. GPIO_V2_GET_LINE_IOCTL, which fills in the line fd).
+     *
+     * @param command ioctl command
+     * @param data the structure of the command, starting at position 0
+     * @throws java.io.IOException if any.
+     */
+    void chipIoctl(long command, ByteBuffer data) throws IOException;
+
+    /**
+     * Run an ioctl on a line request handle (e.g. GPIO_V2_LINE_GET_VALUES_IOCTL).
+     *
+     * @param fd the line fd returned by a line request
+     * @param command ioctl command
+     * @param data the structure of the command, starting at position 0
+     * @throws java.io.IOException if any.
+     */
+    void lineIoctl(int fd, long command, ByteBuffer data) throws IOException;
+
+    /**
+     * Read queued edge events of a line request handle into the remaining space of the buffer.
+     *
+     * @param fd the line fd returned by a line request
+     * @param data buffer receiving whole gpio_v2_line_event structures; its position is advanced
+     * @return the number of bytes read
+     * @throws java.io.IOException if any.
+     */
+    int read(int fd, ByteBuffer data) throws IOException;
+
+    /**
+     * Call back whenever edge events are queued on a line request handle; the callback is expected
+     * to read them.
+     *
+     * @param fd the line fd returned by a line request
+     * @param readable called when events can be read
+     * @return the watch, to be closed before the handle is released
+     * @throws java.io.IOException if any.
+     */
+    Closeable watch(int fd, Runnable readable) throws IOException;
+
+    /**
+     * Release a line request handle.
+     *
+     * @param fd the line fd returned by a line request
+     * @throws java.io.IOException if any.
+     */
+    void release(int fd) throws IOException;
+}
@@ -28,10 +28,16 @@ package com.pi4j.plugin.linuxfs.provider.gpio;
  */
 
 import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.linuxfs.LinuxFileWatcher;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * <p>LinuxGpio class.</p>
@@ -48,6 +54,11 @@ public class LinuxGpio {
     protected final String systemPath;
     protected final int address;
     protected final String pinPath;
+    protected final Path valuePath;
+
+    // the 'value' file is kept open while the pin is exported; reads and writes are positional
+    protected FileChannel value = null;
+    protected final ByteBuffer valueBuffer = ByteBuffer.allocateDirect(2);
 
     public enum Direction{
         IN,
@@ -73,6 +84,7 @@ public class LinuxGpio {
         this.address = address;
         this.systemPath = systemPath;
         this.pinPath = Paths.get(systemPath, String.format("gpio%d", address)).toString();
+        this.valuePath = Paths.get(pinPath, "value");
     }
 
     /**
@@ -100,6 +112,7 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public void unexport() throws IOException {
+        close();
         var path = Paths.get(systemPath, "unexport");
         Files.writeString(path, Integer.toString(address));
     }
@@ -183,9 +196,10 @@ public class LinuxGpio {
      * @param state a {@link com.pi4j.io.gpio.digital.DigitalState} object.
      * @throws java.io.IOException if any.
      */
-    public void setState(DigitalState state) throws IOException {
-        var path = Paths.get(pinPath,"value");
-        Files.writeString(path, (state.isHigh() ? "1" : "0"));
+    public synchronized void setState(DigitalState state) throws IOException {
+        valueBuffer.clear();
+        valueBuffer.put((byte) (state.isHigh() ? '1' : '0')).flip();
+        valueChannel().write(valueBuffer, 0);
     }
 
     /**
@@ -203,9 +217,49 @@ public class LinuxGpio {
      * @return a {@link com.pi4j.io.gpio.digital.DigitalState} object.
      * @throws java.io.IOException if any.
      */
-    public DigitalState getState() throws IOException {
-        var path = Paths.get(pinPath,"value");
-        return DigitalState.parse(Files.readString(path).trim());
+    public synchronized DigitalState getState() throws IOException {
+        // sysfs regenerates the 'value' contents on every read from offset 0
+        valueBuffer.clear();
+        if(valueChannel().read(valueBuffer, 0) < 1) return DigitalState.UNKNOWN;
+        switch(valueBuffer.get(0)){
+            case '0': return DigitalState.LOW;
+            case '1': return DigitalState.HIGH;
+            default: return DigitalState.UNKNOWN;
+        }
+    }
+
+    /**
+     * Close the 'value' file of the GPIO pin if it is open; it is reopened by the next state
+     * read or write.
+     *
+     * @throws java.io.IOException if any.
+     */
+    public synchronized void close() throws IOException {
+        if(value != null) {
+            try {
+                value.close();
+            } finally {
+                value = null;
+            }
+        }
+    }
+
+    /**
+     * Get the open 'value' file of the GPIO pin, opening it on first use.
+     *
+     * @return the channel of the 'value' file
+     * @throws java.io.IOException if any.
+     */
+    protected FileChannel valueChannel() throws IOException {
+        if(value == null || !value.isOpen()) {
+            try {
+                value = FileChannel.open(valuePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (AccessDeniedException e) {
+                // input pins only need to be read
+                value = FileChannel.open(valuePath, StandardOpenOption.READ);
+            }
+        }
+        return value;
     }
 
     /**
@@ -256,6 +310,18 @@ public class LinuxGpio {
     }
 
 
+    /**
+     * Watch the 'value' file of the GPIO pin for the edges configured with {@link #interruptEdge(Edge)}.
+     *
+     * @param watcher the interrupt watcher shared by all pins
+     * @param listener receives the first byte of the 'value' file after each edge
+     * @return the watch, to be closed when interrupts are no longer needed
+     * @throws java.io.IOException if any.
+     */
+    public LinuxFileWatcher.Watch watch(LinuxFileWatcher watcher, LinuxFileWatcher.Listener listener) throws IOException {
+        return watcher.watch(valuePath.toString(), listener);
+    }
+
     /**
      * <p>activeLow.</p>
      *
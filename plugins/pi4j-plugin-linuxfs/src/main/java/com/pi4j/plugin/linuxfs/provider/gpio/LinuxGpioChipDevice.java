@@ -0,0 +1,130 @@
+package com.pi4j.plugin.linuxfs.provider.gpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxGpioChipDevice.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.library.linuxfs.LinuxFileWatcher;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * <p>GpioChipDevice backed by a '/dev/gpiochipN' character device.</p>
+ *
+ * @see "https://www.kernel.org/doc/html/latest/userspace-api/gpio/chardev.html"
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class LinuxGpioChipDevice implements GpioChipDevice {
+
+    /** Constant <code>DEFAULT_DEVICE_PATH="/dev/gpiochip0"</code> */
+    public static String DEFAULT_DEVICE_PATH = "/dev/gpiochip0";
+
+    private static final IntBuffer NO_OFFSETS = ByteBuffer.allocateDirect(4).order(ByteOrder.nativeOrder()).asIntBuffer();
+
+    protected final String path;
+    protected final LinuxFile file;
+    protected LinuxFileWatcher watcher = null;
+
+    /**
+     * <p>Constructor for LinuxGpioChipDevice.</p>
+     *
+     * @param path path of the gpiochip character device
+     * @throws java.io.IOException if any.
+     */
+    public LinuxGpioChipDevice(String path) throws IOException {
+        this.path = path;
+        this.file = new LinuxFile(path, "rw");
+    }
+
+    /**
+     * <p>Constructor for LinuxGpioChipDevice.</p>
+     *
+     * @throws java.io.IOException if any.
+     */
+    public LinuxGpioChipDevice() throws IOException {
+        this(DEFAULT_DEVICE_PATH);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void chipIoctl(long command, ByteBuffer data) throws IOException {
+        // the v2 structures carry no pointers
+        file.ioctl(command, data, NO_OFFSETS.duplicate().limit(0));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void lineIoctl(int fd, long command, ByteBuffer data) throws IOException {
+        LinuxFile.ioctl(fd, command, data);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(int fd, ByteBuffer data) throws IOException {
+        return LinuxFile.readDescriptor(fd, data);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Closeable watch(int fd, Runnable readable) throws IOException {
+        if (watcher == null) {
+            watcher = new LinuxFileWatcher("pi4j-gpiochip-events");
+        }
+        return watcher.watch(fd, LinuxFileWatcher.EPOLLIN, value -> readable.run());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void release(int fd) throws IOException {
+        LinuxFile.closeDescriptor(fd);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (watcher != null) {
+                watcher.close();
+                watcher = null;
+            }
+        } finally {
+            file.close();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return path;
+    }
+}
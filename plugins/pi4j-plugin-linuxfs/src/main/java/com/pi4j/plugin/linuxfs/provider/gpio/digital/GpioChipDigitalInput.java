@@ -0,0 +1,90 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChipDigitalInput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.*;
+import com.pi4j.plugin.linuxfs.provider.gpio.GpioChip;
+
+/**
+ * <p>Digital input on a line of a GPIO character device.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class GpioChipDigitalInput extends DigitalInputBase implements DigitalInput {
+
+    private final GpioChip chip;
+
+    /**
+     * <p>Constructor for GpioChipDigitalInput.</p>
+     *
+     * @param chip a {@link com.pi4j.plugin.linuxfs.provider.gpio.GpioChip} object.
+     * @param provider a {@link com.pi4j.io.gpio.digital.DigitalInputProvider} object.
+     * @param config a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
+     */
+    public GpioChipDigitalInput(GpioChip chip, DigitalInputProvider provider, DigitalInputConfig config){
+        super(provider, config);
+        this.chip = chip;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalState state() {
+        try {
+            return this.chip.state(config.address());
+        } catch (java.io.IOException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Dispatch an edge reported by the chip.
+     *
+     * @param state state of the line after the edge
+     * @param timestamp kernel timestamp of the edge in nanoseconds
+     */
+    void onEdge(DigitalState state, long timestamp) {
+        dispatch(new GpioChipStateChangeEvent(this, state, timestamp));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GpioChipDigitalInput shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        try {
+            this.chip.remove(config.address());
+        } catch (java.io.IOException e) {
+            throw new IOException(e);
+        }
+        return this;
+    }
+}
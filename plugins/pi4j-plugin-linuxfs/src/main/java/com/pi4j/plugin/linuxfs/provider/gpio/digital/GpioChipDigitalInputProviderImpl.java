@@ -0,0 +1,116 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChipDigitalInputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.provider.gpio.GpioChip;
+import com.pi4j.plugin.linuxfs.provider.gpio.LinuxGpioChipDevice;
+import com.pi4j.provider.exception.ProviderException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>GpioChipDigitalInputProviderImpl class.</p>
+ *
+ * <p>All inputs of the provider are lines of one request on '/dev/gpiochip0', and their edge
+ * events are read in batches from that request.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class GpioChipDigitalInputProviderImpl extends DigitalInputProviderBase implements GpioChipDigitalInputProvider {
+
+    private GpioChip chip = null;
+    private final Map<Integer, GpioChipDigitalInput> inputs = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Constructor for GpioChipDigitalInputProviderImpl.</p>
+     */
+    public GpioChipDigitalInputProviderImpl(){
+        this.id = ID;
+        this.name = NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GpioChipDigitalInput create(DigitalInputConfig config) {
+        GpioChipDigitalInput input = null;
+        try {
+            GpioChip chip = chip();
+            input = new GpioChipDigitalInput(chip, this, config);
+            inputs.put(config.address(), input);
+
+            // debounce is configured in microseconds, as the kernel expects it
+            int debounce = config.debounce() == null ? 0 : config.debounce().intValue();
+            chip.add(config.address(), GpioChip.inputFlags(config.pull()), debounce, null);
+        } catch (java.io.IOException e) {
+            if (input != null) inputs.remove(config.address(), input);
+            throw new ProviderException(e);
+        }
+        return input;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        synchronized (this) {
+            if (chip != null) {
+                try {
+                    chip.close();
+                } catch (java.io.IOException e) {
+                    throw new ShutdownException(e);
+                } finally {
+                    chip = null;
+                    inputs.clear();
+                }
+            }
+        }
+        return this;
+    }
+
+    private synchronized GpioChip chip() throws java.io.IOException {
+        if (chip == null) {
+            chip = new GpioChip(new LinuxGpioChipDevice(), "pi4j");
+            chip.listen(this::onEdge);
+        }
+        return chip;
+    }
+
+    private void onEdge(int offset, DigitalState state, long timestamp) {
+        GpioChipDigitalInput input = inputs.get(offset);
+        if (input != null) input.onEdge(state, timestamp);
+    }
+}
@@ -0,0 +1,96 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChipDigitalOutputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.plugin.linuxfs.provider.gpio.GpioChip;
+import com.pi4j.plugin.linuxfs.provider.gpio.LinuxGpioChipDevice;
+import com.pi4j.provider.exception.ProviderException;
+
+/**
+ * <p>GpioChipDigitalOutputProviderImpl class.</p>
+ *
+ * <p>All outputs of the provider are lines of one request on '/dev/gpiochip0'.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class GpioChipDigitalOutputProviderImpl extends DigitalOutputProviderBase implements GpioChipDigitalOutputProvider {
+
+    private GpioChip chip = null;
+
+    /**
+     * <p>Constructor for GpioChipDigitalOutputProviderImpl.</p>
+     */
+    public GpioChipDigitalOutputProviderImpl(){
+        this.id = ID;
+        this.name = NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GpioChipDigitalOutput create(DigitalOutputConfig config) {
+        try {
+            GpioChip chip = chip();
+            chip.add(config.address(), GpioChip.outputFlags(), 0, config.initialState());
+            return new GpioChipDigitalOutput(chip, this, config);
+        } catch (java.io.IOException e) {
+            throw new ProviderException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalOutputProvider shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        synchronized (this) {
+            if (chip != null) {
+                try {
+                    chip.close();
+                } catch (java.io.IOException e) {
+                    throw new ShutdownException(e);
+                } finally {
+                    chip = null;
+                }
+            }
+        }
+        return this;
+    }
+
+    private synchronized GpioChip chip() throws java.io.IOException {
+        if (chip == null) {
+            chip = new GpioChip(new LinuxGpioChipDevice(), "pi4j");
+        }
+        return chip;
+    }
+}
@@ -0,0 +1,66 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChipStateChangeEvent.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+
+/**
+ * <p>Digital state change of a gpiochip line, carrying the kernel timestamp of the edge.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class GpioChipStateChangeEvent extends DigitalStateChangeEvent<DigitalInput> {
+
+    protected final long timestamp;
+
+    /**
+     * <p>Constructor for GpioChipStateChangeEvent.</p>
+     *
+     * @param source a {@link com.pi4j.io.gpio.digital.DigitalInput} object.
+     * @param state the value changed for this event instance
+     * @param timestamp kernel timestamp of the edge in nanoseconds
+     */
+    public GpioChipStateChangeEvent(DigitalInput source, DigitalState state, long timestamp){
+        super(source, state);
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * The kernel timestamp of the edge in nanoseconds (CLOCK_MONOTONIC), taken when the
+     * interrupt fired rather than when the event was read.
+     *
+     * @return a long.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+}
@@ -28,7 +28,12 @@ package com.pi4j.plugin.linuxfs.provider.gpio.digital;
  */
 
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.*;
+import com.pi4j.library.linuxfs.LinuxFileWatcher;
+import com.pi4j.plugin.linuxfs.provider.gpio.LinuxGpio;
 
 /**
  * <p>LinuxFsDigitalInput class.</p>
@@ -38,21 +43,66 @@ import com.pi4j.io.gpio.digital.*;
  */
 public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInput {
 
-    private DigitalState state = DigitalState.LOW;
+    private final LinuxGpio gpio;
+    private LinuxFileWatcher.Watch watch = null;
+    private DigitalState lastState = DigitalState.UNKNOWN;
 
     /**
      * <p>Constructor for LinuxFsDigitalInput.</p>
      *
+     * @param gpio a {@link com.pi4j.plugin.linuxfs.provider.gpio.LinuxGpio} object.
      * @param provider a {@link com.pi4j.io.gpio.digital.DigitalInputProvider} object.
      * @param config a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
      */
-    public LinuxFsDigitalInput(DigitalInputProvider provider, DigitalInputConfig config){
+    public LinuxFsDigitalInput(LinuxGpio gpio, DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
+        this.gpio = gpio;
     }
 
     /** {@inheritDoc} */
     @Override
     public DigitalState state() {
-        return this.state;
+        try {
+            return this.gpio.state();
+        } catch (java.io.IOException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Enable edge interrupts on both edges and deliver them as state change events.
+     *
+     * @param watcher the interrupt watcher shared by all inputs of the provider
+     * @throws java.io.IOException if any.
+     */
+    void watch(LinuxFileWatcher watcher) throws java.io.IOException {
+        this.gpio.interruptEdge(LinuxGpio.Edge.BOTH);
+        this.lastState = this.gpio.state();
+        this.watch = this.gpio.watch(watcher, this::onEdge);
+    }
+
+    private void onEdge(int value) {
+        DigitalState state = value == '1' ? DigitalState.HIGH : (value == '0' ? DigitalState.LOW : DigitalState.UNKNOWN);
+
+        // edges that settle back before the value is read arrive as a repeat of the last state
+        if (state == this.lastState) return;
+        this.lastState = state;
+        dispatch(new DigitalStateChangeEvent(this, state));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LinuxFsDigitalInput shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        try {
+            if (this.watch != null) {
+                this.watch.close();
+                this.watch = null;
+            }
+            this.gpio.unexport();
+        } catch (java.io.IOException e) {
+            throw new IOException(e);
+        }
+        return this;
     }
 }
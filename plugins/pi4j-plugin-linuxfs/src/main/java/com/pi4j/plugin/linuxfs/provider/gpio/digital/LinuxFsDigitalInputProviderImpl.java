@@ -27,9 +27,15 @@ package com.pi4j.plugin.linuxfs.provider.gpio.digital;
  * #L%
  */
 
-import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.library.linuxfs.LinuxFileWatcher;
+import com.pi4j.plugin.linuxfs.provider.gpio.LinuxGpio;
+import com.pi4j.provider.exception.ProviderException;
+import java.io.IOException;
 
 /**
  * <p>LinuxFsDigitalInputProviderImpl class.</p>
@@ -39,6 +45,8 @@ import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
  */
 public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase implements LinuxFsDigitalInputProvider {
 
+    private LinuxFileWatcher watcher = null;
+
     /**
      * <p>Constructor for LinuxFsDigitalInputProviderImpl.</p>
      */
@@ -49,7 +57,79 @@ public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase im
 
     /** {@inheritDoc} */
     @Override
-    public DigitalInput create(DigitalInputConfig config) {
-        return new LinuxFsDigitalInput(this, config);
+    public LinuxFsDigitalInput create(DigitalInputConfig config) {
+
+        LinuxGpio gpio = new LinuxGpio(config.address());
+
+        // Remove hanging GPIO pin in sysfs, e. g. after program crash
+        try {
+            if (gpio.isExported()) {
+                gpio.unexport();
+            }
+        } catch (java.io.IOException e) {
+            throw new ProviderException(e);
+        }
+
+        try {
+            gpio.export();
+        } catch (java.io.IOException e) {
+            throw new ProviderException(e);
+        }
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            throw new ProviderException(e);
+        }
+        try {
+            if (!gpio.isExported()) {
+                throw new IOException(String.format("Failed to create sysfs gpio%d device", config.address()));
+            }
+        } catch (java.io.IOException e) {
+            throw new ProviderException(e);
+        }
+
+        try {
+            gpio.direction(LinuxGpio.Direction.IN);
+        } catch (java.io.IOException e) {
+            throw new ProviderException(e);
+        }
+
+        LinuxFsDigitalInput input = new LinuxFsDigitalInput(gpio, this, config);
+
+        // deliver state changes through the one epoll thread shared by all inputs of this provider
+        try {
+            if (gpio.isInterruptSupported()) {
+                input.watch(watcher());
+            }
+        } catch (java.io.IOException e) {
+            throw new ProviderException(e);
+        }
+
+        return input;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        synchronized (this) {
+            if (watcher != null) {
+                try {
+                    watcher.close();
+                } catch (java.io.IOException e) {
+                    throw new ShutdownException(e);
+                } finally {
+                    watcher = null;
+                }
+            }
+        }
+        return this;
+    }
+
+    private synchronized LinuxFileWatcher watcher() throws java.io.IOException {
+        if (watcher == null) {
+            watcher = new LinuxFileWatcher("pi4j-linuxfs-gpio-interrupts");
+        }
+        return watcher;
     }
 }
@@ -36,6 +36,7 @@ module com.pi4j.plugin.linuxfs {
     requires jsch;   // NOTE: this library has not yet been modularized
 
     exports com.pi4j.plugin.linuxfs;
+    exports com.pi4j.plugin.linuxfs.provider.gpio;
     exports com.pi4j.plugin.linuxfs.provider.gpio.digital;
     exports com.pi4j.plugin.linuxfs.provider.i2c;
 
@@ -0,0 +1,244 @@
+package com.pi4j.plugin.linuxfs.provider.gpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  FakeGpioChipDevice.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.pi4j.plugin.linuxfs.provider.gpio.GpioChipConstants.*;
+
+/**
+ * <p>A fake kernel behind a {@link GpioChipDevice}: it decodes the line requests, keeps the level of
+ * every line of the chip and queues edge events the way the GPIO character device does.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class FakeGpioChipDevice implements GpioChipDevice {
+
+    /**
+     * A decoded gpio_v2_line_request.
+     */
+    public static class Request {
+        public final int fd;
+        public final int[] offsets;
+        public final String consumer;
+        public final long flags;
+        public final List<long[]> attributes = new ArrayList<>();
+
+        Request(int fd, int[] offsets, String consumer, long flags) {
+            this.fd = fd;
+            this.offsets = offsets;
+            this.consumer = consumer;
+            this.flags = flags;
+        }
+
+        /**
+         * @param id GPIO_V2_LINE_ATTR_ID_* of the attribute
+         * @return {value, mask} of the attribute, or null if the request has none with that id
+         */
+        public long[] attribute(int id) {
+            for (long[] attribute : attributes) {
+                if (attribute[0] == id) return new long[] { attribute[1], attribute[2] };
+            }
+            return null;
+        }
+    }
+
+    public final List<Request> requests = new ArrayList<>();
+    public final Set<Integer> released = new HashSet<>();
+    public final Set<Integer> watched = new HashSet<>();
+    public final Map<Integer, Boolean> levels = new HashMap<>();
+    public int ioctls = 0;
+    public int reads = 0;
+    public boolean closed = false;
+
+    private final List<long[]> queue = new ArrayList<>();
+    private final Map<Integer, Runnable> readable = new HashMap<>();
+    private int nextFd = 10;
+
+    /**
+     * @return the current line request, or null if none
+     */
+    public Request current() {
+        if (requests.isEmpty()) return null;
+        Request request = requests.get(requests.size() - 1);
+        return released.contains(request.fd) ? null : request;
+    }
+
+    /**
+     * @return the number of edge events not read yet
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Change the level of a requested line, queueing an edge event, without notifying the reader.
+     *
+     * @param offset line offset on the chip
+     * @param high new level of the line
+     * @param timestamp timestamp of the event in nanoseconds
+     */
+    public void queue(int offset, boolean high, long timestamp) {
+        levels.put(offset, high);
+        queue.add(new long[] { timestamp, high ? GPIO_V2_LINE_EVENT_RISING_EDGE : GPIO_V2_LINE_EVENT_FALLING_EDGE, offset });
+    }
+
+    /**
+     * Notify the reader of the current request until all queued events are read, as a
+     * level-triggered epoll would.
+     */
+    public void deliver() {
+        Request request = current();
+        Runnable callback = request != null ? readable.get(request.fd) : null;
+        while (callback != null && !queue.isEmpty() && watched.contains(request.fd)) {
+            callback.run();
+        }
+    }
+
+    @Override
+    public void chipIoctl(long command, ByteBuffer data) throws IOException {
+        ioctls++;
+        if (command != GPIO_V2_GET_LINE_IOCTL)
+            throw new IOException("Unsupported chip ioctl " + Long.toHexString(command));
+
+        int[] offsets = new int[data.getInt(LINE_REQUEST_NUM_LINES)];
+        for (int i = 0; i < offsets.length; i++) offsets[i] = data.getInt(LINE_REQUEST_OFFSETS + i * 4);
+
+        byte[] name = new byte[GPIO_MAX_NAME_SIZE];
+        for (int i = 0; i < name.length; i++) name[i] = data.get(LINE_REQUEST_CONSUMER + i);
+        int length = 0;
+        while (length < name.length && name[length] != 0) length++;
+
+        Request request = new Request(nextFd++, offsets, new String(name, 0, length, StandardCharsets.US_ASCII),
+                data.getLong(LINE_REQUEST_CONFIG + LINE_CONFIG_FLAGS));
+        int attrs = data.getInt(LINE_REQUEST_CONFIG + LINE_CONFIG_NUM_ATTRS);
+        for (int i = 0; i < attrs; i++) {
+            int base = LINE_REQUEST_CONFIG + LINE_CONFIG_ATTRS + i * LINE_CONFIG_ATTRIBUTE_SIZE;
+            int id = data.getInt(base + LINE_CONFIG_ATTRIBUTE_ID);
+            long value = id == GPIO_V2_LINE_ATTR_ID_DEBOUNCE
+                    ? data.getInt(base + LINE_CONFIG_ATTRIBUTE_VALUE)
+                    : data.getLong(base + LINE_CONFIG_ATTRIBUTE_VALUE);
+            long mask = data.getLong(base + LINE_CONFIG_ATTRIBUTE_MASK);
+            request.attributes.add(new long[] { id, value, mask });
+            if (id == GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES) {
+                for (int j = 0; j < offsets.length; j++) {
+                    if ((mask & (1L << j)) != 0) levels.put(offsets[j], (value & (1L << j)) != 0);
+                }
+            }
+        }
+
+        requests.add(request);
+        data.putInt(LINE_REQUEST_FD, request.fd);
+    }
+
+    @Override
+    public void lineIoctl(int fd, long command, ByteBuffer data) throws IOException {
+        ioctls++;
+        Request request = request(fd);
+        long bits = data.getLong(LINE_VALUES_BITS);
+        long mask = data.getLong(LINE_VALUES_MASK);
+
+        if (command == GPIO_V2_LINE_GET_VALUES_IOCTL) {
+            long values = 0;
+            for (int i = 0; i < request.offsets.length; i++) {
+                if ((mask & (1L << i)) != 0 && levels.getOrDefault(request.offsets[i], false)) values |= 1L << i;
+            }
+            data.putLong(LINE_VALUES_BITS, values);
+        } else if (command == GPIO_V2_LINE_SET_VALUES_IOCTL) {
+            for (int i = 0; i < request.offsets.length; i++) {
+                if ((mask & (1L << i)) != 0) levels.put(request.offsets[i], (bits & (1L << i)) != 0);
+            }
+        } else {
+            throw new IOException("Unsupported line ioctl " + Long.toHexString(command));
+        }
+    }
+
+    @Override
+    public int read(int fd, ByteBuffer data) throws IOException {
+        request(fd);
+        reads++;
+        int read = 0;
+        while (!queue.isEmpty() && data.remaining() >= LINE_EVENT_SIZE) {
+            long[] event = queue.remove(0);
+            int base = data.position();
+            data.putLong(base + LINE_EVENT_TIMESTAMP, event[0]);
+            data.putInt(base + LINE_EVENT_ID, (int) event[1]);
+            data.putInt(base + LINE_EVENT_OFFSET, (int) event[2]);
+            data.position(base + LINE_EVENT_SIZE);
+            read += LINE_EVENT_SIZE;
+        }
+        return read;
+    }
+
+    @Override
+    public Closeable watch(int fd, Runnable readable) throws IOException {
+        request(fd);
+        this.readable.put(fd, readable);
+        watched.add(fd);
+        return () -> watched.remove(fd);
+    }
+
+    @Override
+    public void release(int fd) throws IOException {
+        request(fd);
+        if (watched.contains(fd))
+            throw new IOException("Line handle " + fd + " released while still watched");
+        released.add(fd);
+        readable.remove(fd);
+        queue.clear();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private Request request(int fd) throws IOException {
+        for (Request request : requests) {
+            if (request.fd == fd && !released.contains(fd)) return request;
+        }
+        throw new IOException("Bad line handle " + fd);
+    }
+
+    @Override
+    public String toString() {
+        return "fake gpiochip";
+    }
+}
@@ -0,0 +1,182 @@
+package com.pi4j.plugin.linuxfs.provider.gpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  GpioChipTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PullResistance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pi4j.plugin.linuxfs.provider.gpio.GpioChipConstants.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GpioChipTest {
+
+    private static final long INPUT = GpioChip.inputFlags(PullResistance.PULL_UP);
+    private static final long OUTPUT = GpioChip.outputFlags();
+
+    /**
+     * Request output 17 (high), input 4 (pull-up, 5ms debounce) and output 22 (low).
+     */
+    private static GpioChip chip(FakeGpioChipDevice device) throws Exception {
+        GpioChip chip = new GpioChip(device, "pi4j");
+        assertEquals(0, chip.add(17, OUTPUT, 0, DigitalState.HIGH));
+        assertEquals(1, chip.add(4, INPUT, 5000, null));
+        assertEquals(2, chip.add(22, OUTPUT, 0, DigitalState.LOW));
+        return chip;
+    }
+
+    @DisplayName("GPIOCHIP :: Line requests are encoded as gpio_v2_line_request")
+    @Test
+    public void testRequestEncoding() throws Exception {
+        FakeGpioChipDevice device = new FakeGpioChipDevice();
+        GpioChip chip = chip(device);
+
+        // every added line re-requests all lines, releasing the previous handle first
+        assertEquals(3, device.requests.size());
+        FakeGpioChipDevice.Request request = device.current();
+        assertEquals(device.requests.get(2), request);
+        assertTrue(device.released.contains(device.requests.get(0).fd));
+        assertTrue(device.released.contains(device.requests.get(1).fd));
+
+        assertArrayEquals(new int[] { 17, 4, 22 }, request.offsets);
+        assertEquals("pi4j", request.consumer);
+        assertEquals(OUTPUT, request.flags);
+        assertEquals(3, request.attributes.size());
+        assertArrayEquals(new long[] { INPUT, 0b010 }, request.attribute(GPIO_V2_LINE_ATTR_ID_FLAGS));
+        assertArrayEquals(new long[] { 5000, 0b010 }, request.attribute(GPIO_V2_LINE_ATTR_ID_DEBOUNCE));
+        assertArrayEquals(new long[] { 0b001, 0b101 }, request.attribute(GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES));
+
+        // only the handle with edge detection is watched
+        assertEquals(1, device.watched.size());
+        assertTrue(device.watched.contains(request.fd));
+
+        chip.close();
+        assertNull(device.current());
+        assertTrue(device.watched.isEmpty());
+        assertTrue(device.closed);
+    }
+
+    @DisplayName("GPIOCHIP :: Values of several lines are read and written with a single ioctl")
+    @Test
+    public void testBulkValues() throws Exception {
+        FakeGpioChipDevice device = new FakeGpioChipDevice();
+        GpioChip chip = chip(device);
+        device.levels.put(4, true);
+
+        int ioctls = device.ioctls;
+        chip.set(0b100, 0b101);
+        assertEquals(ioctls + 1, device.ioctls);
+        assertEquals(false, device.levels.get(17));
+        assertEquals(true, device.levels.get(22));
+
+        ioctls = device.ioctls;
+        assertEquals(0b110, chip.get(0b111));
+        assertEquals(ioctls + 1, device.ioctls);
+
+        // the mask limits both the lines read and the result
+        assertEquals(0b100, chip.get(0b101));
+        assertEquals(DigitalState.HIGH, chip.state(4));
+        assertEquals(DigitalState.LOW, chip.state(17));
+
+        chip.state(17, DigitalState.HIGH);
+        assertEquals(true, device.levels.get(17));
+        assertEquals(true, device.levels.get(22));
+        chip.close();
+    }
+
+    @DisplayName("GPIOCHIP :: Edge events are read in batches and decoded")
+    @Test
+    public void testBatchedEvents() throws Exception {
+        FakeGpioChipDevice device = new FakeGpioChipDevice();
+        GpioChip chip = chip(device);
+        List<Object[]> edges = new ArrayList<>();
+        chip.listen((offset, state, timestamp) -> edges.add(new Object[] { offset, state, timestamp }));
+
+        int count = GpioChip.EVENT_BATCH_SIZE + 4;
+        for (int i = 0; i < count; i++) device.queue(4, i % 2 == 0, 1000L + i);
+        assertEquals(GpioChip.EVENT_BATCH_SIZE, chip.readEvents());
+        assertEquals(4, device.pending());
+
+        device.deliver();
+        assertEquals(0, device.pending());
+        assertEquals(2, device.reads);
+        assertEquals(count, edges.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(4, edges.get(i)[0]);
+            assertEquals(i % 2 == 0 ? DigitalState.HIGH : DigitalState.LOW, edges.get(i)[1]);
+            assertEquals(1000L + i, edges.get(i)[2]);
+        }
+
+        // nothing is read once the lines are released
+        chip.close();
+        assertEquals(0, chip.readEvents());
+        assertEquals(2, device.reads);
+    }
+
+    @DisplayName("GPIOCHIP :: Outputs keep their values when the lines are requested again")
+    @Test
+    public void testReRequestKeepsOutputs() throws Exception {
+        FakeGpioChipDevice device = new FakeGpioChipDevice();
+        GpioChip chip = new GpioChip(device, "pi4j");
+        chip.add(17, OUTPUT, 0, DigitalState.HIGH);
+        chip.add(22, OUTPUT, 0, DigitalState.LOW);
+        chip.state(22, DigitalState.HIGH);
+        chip.state(17, DigitalState.LOW);
+
+        // adding a line carries the current values of the outputs into the new request
+        chip.add(4, INPUT, 0, null);
+        FakeGpioChipDevice.Request request = device.current();
+        assertArrayEquals(new int[] { 17, 22, 4 }, request.offsets);
+        assertArrayEquals(new long[] { 0b010, 0b011 }, request.attribute(GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES));
+        assertEquals(DigitalState.LOW, chip.state(17));
+        assertEquals(DigitalState.HIGH, chip.state(22));
+
+        // so does removing one, which also moves the bits of the remaining lines
+        chip.remove(17);
+        request = device.current();
+        assertArrayEquals(new int[] { 22, 4 }, request.offsets);
+        assertArrayEquals(new long[] { 0b01, 0b01 }, request.attribute(GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES));
+        assertEquals(0, chip.index(22));
+        assertEquals(DigitalState.HIGH, chip.state(22));
+        assertEquals(true, device.levels.get(22));
+
+        chip.remove(22);
+        chip.remove(4);
+        assertNull(device.current());
+        chip.close();
+    }
+}
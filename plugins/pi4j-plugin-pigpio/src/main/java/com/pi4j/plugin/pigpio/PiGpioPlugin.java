@@ -35,9 +35,11 @@ import com.pi4j.extension.PluginService;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
+import com.pi4j.plugin.pigpio.provider.i2c.PiGpioBitBangI2CProvider;
 import com.pi4j.plugin.pigpio.provider.i2c.PiGpioI2CProvider;
 import com.pi4j.plugin.pigpio.provider.pwm.PiGpioPwmProvider;
 import com.pi4j.plugin.pigpio.provider.serial.PiGpioSerialProvider;
+import com.pi4j.plugin.pigpio.provider.spi.PiGpioBitBangSpiProvider;
 import com.pi4j.plugin.pigpio.provider.spi.PiGpioSpiProvider;
 import com.pi4j.provider.Provider;
 
@@ -90,6 +92,18 @@ public class PiGpioPlugin implements Plugin {
     /** Constant <code>SPI_PROVIDER_ID="ID + -spi"</code> */
     public static final String SPI_PROVIDER_ID = ID + "-spi";
 
+    // Bit-Bang I2C Provider name and unique ID
+    /** Constant <code>BB_I2C_PROVIDER_NAME="NAME +  Bit-Bang I2C Provider"</code> */
+    public static final String BB_I2C_PROVIDER_NAME = NAME + " Bit-Bang I2C Provider";
+    /** Constant <code>BB_I2C_PROVIDER_ID="ID + -bitbang-i2c"</code> */
+    public static final String BB_I2C_PROVIDER_ID = ID + "-bitbang-i2c";
+
+    // Bit-Bang SPI Provider name and unique ID
+    /** Constant <code>BB_SPI_PROVIDER_NAME="NAME +  Bit-Bang SPI Provider"</code> */
+    public static final String BB_SPI_PROVIDER_NAME = NAME + " Bit-Bang SPI Provider";
+    /** Constant <code>BB_SPI_PROVIDER_ID="ID + -bitbang-spi"</code> */
+    public static final String BB_SPI_PROVIDER_ID = ID + "-bitbang-spi";
+
     // Serial Provider name and unique ID
     /** Constant <code>SERIAL_PROVIDER_NAME="NAME +  Serial Provider"</code> */
     public static final String SERIAL_PROVIDER_NAME = NAME + " Serial Provider";
@@ -167,7 +181,9 @@ public class PiGpioPlugin implements Plugin {
                 PiGpioPwmProvider.newInstance(piGpio),
                 PiGpioI2CProvider.newInstance(piGpio),
                 PiGpioSerialProvider.newInstance(piGpio),
-                PiGpioSpiProvider.newInstance(piGpio)
+                PiGpioSpiProvider.newInstance(piGpio),
+                PiGpioBitBangI2CProvider.newInstance(piGpio),
+                PiGpioBitBangSpiProvider.newInstance(piGpio)
         };
 
         // register all PiGpio I/O Providers with the plugin service
@@ -28,6 +28,7 @@ package com.pi4j.plugin.pigpio.provider.gpio.digital;
  */
 
 
+import com.pi4j.config.exception.ConfigException;
 import com.pi4j.context.Context;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
@@ -35,10 +36,18 @@ import com.pi4j.io.gpio.digital.*;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioMode;
 import com.pi4j.library.pigpio.PiGpioPud;
+import com.pi4j.library.pigpio.PiGpioState;
 import com.pi4j.library.pigpio.PiGpioStateChangeListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.pi4j.library.pigpio.PiGpioConst.PI_EITHER_EDGE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_FALLING_EDGE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_RISING_EDGE;
+import static com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider.DEFAULT_TIMEOUT;
+import static com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider.INTERRUPT_KEY;
+import static com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider.TIMEOUT_KEY;
+
 /**
  * <p>PiGpioDigitalInput class.</p>
  *
@@ -48,6 +57,8 @@ import org.slf4j.LoggerFactory;
 public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput {
     private final PiGpio piGpio;
     private final int pin;
+    private final Integer edge;
+    private final int timeout;
     private DigitalState state = DigitalState.LOW;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -63,6 +74,8 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
         super(provider, config);
         this.piGpio = piGpio;
         this.pin = config.address().intValue();
+        this.edge = edge(config.properties().get(INTERRUPT_KEY));
+        this.timeout = timeout(config.properties().get(TIMEOUT_KEY));
     }
 
     /**
@@ -70,9 +83,17 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
      *
      * This listener implementation will forward pin change events received from PIGPIO
      * to registered Pi4J 'DigitalChangeEvent' event listeners on this digital pin.
+     * Timeout reports do not carry a pin level; in interrupt mode an interrupt timeout is
+     * forwarded as an UNKNOWN state, otherwise timeout reports are not forwarded.
      */
-    private PiGpioStateChangeListener piGpioPinListener =
-            event -> dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.getState(event.state().value())));
+    private PiGpioStateChangeListener piGpioPinListener = event -> {
+        if(event.state() == PiGpioState.TIMEOUT) {
+            if(PiGpioDigitalInput.this.edge != null && PiGpioDigitalInput.this.timeout > 0)
+                dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.UNKNOWN));
+            return;
+        }
+        dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.getState(event.state().value())));
+    };
 
     /** {@inheritDoc} */
     @Override
@@ -106,6 +127,11 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
             this.piGpio.gpioGlitchFilter(pin, steadyInterval);
         }
 
+        // if configured, deliver pin changes from a kernel interrupt instead of sampling the pin
+        if(this.edge != null) {
+            this.piGpio.gpioEnableInterrupts(pin, edge, timeout);
+        }
+
         // add this pin listener
         this.piGpio.addPinListener(pin, piGpioPinListener);
         return this;
@@ -141,6 +167,36 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
     public DigitalInput shutdown(Context context) throws ShutdownException {
         // remove this pin listener
         this.piGpio.removePinListener(pin, piGpioPinListener);
+        if(this.edge != null) {
+            this.piGpio.gpioDisableInterrupts(pin);
+        }
         return super.shutdown(context);
     }
+
+    /**
+     * Parse the interrupt edge property.
+     *
+     * @param value "rising", "falling" or "both"
+     * @return the pigpio edge, or null if the pin is sampled
+     */
+    private static Integer edge(String value) {
+        if(value == null || value.isBlank()) return null;
+        switch(value.trim().toLowerCase()) {
+            case "rising": return PI_RISING_EDGE;
+            case "falling": return PI_FALLING_EDGE;
+            case "both": return PI_EITHER_EDGE;
+            default: throw new ConfigException("Invalid '" + INTERRUPT_KEY + "' property [" + value + "]; Valid values: rising, falling, both");
+        }
+    }
+
+    /**
+     * Parse the interrupt timeout property.
+     *
+     * @param value timeout in milliseconds
+     * @return the interrupt timeout in milliseconds
+     */
+    private static int timeout(String value) {
+        if(value == null || value.isBlank()) return DEFAULT_TIMEOUT;
+        return Integer.parseInt(value.trim());
+    }
 }
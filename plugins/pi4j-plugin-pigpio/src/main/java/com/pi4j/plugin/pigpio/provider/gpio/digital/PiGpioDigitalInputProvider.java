@@ -42,6 +42,14 @@ public interface PiGpioDigitalInputProvider extends DigitalInputProvider {
     String NAME = PiGpioPlugin.DIGITAL_INPUT_PROVIDER_NAME;
     /** Constant <code>ID="PiGpioPlugin.DIGITAL_INPUT_PROVIDER_ID"</code> */
     String ID = PiGpioPlugin.DIGITAL_INPUT_PROVIDER_ID;
+
+    /** Constant <code>INTERRUPT_KEY="interrupt"</code>; interrupt edge: "rising", "falling" or "both" */
+    String INTERRUPT_KEY = "interrupt";
+    /** Constant <code>TIMEOUT_KEY="timeout"</code>; interrupt timeout in milliseconds (0-60000) */
+    String TIMEOUT_KEY = "timeout";
+    /** Constant <code>DEFAULT_TIMEOUT=0</code> (no timeout) */
+    int DEFAULT_TIMEOUT = 0;
+
     /**
      * <p>newInstance.</p>
      *
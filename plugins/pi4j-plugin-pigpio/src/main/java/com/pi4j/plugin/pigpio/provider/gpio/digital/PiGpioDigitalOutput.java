@@ -88,4 +88,24 @@ public class PiGpioDigitalOutput extends DigitalOutputBase implements DigitalOut
         }
         return super.state(state);
     }
+
+    /**
+     * <p>Get the GPIO pin address of this output.</p>
+     *
+     * @return gpio pin address
+     */
+    protected int pin() {
+        return pin;
+    }
+
+    /**
+     * <p>Record a state that has already been applied to the hardware by a bank-wide
+     * write and notify the state change listeners.</p>
+     *
+     * @param state the state written to the GPIO pin
+     * @throws com.pi4j.io.exception.IOException if any.
+     */
+    protected void applied(DigitalState state) throws IOException {
+        super.state(state);
+    }
 }
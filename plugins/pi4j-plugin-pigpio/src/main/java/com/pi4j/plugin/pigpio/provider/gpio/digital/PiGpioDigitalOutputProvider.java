@@ -27,10 +27,16 @@ package com.pi4j.plugin.pigpio.provider.gpio.digital;
  * #L%
  */
 
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.plugin.pigpio.PiGpioPlugin;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * <p>PiGpioDigitalOutputProvider interface.</p>
  *
@@ -52,4 +58,33 @@ public interface PiGpioDigitalOutputProvider extends DigitalOutputProvider {
     static PiGpioDigitalOutputProvider newInstance(PiGpio piGpio) {
         return new PiGpioDigitalOutputProviderImpl(piGpio);
     }
+
+    /**
+     * <p>Change the state of many digital outputs created by this provider at once.</p>
+     *
+     * All outputs switching HIGH are set with a single bank command and all outputs
+     * switching LOW are cleared with a single bank command (per GPIO bank), so every
+     * pin going to the same level switches simultaneously and the whole update costs
+     * at most two round trips instead of one per pin.
+     *
+     * @param states the new state for each digital output
+     * @throws com.pi4j.io.exception.IOException if the bank write failed.
+     * @throws java.lang.IllegalArgumentException if an output was not created by this provider.
+     */
+    void state(Map<? extends DigitalOutput, DigitalState> states) throws IOException;
+
+    /**
+     * <p>Change the state of many digital outputs created by this provider at once.</p>
+     *
+     * @param state the new state for all given digital outputs
+     * @param outputs the digital outputs to change
+     * @throws com.pi4j.io.exception.IOException if the bank write failed.
+     * @throws java.lang.IllegalArgumentException if an output was not created by this provider.
+     * @see #state(Map)
+     */
+    default void state(DigitalState state, DigitalOutput ... outputs) throws IOException {
+        Map<DigitalOutput, DigitalState> states = new LinkedHashMap<>();
+        for(DigitalOutput output : outputs) states.put(output, state);
+        state(states);
+    }
 }
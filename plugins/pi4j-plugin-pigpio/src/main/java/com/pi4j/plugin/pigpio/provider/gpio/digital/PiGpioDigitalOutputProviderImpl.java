@@ -27,10 +27,15 @@ package com.pi4j.plugin.pigpio.provider.gpio.digital;
  * #L%
  */
 
+import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioException;
+
+import java.util.Map;
 
 /**
  * <p>PiGpioDigitalOutputProviderImpl class.</p>
@@ -62,4 +67,44 @@ public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase i
         // create new I/O instance based on I/O config
         return new PiGpioDigitalOutput(piGpio,this, config);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void state(Map<? extends DigitalOutput, DigitalState> states) throws IOException {
+        int set1 = 0, clear1 = 0, set2 = 0, clear2 = 0;
+
+        // collect the pins of each GPIO bank into set & clear bitmasks
+        for(Map.Entry<? extends DigitalOutput, DigitalState> entry : states.entrySet()){
+            PiGpioDigitalOutput output = output(entry.getKey());
+            int pin = output.pin();
+            int bit = 1 << (pin & 0x1F);
+            boolean high = entry.getValue().isHigh();
+            if(pin < 32){
+                if(high) set1 |= bit; else clear1 |= bit;
+            } else {
+                if(high) set2 |= bit; else clear2 |= bit;
+            }
+        }
+
+        // apply the bitmasks with one command per bank and level
+        try {
+            if(set1 != 0) piGpio.gpioWriteBank1Set(set1);
+            if(clear1 != 0) piGpio.gpioWriteBank1Clear(clear1);
+            if(set2 != 0) piGpio.gpioWriteBank2Set(set2);
+            if(clear2 != 0) piGpio.gpioWriteBank2Clear(clear2);
+        } catch (PiGpioException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        // update the state of each output and notify its listeners
+        for(Map.Entry<? extends DigitalOutput, DigitalState> entry : states.entrySet()){
+            ((PiGpioDigitalOutput)entry.getKey()).applied(entry.getValue());
+        }
+    }
+
+    private PiGpioDigitalOutput output(DigitalOutput output){
+        if(!(output instanceof PiGpioDigitalOutput) || output.provider() != this)
+            throw new IllegalArgumentException("Digital output [" + output.id() + "] was not created by provider [" + id + "]");
+        return (PiGpioDigitalOutput)output;
+    }
 }
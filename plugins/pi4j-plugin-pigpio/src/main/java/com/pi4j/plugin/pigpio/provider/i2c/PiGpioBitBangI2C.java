@@ -0,0 +1,205 @@
+package com.pi4j.plugin.pigpio.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangI2C.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CBase;
+import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioI2CZip;
+
+import java.util.Objects;
+
+/**
+ * <p>PiGpioBitBangI2C class.</p>
+ *
+ * I2C device on a bit-banged bus.  Every operation is sent to the PiGpio daemon as a
+ * single bbI2CZip transaction; register reads use a repeated start between the register
+ * address write and the data read.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioBitBangI2C extends I2CBase implements I2C {
+
+    protected final PiGpio piGpio;
+    protected final PiGpioBitBangI2CProviderImpl provider;
+    protected final int sda;
+    protected final int device;
+
+    /**
+     * <p>Constructor for PiGpioBitBangI2C.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param provider a {@link com.pi4j.plugin.pigpio.provider.i2c.PiGpioBitBangI2CProviderImpl} object.
+     * @param config a {@link com.pi4j.io.i2c.I2CConfig} object.
+     * @param sda the SDA pin of the (already opened) bit-banged bus
+     */
+    public PiGpioBitBangI2C(PiGpio piGpio, PiGpioBitBangI2CProviderImpl provider, I2CConfig config, int sda) {
+        super(provider, config);
+
+        // set local reference instance
+        this.piGpio = piGpio;
+        this.provider = provider;
+        this.sda = sda;
+        this.device = config.device();
+
+        // set open state flag
+        this.isOpen = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public I2C initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        provider.release(this.sda);
+        super.close();
+    }
+
+    /**
+     * Start a new transaction addressed to this device.
+     *
+     * @return transaction builder
+     */
+    protected PiGpioI2CZip transaction() {
+        return PiGpioI2CZip.newInstance().address(this.device);
+    }
+
+    // -------------------------------------------------------------------
+    // COMBINED TRANSACTION FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * Execute a bit-banged I2C transaction on this device's bus with a single call.
+     * The transaction should start with a device address command; see {@link #transaction()}.
+     *
+     * @param zip the transaction
+     * @param buffer the array to receive the bytes read by the transaction
+     * @param offset the starting offset position in the provided buffer
+     * @return the number of bytes read
+     */
+    public int zip(PiGpioI2CZip zip, byte[] buffer, int offset) {
+        Objects.checkFromIndexSize(offset, zip.readLength(), buffer.length);
+        return piGpio.bbI2CZip(this.sda, zip, buffer, offset);
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        return zip(transaction().start().write(b).stop(), new byte[0], 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        int result = zip(transaction().start().write(data, offset, length).stop(), new byte[0], 0);
+        return (result < 0) ? result : length;
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        byte[] buffer = new byte[1];
+        int result = zip(transaction().start().read(1).stop(), buffer, 0);
+        return (result < 0) ? result : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        return zip(transaction().start().read(length).stop(), buffer, offset);
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE REGISTER WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int writeRegister(int register, byte b) {
+        return zip(transaction().start().write((byte)register, b).stop(), new byte[0], 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int writeRegister(int register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+
+        // the register address and data must be sent in the same write segment
+        byte[] payload = new byte[length + 1];
+        payload[0] = (byte)register;
+        System.arraycopy(data, offset, payload, 1, length);
+        int result = zip(transaction().start().write(payload).stop(), new byte[0], 0);
+        return (result < 0) ? result : length;
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE REGISTER READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int readRegister(int register) {
+        byte[] buffer = new byte[1];
+        int result = zip(transaction().start().write(register).start().read(1).stop(), buffer, 0);
+        return (result < 0) ? result : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readRegister(int register, byte[] buffer, int offset, int length) {
+        return zip(transaction().start().write(register).start().read(length).stop(), buffer, offset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int writeReadRegisterWord(int register, int word) {
+        byte[] buffer = new byte[2];
+        int result = zip(transaction().start().write(register, word & 0xFF, (word >> 8) & 0xFF)
+                .start().read(2).stop(), buffer, 0);
+        return (result < 0) ? result : Byte.toUnsignedInt(buffer[0]) | (Byte.toUnsignedInt(buffer[1]) << 8);
+    }
+}
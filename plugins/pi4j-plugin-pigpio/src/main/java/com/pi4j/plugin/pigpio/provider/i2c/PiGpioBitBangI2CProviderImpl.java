@@ -0,0 +1,127 @@
+package com.pi4j.plugin.pigpio.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangI2CProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.config.exception.ConfigMissingRequiredKeyException;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.i2c.I2CProviderBase;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>PiGpioBitBangI2CProviderImpl class.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioBitBangI2CProviderImpl extends I2CProviderBase implements PiGpioBitBangI2CProvider {
+
+    final PiGpio piGpio;
+
+    // number of open devices per bit-banged bus (keyed by SDA pin)
+    private final Map<Integer, Integer> buses = new HashMap<>();
+
+    /**
+     * <p>Constructor for PiGpioBitBangI2CProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public PiGpioBitBangI2CProviderImpl(PiGpio piGpio){
+        this.id = ID;
+        this.name = NAME;
+        this.piGpio = piGpio;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public I2C create(I2CConfig config) {
+        // initialize the PIGPIO library
+        if(!piGpio.isInitialized()) piGpio.initialize();
+
+        // get the bit-banged bus pins and clock from the I/O config
+        int sda = property(config, SDA_KEY, null);
+        int scl = property(config, SCL_KEY, null);
+        int baud = property(config, BAUD_KEY, DEFAULT_BAUD);
+
+        // open the bit-banged bus for the first device on the SDA pin
+        open(sda, scl, baud);
+
+        // create new I/O instance based on I/O config
+        return new PiGpioBitBangI2C(piGpio, this, config, sda);
+    }
+
+    /**
+     * Open the bit-banged bus on the given pins unless it is already open.
+     *
+     * @param sda SDA pin
+     * @param scl SCL pin
+     * @param baud bus clock
+     */
+    protected synchronized void open(int sda, int scl, int baud) {
+        Integer devices = buses.get(sda);
+        if(devices == null) {
+            int result = piGpio.bbI2COpen(sda, scl, baud);
+            if(result < 0) {
+                PiGpioError err = PiGpioError.from(result);
+                throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+            }
+        }
+        buses.put(sda, (devices == null) ? 1 : devices + 1);
+    }
+
+    /**
+     * Release a device from the bit-banged bus; the bus is closed with its last device.
+     *
+     * @param sda SDA pin
+     */
+    protected synchronized void release(int sda) {
+        Integer devices = buses.get(sda);
+        if(devices == null) return;
+        if(devices > 1) {
+            buses.put(sda, devices - 1);
+        } else {
+            buses.remove(sda);
+            piGpio.bbI2CClose(sda);
+        }
+    }
+
+    private static int property(I2CConfig config, String key, Integer defaultValue) {
+        String value = config.properties().get(key);
+        if(value == null || value.isBlank()) {
+            if(defaultValue == null) throw new ConfigMissingRequiredKeyException(key);
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
+}
@@ -35,6 +35,7 @@ import com.pi4j.io.i2c.I2CBase;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioI2CZip;
 import com.pi4j.library.pigpio.PiGpioMode;
 
 import java.util.Objects;
@@ -47,6 +48,9 @@ import java.util.Objects;
  */
 public class PiGpioI2C extends I2CBase implements I2C {
 
+    // maximum payload of a SMBus block transfer
+    protected static final int SMBUS_BLOCK_MAX = 32;
+
     protected final PiGpio piGpio;
     protected final int handle;
 
@@ -164,7 +168,40 @@ public class PiGpioI2C extends I2CBase implements I2C {
     @Override
     public int readRegister(int register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-        return piGpio.i2cReadI2CBlockData(this.handle, register, buffer, offset, length);
+        if(length <= SMBUS_BLOCK_MAX)
+            return piGpio.i2cReadI2CBlockData(this.handle, register, buffer, offset, length);
+
+        // reads beyond the SMBus block limit are sent as a single combined transaction;
+        // (register address write + repeated start + read)
+        return zip(PiGpioI2CZip.newInstance().combinedOn().write(register).read(length).combinedOff(), buffer, offset);
+    }
+
+    // -------------------------------------------------------------------
+    // COMBINED TRANSACTION FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * Execute a combined I2C transaction (any sequence of writes, reads and
+     * repeated starts) on this device with a single call.
+     *
+     * @param zip the combined transaction
+     * @param buffer the array to receive the bytes read by the transaction
+     * @param offset the starting offset position in the provided buffer
+     * @return the number of bytes read
+     */
+    public int zip(PiGpioI2CZip zip, byte[] buffer, int offset) {
+        Objects.checkFromIndexSize(offset, zip.readLength(), buffer.length);
+        return piGpio.i2cZip(this.handle, zip, buffer, offset);
+    }
+
+    /**
+     * Execute a combined I2C transaction on this device and return the bytes read.
+     *
+     * @param zip the combined transaction
+     * @return the bytes read by the transaction
+     */
+    public byte[] zip(PiGpioI2CZip zip) {
+        return piGpio.i2cZip(this.handle, zip);
     }
 
     /** {@inheritDoc} */
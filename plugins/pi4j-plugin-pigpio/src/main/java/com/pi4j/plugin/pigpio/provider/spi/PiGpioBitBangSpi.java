@@ -0,0 +1,158 @@
+package com.pi4j.plugin.pigpio.provider.spi;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangSpi.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.config.exception.ConfigMissingRequiredKeyException;
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBase;
+import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.io.spi.SpiProvider;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioException;
+
+import java.util.Objects;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_BB_SPI_MAX_BAUD;
+import static com.pi4j.plugin.pigpio.provider.spi.PiGpioBitBangSpiProvider.*;
+
+/**
+ * <p>PiGpioBitBangSpi class.</p>
+ *
+ * SPI device on a bit-banged bus; the chip select pin is the address of the SPI configuration.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioBitBangSpi extends SpiBase implements Spi {
+
+    protected final PiGpio piGpio;
+    protected final int cs;
+
+    /**
+     * <p>Constructor for PiGpioBitBangSpi.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param provider a {@link com.pi4j.io.spi.SpiProvider} object.
+     * @param config a {@link com.pi4j.io.spi.SpiConfig} object.
+     */
+    public PiGpioBitBangSpi(PiGpio piGpio, SpiProvider provider, SpiConfig config) {
+        super(provider, config);
+
+        // set local reference instance
+        this.piGpio = piGpio;
+        this.cs = config.address();
+
+        // open bit-banged SPI bus on the configured pins
+        int result = piGpio.bbSPIOpen(this.cs,
+                property(config, MISO_KEY),
+                property(config, MOSI_KEY),
+                property(config, SCLK_KEY),
+                Math.min(config.baud(), PI_BB_SPI_MAX_BAUD),
+                config.mode().getMode());
+        if(result < 0) {
+            PiGpioError err = PiGpioError.from(result);
+            throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+        }
+
+        // set open state flag
+        this.isOpen = true;
+    }
+
+    private static int property(SpiConfig config, String key) {
+        String value = config.properties().get(key);
+        if(value == null || value.isBlank()) throw new ConfigMissingRequiredKeyException(key);
+        return Integer.parseInt(value.trim());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Spi initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        piGpio.bbSPIClose(this.cs);
+        super.close();
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE TRANSFER FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        return piGpio.bbSPIXfer(this.cs, write, writeOffset, read, readOffset, numberOfBytes);
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        byte[] buffer = new byte[]{ b };
+        return piGpio.bbSPIXfer(this.cs, buffer, 0, buffer.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        // a bit-banged transfer always reads; discard the data clocked in
+        return piGpio.bbSPIXfer(this.cs, data, offset, new byte[length], 0, length);
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        byte[] buffer = new byte[1];
+        int result = piGpio.bbSPIXfer(this.cs, buffer, 0, buffer.length);
+        return (result < 0) ? result : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        // clock out zeros while reading
+        return piGpio.bbSPIXfer(this.cs, new byte[length], 0, buffer, offset, length);
+    }
+}
@@ -0,0 +1,68 @@
+package com.pi4j.plugin.pigpio.provider.spi;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioBitBangSpiProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import com.pi4j.io.spi.SpiProvider;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.plugin.pigpio.PiGpioPlugin;
+
+/**
+ * <p>PiGpioBitBangSpiProvider interface.</p>
+ *
+ * Provides SPI devices on bit-banged buses using arbitrary GPIO pins.  The address of
+ * the SPI configuration is the chip select pin; the MISO, MOSI and SCLK pins are taken
+ * from the 'miso', 'mosi' and 'sclk' properties.  Baud rates above the bit-bang
+ * maximum of 250 kbit/s are limited to that maximum.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpioBitBangSpiProvider extends SpiProvider {
+    /** Constant <code>NAME="PiGpioPlugin.BB_SPI_PROVIDER_NAME"</code> */
+    String NAME = PiGpioPlugin.BB_SPI_PROVIDER_NAME;
+    /** Constant <code>ID="PiGpioPlugin.BB_SPI_PROVIDER_ID"</code> */
+    String ID = PiGpioPlugin.BB_SPI_PROVIDER_ID;
+
+    /** Constant <code>MISO_KEY="miso"</code> */
+    String MISO_KEY = "miso";
+    /** Constant <code>MOSI_KEY="mosi"</code> */
+    String MOSI_KEY = "mosi";
+    /** Constant <code>SCLK_KEY="sclk"</code> */
+    String SCLK_KEY = "sclk";
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @return a {@link com.pi4j.plugin.pigpio.provider.spi.PiGpioBitBangSpiProvider} object.
+     */
+    static PiGpioBitBangSpiProvider newInstance(PiGpio piGpio) {
+        return new PiGpioBitBangSpiProviderImpl(piGpio);
+    }
+}